@@ -0,0 +1,11 @@
+package io.quarkus.hibernate.orm.panache.benchmarks;
+
+import jakarta.persistence.Entity;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+@Entity
+public class Author extends PanacheEntity {
+
+    public String name;
+}
@@ -0,0 +1,21 @@
+package io.quarkus.hibernate.orm.panache.benchmarks;
+
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+
+import io.quarkus.runtime.QuarkusApplication;
+import io.quarkus.runtime.annotations.QuarkusMain;
+
+/**
+ * Runs the benchmarks, with the JMH command line options, once Quarkus is started. The benchmarks are not forked, as
+ * they need the running application.
+ */
+@QuarkusMain
+public class BenchmarkMain implements QuarkusApplication {
+
+    @Override
+    public int run(String... args) throws Exception {
+        new Runner(new CommandLineOptions(args)).run();
+        return 0;
+    }
+}
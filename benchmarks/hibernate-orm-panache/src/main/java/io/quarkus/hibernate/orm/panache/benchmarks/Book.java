@@ -0,0 +1,14 @@
+package io.quarkus.hibernate.orm.panache.benchmarks;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.ManyToOne;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+@Entity
+public class Book extends PanacheEntity {
+
+    public String title;
+    @ManyToOne
+    public Author author;
+}
@@ -0,0 +1,83 @@
+package io.quarkus.hibernate.orm.panache.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.persistence.EntityManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.hibernate.orm.panache.Panache;
+import io.quarkus.hibernate.orm.panache.PanacheEntityBase;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+
+/**
+ * Measures the number of rows inserted per second in an in-memory H2 database, for authors interleaved with the books
+ * referencing them.
+ * <p>
+ * {@code persist} persists the entities one by one and flushes them on commit, as a loop of {@code persist()} calls
+ * does. {@code insertAll} inserts them with {@link PanacheEntityBase#insertAll(Iterable)}. Both run in a new JTA
+ * transaction of the running Quarkus application, in JDBC batches of the configured
+ * {@code quarkus.hibernate-orm.jdbc.statement-batch-size}.
+ * <p>
+ * Run it with {@code java -Xmx4g -jar target/benchmark.jar}, see {@link BenchmarkMain}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(0)
+public class BulkInsertBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    private List<Object> entities;
+
+    @Setup(Level.Invocation)
+    public void createEntities() {
+        entities = new ArrayList<>(ROWS);
+        Author author = null;
+        for (int i = 0; i < ROWS; i++) {
+            if (i % 10 == 0) {
+                author = new Author();
+                author.name = "author" + i;
+                entities.add(author);
+            } else {
+                Book book = new Book();
+                book.title = "book" + i;
+                book.author = author;
+                entities.add(book);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void persist() {
+        QuarkusTransaction.requiringNew().run(() -> {
+            EntityManager entityManager = Panache.getEntityManager();
+            for (Object entity : entities) {
+                entityManager.persist(entity);
+            }
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void insertAll() {
+        QuarkusTransaction.requiringNew().run(() -> PanacheEntityBase.insertAll(entities));
+    }
+}
@@ -0,0 +1,178 @@
+package io.quarkus.load.shedding.benchmarks;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.quarkus.load.shedding.runtime.LoadSheddingRuntimeConfig;
+import io.quarkus.load.shedding.runtime.OverloadDetector;
+
+/**
+ * Compares the throughput of the default (lock-based) overload detector with the striped one,
+ * for each built-in limit algorithm.
+ * Run {@link #main(String[])} to execute the benchmark with 1 to 64 threads; the thread count
+ * can also be set directly using the JMH {@code -t} option.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OverloadDetectorBenchmark {
+
+    @Param({ "false", "true" })
+    public boolean striped;
+
+    @Param({ "VEGAS", "GRADIENT2", "AIMD" })
+    public LoadSheddingRuntimeConfig.Algorithm algorithm;
+
+    private OverloadDetector detector;
+
+    @Setup
+    public void setup() {
+        detector = new OverloadDetector(new BenchmarkConfig(striped, algorithm));
+    }
+
+    @Benchmark
+    public boolean request() {
+        boolean overloaded = detector.isOverloaded();
+        detector.requestBegin();
+        detector.requestEnd(ThreadLocalRandom.current().nextLong(900, 1_100));
+        return overloaded;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : new int[] { 1, 2, 4, 8, 16, 32, 64 }) {
+            Options options = new OptionsBuilder()
+                    .include(OverloadDetectorBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build();
+            new Runner(options).run();
+        }
+    }
+
+    private record BenchmarkConfig(boolean stripedEnabled, Algorithm algorithm) implements LoadSheddingRuntimeConfig {
+        @Override
+        public boolean enabled() {
+            return true;
+        }
+
+        @Override
+        public int maxLimit() {
+            return 1000;
+        }
+
+        @Override
+        public int minLimit() {
+            return 1;
+        }
+
+        @Override
+        public int alphaFactor() {
+            return 3;
+        }
+
+        @Override
+        public int betaFactor() {
+            return 6;
+        }
+
+        @Override
+        public double probeFactor() {
+            return 30.0;
+        }
+
+        @Override
+        public int initialLimit() {
+            return 100;
+        }
+
+        @Override
+        public Gradient2 gradient2() {
+            return new Gradient2() {
+                @Override
+                public double smoothing() {
+                    return 0.2;
+                }
+
+                @Override
+                public double rttTolerance() {
+                    return 1.5;
+                }
+
+                @Override
+                public int longWindow() {
+                    return 600;
+                }
+
+                @Override
+                public int queueSize() {
+                    return 4;
+                }
+            };
+        }
+
+        @Override
+        public Aimd aimd() {
+            return new Aimd() {
+                @Override
+                public double backoffRatio() {
+                    return 0.9;
+                }
+
+                @Override
+                public Duration timeout() {
+                    return Duration.ofSeconds(5);
+                }
+            };
+        }
+
+        @Override
+        public Map<String, Partition> partitions() {
+            return Map.of();
+        }
+
+        @Override
+        public StripedDetector striped() {
+            return new StripedDetector() {
+                @Override
+                public boolean enabled() {
+                    return stripedEnabled;
+                }
+
+                @Override
+                public Duration window() {
+                    return Duration.ofMillis(100);
+                }
+
+                @Override
+                public int minSamples() {
+                    return 10;
+                }
+            };
+        }
+
+        @Override
+        public PriorityLoadShedding priority() {
+            return () -> true;
+        }
+    }
+}
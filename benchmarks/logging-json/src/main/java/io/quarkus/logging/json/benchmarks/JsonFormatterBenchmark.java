@@ -0,0 +1,101 @@
+package io.quarkus.logging.json.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.MDC;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.quarkus.logging.json.runtime.AdditionalFieldConfig;
+import io.quarkus.logging.json.runtime.JsonFormatter;
+
+/**
+ * Compares the JSON formatter with the JSON-P based formatter from JBoss LogManager. Both formatters are configured with
+ * the same key overrides. Run with {@code -prof gc} to compare the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonFormatterBenchmark {
+
+    /**
+     * {@code quarkus} - the formatter used by the extension, {@code jboss} - the JSON-P based formatter
+     */
+    @Param({ "quarkus", "jboss" })
+    public String formatter;
+
+    /**
+     * The number of MDC entries.
+     */
+    @Param({ "0", "4" })
+    public int mdc;
+
+    @Param({ "false", "true" })
+    public boolean exception;
+
+    private Formatter jsonFormatter;
+    private ExtLogRecord record;
+
+    @Setup
+    public void setup() {
+        String keyOverrides = "timestamp=@timestamp,level=log.level,logger-name=log.logger";
+        if ("quarkus".equals(formatter)) {
+            Map<String, AdditionalFieldConfig> additionalFields = new HashMap<>();
+            AdditionalFieldConfig serviceName = new AdditionalFieldConfig();
+            serviceName.type = AdditionalFieldConfig.Type.STRING;
+            serviceName.value = "benchmark";
+            additionalFields.put("service.name", serviceName);
+            jsonFormatter = new JsonFormatter(keyOverrides, Set.of("loggerClassName"), additionalFields);
+        } else {
+            jsonFormatter = new org.jboss.logmanager.formatters.JsonFormatter(keyOverrides);
+        }
+        MDC.clear();
+        for (int i = 0; i < mdc; i++) {
+            MDC.put("key" + i, "value" + i);
+        }
+        record = new ExtLogRecord(Level.INFO, "Processed order {0} in {1} ms", ExtLogRecord.FormatStyle.MESSAGE_FORMAT,
+                JsonFormatterBenchmark.class.getName());
+        record.setParameters(new Object[] { "ORD-123456", 42 });
+        record.setLoggerName("io.quarkus.benchmark.OrderService");
+        if (exception) {
+            record.setThrown(new IllegalStateException("Unable to process order"));
+        }
+        record.copyMdc();
+        MDC.clear();
+    }
+
+    @Benchmark
+    public String format() {
+        return jsonFormatter.format(record);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(JsonFormatterBenchmark.class.getSimpleName())
+                .build();
+        new Runner(opt).run();
+    }
+
+}
@@ -0,0 +1,40 @@
+package io.quarkus.qute.benchmarks;
+
+import java.math.BigDecimal;
+
+import io.quarkus.qute.TemplateData;
+
+/**
+ * The data object rendered by {@link ValueResolverBenchmark}.
+ */
+@TemplateData
+public class Item {
+
+    private final String name;
+    private final BigDecimal price;
+
+    public Item(String name, BigDecimal price) {
+        this.name = name;
+        this.price = price;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public BigDecimal discounted(int percent) {
+        return price.subtract(price.multiply(BigDecimal.valueOf(percent)).movePointLeft(2));
+    }
+
+    public String label(int width) {
+        return name.length() > width ? name.substring(0, width) : name;
+    }
+
+    public String label(String prefix) {
+        return prefix + name;
+    }
+}
@@ -0,0 +1,139 @@
+package io.quarkus.qute.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.EngineBuilder;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateData;
+import io.quarkus.qute.ValueResolver;
+import io.quarkus.qute.generator.ValueResolverGenerator;
+
+/**
+ * Measures the rendering of a template whose values are resolved by a generated value resolver, i.e. the way Quarkus
+ * renders type-safe templates. The expressions invoke a property, a method and overloaded methods, so that each of the
+ * method matching paths of the generated resolver is exercised.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueResolverBenchmark {
+
+    /**
+     * {@code property} - a getter, {@code method} - a method with a param, {@code overloaded} - overloaded methods with a
+     * param
+     */
+    @Param({ "property", "method", "overloaded" })
+    public String expression;
+
+    /**
+     * The number of rendered items.
+     */
+    @Param({ "10", "100" })
+    public int items;
+
+    private final GeneratedClassLoader classLoader = new GeneratedClassLoader(ValueResolverBenchmark.class.getClassLoader());
+    private Template template;
+    private List<Item> data;
+
+    @Setup
+    public void setup() throws Exception {
+        EngineBuilder builder = Engine.builder().addDefaults();
+        for (String generatedType : generateValueResolvers()) {
+            builder.addValueResolver((ValueResolver) Class.forName(generatedType, true, classLoader)
+                    .getDeclaredConstructor().newInstance());
+        }
+        Engine engine = builder.build();
+        switch (expression) {
+            case "property":
+                template = engine.parse("{#for item in items}{item.name}:{item.price}{/for}");
+                break;
+            case "method":
+                template = engine.parse("{#for item in items}{item.name}:{item.discounted(10)}{/for}");
+                break;
+            case "overloaded":
+                template = engine.parse("{#for item in items}{item.label(4)}:{item.label('#')}{/for}");
+                break;
+            default:
+                throw new IllegalArgumentException(expression);
+        }
+        data = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            data.add(new Item("item-" + i, BigDecimal.valueOf(100 + i)));
+        }
+    }
+
+    @Benchmark
+    public String render() {
+        return template.data("items", data).render();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ValueResolverBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+
+    private Iterable<String> generateValueResolvers() throws IOException {
+        Indexer indexer = new Indexer();
+        try (InputStream stream = ValueResolverBenchmark.class.getClassLoader()
+                .getResourceAsStream(Item.class.getName().replace('.', '/') + ".class")) {
+            indexer.index(stream);
+        }
+        Index index = indexer.complete();
+        ClassInfo item = index.getClassByName(DotName.createSimple(Item.class.getName()));
+        // @TemplateData makes the generated resolver invoke the methods with params
+        ValueResolverGenerator generator = ValueResolverGenerator.builder()
+                .setIndex(index)
+                .setClassOutput(classLoader)
+                .addClass(item, item.declaredAnnotation(DotName.createSimple(TemplateData.class.getName())))
+                .build();
+        generator.generate();
+        return generator.getGeneratedTypes();
+    }
+
+    /**
+     * Defines the generated value resolvers.
+     */
+    static class GeneratedClassLoader extends ClassLoader implements ClassOutput {
+
+        GeneratedClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        public void write(String name, byte[] data) {
+            defineClass(name.replace('/', '.'), data, 0, data.length);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package io.quarkus.cache.redis.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.quarkus.cache.redis.runtime.RedisCacheValueCompressor;
+import io.quarkus.redis.runtime.datasource.Marshaller;
+
+/**
+ * Compares the cost of encoding and decoding the cache values with the default JSON codec, with and without the LZ4
+ * compression.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueEncodingBenchmark {
+
+    /**
+     * The number of items of the cached order.
+     */
+    @Param({ "1", "10", "100" })
+    public int items;
+
+    @Param({ "false", "true" })
+    public boolean compression;
+
+    private Marshaller marshaller;
+    private RedisCacheValueCompressor compressor;
+    private Order value;
+    private byte[] encoded;
+
+    @Setup
+    public void setup() {
+        marshaller = new Marshaller(Order.class);
+        compressor = new RedisCacheValueCompressor(1024);
+        value = Order.create(items);
+        encoded = encode();
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        byte[] json = marshaller.encode(value);
+        return compression ? compressor.compress(json) : json;
+    }
+
+    @Benchmark
+    public Order decode() {
+        return marshaller.decode(Order.class, compression ? compressor.decompress(encoded) : encoded);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ValueEncodingBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+
+    public static class Order {
+
+        public String id;
+        public String customer;
+        public List<Item> items;
+
+        static Order create(int count) {
+            Order order = new Order();
+            order.id = "order-42";
+            order.customer = "Luke Skywalker";
+            order.items = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Item item = new Item();
+                item.sku = "sku-" + i;
+                item.description = "Lightsaber spare part #" + i;
+                item.quantity = i % 5 + 1;
+                item.price = 19.99 + i;
+                order.items.add(item);
+            }
+            return order;
+        }
+    }
+
+    public static class Item {
+
+        public String sku;
+        public String description;
+        public int quantity;
+        public double price;
+    }
+}
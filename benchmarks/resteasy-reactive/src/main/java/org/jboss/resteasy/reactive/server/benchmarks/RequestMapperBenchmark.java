@@ -0,0 +1,83 @@
+package org.jboss.resteasy.reactive.server.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.resteasy.reactive.server.mapping.RequestMapper;
+import org.jboss.resteasy.reactive.server.mapping.URITemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of resolving a request path against route tables of various sizes.
+ * <p>
+ * The route table mimics a gateway style application: many resources, each with a collection endpoint, an item
+ * endpoint with a path parameter and a couple of nested sub-resources.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestMapperBenchmark {
+
+    private static final int PATHS = 1024;
+
+    @Param({ "100", "1500", "10000" })
+    public int routes;
+
+    private RequestMapper<String> mapper;
+    private String[] paths;
+    private int index;
+
+    @Setup
+    public void setup() {
+        ArrayList<RequestMapper.RequestPath<String>> templates = new ArrayList<>();
+        int resources = Math.max(1, routes / 5);
+        for (int i = 0; i < resources; i++) {
+            String base = "/api/v1/service" + i;
+            add(templates, base);
+            add(templates, base + "/{id}");
+            add(templates, base + "/{id}/items");
+            add(templates, base + "/{id}/items/{item}");
+            add(templates, base + "/search/{query: [a-z]+}");
+        }
+        mapper = new RequestMapper<>(templates);
+
+        Random random = new Random(42);
+        paths = new String[PATHS];
+        for (int i = 0; i < PATHS; i++) {
+            String base = "/api/v1/service" + random.nextInt(resources);
+            paths[i] = switch (random.nextInt(6)) {
+                case 0 -> base;
+                case 1 -> base + "/" + random.nextInt(100_000);
+                case 2 -> base + "/" + random.nextInt(100_000) + "/items";
+                case 3 -> base + "/" + random.nextInt(100_000) + "/items/" + random.nextInt(100);
+                case 4 -> base + "/search/abc";
+                // a miss
+                default -> base + "/" + random.nextInt(100_000) + "/unknown";
+            };
+        }
+    }
+
+    private static void add(ArrayList<RequestMapper.RequestPath<String>> templates, String template) {
+        templates.add(new RequestMapper.RequestPath<>(false, new URITemplate(template, false), template));
+    }
+
+    @Benchmark
+    public RequestMapper.RequestMatch<String> map() {
+        String path = paths[index++ & (PATHS - 1)];
+        return mapper.map(path);
+    }
+}
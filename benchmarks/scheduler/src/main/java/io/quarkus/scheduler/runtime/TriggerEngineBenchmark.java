@@ -0,0 +1,122 @@
+package io.quarkus.scheduler.runtime;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.quarkus.scheduler.ScheduledExecution;
+import io.quarkus.scheduler.common.runtime.ScheduledInvoker;
+import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig.TriggerEngine;
+import io.quarkus.scheduler.runtime.SimpleScheduler.IntervalTrigger;
+import io.quarkus.scheduler.runtime.SimpleScheduler.ScheduledTask;
+
+/**
+ * Measures the cost of firing a single due job while the given number of idle jobs is registered.
+ * <p>
+ * The polling engine evaluates every registered trigger, whereas the queue engine only evaluates the due trigger and
+ * schedules its next check in the queue holding the checks of all the other jobs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class TriggerEngineBenchmark {
+
+    private static final ScheduledInvoker NOOP_INVOKER = new ScheduledInvoker() {
+        @Override
+        public CompletionStage<Void> invoke(ScheduledExecution execution) {
+            return CompletableFuture.completedStage(null);
+        }
+    };
+
+    private static final Runnable NOOP_CHECK = new Runnable() {
+        @Override
+        public void run() {
+            // noop
+        }
+    };
+
+    @Param({ "1000", "100000", "1000000" })
+    public int jobs;
+
+    @Param({ "POLLING", "QUEUE" })
+    public TriggerEngine engine;
+
+    private List<ScheduledTask> tasks;
+    private ScheduledTask dueTask;
+    private ScheduledThreadPoolExecutor executor;
+
+    @Setup
+    public void setup() {
+        boolean precise = engine == TriggerEngine.QUEUE;
+        executor = new ScheduledThreadPoolExecutor(1);
+        executor.setRemoveOnCancelPolicy(true);
+        ZonedDateTime now = ZonedDateTime.now();
+        tasks = new ArrayList<>(jobs + 1);
+        for (int i = 0; i < jobs; i++) {
+            IntervalTrigger trigger = new IntervalTrigger("job" + i, now, TimeUnit.HOURS.toMillis(1), Duration.ofSeconds(1),
+                    null, precise);
+            // Fire the first execution so that the job is idle for an hour
+            trigger.evaluate(now);
+            ScheduledTask task = new ScheduledTask(trigger, NOOP_INVOKER, true);
+            if (precise) {
+                task.scheduleCheck(executor, task.nextCheckDelay(true, System.currentTimeMillis()), NOOP_CHECK);
+            }
+            tasks.add(task);
+        }
+        dueTask = new ScheduledTask(new IntervalTrigger("due", now, 1, Duration.ofSeconds(1), null, precise),
+                NOOP_INVOKER, true);
+        tasks.add(dueTask);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void tick() {
+        ZonedDateTime now = ZonedDateTime.now();
+        if (engine == TriggerEngine.POLLING) {
+            for (ScheduledTask task : tasks) {
+                task.execute(now, null);
+            }
+        } else {
+            dueTask.execute(now, null);
+            // The previous check has already been removed from the queue when the trigger is evaluated
+            dueTask.cancelCheck();
+            dueTask.scheduleCheck(executor, dueTask.nextCheckDelay(true, System.currentTimeMillis()), NOOP_CHECK);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(TriggerEngineBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -1,6 +1,7 @@
 package io.quarkus.deployment.pkg;
 
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -152,6 +153,17 @@ interface JarConfig {
         @WithDefault("true")
         boolean addRunnerSuffix();
 
+        /**
+         * Whether the classes of the application and its dependencies should also be written into a single
+         * pre-indexed file, which is memory mapped by the application class loader at startup.
+         * Classes are then loaded using a hash lookup in the mapped file instead of opening and inflating jar entries,
+         * at the expense of additional disk space.
+         * Only applicable to the {@linkplain JarType#FAST_JAR fast-jar} and {@linkplain JarType#MUTABLE_JAR mutable-jar}
+         * output types.
+         */
+        @WithDefault("false")
+        boolean classBlob();
+
         /**
          * AppCDS archive sub-configuration.
          * This configuration only applies to certain JAR types.
@@ -205,6 +217,77 @@ interface AppcdsConfig {
             boolean useContainer();
         }
 
+        /**
+         * JDK AOT cache sub-configuration.
+         * This configuration only applies to certain JAR types.
+         */
+        AotConfig aot();
+
+        /**
+         * Configuration for the generation of a JDK AOT cache (JEP 483).
+         */
+        @ConfigGroup
+        interface AotConfig {
+            /**
+             * Whether to create a JDK AOT cache for the application.
+             * <p>
+             * The AOT cache is created by a training run of the packaged application, and it contains
+             * classes that were loaded and linked during the training run (and, on newer JDKs, method profiles).
+             * The application must be started with {@code -XX:AOTCache=app.aot} to make use of it.
+             * <p>
+             * This option requires Java 24+ and is considered experimental for the time being.
+             * The exact same JVM version must be used when building and running the application.
+             * If both the AOT cache and AppCDS are enabled, only the AOT cache is created, as it supersedes AppCDS.
+             */
+            @WithDefault("false")
+            boolean enabled();
+
+            /**
+             * When AOT cache generation is enabled, if this property is set, then the JVM used to generate
+             * the AOT cache will be the JVM present in the container image. The builder image is expected
+             * to have the 'java' binary on its PATH.
+             * <p>
+             * Note that this property is consulted only when {@code quarkus.package.jar.aot.enabled=true} and it requires
+             * having docker available during the build.
+             */
+            Optional<String> builderImage();
+
+            /**
+             * Whether creation of the AOT cache should run in a container if available.
+             * <p>
+             * If this option is set to {@code false}, a container will not be used to generate the
+             * AOT cache. Instead, the JDK used to build the application is also used to create the
+             * cache. Note that the exact same JDK version must be used to run the application in this
+             * case.
+             * <p>
+             * Ignored if {@code quarkus.package.jar.aot.enabled} is set to {@code false}.
+             */
+            @WithDefault("true")
+            boolean useContainer();
+
+            /**
+             * Paths of HTTP {@code GET} requests that should be sent to the application during the training run,
+             * for example {@code /hello} or {@code /api/products?page=1}.
+             * <p>
+             * If not set, the training run only exercises the application startup and exits as soon as
+             * the application is started. Otherwise, the application is fully started on a random free HTTP port,
+             * the training requests are performed and the application is then stopped.
+             */
+            Optional<List<String>> trainingRequests();
+
+            /**
+             * How many times each of the training requests should be performed.
+             */
+            @WithDefault("100")
+            int trainingRequestsRepeat();
+
+            /**
+             * The maximum duration of the training run.
+             */
+            @WithDefault("5m")
+            Duration trainingTimeout();
+        }
+
         /**
          * This is an advanced option that only takes effect for development mode.
          * <p>
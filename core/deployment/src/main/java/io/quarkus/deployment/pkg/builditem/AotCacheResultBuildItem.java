@@ -0,0 +1,51 @@
+package io.quarkus.deployment.pkg.builditem;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * A build item containing the result of the JDK AOT cache generation process
+ */
+public final class AotCacheResultBuildItem extends SimpleBuildItem {
+
+    /**
+     * The file containing the generated AOT cache
+     */
+    private final Path aotCache;
+
+    /**
+     * The container image whose JVM created the AOT cache, or {@code null} if the JVM used to build the application
+     * created it
+     */
+    private final String containerImage;
+
+    public AotCacheResultBuildItem(Path aotCache) {
+        this(aotCache, null);
+    }
+
+    public AotCacheResultBuildItem(Path aotCache, String containerImage) {
+        this.aotCache = aotCache;
+        this.containerImage = containerImage;
+    }
+
+    public Path getAotCache() {
+        return aotCache;
+    }
+
+    public Optional<String> getContainerImage() {
+        return Optional.ofNullable(containerImage);
+    }
+
+    /**
+     * The AOT cache can only be used by the exact same JVM that created it. When building a container image, the
+     * cache is therefore only usable if it was created in the base image of the container image.
+     *
+     * @param baseImage the base image of the container image
+     * @return whether the AOT cache was created by the JVM of the given base image
+     */
+    public boolean isCreatedIn(String baseImage) {
+        return containerImage != null && containerImage.equals(baseImage);
+    }
+}
@@ -6,12 +6,21 @@
 
 import java.io.File;
 import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BooleanSupplier;
 
 import org.apache.commons.lang3.SystemUtils;
@@ -21,6 +30,7 @@
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.pkg.PackageConfig;
+import io.quarkus.deployment.pkg.builditem.AotCacheResultBuildItem;
 import io.quarkus.deployment.pkg.builditem.AppCDSContainerImageBuildItem;
 import io.quarkus.deployment.pkg.builditem.AppCDSRequestedBuildItem;
 import io.quarkus.deployment.pkg.builditem.AppCDSResultBuildItem;
@@ -41,6 +51,10 @@ public class AppCDSBuildStep {
     private static final String CONTAINER_IMAGE_BASE_BUILD_DIR = "/tmp/quarkus";
     private static final String CONTAINER_IMAGE_APPCDS_DIR = CONTAINER_IMAGE_BASE_BUILD_DIR + "/appcds";
 
+    public static final String AOT_CACHE_FILE_NAME = "app.aot";
+    private static final String AOT_CONFIGURATION_FILE_NAME = "app.aotconf";
+    private static final int AOT_CACHE_MIN_JAVA_VERSION = 24;
+
     @BuildStep(onlyIf = AppCDSRequired.class)
     public void requested(OutputTargetBuildItem outputTarget, BuildProducer<AppCDSRequestedBuildItem> producer)
             throws IOException {
@@ -57,13 +71,18 @@ public void build(Optional<AppCDSRequestedBuildItem> appCDsRequested,
             Optional<AppCDSContainerImageBuildItem> appCDSContainerImage,
             BuildProducer<AppCDSResultBuildItem> appCDS,
             BuildProducer<ArtifactResultBuildItem> artifactResult) throws Exception {
-        if (appCDsRequested.isEmpty()) {
+        if (appCDsRequested.isEmpty() || !packageConfig.jar().appcds().enabled()) {
+            return;
+        }
+        if (packageConfig.jar().aot().enabled()) {
+            log.warn("Both AppCDS and the JDK AOT cache were requested, only the AOT cache will be created.");
             return;
         }
 
         // to actually execute the commands needed to generate the AppCDS file, either the JVM in the container image will be used
         // (if specified), or the JVM running the build
-        String containerImage = determineContainerImage(packageConfig, appCDSContainerImage);
+        String containerImage = determineContainerImage(packageConfig.jar().appcds().useContainer(),
+                packageConfig.jar().appcds().builderImage(), appCDSContainerImage);
         String javaBinPath = null;
         if (containerImage == null) {
             javaBinPath = System.getProperty("java.home") + File.separator + "bin" + File.separator
@@ -100,12 +119,252 @@ public void build(Optional<AppCDSRequestedBuildItem> appCDsRequested,
         artifactResult.produce(new ArtifactResultBuildItem(appCDSPath, "appCDS", Collections.emptyMap()));
     }
 
-    private String determineContainerImage(PackageConfig packageConfig,
+    @BuildStep(onlyIfNot = NativeOrNativeSourcesBuild.class)
+    public void buildAotCache(Optional<AppCDSRequestedBuildItem> appCDsRequested,
+            JarBuildItem jarResult, OutputTargetBuildItem outputTarget, PackageConfig packageConfig,
+            Optional<AppCDSContainerImageBuildItem> appCDSContainerImage,
+            BuildProducer<AotCacheResultBuildItem> aotCache,
+            BuildProducer<ArtifactResultBuildItem> artifactResult) throws Exception {
+        if (appCDsRequested.isEmpty() || !packageConfig.jar().aot().enabled()) {
+            return;
+        }
+
+        PackageConfig.JarConfig.AotConfig aotConfig = packageConfig.jar().aot();
+        // same as for AppCDS, the AOT cache is only usable by the exact same JVM that created it
+        String containerImage = determineContainerImage(aotConfig.useContainer(), aotConfig.builderImage(),
+                appCDSContainerImage);
+        String javaBinPath = null;
+        if (containerImage == null) {
+            if (!isAotCacheSupported(Runtime.version().feature())) {
+                log.warnf("Creating the JDK AOT cache requires Java %d+, but the application is built with Java %s.",
+                        AOT_CACHE_MIN_JAVA_VERSION, System.getProperty("java.version"));
+                return;
+            }
+            javaBinPath = System.getProperty("java.home") + File.separator + "bin" + File.separator
+                    + JavaBinFinder.simpleBinaryName();
+            if (!new File(javaBinPath).canExecute()) {
+                log.warnf(
+                        "In order to create the AOT cache the JDK used to build the Quarkus application must contain an executable named '%s' in its 'bin' directory.",
+                        javaBinPath);
+                return;
+            }
+        }
+
+        boolean isFastJar = packageConfig.jar().type() == FAST_JAR;
+        Path workingDirectory = jarResult.getPath().getParent();
+        String containerWorkingDirectory = isFastJar
+                ? CONTAINER_IMAGE_BASE_BUILD_DIR + "/" + JarResultBuildStep.DEFAULT_FAST_JAR_DIRECTORY_NAME
+                : CONTAINER_IMAGE_BASE_BUILD_DIR;
+        String jar = isFastJar ? JarResultBuildStep.QUARKUS_RUN_JAR : jarResult.getPath().getFileName().toString();
+        Path aotConfiguration = workingDirectory.resolve(AOT_CONFIGURATION_FILE_NAME);
+        Path aotCachePath = workingDirectory.resolve(AOT_CACHE_FILE_NAME);
+        Files.deleteIfExists(aotConfiguration);
+        Files.deleteIfExists(aotCachePath);
+
+        long deadline = System.nanoTime() + aotConfig.trainingTimeout().toNanos();
+        List<String> trainingRequests = aotConfig.trainingRequests().orElse(List.of());
+        int port = trainingRequests.isEmpty() ? 0 : findFreePort();
+
+        List<String> trainingCommand = new ArrayList<>(javaCommand(outputTarget, javaBinPath, containerImage,
+                containerWorkingDirectory, port));
+        trainingCommand.addAll(aotTrainingArguments(jar, port));
+
+        log.info("Launching AOT cache training run.");
+        if (!runAotTraining(workingDirectory, trainingCommand, port, trainingRequests, aotConfig.trainingRequestsRepeat(),
+                deadline) || !Files.exists(aotConfiguration)) {
+            log.warn("Unable to create the AOT cache, the training run failed.");
+            return;
+        }
+
+        List<String> createCommand = new ArrayList<>(javaCommand(outputTarget, javaBinPath, containerImage,
+                containerWorkingDirectory, 0));
+        createCommand.addAll(aotCreateArguments(jar));
+
+        Integer exitCode = launchAotProcess(workingDirectory, createCommand, null, 0, List.of(), 0, deadline);
+        Files.deleteIfExists(aotConfiguration);
+        if (exitCode == null || exitCode != 0 || !Files.exists(aotCachePath)) {
+            log.warn("Unable to create the AOT cache.");
+            return;
+        }
+
+        log.infof("AOT cache successfully created at: '%s'.", aotCachePath.toAbsolutePath().toString());
+        if (containerImage == null) {
+            log.infof(
+                    "To ensure it is used, " +
+                            "run the application jar from its directory and also add the '-XX:AOTCache=%s' " +
+                            "JVM flag.\nMoreover, make sure to use the exact same Java version (%s) to run the application as was used to build it.",
+                    AOT_CACHE_FILE_NAME, System.getProperty("java.version"));
+        }
+
+        aotCache.produce(new AotCacheResultBuildItem(aotCachePath, containerImage));
+        artifactResult.produce(new ArtifactResultBuildItem(aotCachePath, "aotCache", Collections.emptyMap()));
+    }
+
+    static boolean isAotCacheSupported(int javaVersion) {
+        return javaVersion >= AOT_CACHE_MIN_JAVA_VERSION;
+    }
+
+    /**
+     * @param port the port the application listens on while the training requests are performed,
+     *        or {@code 0} if the application should exit right after startup
+     */
+    static List<String> aotTrainingArguments(String jar, int port) {
+        List<String> arguments = new ArrayList<>();
+        arguments.add("-XX:AOTMode=record");
+        arguments.add("-XX:AOTConfiguration=" + AOT_CONFIGURATION_FILE_NAME);
+        if (port == 0) {
+            // exit as soon as the application is started, like when creating AppCDS
+            arguments.add(String.format("-D%s=true", MainClassBuildStep.GENERATE_APP_CDS_SYSTEM_PROPERTY));
+        } else {
+            arguments.add("-Dquarkus.http.port=" + port);
+        }
+        arguments.add("-jar");
+        arguments.add(jar);
+        return arguments;
+    }
+
+    static List<String> aotCreateArguments(String jar) {
+        // the class path must match exactly what was used during the training run and what will be used at runtime,
+        // which is why we use relative paths and run from inside the output directory
+        return List.of("-XX:AOTMode=create", "-XX:AOTConfiguration=" + AOT_CONFIGURATION_FILE_NAME,
+                "-XX:AOTCache=" + AOT_CACHE_FILE_NAME, "--class-path", jar);
+    }
+
+    private List<String> javaCommand(OutputTargetBuildItem outputTarget, String javaBinPath, String containerImage,
+            String containerWorkingDir, int publishedPort) {
+        if (containerImage == null) {
+            return List.of(javaBinPath);
+        }
+        List<String> command = new ArrayList<>(dockerRunCommands(outputTarget, containerImage, containerWorkingDir));
+        if (publishedPort > 0) {
+            // the image is the last argument of the 'run' command, the port mapping must precede it
+            command.add(command.size() - 1, "-p");
+            command.add(command.size() - 1, publishedPort + ":" + publishedPort);
+        }
+        command.add("java");
+        return command;
+    }
+
+    private boolean runAotTraining(Path workingDirectory, List<String> command, int port, List<String> trainingRequests,
+            int repeat, long deadline) {
+        Integer exitCode = launchAotProcess(workingDirectory, command, "training", port, trainingRequests, repeat, deadline);
+        if (exitCode == null) {
+            return false;
+        }
+        if (trainingRequests.isEmpty() && exitCode != 0) {
+            log.warnf("Command '%s' that was supposed to perform the AOT cache training run exited with error code: %d.",
+                    command, exitCode);
+            return false;
+        }
+        // when training requests are used, the application is stopped with SIGTERM, so the exit code is not zero
+        return true;
+    }
+
+    /**
+     * Launches given command and waits for it to finish. If {@code port} is set, the process is expected to
+     * be a long-running application: once it starts listening on the port, the training requests are performed
+     * and the process is stopped gracefully.
+     *
+     * @return The exit code of the process or null if the process could not be launched or didn't finish in time
+     */
+    private Integer launchAotProcess(Path workingDirectory, List<String> command, String description, int port,
+            List<String> trainingRequests, int repeat, long deadline) {
+        if (log.isDebugEnabled()) {
+            log.debugf("Launching command: '%s' for AOT cache creation.", String.join(" ", command));
+        }
+
+        Process process;
+        try {
+            ProcessBuilder processBuilder = new ProcessBuilder(command)
+                    .directory(workingDirectory.toFile());
+            if (log.isDebugEnabled()) {
+                processBuilder.inheritIO();
+            } else {
+                processBuilder.redirectError(ProcessBuilder.Redirect.DISCARD).redirectOutput(ProcessBuilder.Redirect.DISCARD);
+            }
+            process = processBuilder.start();
+        } catch (Exception e) {
+            log.warn("Failed to launch process used to create the AOT cache using the following command: '" + command + "'",
+                    e);
+            return null;
+        }
+
+        try {
+            if (port > 0) {
+                if (!awaitPort(process, port, deadline)) {
+                    log.warnf("The application did not start listening on port %d during the AOT cache %s run.", port,
+                            description);
+                    process.destroyForcibly();
+                    return null;
+                }
+                performTrainingRequests(port, trainingRequests, repeat, deadline);
+                // graceful shutdown, the JVM writes the AOT configuration on exit
+                process.destroy();
+            }
+
+            if (!process.waitFor(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                log.warnf("The process used to create the AOT cache did not finish in time, killing it: '%s'", command);
+                process.destroyForcibly();
+                return null;
+            }
+            return process.exitValue();
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private static boolean awaitPort(Process process, int port, long deadline) throws InterruptedException {
+        while (System.nanoTime() - deadline < 0) {
+            if (!process.isAlive()) {
+                return false;
+            }
+            try (Socket socket = new Socket()) {
+                socket.connect(new InetSocketAddress("localhost", port), 100);
+                return true;
+            } catch (IOException e) {
+                Thread.sleep(100);
+            }
+        }
+        return false;
+    }
+
+    private static void performTrainingRequests(int port, List<String> trainingRequests, int repeat, long deadline)
+            throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+        for (int i = 0; i < repeat; i++) {
+            for (String path : trainingRequests) {
+                if (System.nanoTime() - deadline >= 0) {
+                    log.warn("The AOT cache training run timed out, not all training requests were performed.");
+                    return;
+                }
+                URI uri = URI.create("http://localhost:" + port + (path.startsWith("/") ? path : "/" + path));
+                try {
+                    HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri).GET().build(),
+                            HttpResponse.BodyHandlers.discarding());
+                    if (log.isDebugEnabled()) {
+                        log.debugf("AOT cache training request '%s' returned status %d.", uri, response.statusCode());
+                    }
+                } catch (IOException e) {
+                    log.warnf("AOT cache training request '%s' failed: %s", uri, e.toString());
+                }
+            }
+        }
+    }
+
+    private static int findFreePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private String determineContainerImage(boolean useContainer, Optional<String> builderImage,
             Optional<AppCDSContainerImageBuildItem> appCDSContainerImage) {
-        if (!packageConfig.jar().appcds().useContainer()) {
+        if (!useContainer) {
             return null;
-        } else if (packageConfig.jar().appcds().builderImage().isPresent()) {
-            return packageConfig.jar().appcds().builderImage().get();
+        } else if (builderImage.isPresent()) {
+            return builderImage.get();
         } else if (appCDSContainerImage.isPresent()) {
             return appCDSContainerImage.get().getContainerImage();
         }
@@ -358,7 +617,8 @@ public boolean getAsBoolean() {
                 return false;
             }
 
-            return packageConfig.jar().appcds().enabled() && packageConfig.jar().enabled();
+            return (packageConfig.jar().appcds().enabled() || packageConfig.jar().aot().enabled())
+                    && packageConfig.jar().enabled();
         }
     }
 
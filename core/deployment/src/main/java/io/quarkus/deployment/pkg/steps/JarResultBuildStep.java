@@ -54,6 +54,7 @@
 import org.jboss.logging.Logger;
 
 import io.quarkus.bootstrap.model.MutableJarApplicationModel;
+import io.quarkus.bootstrap.runner.ClassBlob;
 import io.quarkus.bootstrap.runner.QuarkusEntryPoint;
 import io.quarkus.bootstrap.runner.SerializedApplication;
 import io.quarkus.bootstrap.util.IoUtils;
@@ -764,8 +765,12 @@ private JarBuildItem buildThinJar(CurateOutcomeBuildItem curateOutcomeBuildItem,
             Collections.sort(sortedParentFirst);
             List<String> sortedNonExistentResources = new ArrayList<>(nonExistentResources);
             Collections.sort(sortedNonExistentResources);
+            boolean classBlob = packageConfig.jar().classBlob();
+            if (classBlob) {
+                ClassBlob.write(buildDir.resolve(ClassBlob.QUARKUS_CLASS_BLOB), allJars);
+            }
             SerializedApplication.write(out, mainClassBuildItem.getClassName(), buildDir, allJars, sortedParentFirst,
-                    sortedNonExistentResources);
+                    sortedNonExistentResources, classBlob);
         }
 
         runnerJar.toFile().setReadable(true, false);
@@ -0,0 +1,48 @@
+package io.quarkus.deployment.pkg.steps;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for the JDK AOT cache support of {@link AppCDSBuildStep}
+ */
+class AppCDSBuildStepTest {
+
+    @Test
+    void should_require_java_24_for_aot_cache() {
+        assertThat(AppCDSBuildStep.isAotCacheSupported(17)).isFalse();
+        assertThat(AppCDSBuildStep.isAotCacheSupported(21)).isFalse();
+        assertThat(AppCDSBuildStep.isAotCacheSupported(23)).isFalse();
+        assertThat(AppCDSBuildStep.isAotCacheSupported(24)).isTrue();
+        assertThat(AppCDSBuildStep.isAotCacheSupported(25)).isTrue();
+    }
+
+    @Test
+    void should_record_aot_configuration_on_startup() {
+        assertThat(AppCDSBuildStep.aotTrainingArguments("quarkus-run.jar", 0)).containsExactly(
+                "-XX:AOTMode=record",
+                "-XX:AOTConfiguration=app.aotconf",
+                "-Dquarkus.appcds.generate=true",
+                "-jar", "quarkus-run.jar");
+    }
+
+    @Test
+    void should_record_aot_configuration_with_training_requests() {
+        assertThat(AppCDSBuildStep.aotTrainingArguments("quarkus-run.jar", 8123)).containsExactly(
+                "-XX:AOTMode=record",
+                "-XX:AOTConfiguration=app.aotconf",
+                "-Dquarkus.http.port=8123",
+                "-jar", "quarkus-run.jar");
+    }
+
+    @Test
+    void should_create_aot_cache_next_to_the_jar() {
+        assertThat(AppCDSBuildStep.AOT_CACHE_FILE_NAME).isEqualTo("app.aot");
+        assertThat(AppCDSBuildStep.aotCreateArguments("my-app-runner.jar")).containsExactly(
+                "-XX:AOTMode=create",
+                "-XX:AOTConfiguration=app.aotconf",
+                "-XX:AOTCache=app.aot",
+                "--class-path", "my-app-runner.jar");
+    }
+}
@@ -18,6 +18,16 @@
  */
 public class LogMetricsHandler extends ExtHandler {
 
+    /**
+     * Number of log records discarded by {@link RingBufferAsyncHandler}s because the buffer was full.
+     */
+    static final LongAdder ASYNC_DROPPED = new LongAdder();
+
+    /**
+     * Number of log records for which the publishing thread had to wait for a free slot of a {@link RingBufferAsyncHandler}.
+     */
+    static final LongAdder ASYNC_BLOCKED = new LongAdder();
+
     final NavigableMap<Integer, LongAdder> logCounters;
 
     public LogMetricsHandler(NavigableMap<Integer, LongAdder> logCounters) {
@@ -22,6 +22,14 @@ public class LogMetricsHandlerRecorder {
 
     static final String METRIC_DESCRIPTION = "Number of log events, per log level. Non-standard levels are counted with the lower standard level.";
 
+    static final String ASYNC_DROPPED_METRIC_NAME = "log.async.dropped";
+
+    static final String ASYNC_DROPPED_METRIC_DESCRIPTION = "Number of log events discarded because the async ring buffer was full.";
+
+    static final String ASYNC_BLOCKED_METRIC_NAME = "log.async.blocked";
+
+    static final String ASYNC_BLOCKED_METRIC_DESCRIPTION = "Number of log events that had to wait for a free slot of the async ring buffer.";
+
     static final List<Level> STANDARD_LEVELS = Arrays.asList(Level.FATAL, Level.ERROR, Level.WARN, Level.INFO, Level.DEBUG,
             Level.TRACE);
 
@@ -43,6 +51,10 @@ public void accept(MetricsFactory metricsFactory) {
                     metricsFactory.builder(METRIC_NAME).description(METRIC_DESCRIPTION).tag("level", level.getName())
                             .buildCounter(COUNTERS.get(level.intValue())::sum);
                 }
+                metricsFactory.builder(ASYNC_DROPPED_METRIC_NAME).description(ASYNC_DROPPED_METRIC_DESCRIPTION)
+                        .buildCounter(LogMetricsHandler.ASYNC_DROPPED::sum);
+                metricsFactory.builder(ASYNC_BLOCKED_METRIC_NAME).description(ASYNC_BLOCKED_METRIC_DESCRIPTION)
+                        .buildCounter(LogMetricsHandler.ASYNC_BLOCKED::sum);
             }
         };
     }
@@ -22,6 +22,7 @@
 import io.quarkus.runtime.configuration.InetSocketAddressConverter;
 import io.quarkus.runtime.configuration.MemorySize;
 import io.quarkus.runtime.configuration.MemorySizeConverter;
+import io.quarkus.runtime.logging.RingBufferAsyncHandler.WaitStrategy;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithConverter;
 import io.smallrye.config.WithDefault;
@@ -502,5 +503,35 @@ interface AsyncConfig {
          */
         @WithDefault("block")
         OverflowAction overflow();
+
+        /**
+         * The implementation of the asynchronous handler.
+         * <p>
+         * The `queue` implementation uses a blocking queue guarded by a lock. The `ring-buffer` implementation uses a
+         * pre-allocated lock-free ring buffer drained in batches by a single thread, which reduces the contention when many
+         * threads log concurrently. For the `ring-buffer` implementation, the queue length is rounded up to the next power of
+         * two.
+         */
+        @WithDefault("queue")
+        AsyncImplementation implementation();
+
+        /**
+         * The strategy used by the thread draining the ring buffer when there is no log record to process.
+         * <p>
+         * Only used by the `ring-buffer` implementation.
+         */
+        @WithDefault("blocking")
+        WaitStrategy waitStrategy();
+
+        enum AsyncImplementation {
+            /**
+             * A blocking queue guarded by a lock.
+             */
+            QUEUE,
+            /**
+             * A pre-allocated lock-free ring buffer.
+             */
+            RING_BUFFER
+        }
     }
 }
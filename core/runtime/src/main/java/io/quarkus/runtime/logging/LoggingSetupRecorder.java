@@ -842,7 +842,15 @@ private static Handler configureSocketHandler(final LogRuntimeConfig.SocketConfi
         }
     }
 
-    private static AsyncHandler createAsyncHandler(LogRuntimeConfig.AsyncConfig asyncConfig, Level level, Handler handler) {
+    private static ExtHandler createAsyncHandler(LogRuntimeConfig.AsyncConfig asyncConfig, Level level, Handler handler) {
+        if (asyncConfig.implementation() == LogRuntimeConfig.AsyncConfig.AsyncImplementation.RING_BUFFER) {
+            final RingBufferAsyncHandler ringBufferHandler = new RingBufferAsyncHandler(asyncConfig.queueLength(),
+                    asyncConfig.waitStrategy());
+            ringBufferHandler.setOverflowAction(asyncConfig.overflow());
+            ringBufferHandler.addHandler(handler);
+            ringBufferHandler.setLevel(level);
+            return ringBufferHandler;
+        }
         final AsyncHandler asyncHandler = new AsyncHandler(asyncConfig.queueLength());
         asyncHandler.setOverflowAction(asyncConfig.overflow());
         asyncHandler.addHandler(handler);
@@ -0,0 +1,293 @@
+package io.quarkus.runtime.logging;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.handlers.AsyncHandler.OverflowAction;
+
+/**
+ * An asynchronous handler backed by a pre-allocated lock-free ring buffer.
+ * <p>
+ * Any number of threads may publish records concurrently. A slot is claimed with a single CAS and no allocation is
+ * performed on the publishing path. A single daemon thread drains the available records in batches, publishes them to the
+ * nested handlers and flushes the nested handlers once per batch if auto-flush is enabled.
+ * <p>
+ * When the buffer is full, the {@link OverflowAction} decides whether the publishing thread waits for a free slot or the
+ * record is discarded. Both situations are counted by {@link LogMetricsHandler#ASYNC_BLOCKED} and
+ * {@link LogMetricsHandler#ASYNC_DROPPED} respectively.
+ */
+public class RingBufferAsyncHandler extends ExtHandler {
+
+    /**
+     * The strategy used by the consumer thread when there is no record to process.
+     */
+    public enum WaitStrategy {
+        /**
+         * Park the consumer thread until a record is published. The lowest CPU usage, but a publishing thread may need to
+         * unpark the consumer.
+         */
+        BLOCKING,
+        /**
+         * Spin, then yield, then park the consumer thread for a short period of time. Publishing threads never need to
+         * wake up the consumer.
+         */
+        SLEEPING,
+        /**
+         * Spin and yield the consumer thread. The lowest latency, but a CPU core is kept busy.
+         */
+        YIELDING
+    }
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final long SLEEP_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long PRODUCER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final ExtLogRecord[] buffer;
+    // Slot sequence: equal to the position if the slot is free, position + 1 if the slot holds a published record
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final WaitStrategy waitStrategy;
+    private final Thread consumer;
+    private final LongAdder dropped;
+    private final LongAdder blocked;
+
+    private volatile OverflowAction overflowAction = OverflowAction.BLOCK;
+    private volatile boolean started;
+    private volatile boolean closed;
+    private volatile boolean waiting;
+    // Only accessed by the consumer thread
+    private long head;
+
+    public RingBufferAsyncHandler(int capacity, WaitStrategy waitStrategy) {
+        this(capacity, waitStrategy, LogMetricsHandler.ASYNC_DROPPED, LogMetricsHandler.ASYNC_BLOCKED);
+    }
+
+    RingBufferAsyncHandler(int capacity, WaitStrategy waitStrategy, LongAdder dropped, LongAdder blocked) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1: " + capacity);
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        if (size <= 0) {
+            throw new IllegalArgumentException("Capacity is too large: " + capacity);
+        }
+        this.buffer = new ExtLogRecord[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        this.mask = size - 1;
+        this.waitStrategy = waitStrategy;
+        this.dropped = dropped;
+        this.blocked = blocked;
+        this.consumer = new Thread(this::consume, "quarkus-log-async");
+        this.consumer.setDaemon(true);
+    }
+
+    /**
+     * @return the actual capacity of the buffer, i.e. the requested capacity rounded up to the next power of two
+     */
+    public int getCapacity() {
+        return buffer.length;
+    }
+
+    public OverflowAction getOverflowAction() {
+        return overflowAction;
+    }
+
+    public void setOverflowAction(OverflowAction overflowAction) {
+        if (overflowAction == null) {
+            throw new NullPointerException("overflowAction is null");
+        }
+        checkAccess();
+        this.overflowAction = overflowAction;
+    }
+
+    @Override
+    protected void doPublish(ExtLogRecord record) {
+        if (closed) {
+            return;
+        }
+        if (!started) {
+            start();
+        }
+        if (isCallerCalculationRequired()) {
+            record.copyAll();
+        } else {
+            record.disableCallerCalculation();
+            record.copyMdc();
+        }
+        if (Thread.currentThread() == consumer) {
+            // A nested handler is logging, waiting for a free slot would never end
+            publishToNestedHandlers(record);
+            return;
+        }
+        if (offer(record)) {
+            signal();
+            return;
+        }
+        if (overflowAction == OverflowAction.DISCARD) {
+            dropped.increment();
+            return;
+        }
+        blocked.increment();
+        int tries = 0;
+        while (!offer(record)) {
+            if (closed) {
+                dropped.increment();
+                return;
+            }
+            if (tries < SPIN_TRIES) {
+                tries++;
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(this, PRODUCER_PARK_NANOS);
+            }
+        }
+        signal();
+    }
+
+    private synchronized void start() {
+        if (!started) {
+            consumer.start();
+            started = true;
+        }
+    }
+
+    private boolean offer(ExtLogRecord record) {
+        long pos = tail.get();
+        for (;;) {
+            int index = (int) (pos & mask);
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    buffer[index] = record;
+                    // A volatile write is needed, see signal()
+                    sequences.set(index, pos + 1);
+                    return true;
+                }
+                pos = tail.get();
+            } else if (diff < 0) {
+                // The slot was not consumed yet - the buffer is full
+                return false;
+            } else {
+                // Another producer claimed the slot
+                pos = tail.get();
+            }
+        }
+    }
+
+    private void signal() {
+        // The consumer sets waiting before it checks the buffer for the last time
+        if (waitStrategy == WaitStrategy.BLOCKING && waiting) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    private boolean isAvailable() {
+        return sequences.get((int) (head & mask)) == head + 1;
+    }
+
+    private int drain() {
+        int count = 0;
+        int max = buffer.length;
+        while (count < max) {
+            int index = (int) (head & mask);
+            if (sequences.get(index) != head + 1) {
+                break;
+            }
+            ExtLogRecord record = buffer[index];
+            buffer[index] = null;
+            // Release the slot for the next round
+            sequences.set(index, head + buffer.length);
+            head++;
+            count++;
+            try {
+                publishToNestedHandlers(record);
+            } catch (Throwable t) {
+                reportError("Unable to publish the log record", t instanceof Exception e ? e : new RuntimeException(t),
+                        ErrorManager.WRITE_FAILURE);
+            }
+        }
+        return count;
+    }
+
+    private void consume() {
+        int idle = 0;
+        for (;;) {
+            if (drain() > 0) {
+                idle = 0;
+                if (isAutoFlush()) {
+                    flush();
+                }
+                continue;
+            }
+            if (closed) {
+                if (isAvailable()) {
+                    continue;
+                }
+                return;
+            }
+            switch (waitStrategy) {
+                case BLOCKING:
+                    waiting = true;
+                    if (!isAvailable() && !closed) {
+                        LockSupport.park(this);
+                    }
+                    waiting = false;
+                    break;
+                case SLEEPING:
+                    if (idle < SPIN_TRIES) {
+                        Thread.onSpinWait();
+                    } else if (idle < SPIN_TRIES + YIELD_TRIES) {
+                        Thread.yield();
+                    } else {
+                        LockSupport.parkNanos(this, SLEEP_NANOS);
+                    }
+                    break;
+                case YIELDING:
+                    if (idle < SPIN_TRIES) {
+                        Thread.onSpinWait();
+                    } else {
+                        Thread.yield();
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException("Unsupported wait strategy: " + waitStrategy);
+            }
+            if (idle < Integer.MAX_VALUE) {
+                idle++;
+            }
+        }
+    }
+
+    /**
+     * Stops accepting new records, waits until the published records are processed and closes the nested handlers.
+     */
+    @Override
+    public void close() throws SecurityException {
+        checkAccess();
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (started) {
+            LockSupport.unpark(consumer);
+            if (Thread.currentThread() != consumer) {
+                try {
+                    consumer.join(TimeUnit.SECONDS.toMillis(5));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+        super.close();
+    }
+}
@@ -0,0 +1,114 @@
+package io.quarkus.runtime.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.Level;
+import org.jboss.logmanager.handlers.AsyncHandler.OverflowAction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import io.quarkus.runtime.logging.RingBufferAsyncHandler.WaitStrategy;
+
+public class RingBufferAsyncHandlerTest {
+
+    @Test
+    public void capacityShouldBeRoundedUp() {
+        assertEquals(1, new RingBufferAsyncHandler(1, WaitStrategy.BLOCKING).getCapacity());
+        assertEquals(512, new RingBufferAsyncHandler(512, WaitStrategy.BLOCKING).getCapacity());
+        assertEquals(1024, new RingBufferAsyncHandler(513, WaitStrategy.BLOCKING).getCapacity());
+    }
+
+    @ParameterizedTest
+    @EnumSource(WaitStrategy.class)
+    public void allRecordsShouldBePublishedInOrderWhenBlocking(WaitStrategy waitStrategy) throws InterruptedException {
+        int threads = 4;
+        int recordsPerThread = 10_000;
+        LongAdder dropped = new LongAdder();
+        LongAdder blocked = new LongAdder();
+        CollectingHandler collecting = new CollectingHandler();
+        RingBufferAsyncHandler handler = new RingBufferAsyncHandler(16, waitStrategy, dropped, blocked);
+        handler.addHandler(collecting);
+
+        List<Thread> producers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            String name = "producer-" + i;
+            Thread producer = new Thread(() -> {
+                for (int j = 0; j < recordsPerThread; j++) {
+                    handler.publish(new ExtLogRecord(Level.INFO, name + ":" + j, RingBufferAsyncHandlerTest.class.getName()));
+                }
+            });
+            producers.add(producer);
+            producer.start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        handler.close();
+
+        assertEquals(0, dropped.sum());
+        assertEquals(threads * recordsPerThread, collecting.count.sum());
+        for (int i = 0; i < threads; i++) {
+            // Records published by a single thread keep their order
+            assertEquals(recordsPerThread - 1, collecting.last.get("producer-" + i));
+        }
+    }
+
+    @Test
+    public void recordsShouldBeDroppedWhenDiscarding() throws InterruptedException {
+        LongAdder dropped = new LongAdder();
+        LongAdder blocked = new LongAdder();
+        CountDownLatch release = new CountDownLatch(1);
+        CollectingHandler collecting = new CollectingHandler() {
+            @Override
+            protected void doPublish(ExtLogRecord record) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.doPublish(record);
+            }
+        };
+        RingBufferAsyncHandler handler = new RingBufferAsyncHandler(4, WaitStrategy.BLOCKING, dropped, blocked);
+        handler.setOverflowAction(OverflowAction.DISCARD);
+        handler.addHandler(collecting);
+
+        for (int i = 0; i < 20; i++) {
+            handler.publish(new ExtLogRecord(Level.INFO, "producer:" + i, RingBufferAsyncHandlerTest.class.getName()));
+        }
+        release.countDown();
+        handler.close();
+
+        assertEquals(0, blocked.sum());
+        assertTrue(dropped.sum() > 0);
+        assertEquals(20, collecting.count.sum() + dropped.sum());
+    }
+
+    static class CollectingHandler extends ExtHandler {
+
+        final LongAdder count = new LongAdder();
+        final ConcurrentHashMap<String, Integer> last = new ConcurrentHashMap<>();
+
+        @Override
+        protected void doPublish(ExtLogRecord record) {
+            String[] parts = record.getMessage().split(":");
+            int index = Integer.parseInt(parts[1]);
+            Integer previous = last.put(parts[0], index);
+            if (previous != null && previous >= index) {
+                throw new AssertionError("Unexpected record " + index + " after " + previous);
+            }
+            count.increment();
+        }
+    }
+}
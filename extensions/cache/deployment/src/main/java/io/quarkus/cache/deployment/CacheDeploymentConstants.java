@@ -1,7 +1,11 @@
 package io.quarkus.cache.deployment;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
 
 import org.jboss.jandex.DotName;
 
@@ -15,6 +19,7 @@
 import io.quarkus.cache.runtime.CacheKeyParameterPositions;
 import io.quarkus.cache.runtime.CacheResultInterceptor;
 import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
 
 public class CacheDeploymentConstants {
 
@@ -41,6 +46,13 @@ public class CacheDeploymentConstants {
     // Mutiny.
     public static final DotName MULTI = dotName(Multi.class);
 
+    // Per element caching.
+    public static final DotName MAP = dotName(Map.class);
+    public static final List<DotName> PER_ELEMENT_KEY_TYPES = Arrays.asList(dotName(Collection.class), dotName(List.class),
+            dotName(Set.class));
+    public static final List<DotName> PER_ELEMENT_ASYNC_TYPES = Arrays.asList(dotName(Uni.class),
+            dotName(CompletionStage.class));
+
     // Annotations parameters.
     public static final String CACHE_NAME_PARAM = "cacheName";
 
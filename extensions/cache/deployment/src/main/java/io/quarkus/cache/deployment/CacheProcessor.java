@@ -11,7 +11,10 @@
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTORS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDINGS;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.INTERCEPTOR_BINDING_CONTAINERS;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.MAP;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.MULTI;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.PER_ELEMENT_ASYNC_TYPES;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.PER_ELEMENT_KEY_TYPES;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.REGISTER_REST_CLIENT;
 import static io.quarkus.cache.runtime.CacheBuildConfig.CAFFEINE_CACHE_TYPE;
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
@@ -50,6 +53,7 @@
 import io.quarkus.cache.CacheManager;
 import io.quarkus.cache.deployment.exception.ClassTargetException;
 import io.quarkus.cache.deployment.exception.KeyGeneratorConstructorException;
+import io.quarkus.cache.deployment.exception.PerElementCacheResultException;
 import io.quarkus.cache.deployment.exception.PrivateMethodTargetException;
 import io.quarkus.cache.deployment.exception.UnsupportedRepeatedAnnotationException;
 import io.quarkus.cache.deployment.exception.VoidReturnTypeTargetException;
@@ -68,6 +72,7 @@
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveMethodBuildItem;
 import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
 import io.quarkus.rest.client.reactive.spi.RestClientAnnotationsTransformerBuildItem;
 
@@ -101,6 +106,18 @@ CacheTypeBuildItem type(CacheBuildConfig config) {
                 CAFFEINE_CACHE_TYPE.equals(config.type()) ? CacheTypeBuildItem.Type.LOCAL : CacheTypeBuildItem.Type.REMOTE);
     }
 
+    @BuildStep
+    void registerCacheResultMethodsForReflection(CombinedIndexBuildItem combinedIndex,
+            BuildProducer<ReflectiveMethodBuildItem> reflectiveMethods) {
+        // The entries refreshed in the background are reloaded with a reflective invocation of the cached method
+        for (AnnotationInstance cacheResult : combinedIndex.getIndex().getAnnotations(CACHE_RESULT)) {
+            if (cacheResult.target().kind() == METHOD) {
+                reflectiveMethods.produce(
+                        new ReflectiveMethodBuildItem(getClass().getName(), cacheResult.target().asMethod()));
+            }
+        }
+    }
+
     @BuildStep
     void validateCacheAnnotationsAndProduceCacheNames(CombinedIndexBuildItem combinedIndex,
             List<AdditionalCacheNameBuildItem> additionalCacheNames,
@@ -207,6 +224,10 @@ private List<Throwable> validateInterceptorBindingTarget(AnnotationInstance bind
                         LOGGER.warnf("@CacheResult is not currently supported on a method returning %s [class=%s, method=%s]",
                                 MULTI, methodInfo.declaringClass().name(), methodInfo.name());
                     }
+                    AnnotationValue perElement = binding.value("perElement");
+                    if (perElement != null && perElement.asBoolean()) {
+                        validatePerElementTarget(binding, methodInfo).ifPresent(throwables::add);
+                    }
                 }
                 break;
             default:
@@ -216,6 +237,40 @@ private List<Throwable> validateInterceptorBindingTarget(AnnotationInstance bind
         return throwables;
     }
 
+    private Optional<Throwable> validatePerElementTarget(AnnotationInstance binding, MethodInfo methodInfo) {
+        if (binding.value("keyGenerator") != null) {
+            return Optional.of(new PerElementCacheResultException(methodInfo, "a key generator cannot be used"));
+        }
+        List<Short> cacheKeyPositions = new ArrayList<>();
+        for (AnnotationInstance cacheKey : methodInfo.annotations(CACHE_KEY)) {
+            if (cacheKey.target().kind() == Kind.METHOD_PARAMETER) {
+                cacheKeyPositions.add(cacheKey.target().asMethodParameter().position());
+            }
+        }
+        Type keyType;
+        if (cacheKeyPositions.size() == 1) {
+            keyType = methodInfo.parameterType(cacheKeyPositions.get(0));
+        } else if (cacheKeyPositions.isEmpty() && methodInfo.parametersCount() == 1) {
+            keyType = methodInfo.parameterType(0);
+        } else {
+            return Optional.of(new PerElementCacheResultException(methodInfo,
+                    "the cache key must be a single parameter"));
+        }
+        if (!PER_ELEMENT_KEY_TYPES.contains(keyType.name())) {
+            return Optional.of(new PerElementCacheResultException(methodInfo,
+                    "the cache key parameter must be a Collection, a List or a Set"));
+        }
+        Type returnType = methodInfo.returnType();
+        if (returnType.kind() == Type.Kind.PARAMETERIZED_TYPE && PER_ELEMENT_ASYNC_TYPES.contains(returnType.name())) {
+            returnType = returnType.asParameterizedType().arguments().get(0);
+        }
+        if (!MAP.equals(returnType.name())) {
+            return Optional.of(new PerElementCacheResultException(methodInfo,
+                    "the method must return a Map, or a Uni or a CompletionStage of a Map"));
+        }
+        return Optional.empty();
+    }
+
     private Optional<DotName> findCacheKeyGenerator(AnnotationInstance binding, AnnotationTarget target) {
         if (target.kind() == METHOD && (CACHE_RESULT.equals(binding.name()) || CACHE_INVALIDATE.equals(binding.name()))) {
             AnnotationValue keyGenerator = binding.value("keyGenerator");
@@ -0,0 +1,23 @@
+package io.quarkus.cache.deployment.exception;
+
+import org.jboss.jandex.MethodInfo;
+
+/**
+ * This exception is thrown at build time during the validation phase if a method annotated with
+ * {@link io.quarkus.cache.CacheResult @CacheResult(perElement = true)} does not have the expected signature.
+ */
+@SuppressWarnings("serial")
+public class PerElementCacheResultException extends RuntimeException {
+
+    private final MethodInfo methodInfo;
+
+    public PerElementCacheResultException(MethodInfo methodInfo, String reason) {
+        super("@CacheResult(perElement = true) is not allowed on this method: " + reason + " [class="
+                + methodInfo.declaringClass().name() + ", method=" + methodInfo.name() + "]");
+        this.methodInfo = methodInfo;
+    }
+
+    public MethodInfo getMethodInfo() {
+        return methodInfo;
+    }
+}
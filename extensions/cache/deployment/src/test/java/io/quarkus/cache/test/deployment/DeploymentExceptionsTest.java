@@ -5,6 +5,8 @@
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Stream;
 
@@ -24,6 +26,7 @@
 import io.quarkus.cache.CacheResult;
 import io.quarkus.cache.deployment.exception.ClassTargetException;
 import io.quarkus.cache.deployment.exception.KeyGeneratorConstructorException;
+import io.quarkus.cache.deployment.exception.PerElementCacheResultException;
 import io.quarkus.cache.deployment.exception.VoidReturnTypeTargetException;
 import io.quarkus.test.QuarkusUnitTest;
 
@@ -43,7 +46,7 @@ public class DeploymentExceptionsTest {
             .withApplicationRoot((jar) -> jar.addClasses(TestResource.class, TestBean.class))
             .assertException(t -> {
                 assertEquals(DeploymentException.class, t.getClass());
-                assertEquals(8, t.getSuppressed().length);
+                assertEquals(11, t.getSuppressed().length);
                 assertVoidReturnTypeTargetException(t, "showThrowVoidReturnTypeTargetException");
                 assertClassTargetException(t, TestResource.class, 1);
                 assertClassTargetException(t, TestBean.class, 2);
@@ -51,6 +54,9 @@ public class DeploymentExceptionsTest {
                 assertKeyGeneratorConstructorException(t, KeyGen2.class);
                 assertKeyGeneratorConstructorException(t, KeyGen3.class);
                 assertKeyGeneratorConstructorException(t, KeyGen4.class);
+                assertPerElementCacheResultException(t, "shouldThrowPerElementExceptionForKeyType");
+                assertPerElementCacheResultException(t, "shouldThrowPerElementExceptionForReturnType");
+                assertPerElementCacheResultException(t, "shouldThrowPerElementExceptionForCompositeKey");
             });
 
     private static void assertVoidReturnTypeTargetException(Throwable t, String expectedMethodName) {
@@ -68,6 +74,11 @@ private static void assertKeyGeneratorConstructorException(Throwable t, Class<?>
                 .filter(s -> expectedClassName.getName().equals(s.getClassInfo().name().toString())).count());
     }
 
+    private static void assertPerElementCacheResultException(Throwable t, String expectedMethodName) {
+        assertEquals(1, filterSuppressed(t, PerElementCacheResultException.class)
+                .filter(s -> expectedMethodName.equals(s.getMethodInfo().name())).count());
+    }
+
     private static <T extends RuntimeException> Stream<T> filterSuppressed(Throwable t, Class<T> filterClass) {
         return stream(t.getSuppressed()).filter(filterClass::isInstance).map(filterClass::cast);
     }
@@ -116,6 +127,21 @@ public void shouldAlsoThrowKeyGeneratorConstructorException() {
         @CacheInvalidate(cacheName = "should-throw-key-generator-constructor-exception", keyGenerator = KeyGen4.class)
         public void shouldThrowKeyGeneratorConstructorExceptionAsWell() {
         }
+
+        @CacheResult(cacheName = "should-throw-per-element-exception", perElement = true)
+        public Map<String, String> shouldThrowPerElementExceptionForKeyType(String key) {
+            return Map.of();
+        }
+
+        @CacheResult(cacheName = "should-throw-per-element-exception", perElement = true)
+        public List<String> shouldThrowPerElementExceptionForReturnType(List<String> keys) {
+            return List.of();
+        }
+
+        @CacheResult(cacheName = "should-throw-per-element-exception", perElement = true)
+        public Map<String, String> shouldThrowPerElementExceptionForCompositeKey(List<String> keys, String locale) {
+            return Map.of();
+        }
     }
 
     private static class KeyGen1 implements CacheKeyGenerator {
@@ -0,0 +1,222 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheKey;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests the {@link CacheResult#perElement()} mode and the {@link Cache#getAll} programmatic API.
+ */
+public class PerElementCacheResultTest {
+
+    private static final String CACHE_NAME = "per-element-cache";
+    private static final String ASYNC_CACHE_NAME = "per-element-async-cache";
+    private static final String SHARED_CACHE_NAME = "per-element-shared-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().withApplicationRoot((jar) -> jar.addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @CacheName(SHARED_CACHE_NAME)
+    Cache sharedCache;
+
+    @Test
+    public void testPerElement() {
+        Map<Integer, String> values = cachedService.find(List.of(1, 2, 3));
+        assertEquals(Map.of(1, "1-en", 2, "2-en", 3, "3-en"), values);
+        assertEquals(List.of(List.of(1, 2, 3)), cachedService.getInvocations());
+
+        // Only the missing element is loaded, the elements missing from the result are not cached.
+        values = cachedService.find(List.of(2, 3, 4, -1));
+        assertEquals(Map.of(2, "2-en", 3, "3-en", 4, "4-en"), values);
+        assertEquals(List.of(List.of(1, 2, 3), List.of(4, -1)), cachedService.getInvocations());
+
+        // The method is not invoked when all the elements are cached.
+        values = cachedService.find(List.of(4, 1));
+        assertEquals(Map.of(1, "1-en", 4, "4-en"), values);
+        assertEquals(2, cachedService.getInvocations().size());
+
+        // Each element is cached with its own key.
+        assertEquals("2-en", cache.get(2, k -> "unused").await().indefinitely());
+
+        // The other parameters are passed as is.
+        values = cachedService.findWithLocale(List.of(5), "fr");
+        assertEquals(Map.of(5, "5-fr"), values);
+    }
+
+    @Test
+    public void testPerElementAsync() {
+        Uni<Map<String, Integer>> uni = cachedService.lengths(Set.of("a", "bb"));
+        assertEquals(0, cachedService.getAsyncInvocations());
+        assertEquals(Map.of("a", 1, "bb", 2), uni.await().indefinitely());
+        assertEquals(1, cachedService.getAsyncInvocations());
+
+        assertEquals(Map.of("a", 1, "ccc", 3), cachedService.lengths(Set.of("a", "ccc")).await().indefinitely());
+        assertEquals(2, cachedService.getAsyncInvocations());
+        assertFalse(cachedService.getLastAsyncKeys().contains("a"));
+    }
+
+    @Test
+    public void testProgrammaticGetAll() {
+        List<Set<String>> loads = new ArrayList<>();
+        Map<String, String> values = cache.<String, String> getAll(List.of("x", "y"), keys -> {
+            loads.add(keys);
+            Map<String, String> result = new HashMap<>();
+            for (String key : keys) {
+                result.put(key, key.toUpperCase());
+            }
+            return result;
+        }).await().indefinitely();
+        assertEquals(Map.of("x", "X", "y", "Y"), values);
+
+        values = cache.<String, String> getAllAsync(List.of("x", "z"), keys -> {
+            loads.add(keys);
+            return Uni.createFrom().item(Map.of("z", "Z"));
+        }).await().indefinitely();
+        assertEquals(Map.of("x", "X", "z", "Z"), values);
+        assertEquals(List.of(Set.of("x", "y"), Set.of("z")), loads);
+    }
+
+    @Test
+    public void testConcurrentLookupOfAbsentElement() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            CountDownLatch loadStarted = new CountDownLatch(1);
+            CountDownLatch loadFinished = new CountDownLatch(1);
+            cachedService.blockSharedLoad(loadStarted, loadFinished);
+            CompletableFuture<Map<Integer, String>> values = CompletableFuture
+                    .supplyAsync(() -> cachedService.findShared(List.of(1, 2)), executor);
+            assertTrue(loadStarted.await(10, TimeUnit.SECONDS));
+
+            // These lookups wait for the elements being loaded by findShared()
+            CompletableFuture<String> invocationValue = CompletableFuture.supplyAsync(() -> cachedService.findOne(1),
+                    executor);
+            CompletableFuture<String> programmaticValue = CompletableFuture
+                    .supplyAsync(() -> sharedCache.<Integer, String> get(1, k -> k + "-programmatic").await().indefinitely(),
+                            executor);
+            Thread.sleep(100);
+            loadFinished.countDown();
+
+            // The element absent from the loaded elements is loaded by the waiting lookups instead of being null
+            assertEquals(Map.of(2, "2-shared"), values.get(10, TimeUnit.SECONDS));
+            String value = invocationValue.get(10, TimeUnit.SECONDS);
+            assertTrue(value.equals("1-one") || value.equals("1-programmatic"), value);
+            assertEquals(value, programmaticValue.get(10, TimeUnit.SECONDS));
+            assertEquals(value, sharedCache.get(1, k -> "unused").await().indefinitely());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final List<List<Integer>> invocations = new ArrayList<>();
+        private int asyncInvocations;
+        private Set<String> lastAsyncKeys;
+        private volatile CountDownLatch sharedLoadStarted;
+        private volatile CountDownLatch sharedLoadFinished;
+
+        @CacheResult(cacheName = CACHE_NAME, perElement = true)
+        public Map<Integer, String> find(List<Integer> ids) {
+            invocations.add(ids);
+            Map<Integer, String> result = new HashMap<>();
+            for (Integer id : ids) {
+                if (id >= 0) {
+                    result.put(id, id + "-en");
+                }
+            }
+            return result;
+        }
+
+        @CacheResult(cacheName = "per-element-locale-cache", perElement = true)
+        public Map<Integer, String> findWithLocale(@CacheKey List<Integer> ids, String locale) {
+            Map<Integer, String> result = new HashMap<>();
+            for (Integer id : ids) {
+                result.put(id, id + "-" + locale);
+            }
+            return result;
+        }
+
+        @CacheResult(cacheName = ASYNC_CACHE_NAME, perElement = true)
+        public Uni<Map<String, Integer>> lengths(Set<String> keys) {
+            return Uni.createFrom().item(() -> {
+                asyncInvocations++;
+                lastAsyncKeys = keys;
+                Map<String, Integer> result = new HashMap<>();
+                for (String key : keys) {
+                    result.put(key, key.length());
+                }
+                return result;
+            });
+        }
+
+        @CacheResult(cacheName = SHARED_CACHE_NAME, perElement = true)
+        public Map<Integer, String> findShared(List<Integer> ids) {
+            sharedLoadStarted.countDown();
+            try {
+                sharedLoadFinished.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            Map<Integer, String> result = new HashMap<>();
+            for (Integer id : ids) {
+                if (id % 2 == 0) {
+                    result.put(id, id + "-shared");
+                }
+            }
+            return result;
+        }
+
+        @CacheResult(cacheName = SHARED_CACHE_NAME)
+        public String findOne(Integer id) {
+            return id + "-one";
+        }
+
+        void blockSharedLoad(CountDownLatch started, CountDownLatch finished) {
+            sharedLoadStarted = started;
+            sharedLoadFinished = finished;
+        }
+
+        public List<List<Integer>> getInvocations() {
+            return invocations;
+        }
+
+        public int getAsyncInvocations() {
+            return asyncInvocations;
+        }
+
+        public Set<String> getLastAsyncKeys() {
+            return lastAsyncKeys;
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+
+import org.awaitility.core.ConditionFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Tests the {@code refresh-after-write} and {@code stale-while-revalidate} configuration values.
+ */
+public class RefreshAheadTest {
+
+    private static final String REFRESH_CACHE = "refresh-cache";
+    private static final String STALE_CACHE = "stale-cache";
+    private static final String REQUEST_CACHE = "request-cache";
+    private static final String PROGRAMMATIC_CACHE = "programmatic-cache";
+    private static final String PER_ELEMENT_CACHE = "per-element-cache";
+    private static final String DEPENDENT_CACHE = "dependent-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(CachedService.class, RequestState.class, DependentService.class))
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + REFRESH_CACHE + "\".refresh-after-write", "100ms")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + STALE_CACHE + "\".expire-after-write", "100ms")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + STALE_CACHE + "\".stale-while-revalidate", "1H")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + REQUEST_CACHE + "\".refresh-after-write", "100ms")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + PROGRAMMATIC_CACHE + "\".refresh-after-write", "100ms")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + PER_ELEMENT_CACHE + "\".refresh-after-write", "100ms")
+            .overrideConfigKey("quarkus.cache.caffeine.\"" + DEPENDENT_CACHE + "\".refresh-after-write", "100ms");
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    RequestState requestState;
+
+    @Inject
+    DependentService dependentService;
+
+    @CacheName(REFRESH_CACHE)
+    Cache refreshCache;
+
+    @CacheName(STALE_CACHE)
+    Cache staleCache;
+
+    @CacheName(PROGRAMMATIC_CACHE)
+    Cache programmaticCache;
+
+    @CacheName(PER_ELEMENT_CACHE)
+    Cache perElementCache;
+
+    @Test
+    void testRefreshAfterWrite() throws InterruptedException {
+        assertEquals(1, cachedService.refresh());
+        assertEquals(1, cachedService.refresh());
+        assertEquals(1, cachedService.getRefreshInvocations());
+
+        Thread.sleep(150);
+        // The current value is returned while the entry is reloaded in the background.
+        assertEquals(1, cachedService.refresh());
+        awaitRefresh().until(() -> cachedService.refresh() == 2);
+        assertEquals(2, cachedService.getRefreshInvocations());
+
+        CaffeineCacheImpl cache = refreshCache.as(CaffeineCacheImpl.class);
+        assertEquals(1, cache.getRefreshCount());
+        assertEquals(0, cache.getStaleHitCount());
+    }
+
+    @Test
+    void testStaleWhileRevalidate() throws InterruptedException {
+        assertEquals(1, cachedService.stale().await().indefinitely());
+        assertEquals(1, cachedService.getStaleInvocations());
+
+        Thread.sleep(150);
+        CountDownLatch reloadStarted = new CountDownLatch(1);
+        CountDownLatch reloadFinished = new CountDownLatch(1);
+        cachedService.blockStaleReload(reloadStarted, reloadFinished);
+        // The entry expired but it is still returned, the invocation doesn't wait for the reload.
+        assertEquals(1, cachedService.stale().await().indefinitely());
+        assertTrue(reloadStarted.await(10, TimeUnit.SECONDS));
+        // A single reload is performed while the stale value is returned to the other invocations.
+        assertEquals(1, cachedService.stale().await().indefinitely());
+        CaffeineCacheImpl cache = staleCache.as(CaffeineCacheImpl.class);
+        assertEquals(1, cache.getRefreshCount());
+        assertEquals(2, cache.getStaleHitCount());
+        reloadFinished.countDown();
+        awaitRefresh().until(() -> cachedService.stale().await().indefinitely() == 2);
+        assertEquals(2, cachedService.getStaleInvocations());
+        assertEquals(1, cache.getRefreshCount());
+    }
+
+    @Test
+    void testRefreshWithinNewRequestContext() throws InterruptedException {
+        assertEquals("foo-1", withinRequest("foo"));
+        assertEquals("foo-1", withinRequest("bar"));
+
+        Thread.sleep(150);
+        assertEquals("foo-1", withinRequest("baz"));
+        // The reload is performed after the invocation returned, within a new request context.
+        awaitRefresh().until(() -> withinRequest("qux").equals("null-2"));
+    }
+
+    @Test
+    void testPerElementRefresh() throws InterruptedException {
+        assertEquals(Map.of("a", "a-1", "b", "b-1"), cachedService.perElement(List.of("a", "b")));
+
+        Thread.sleep(150);
+        // The entries that must be refreshed are reloaded by a single background invocation.
+        assertEquals(Map.of("a", "a-1", "b", "b-1"), cachedService.perElement(List.of("a", "b")));
+        awaitRefresh()
+                .until(() -> cachedService.perElement(List.of("a", "b")).equals(Map.of("a", "a-2", "b", "b-2")));
+        assertEquals(2, cachedService.getPerElementInvocations());
+        assertEquals(2, perElementCache.as(CaffeineCacheImpl.class).getRefreshCount());
+
+        Thread.sleep(150);
+        // The entries that must be refreshed are reloaded along with the missing keys, the caller gets their current value.
+        assertEquals(Map.of("a", "a-2", "b", "b-2", "c", "c-3"), cachedService.perElement(List.of("a", "b", "c")));
+        assertEquals(Map.of("a", "a-3", "b", "b-3", "c", "c-3"), cachedService.perElement(List.of("a", "b", "c")));
+        assertEquals(3, cachedService.getPerElementInvocations());
+    }
+
+    @Test
+    void testDependentBeanRefresh() throws InterruptedException {
+        int instance = dependentService.instance();
+        assertEquals(instance, dependentService.instance());
+
+        Thread.sleep(150);
+        assertEquals(instance, dependentService.instance());
+        // The reload is performed on a new instance of the bean, which is destroyed afterwards.
+        awaitRefresh().until(() -> dependentService.instance() != instance);
+        assertTrue(DependentService.DESTROYED.get() > 0);
+    }
+
+    @Test
+    void testProgrammaticRefresh() throws InterruptedException {
+        AtomicInteger invocations = new AtomicInteger();
+        assertEquals(1, programmaticCache.get("key", k -> invocations.incrementAndGet()).await().indefinitely());
+
+        Thread.sleep(150);
+        // The current value is returned while the entry is reloaded in the background.
+        assertEquals(1, programmaticCache.get("key", k -> invocations.incrementAndGet()).await().indefinitely());
+        awaitRefresh()
+                .until(() -> programmaticCache.get("key", k -> invocations.incrementAndGet()).await().indefinitely() == 2);
+        assertEquals(2, invocations.get());
+        assertEquals(1, programmaticCache.as(CaffeineCacheImpl.class).getRefreshCount());
+    }
+
+    private static ConditionFactory awaitRefresh() {
+        // The entries must be read before they must be refreshed again
+        return await().pollInterval(Duration.ofMillis(10)).atMost(Duration.ofSeconds(10));
+    }
+
+    private String withinRequest(String value) {
+        ManagedContext requestContext = Arc.container().requestContext();
+        requestContext.activate();
+        try {
+            requestState.setValue(value);
+            return cachedService.request();
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger refreshInvocations = new AtomicInteger();
+        private final AtomicInteger staleInvocations = new AtomicInteger();
+        private final AtomicInteger requestInvocations = new AtomicInteger();
+        private final AtomicInteger perElementInvocations = new AtomicInteger();
+        private volatile CountDownLatch staleReloadStarted;
+        private volatile CountDownLatch staleReloadFinished;
+
+        @Inject
+        RequestState requestState;
+
+        @CacheResult(cacheName = REFRESH_CACHE)
+        public int refresh() {
+            return refreshInvocations.incrementAndGet();
+        }
+
+        @CacheResult(cacheName = STALE_CACHE)
+        public Uni<Integer> stale() {
+            CountDownLatch started = staleReloadStarted;
+            CountDownLatch finished = staleReloadFinished;
+            Uni<Integer> value = Uni.createFrom().item(staleInvocations::incrementAndGet);
+            if (started == null) {
+                return value;
+            }
+            staleReloadStarted = null;
+            started.countDown();
+            return value.onItem().delayIt().until(i -> Uni.createFrom().emitter(emitter -> new Thread(() -> {
+                try {
+                    finished.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                emitter.complete(null);
+            }).start()));
+        }
+
+        @CacheResult(cacheName = REQUEST_CACHE)
+        public String request() {
+            return requestState.getValue() + "-" + requestInvocations.incrementAndGet();
+        }
+
+        @CacheResult(cacheName = PER_ELEMENT_CACHE, perElement = true)
+        public Map<String, String> perElement(List<String> keys) {
+            int invocation = perElementInvocations.incrementAndGet();
+            Map<String, String> values = new HashMap<>();
+            for (String key : keys) {
+                values.put(key, key + "-" + invocation);
+            }
+            return values;
+        }
+
+        void blockStaleReload(CountDownLatch started, CountDownLatch finished) {
+            staleReloadFinished = finished;
+            staleReloadStarted = started;
+        }
+
+        public int getRefreshInvocations() {
+            return refreshInvocations.get();
+        }
+
+        public int getStaleInvocations() {
+            return staleInvocations.get();
+        }
+
+        public int getPerElementInvocations() {
+            return perElementInvocations.get();
+        }
+    }
+
+    @Dependent
+    static class DependentService {
+
+        static final AtomicInteger INSTANCES = new AtomicInteger();
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        private final int instance = INSTANCES.incrementAndGet();
+
+        @CacheResult(cacheName = DEPENDENT_CACHE)
+        public int instance() {
+            return instance;
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.incrementAndGet();
+        }
+    }
+
+    @RequestScoped
+    static class RequestState {
+
+        private String value;
+
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+    }
+}
@@ -1,7 +1,12 @@
 package io.quarkus.cache;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import io.smallrye.mutiny.Uni;
 
@@ -55,6 +60,82 @@ public interface Cache {
      */
     <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader);
 
+    /**
+     * Returns a lazy asynchronous action that will emit the cache values identified by {@code keys}, obtaining the missing
+     * values from {@code valuesLoader} with a single invocation if necessary.
+     * <p>
+     * {@code valuesLoader} is only invoked with the keys that are not already associated with a value. The emitted map
+     * contains an entry for each key associated with a value in the cache or in the map returned by {@code valuesLoader}.
+     * The keys missing from the map returned by {@code valuesLoader} are not cached and are missing from the emitted map as
+     * well.
+     * <p>
+     * The default implementation invokes {@code valuesLoader} once per missing key and caches {@code null} for the keys
+     * missing from its result. Cache implementations are expected to override it.
+     *
+     * @param <K> cache key type
+     * @param <V> cache value type
+     * @param keys cache keys
+     * @param valuesLoader function used to compute the cache values of the keys not already associated with a value
+     * @return a lazy asynchronous action that will emit the cache values
+     * @throws NullPointerException if one of the keys is {@code null}
+     * @throws CacheException if an exception is thrown during the cache values computation
+     */
+    default <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> valuesLoader) {
+        return getAllAsync(keys, new Function<Set<K>, Uni<Map<K, V>>>() {
+            @Override
+            public Uni<Map<K, V>> apply(Set<K> missingKeys) {
+                return Uni.createFrom().item(valuesLoader.apply(missingKeys));
+            }
+        });
+    }
+
+    /**
+     * Returns a lazy asynchronous action that will emit the cache values identified by {@code keys}, obtaining the missing
+     * values from {@code valuesLoader} with a single invocation if necessary.
+     * <p>
+     * This method behaves like {@link #getAll(Collection, Function)}, except that the values are computed asynchronously.
+     *
+     * @param <K> cache key type
+     * @param <V> cache value type
+     * @param keys cache keys
+     * @param valuesLoader function used to compute the cache values of the keys not already associated with a value
+     * @return a lazy asynchronous action that will emit the cache values
+     * @throws NullPointerException if one of the keys is {@code null}
+     */
+    default <K, V> Uni<Map<K, V>> getAllAsync(Collection<K> keys, Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        Uni<Map<K, V>> result = Uni.createFrom().item(new Supplier<Map<K, V>>() {
+            @Override
+            public Map<K, V> get() {
+                return new LinkedHashMap<>();
+            }
+        });
+        for (K key : keys) {
+            result = result.chain(new Function<Map<K, V>, Uni<? extends Map<K, V>>>() {
+                @Override
+                public Uni<Map<K, V>> apply(Map<K, V> values) {
+                    return getAsync(key, new Function<K, Uni<V>>() {
+                        @Override
+                        public Uni<V> apply(K k) {
+                            return valuesLoader.apply(Set.of(k)).map(new Function<Map<K, V>, V>() {
+                                @Override
+                                public V apply(Map<K, V> loaded) {
+                                    return loaded.get(k);
+                                }
+                            });
+                        }
+                    }).map(new Function<V, Map<K, V>>() {
+                        @Override
+                        public Map<K, V> apply(V value) {
+                            values.put(key, value);
+                            return values;
+                        }
+                    });
+                }
+            });
+        }
+        return result;
+    }
+
     /**
      * Removes the cache entry identified by {@code key} from the cache. If the key does not identify any cache entry, nothing
      * will happen.
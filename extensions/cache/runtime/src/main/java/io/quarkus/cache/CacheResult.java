@@ -68,4 +68,16 @@
      */
     @Nonbinding
     Class<? extends CacheKeyGenerator> keyGenerator() default UndefinedCacheKeyGenerator.class;
+
+    /**
+     * If {@code true}, the cache key of the annotated method must be a {@link java.util.Collection}, {@link java.util.List} or
+     * {@link java.util.Set} of keys and the method must return a {@link java.util.Map} of the values by key (or a
+     * {@code Uni} or {@code CompletionStage} of such a map). Each element of the collection is then cached separately and
+     * the method is invoked at most once per invocation, with the elements that are not cached yet. The elements missing
+     * from the map returned by the method are not cached.
+     * <p>
+     * This mode cannot be combined with a {@link #keyGenerator()}.
+     */
+    @Nonbinding
+    boolean perElement() default false;
 }
@@ -0,0 +1,26 @@
+package io.quarkus.cache.runtime;
+
+import java.util.concurrent.CompletionException;
+
+/**
+ * This exception signals that a cache value which was being loaded by another operation, such as
+ * {@link io.quarkus.cache.Cache#getAll(java.util.Collection, java.util.function.Function)}, turned out to be absent from the
+ * loaded values. The operation waiting for that value must load it on its own.
+ */
+public final class AbsentValueException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final AbsentValueException INSTANCE = new AbsentValueException();
+
+    private AbsentValueException() {
+        super("The cache value is absent from the values loaded by another operation", null, false, false);
+    }
+
+    /**
+     * @return {@code true} if {@code failure} is this exception, possibly wrapped in a {@link CompletionException}
+     */
+    public static boolean isAbsentValue(Throwable failure) {
+        return failure == INSTANCE || (failure instanceof CompletionException && failure.getCause() == INSTANCE);
+    }
+}
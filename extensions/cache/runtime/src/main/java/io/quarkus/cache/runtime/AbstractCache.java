@@ -1,7 +1,13 @@
 package io.quarkus.cache.runtime;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
 import io.quarkus.cache.Cache;
 import io.quarkus.cache.DefaultCacheKey;
+import io.smallrye.mutiny.Uni;
 
 public abstract class AbstractCache implements Cache {
 
@@ -17,6 +23,45 @@ public Object getDefaultKey() {
         return defaultKey;
     }
 
+    /**
+     * Same as {@link #get(Object, Function)}, except that {@code valueLoader} proceeds with an intercepted invocation. The
+     * {@code @CacheResult} interceptor uses this method. When an entry is refreshed in the background, the invocation has
+     * already returned, so the entry is reloaded with {@code reloader} instead, in a new request context, on a worker
+     * thread or on a new duplicated context for the {@link Uni} reloaders. The security identity of the invocation is not
+     * propagated. Also, if the value was being loaded by another operation which did not return it, the returned
+     * {@link Uni} may fail with {@link AbsentValueException} instead of loading the value on the thread of that operation.
+     * The caller must then retry.
+     */
+    public <K, V> Uni<V> getForInvocation(K key, Function<K, V> valueLoader, Function<K, V> reloader) {
+        return get(key, valueLoader);
+    }
+
+    /**
+     * Same as {@link #getAsync(Object, Function)}, with the differences described in
+     * {@link #getForInvocation(Object, Function, Function)}.
+     */
+    public <K, V> Uni<V> getAsyncForInvocation(K key, Function<K, Uni<V>> valueLoader, Function<K, Uni<V>> reloader) {
+        return getAsync(key, valueLoader);
+    }
+
+    /**
+     * Same as {@link #getAll(Collection, Function)}, with the differences described in
+     * {@link #getForInvocation(Object, Function, Function)}.
+     */
+    public <K, V> Uni<Map<K, V>> getAllForInvocation(Collection<K> keys, Function<Set<K>, Map<K, V>> valuesLoader,
+            Function<Set<K>, Map<K, V>> reloader) {
+        return getAll(keys, valuesLoader);
+    }
+
+    /**
+     * Same as {@link #getAllAsync(Collection, Function)}, with the differences described in
+     * {@link #getForInvocation(Object, Function, Function)}.
+     */
+    public <K, V> Uni<Map<K, V>> getAllAsyncForInvocation(Collection<K> keys,
+            Function<Set<K>, Uni<Map<K, V>>> valuesLoader, Function<Set<K>, Uni<Map<K, V>>> reloader) {
+        return getAllAsync(keys, valuesLoader);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T extends Cache> T as(Class<T> type) {
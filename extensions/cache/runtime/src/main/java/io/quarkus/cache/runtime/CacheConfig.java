@@ -75,6 +75,24 @@ interface CaffeineCacheConfig {
              */
             Optional<Duration> expireAfterAccess();
 
+            /**
+             * Specifies that an entry should be reloaded in the background once a fixed duration has elapsed after the
+             * entry's creation, or the most recent replacement of its value. The reload is triggered by the first read of the
+             * entry after that duration and the current value is returned to all callers until the reload completes.
+             * <p>
+             * Values loaded by blocking methods are reloaded on a worker thread, while values loaded by methods returning
+             * {@code Uni} are reloaded on a Vert.x context. The {@code @CacheResult} methods are invoked again in a new
+             * request context, without the security identity of the invocation that triggered the reload.
+             */
+            Optional<Duration> refreshAfterWrite();
+
+            /**
+             * Specifies for how long an entry may still be returned after it expired according to {@code expire-after-write}.
+             * Reading an entry within this period returns the stale value and triggers a single background reload of the
+             * entry, as with {@code refresh-after-write}. This property is ignored if {@code expire-after-write} is not set.
+             */
+            Optional<Duration> staleWhileRevalidate();
+
             /**
              * Whether or not metrics are recorded if the application depends on the Micrometer extension. Setting this
              * value to {@code true} will enable the accumulation of cache stats inside Caffeine.
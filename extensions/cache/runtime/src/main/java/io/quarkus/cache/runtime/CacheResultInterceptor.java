@@ -1,16 +1,29 @@
 package io.quarkus.cache.runtime;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import jakarta.annotation.Priority;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.Intercepted;
 import jakarta.interceptor.AroundInvoke;
 import jakarta.interceptor.Interceptor;
 import jakarta.interceptor.InvocationContext;
 
 import org.jboss.logging.Logger;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InstanceHandle;
 import io.quarkus.cache.CacheException;
 import io.quarkus.cache.CacheResult;
 import io.smallrye.mutiny.Multi;
@@ -25,8 +38,26 @@ public class CacheResultInterceptor extends CacheInterceptor {
     private static final Logger LOGGER = Logger.getLogger(CacheResultInterceptor.class);
     private static final String INTERCEPTOR_BINDING_ERROR_MSG = "The Quarkus cache extension is not working properly (CacheResult interceptor binding retrieval failed), please create a GitHub issue in the Quarkus repository to help the maintainers fix this bug";
 
+    /*
+     * The method which is being reloaded on the current thread. The reload goes through the interceptor chain of the bean
+     * again, so this interceptor must proceed with the reload instead of looking up the cache.
+     */
+    private static final ThreadLocal<Method> RELOADED_METHOD = new ThreadLocal<>();
+
+    /*
+     * The intercepted bean, or null if the interception is not managed by ArC.
+     */
+    @Intercepted
+    InjectableBean<?> bean;
+
     @AroundInvoke
     public Object intercept(InvocationContext invocationContext) throws Throwable {
+        Method reloadedMethod = RELOADED_METHOD.get();
+        if (reloadedMethod != null && reloadedMethod.equals(invocationContext.getMethod())) {
+            RELOADED_METHOD.remove();
+            return invocationContext.proceed();
+        }
+
         /*
          * io.smallrye.mutiny.Multi values are never cached.
          * There's already a WARN log entry at build time so we don't need to log anything at run time.
@@ -46,14 +77,19 @@ public Object intercept(InvocationContext invocationContext) throws Throwable {
 
         CacheResult binding = interceptionContext.getInterceptorBindings().get(0);
         AbstractCache cache = (AbstractCache) cacheManager.getCache(binding.cacheName()).get();
+        if (binding.perElement()) {
+            return interceptPerElement(invocationContext, interceptionContext, binding, cache);
+        }
         Object key = getCacheKey(cache, binding.keyGenerator(), interceptionContext.getCacheKeyParameterPositions(),
                 invocationContext.getMethod(), invocationContext.getParameters());
         LOGGER.debugf("Loading entry with key [%s] from cache [%s]", key, binding.cacheName());
 
+        // The entry is refreshed in the background after this invocation returned, with the same parameters
+        Object[] parameters = invocationContext.getParameters().clone();
         try {
             ReturnType returnType = determineReturnType(invocationContext.getMethod().getReturnType());
             if (returnType != ReturnType.NonAsync) {
-                Uni<Object> cacheValue = cache.getAsync(key, new Function<Object, Uni<Object>>() {
+                Uni<Object> cacheValue = cache.getAsyncForInvocation(key, new Function<Object, Uni<Object>>() {
                     @SuppressWarnings("unchecked")
                     @Override
                     public Uni<Object> apply(Object key) {
@@ -65,6 +101,13 @@ public Uni<Object> apply(Object key) {
                             throw new CacheException(e);
                         }
                     }
+                }, new Function<Object, Uni<Object>>() {
+                    @SuppressWarnings("unchecked")
+                    @Override
+                    public Uni<Object> apply(Object key) {
+                        return (Uni<Object>) reload(invocationContext.getMethod(), invocationContext.getTarget(), parameters,
+                                returnType);
+                    }
                 }).onFailure().call(new Function<>() {
                     @Override
                     public Uni<?> apply(Throwable throwable) {
@@ -91,7 +134,7 @@ public Uni<?> get() {
                         });
                 return createAsyncResult(cacheValue, returnType);
             } else {
-                Uni<Object> cacheValue = cache.get(key, new Function<Object, Object>() {
+                Function<Object, Object> valueLoader = new Function<Object, Object>() {
                     @Override
                     public Object apply(Object k) {
                         try {
@@ -104,24 +147,36 @@ public Object apply(Object k) {
                             throw new CacheException(e);
                         }
                     }
-                });
-                Object value;
-                if (binding.lockTimeout() <= 0) {
-                    value = cacheValue.await().indefinitely();
-                } else {
+                };
+                Function<Object, Object> reloader = new Function<Object, Object>() {
+                    @Override
+                    public Object apply(Object k) {
+                        LOGGER.debugf("Reloading entry with key [%s] into cache [%s]", key, binding.cacheName());
+                        return reload(invocationContext.getMethod(), invocationContext.getTarget(), parameters,
+                                returnType);
+                    }
+                };
+                while (true) {
+                    Uni<Object> cacheValue = cache.getForInvocation(key, valueLoader, reloader);
                     try {
+                        if (binding.lockTimeout() <= 0) {
+                            return cacheValue.await().indefinitely();
+                        }
                         /*
                          * If the current thread started the cache value computation, then the computation is already finished
                          * since
                          * it was done synchronously and the following call will never time out.
                          */
-                        value = cacheValue.await().atMost(Duration.ofMillis(binding.lockTimeout()));
+                        return cacheValue.await().atMost(Duration.ofMillis(binding.lockTimeout()));
                     } catch (TimeoutException e) {
                         // TODO: Add statistics here to monitor the timeout.
                         return invocationContext.proceed();
+                    } catch (AbsentValueException e) {
+                        // The value was being loaded by another invocation which did not return it, it is loaded on this thread
+                        LOGGER.debugf("Entry with key [%s] absent from the entries loaded into cache [%s], loading it again",
+                                key, binding.cacheName());
                     }
                 }
-                return value;
             }
 
         } catch (CacheException e) {
@@ -133,4 +188,179 @@ public Object apply(Object k) {
         }
     }
 
+    /*
+     * The cache key parameter is a collection of keys and each element is cached separately. The cached method is invoked
+     * with the missing elements only, and it returns a map of the values by key.
+     */
+    @SuppressWarnings("unchecked")
+    private Object interceptPerElement(InvocationContext invocationContext,
+            CacheInterceptionContext<CacheResult> interceptionContext, CacheResult binding, AbstractCache cache)
+            throws Throwable {
+        List<Short> cacheKeyParameterPositions = interceptionContext.getCacheKeyParameterPositions();
+        // The build time validation guarantees that there is a single cache key parameter
+        int position = cacheKeyParameterPositions.size() == 1 ? cacheKeyParameterPositions.get(0) : 0;
+        Object[] parameters = invocationContext.getParameters().clone();
+        Collection<Object> keys = (Collection<Object>) parameters[position];
+        boolean setParameter = Set.class.isAssignableFrom(invocationContext.getMethod().getParameterTypes()[position]);
+        LOGGER.debugf("Loading %d entries from cache [%s]", keys.size(), binding.cacheName());
+        ReturnType returnType = determineReturnType(invocationContext.getMethod().getReturnType());
+        /*
+         * The parameters of the invocation context are replaced before each invocation. With an async return type, the
+         * missing entries may be loaded after this invocation returned, concurrently with the invocation recovering from the
+         * lock timeout.
+         */
+        ReentrantLock invocationLock = new ReentrantLock();
+
+        Function<Set<Object>, Object> invoker = new Function<Set<Object>, Object>() {
+            @Override
+            public Object apply(Set<Object> missingKeys) {
+                LOGGER.debugf("Adding %d entries into cache [%s]", missingKeys.size(), binding.cacheName());
+                try {
+                    return proceed(invocationContext, invocationLock,
+                            withKeys(parameters, position, setParameter, missingKeys));
+                } catch (CacheException e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new CacheException(e);
+                }
+            }
+        };
+        Function<Set<Object>, Object> reloader = new Function<Set<Object>, Object>() {
+            @Override
+            public Object apply(Set<Object> refreshedKeys) {
+                LOGGER.debugf("Reloading %d entries into cache [%s]", refreshedKeys.size(), binding.cacheName());
+                return reload(invocationContext.getMethod(), invocationContext.getTarget(),
+                        withKeys(parameters, position, setParameter, refreshedKeys), returnType);
+            }
+        };
+
+        try {
+            if (returnType != ReturnType.NonAsync) {
+                Uni<Object> cacheValues = (Uni<Object>) (Uni<?>) cache.getAllAsyncForInvocation(keys,
+                        new Function<Set<Object>, Uni<Map<Object, Object>>>() {
+                            @Override
+                            public Uni<Map<Object, Object>> apply(Set<Object> missingKeys) {
+                                return (Uni<Map<Object, Object>>) asyncInvocationResultToUni(invoker.apply(missingKeys),
+                                        returnType);
+                            }
+                        }, new Function<Set<Object>, Uni<Map<Object, Object>>>() {
+                            @Override
+                            public Uni<Map<Object, Object>> apply(Set<Object> refreshedKeys) {
+                                return (Uni<Map<Object, Object>>) reloader.apply(refreshedKeys);
+                            }
+                        });
+
+                if (binding.lockTimeout() <= 0) {
+                    return createAsyncResult(cacheValues, returnType);
+                }
+                cacheValues = cacheValues.ifNoItem().after(Duration.ofMillis(binding.lockTimeout()))
+                        .recoverWithUni(new Supplier<Uni<?>>() {
+                            @Override
+                            public Uni<?> get() {
+                                try {
+                                    return asyncInvocationResultToUni(proceed(invocationContext, invocationLock, parameters),
+                                            returnType);
+                                } catch (CacheException e) {
+                                    throw e;
+                                } catch (Exception e) {
+                                    throw new CacheException(e);
+                                }
+                            }
+                        });
+                return createAsyncResult(cacheValues, returnType);
+            } else {
+                Function<Set<Object>, Map<Object, Object>> valuesLoader = new Function<Set<Object>, Map<Object, Object>>() {
+                    @Override
+                    public Map<Object, Object> apply(Set<Object> missingKeys) {
+                        return (Map<Object, Object>) invoker.apply(missingKeys);
+                    }
+                };
+                Function<Set<Object>, Map<Object, Object>> valuesReloader = new Function<Set<Object>, Map<Object, Object>>() {
+                    @Override
+                    public Map<Object, Object> apply(Set<Object> refreshedKeys) {
+                        return (Map<Object, Object>) reloader.apply(refreshedKeys);
+                    }
+                };
+                while (true) {
+                    Uni<Map<Object, Object>> cacheValues = cache.getAllForInvocation(keys, valuesLoader, valuesReloader);
+                    try {
+                        if (binding.lockTimeout() <= 0) {
+                            return cacheValues.await().indefinitely();
+                        }
+                        return cacheValues.await().atMost(Duration.ofMillis(binding.lockTimeout()));
+                    } catch (TimeoutException e) {
+                        return proceed(invocationContext, invocationLock, parameters);
+                    } catch (AbsentValueException e) {
+                        // Some values were being loaded by other invocations which did not return them, they are loaded on
+                        // this thread
+                        LOGGER.debugf("Entries absent from the entries loaded into cache [%s], loading them again",
+                                binding.cacheName());
+                    }
+                }
+            }
+        } catch (CacheException e) {
+            if (e.getCause() != null) {
+                throw e.getCause();
+            } else {
+                throw e;
+            }
+        }
+    }
+
+    private static Object proceed(InvocationContext invocationContext, ReentrantLock invocationLock, Object[] parameters)
+            throws Exception {
+        invocationLock.lock();
+        try {
+            invocationContext.setParameters(parameters);
+            return invocationContext.proceed();
+        } finally {
+            invocationLock.unlock();
+        }
+    }
+
+    private static Object[] withKeys(Object[] parameters, int position, boolean setParameter, Set<Object> keys) {
+        Object[] keysParameters = parameters.clone();
+        keysParameters[position] = setParameter ? keys : new ArrayList<>(keys);
+        return keysParameters;
+    }
+
+    /**
+     * Invokes the cached method again with the given parameters to refresh cache entries in the background. The
+     * intercepted invocation has already returned, so the method is invoked on a contextual instance of the intercepted
+     * bean: the client proxy of a normal scoped bean, or a new instance of a {@code @Dependent} bean which is destroyed
+     * once the method returned or the returned {@link Uni} terminated. The invocation goes through the interceptors of the
+     * method again, except this one.
+     */
+    private Object reload(Method method, Object target, Object[] parameters, ReturnType returnType) {
+        InstanceHandle<?> instance = bean != null ? Arc.container().instance(bean) : null;
+        boolean dependent = instance != null && Dependent.class.equals(bean.getScope());
+        boolean destroyOnTermination = false;
+        RELOADED_METHOD.set(method);
+        try {
+            Object receiver = instance != null ? instance.get() : target;
+            if (!method.canAccess(receiver)) {
+                method.setAccessible(true);
+            }
+            Object result = method.invoke(receiver, parameters);
+            if (returnType == ReturnType.NonAsync) {
+                return result;
+            }
+            Uni<?> uni = asyncInvocationResultToUni(result, returnType);
+            if (dependent) {
+                destroyOnTermination = true;
+                return uni.onTermination().invoke(instance::close);
+            }
+            return uni;
+        } catch (InvocationTargetException e) {
+            throw e.getCause() instanceof CacheException ? (CacheException) e.getCause() : new CacheException(e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new CacheException(e);
+        } finally {
+            RELOADED_METHOD.remove();
+            if (dependent && !destroyOnTermination) {
+                instance.close();
+            }
+        }
+    }
+
 }
@@ -0,0 +1,259 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.runtime.AbsentValueException;
+import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.NullValueConverter;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl.CapturedContextExecutor;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+/**
+ * Loads several entries of a {@link CaffeineCacheImpl} at once, see {@link CaffeineCacheImpl#getAll(Collection, Function)}
+ * and {@link CaffeineCacheImpl#getAllAsync(Collection, Function)}.
+ */
+class CaffeineBulkLoader {
+
+    private static final Logger LOGGER = Logger.getLogger(CaffeineBulkLoader.class);
+
+    private final CaffeineCacheImpl cache;
+
+    CaffeineBulkLoader(CaffeineCacheImpl cache) {
+        this.cache = cache;
+    }
+
+    <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> valuesLoader,
+            Function<Set<K>, Map<K, V>> reloader, boolean forInvocation) {
+        return Uni.createFrom().completionStage(new Supplier<CompletionStage<Map<K, V>>>() {
+            @Override
+            public CompletionStage<Map<K, V>> get() {
+                return getAllFromCaffeine(keys, new Function<Set<K>, CompletionStage<Map<K, V>>>() {
+                    @Override
+                    public CompletionStage<Map<K, V>> apply(Set<K> missingKeys) {
+                        // The values computation is done synchronously on the calling thread, like in get()
+                        return CompletableFuture.completedFuture(valuesLoader.apply(missingKeys));
+                    }
+                }, new Function<Set<K>, CompletionStage<Map<K, V>>>() {
+                    @Override
+                    public CompletionStage<Map<K, V>> apply(Set<K> refreshedKeys) {
+                        return cache.reloadBlocking(new Supplier<Map<K, V>>() {
+                            @Override
+                            public Map<K, V> get() {
+                                return reloader.apply(refreshedKeys);
+                            }
+                        }, forInvocation);
+                    }
+                }, forInvocation ? null : new Executor() {
+                    @Override
+                    public void execute(Runnable command) {
+                        // like in get(), the absent values are loaded on the thread completing the other operation
+                        command.run();
+                    }
+                });
+            }
+        });
+    }
+
+    <K, V> Uni<Map<K, V>> getAllAsync(Collection<K> keys, Function<Set<K>, Uni<Map<K, V>>> valuesLoader,
+            Function<Set<K>, Uni<Map<K, V>>> reloader, boolean forInvocation) {
+        Context context = Vertx.currentContext();
+        return Uni.createFrom().completionStage(new Supplier<CompletionStage<Map<K, V>>>() {
+            @Override
+            public CompletionStage<Map<K, V>> get() {
+                return getAllFromCaffeine(keys, new Function<Set<K>, CompletionStage<Map<K, V>>>() {
+                    @Override
+                    public CompletionStage<Map<K, V>> apply(Set<K> missingKeys) {
+                        return valuesLoader.apply(missingKeys).subscribeAsCompletionStage();
+                    }
+                }, new Function<Set<K>, CompletionStage<Map<K, V>>>() {
+                    @Override
+                    public CompletionStage<Map<K, V>> apply(Set<K> refreshedKeys) {
+                        return cache.reloadAsync(new Supplier<Uni<Map<K, V>>>() {
+                            @Override
+                            public Uni<Map<K, V>> get() {
+                                return reloader.apply(refreshedKeys);
+                            }
+                        }, context, forInvocation);
+                    }
+                }, new CapturedContextExecutor(context));
+            }
+        }).emitOn(new CapturedContextExecutor(context));
+    }
+
+    /**
+     * Returns a {@link CompletionStage} holding the cache values identified by {@code keys}. The values of the missing keys
+     * are obtained from a single invocation of {@code valuesLoader}. The missing keys are locked until the values are
+     * computed, so concurrent lookups of these keys wait for the end of the computation instead of computing the values
+     * again. The keys absent from the computed values are removed from the cache and the concurrent lookups of these keys
+     * load them on their own, see {@link AbsentValueException}.
+     * <p>
+     * The entries that must be refreshed are reloaded by {@code valuesLoader} along with the missing keys, since the caller
+     * waits for it anyway. Otherwise, they are reloaded by a single background invocation of {@code reloader}. In both
+     * cases, the current values are returned to the caller.
+     *
+     * @param keys cache keys
+     * @param valuesLoader function used to compute the values of the missing keys
+     * @param reloader function used to refresh the values of existing keys in the background
+     * @param absentValuesExecutor executor used to load the keys that were being loaded by another operation which did not
+     *        return them, or {@code null} if the returned {@link CompletionStage} fails with {@link AbsentValueException}
+     *        and the caller must retry
+     * @return a {@link CompletionStage} holding the cache values
+     */
+    private <K, V> CompletionStage<Map<K, V>> getAllFromCaffeine(Collection<K> keys,
+            Function<Set<K>, CompletionStage<Map<K, V>>> valuesLoader,
+            Function<Set<K>, CompletionStage<Map<K, V>>> reloader, Executor absentValuesExecutor) {
+        Map<K, CompletableFuture<Object>> cacheValues = new LinkedHashMap<>();
+        Map<K, CompletableFuture<Object>> newCacheValues = new LinkedHashMap<>();
+        // The current values of the entries that must be refreshed
+        Map<K, CompletableFuture<Object>> refreshedCacheValues = new LinkedHashMap<>();
+        for (K key : keys) {
+            Objects.requireNonNull(key, AbstractCache.NULL_KEYS_NOT_SUPPORTED_MSG);
+            if (cacheValues.containsKey(key)) {
+                continue;
+            }
+            CompletableFuture<Object> newCacheValue = new CompletableFuture<>();
+            CompletableFuture<Object> existingCacheValue = cache.cache.asMap().putIfAbsent(key, newCacheValue);
+            if (existingCacheValue == null) {
+                cacheValues.put(key, newCacheValue);
+                newCacheValues.put(key, newCacheValue);
+            } else {
+                LOGGER.tracef("Key [%s] found in cache [%s]", key, cache.cacheInfo.name);
+                cacheValues.put(key, existingCacheValue);
+                if (cache.refreshAfterNanos >= 0 && cache.startRefresh(key, existingCacheValue)) {
+                    refreshedCacheValues.put(key, existingCacheValue);
+                }
+            }
+        }
+        cache.statsCounter.recordHits(cacheValues.size() - newCacheValues.size());
+        cache.statsCounter.recordMisses(newCacheValues.size());
+
+        if (!newCacheValues.isEmpty()) {
+            LOGGER.debugf("Loading %d missing entries and refreshing %d entries into cache [%s]", newCacheValues.size(),
+                    refreshedCacheValues.size(), cache.cacheInfo.name);
+            Set<K> loadedKeys = new LinkedHashSet<>(newCacheValues.keySet());
+            loadedKeys.addAll(refreshedCacheValues.keySet());
+            load(loadedKeys, valuesLoader).whenComplete(new BiConsumer<Map<K, V>, Throwable>() {
+                @Override
+                public void accept(Map<K, V> values, Throwable failure) {
+                    for (Map.Entry<K, CompletableFuture<Object>> newCacheValue : newCacheValues.entrySet()) {
+                        K key = newCacheValue.getKey();
+                        if (failure != null) {
+                            cache.cache.asMap().remove(key, newCacheValue.getValue());
+                            newCacheValue.getValue().complete(new CaffeineComputationThrowable(failure));
+                        } else if (values != null && values.containsKey(key)) {
+                            newCacheValue.getValue().complete(NullValueConverter.toCacheValue(values.get(key)));
+                        } else {
+                            cache.cache.asMap().remove(key, newCacheValue.getValue());
+                            // Concurrent lookups of this key load it on their own
+                            newCacheValue.getValue().complete(CaffeineCacheImpl.ABSENT_VALUE);
+                        }
+                    }
+                    completeRefreshes(refreshedCacheValues, values, failure);
+                }
+            });
+        } else if (!refreshedCacheValues.isEmpty()) {
+            LOGGER.debugf("Refreshing %d entries in cache [%s]", refreshedCacheValues.size(), cache.cacheInfo.name);
+            load(refreshedCacheValues.keySet(), reloader).whenComplete(new BiConsumer<Map<K, V>, Throwable>() {
+                @Override
+                public void accept(Map<K, V> values, Throwable failure) {
+                    completeRefreshes(refreshedCacheValues, values, failure);
+                }
+            });
+        }
+
+        return CompletableFuture.allOf(cacheValues.values().toArray(new CompletableFuture[0]))
+                .thenCompose(new Function<Void, CompletionStage<Map<K, V>>>() {
+                    @Override
+                    public CompletionStage<Map<K, V>> apply(Void ignored) {
+                        // All the cache values are completed at this point
+                        Map<K, V> result = new LinkedHashMap<>();
+                        Set<K> absentKeys = new LinkedHashSet<>();
+                        for (Map.Entry<K, CompletableFuture<Object>> cacheValue : cacheValues.entrySet()) {
+                            K key = cacheValue.getKey();
+                            Object value = cacheValue.getValue().join();
+                            if (value == CaffeineCacheImpl.ABSENT_VALUE) {
+                                // The keys absent from the values loaded by this operation are omitted from the result
+                                if (!newCacheValues.containsKey(key)) {
+                                    absentKeys.add(key);
+                                }
+                                continue;
+                            }
+                            result.put(key, CaffeineCacheImpl.cast(CaffeineCacheImpl.unwrapCacheValue(value)));
+                        }
+                        if (absentKeys.isEmpty()) {
+                            return CompletableFuture.completedFuture(result);
+                        }
+                        if (absentValuesExecutor == null) {
+                            return CompletableFuture.failedFuture(AbsentValueException.INSTANCE);
+                        }
+                        LOGGER.debugf("Loading %d entries absent from the values loaded by another operation into cache [%s]",
+                                absentKeys.size(), cache.cacheInfo.name);
+                        return CompletableFuture.supplyAsync(new Supplier<CompletionStage<Map<K, V>>>() {
+                            @Override
+                            public CompletionStage<Map<K, V>> get() {
+                                return getAllFromCaffeine(absentKeys, valuesLoader, reloader, absentValuesExecutor);
+                            }
+                        }, absentValuesExecutor).thenCompose(Function.identity())
+                                .thenApply(new Function<Map<K, V>, Map<K, V>>() {
+                                    @Override
+                                    public Map<K, V> apply(Map<K, V> loadedValues) {
+                                        // The values are returned in the order of the keys
+                                        Map<K, V> values = new LinkedHashMap<>();
+                                        for (K key : cacheValues.keySet()) {
+                                            if (result.containsKey(key)) {
+                                                values.put(key, result.get(key));
+                                            } else if (loadedValues.containsKey(key)) {
+                                                values.put(key, loadedValues.get(key));
+                                            }
+                                        }
+                                        return values;
+                                    }
+                                });
+                    }
+                });
+    }
+
+    private static <K, V> CompletionStage<Map<K, V>> load(Set<K> keys,
+            Function<Set<K>, CompletionStage<Map<K, V>>> loader) {
+        try {
+            return loader.apply(Collections.unmodifiableSet(new LinkedHashSet<>(keys)));
+        } catch (Throwable t) {
+            return CompletableFuture.failedFuture(t);
+        }
+    }
+
+    /**
+     * Replaces the current values of the refreshed entries with the loaded values. The current value of an entry is kept if
+     * the reload failed or did not return the entry.
+     */
+    private <K, V> void completeRefreshes(Map<K, CompletableFuture<Object>> refreshedCacheValues, Map<K, V> values,
+            Throwable failure) {
+        for (Map.Entry<K, CompletableFuture<Object>> refreshedCacheValue : refreshedCacheValues.entrySet()) {
+            K key = refreshedCacheValue.getKey();
+            if (failure == null && values != null && values.containsKey(key)) {
+                cache.completeRefresh(key, refreshedCacheValue.getValue(), NullValueConverter.toCacheValue(values.get(key)),
+                        null);
+            } else if (failure != null) {
+                cache.completeRefresh(key, refreshedCacheValue.getValue(), null, failure);
+            } else {
+                cache.cancelRefresh(key);
+            }
+        }
+    }
+}
@@ -1,14 +1,22 @@
 package io.quarkus.cache.runtime.caffeine;
 
 import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -22,11 +30,17 @@
 import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
 import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.ManagedContext;
 import io.quarkus.cache.CacheException;
 import io.quarkus.cache.CaffeineCache;
+import io.quarkus.cache.runtime.AbsentValueException;
 import io.quarkus.cache.runtime.AbstractCache;
 import io.quarkus.cache.runtime.NullValueConverter;
+import io.smallrye.common.vertx.VertxContext;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.vertx.core.Context;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
@@ -41,12 +55,30 @@ public class CaffeineCacheImpl extends AbstractCache implements CaffeineCache {
 
     private static final Logger LOGGER = Logger.getLogger(CaffeineCacheImpl.class);
 
+    // Used when only refresh-after-write is configured, the write timestamps of the entries are needed to trigger the refresh
+    private static final Duration UNBOUNDED_EXPIRATION = ChronoUnit.CENTURIES.getDuration();
+
+    // Completes the values which were being loaded by getAll() and were not returned by the values loader
+    static final CaffeineComputationThrowable ABSENT_VALUE = new CaffeineComputationThrowable(
+            AbsentValueException.INSTANCE);
+
     final AsyncCache<Object, Object> cache;
 
-    private final CaffeineCacheInfo cacheInfo;
-    private final StatsCounter statsCounter;
+    final CaffeineCacheInfo cacheInfo;
+    final StatsCounter statsCounter;
     private final boolean recordStats;
 
+    private final Duration staleWhileRevalidate;
+    private final FixedExpiration<Object, Object> writeExpiration;
+    // -1 if the entries are never refreshed
+    volatile long refreshAfterNanos = -1;
+    // -1 if the entries are never served stale
+    private volatile long staleAfterNanos = -1;
+    private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final CaffeineBulkLoader bulkLoader = new CaffeineBulkLoader(this);
+
     public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         this.cacheInfo = cacheInfo;
         Caffeine<Object, Object> builder = Caffeine.newBuilder();
@@ -56,8 +88,17 @@ public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         if (cacheInfo.maximumSize != null) {
             builder.maximumSize(cacheInfo.maximumSize);
         }
+        if (cacheInfo.staleWhileRevalidate != null && cacheInfo.expireAfterWrite == null) {
+            LOGGER.warnf("The stale-while-revalidate configuration value of cache [%s] is ignored because the cache has no "
+                    + "expire-after-write configuration value", cacheInfo.name);
+            staleWhileRevalidate = null;
+        } else {
+            staleWhileRevalidate = cacheInfo.staleWhileRevalidate;
+        }
         if (cacheInfo.expireAfterWrite != null) {
-            builder.expireAfterWrite(cacheInfo.expireAfterWrite);
+            builder.expireAfterWrite(writeExpiration(cacheInfo.expireAfterWrite));
+        } else if (cacheInfo.refreshAfterWrite != null) {
+            builder.expireAfterWrite(UNBOUNDED_EXPIRATION);
         }
         if (cacheInfo.expireAfterAccess != null) {
             builder.expireAfterAccess(cacheInfo.expireAfterAccess);
@@ -77,6 +118,24 @@ public StatsCounter get() {
             statsCounter = StatsCounter.disabledStatsCounter();
         }
         cache = builder.buildAsync();
+        writeExpiration = cache.synchronous().policy().expireAfterWrite().orElse(null);
+        updateRefreshPolicy();
+    }
+
+    private Duration writeExpiration(Duration expireAfterWrite) {
+        // stale entries are kept in the cache until they are refreshed or the stale-while-revalidate period is over
+        return staleWhileRevalidate == null ? expireAfterWrite : expireAfterWrite.plus(staleWhileRevalidate);
+    }
+
+    private void updateRefreshPolicy() {
+        long staleAfter = staleWhileRevalidate == null ? -1 : cacheInfo.expireAfterWrite.toNanos();
+        long refreshAfter = staleAfter;
+        if (cacheInfo.refreshAfterWrite != null) {
+            refreshAfter = staleAfter == -1 ? cacheInfo.refreshAfterWrite.toNanos()
+                    : Math.min(staleAfter, cacheInfo.refreshAfterWrite.toNanos());
+        }
+        staleAfterNanos = staleAfter;
+        refreshAfterNanos = refreshAfter;
     }
 
     @Override
@@ -86,6 +145,15 @@ public String getName() {
 
     @Override
     public <K, V> Uni<V> get(K key, Function<K, V> valueLoader) {
+        return get(key, valueLoader, valueLoader, false);
+    }
+
+    @Override
+    public <K, V> Uni<V> getForInvocation(K key, Function<K, V> valueLoader, Function<K, V> reloader) {
+        return get(key, valueLoader, reloader, true);
+    }
+
+    private <K, V> Uni<V> get(K key, Function<K, V> valueLoader, Function<K, V> reloader, boolean forInvocation) {
         Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
         return Uni.createFrom().completionStage(
                 /*
@@ -95,7 +163,8 @@ public <K, V> Uni<V> get(K key, Function<K, V> valueLoader) {
                 new Supplier<CompletionStage<V>>() {
                     @Override
                     public CompletionStage<V> get() {
-                        CompletionStage<Object> caffeineValue = getFromCaffeine(key, valueLoader);
+                        CompletionStage<Object> caffeineValue = getFromCaffeine(key, valueLoader, reloader,
+                                forInvocation);
                         return cast(caffeineValue);
                     }
                 });
@@ -103,6 +172,16 @@ public CompletionStage<V> get() {
 
     @Override
     public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
+        return getAsync(key, valueLoader, valueLoader, false);
+    }
+
+    @Override
+    public <K, V> Uni<V> getAsyncForInvocation(K key, Function<K, Uni<V>> valueLoader, Function<K, Uni<V>> reloader) {
+        return getAsync(key, valueLoader, reloader, true);
+    }
+
+    private <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader, Function<K, Uni<V>> reloader,
+            boolean forInvocation) {
         Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
         Context context = Vertx.currentContext();
         return Uni.createFrom()
@@ -111,9 +190,9 @@ public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
                     public CompletionStage<V> get() {
                         // When stats are enabled we need to call statsCounter.recordHits(1)/statsCounter.recordMisses(1) accordingly
                         StatsRecorder recorder = recordStats ? new OperationalStatsRecorder() : NoopStatsRecorder.INSTANCE;
-                        @SuppressWarnings("unchecked")
-                        CompletionStage<V> result = (CompletionStage<V>) cache.asMap().computeIfAbsent(key,
+                        CompletableFuture<Object> result = cache.asMap().computeIfAbsent(key,
                                 new Function<Object, CompletableFuture<Object>>() {
+                                    @SuppressWarnings("unchecked")
                                     @Override
                                     public CompletableFuture<Object> apply(Object key) {
                                         recorder.onValueAbsent();
@@ -123,53 +202,61 @@ public CompletableFuture<Object> apply(Object key) {
                                     }
                                 });
                         recorder.doRecord(key);
-                        return result;
+                        if (refreshAfterNanos >= 0) {
+                            refreshIfNeeded(key, result, new Function<Object, CompletionStage<Object>>() {
+                                @SuppressWarnings("unchecked")
+                                @Override
+                                public CompletionStage<Object> apply(Object key) {
+                                    return reloadAsync(new Supplier<Uni<Object>>() {
+                                        @Override
+                                        public Uni<Object> get() {
+                                            return reloader.apply((K) key).map(TO_CACHE_VALUE);
+                                        }
+                                    }, context, forInvocation);
+                                }
+                            });
+                        }
+                        CompletableFuture<Object> value = unwrapCacheValueOrThrowable(result);
+                        if (forInvocation) {
+                            // the caller loads the value again if it is absent, see AbsentValueException
+                            return cast(value);
+                        }
+                        return cast(loadIfAbsent(value, new Supplier<CompletionStage<Object>>() {
+                            @SuppressWarnings("unchecked")
+                            @Override
+                            public CompletionStage<Object> get() {
+                                // the value is loaded again on the captured context
+                                return ((Uni<Object>) (Uni<?>) getAsync(key, valueLoader, reloader, false))
+                                        .runSubscriptionOn(new CapturedContextExecutor(context))
+                                        .subscribeAsCompletionStage();
+                            }
+                        }));
                     }
                 })
                 .map(fromCacheValue())
-                .emitOn(new Executor() {
-                    // We need make sure we go back to the original context when the cache value is computed.
-                    // Otherwise, we would always emit on the context having computed the value, which could
-                    // break the duplicated context isolation.
-                    @Override
-                    public void execute(Runnable command) {
-                        Context ctx = Vertx.currentContext();
-                        if (context == null) {
-                            // We didn't capture a context
-                            if (ctx == null) {
-                                // We are not on a context => we can execute immediately.
-                                command.run();
-                            } else {
-                                // We are on a context.
-                                // We cannot continue on the current context as we may share a duplicated context.
-                                // We need a new one. Note that duplicate() does not duplicate the duplicated context,
-                                // but the root context.
-                                ((ContextInternal) ctx).duplicate()
-                                        .runOnContext(new Handler<Void>() {
-                                            @Override
-                                            public void handle(Void ignored) {
-                                                command.run();
-                                            }
-                                        });
-                            }
-                        } else {
-                            // We captured a context.
-                            if (ctx == context) {
-                                // We are on the same context => we can execute immediately
-                                command.run();
-                            } else {
-                                // 1) We are not on a context (ctx == null) => we need to switch to the captured context.
-                                // 2) We are on a different context (ctx != null) => we need to switch to the captured context.
-                                context.runOnContext(new Handler<Void>() {
-                                    @Override
-                                    public void handle(Void ignored) {
-                                        command.run();
-                                    }
-                                });
-                            }
-                        }
-                    }
-                });
+                .emitOn(new CapturedContextExecutor(context));
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> valuesLoader) {
+        return bulkLoader.getAll(keys, valuesLoader, valuesLoader, false);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllForInvocation(Collection<K> keys, Function<Set<K>, Map<K, V>> valuesLoader,
+            Function<Set<K>, Map<K, V>> reloader) {
+        return bulkLoader.getAll(keys, valuesLoader, reloader, true);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Collection<K> keys, Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        return bulkLoader.getAllAsync(keys, valuesLoader, valuesLoader, false);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsyncForInvocation(Collection<K> keys,
+            Function<Set<K>, Uni<Map<K, V>>> valuesLoader, Function<Set<K>, Uni<Map<K, V>>> reloader) {
+        return bulkLoader.getAllAsync(keys, valuesLoader, reloader, true);
     }
 
     @Override
@@ -184,6 +271,14 @@ public <V> CompletableFuture<V> getIfPresent(Object key) {
 
             // cast, but still throw the CacheException in case it fails
             return unwrapCacheValueOrThrowable(existingCacheValue)
+                    .exceptionallyCompose(new Function<Throwable, CompletionStage<Object>>() {
+                        @Override
+                        public CompletionStage<Object> apply(Throwable failure) {
+                            // the value turned out to be absent from the values loaded by another operation
+                            return AbsentValueException.isAbsentValue(failure) ? CompletableFuture.completedFuture(null)
+                                    : CompletableFuture.failedFuture(failure);
+                        }
+                    })
                     .thenApply(new Function<>() {
                         @SuppressWarnings("unchecked")
                         @Override
@@ -206,10 +301,14 @@ public V apply(Object value) {
      *
      * @param key cache key
      * @param valueLoader function used to compute the cache value if {@code key} is not already associated with a value
+     * @param reloader function used to compute the cache value again if it must be refreshed
+     * @param forInvocation whether {@code valueLoader} proceeds with an intercepted invocation, see
+     *        {@link #getForInvocation(Object, Function, Function)}
      * @return a {@link CompletableFuture} holding the cache value
      * @throws CacheException if an exception is thrown during the cache value computation
      */
-    private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> valueLoader) {
+    private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> valueLoader, Function<K, V> reloader,
+            boolean forInvocation) {
         CompletableFuture<Object> newCacheValue = new CompletableFuture<>();
         CompletableFuture<Object> existingCacheValue = cache.asMap().putIfAbsent(key, newCacheValue);
         if (existingCacheValue == null) {
@@ -225,29 +324,219 @@ private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> v
         } else {
             LOGGER.tracef("Key [%s] found in cache [%s]", key, cacheInfo.name);
             statsCounter.recordHits(1);
-            return unwrapCacheValueOrThrowable(existingCacheValue);
+            if (refreshAfterNanos >= 0) {
+                refreshIfNeeded(key, existingCacheValue, new Function<Object, CompletionStage<Object>>() {
+                    @Override
+                    public CompletionStage<Object> apply(Object k) {
+                        return reloadBlocking(new Supplier<Object>() {
+                            @Override
+                            public Object get() {
+                                return NullValueConverter.toCacheValue(reloader.apply(key));
+                            }
+                        }, forInvocation);
+                    }
+                });
+            }
+            if (forInvocation) {
+                // the caller waits on its own thread and loads the value again if it is absent, see AbsentValueException
+                return unwrapCacheValueOrThrowable(existingCacheValue);
+            }
+            return loadIfAbsent(unwrapCacheValueOrThrowable(existingCacheValue), new Supplier<CompletionStage<Object>>() {
+                @Override
+                public CompletionStage<Object> get() {
+                    return getFromCaffeine(key, valueLoader, reloader, false);
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns a {@link CompletableFuture} holding the value of {@code cacheValue}, or the value obtained from
+     * {@code loader} if {@code cacheValue} was being loaded by another operation which did not return it, see
+     * {@link AbsentValueException}.
+     *
+     * @param cacheValue the cache value
+     * @param loader supplier of the cache value, invoked on the thread completing {@code cacheValue}
+     * @return a {@link CompletableFuture} holding the cache value
+     */
+    private static CompletableFuture<Object> loadIfAbsent(CompletableFuture<Object> cacheValue,
+            Supplier<CompletionStage<Object>> loader) {
+        return cacheValue.exceptionallyCompose(new Function<Throwable, CompletionStage<Object>>() {
+            @Override
+            public CompletionStage<Object> apply(Throwable failure) {
+                return AbsentValueException.isAbsentValue(failure) ? loader.get() : CompletableFuture.failedFuture(failure);
+            }
+        });
+    }
+
+    /**
+     * Reloads the entry identified by {@code key} in the background if it must be refreshed, see
+     * {@link #startRefresh(Object, CompletableFuture)}.
+     *
+     * @param key cache key
+     * @param current the current cache value
+     * @param reloader function used to compute the new cache value, which must not block the calling thread
+     */
+    private void refreshIfNeeded(Object key, CompletableFuture<Object> current,
+            Function<Object, CompletionStage<Object>> reloader) {
+        if (!startRefresh(key, current)) {
+            return;
+        }
+        CompletionStage<Object> reload;
+        try {
+            reload = reloader.apply(key);
+        } catch (Throwable t) {
+            completeRefresh(key, current, null, t);
+            return;
+        }
+        reload.whenComplete(new BiConsumer<Object, Throwable>() {
+            @Override
+            public void accept(Object value, Throwable failure) {
+                completeRefresh(key, current, value, failure);
+            }
+        });
+    }
+
+    /**
+     * Returns {@code true} if the entry identified by {@code key} is older than the refresh-after-write duration, or if it
+     * is stale, and no other reload of the entry is in progress. In that case, the caller must reload the entry in the
+     * background and then call {@link #completeRefresh(Object, CompletableFuture, Object, Throwable)}, or
+     * {@link #cancelRefresh(Object)} if the reload did not return the entry. The current value is returned until the
+     * reload completes, and kept if the reload fails.
+     *
+     * @param key cache key
+     * @param current the current cache value
+     * @return {@code true} if the caller must reload the entry
+     */
+    boolean startRefresh(Object key, CompletableFuture<Object> current) {
+        long refreshAfter = refreshAfterNanos;
+        if (refreshAfter < 0 || writeExpiration == null || !current.isDone() || current.isCompletedExceptionally()
+                || current.getNow(null) instanceof CaffeineComputationThrowable) {
+            return false;
+        }
+        OptionalLong age = writeExpiration.ageOf(key, TimeUnit.NANOSECONDS);
+        if (age.isEmpty() || age.getAsLong() < refreshAfter) {
+            return false;
+        }
+        long staleAfter = staleAfterNanos;
+        if (staleAfter >= 0 && age.getAsLong() >= staleAfter) {
+            LOGGER.tracef("Stale entry with key [%s] returned from cache [%s]", key, cacheInfo.name);
+            staleHits.increment();
+        }
+        // a reload is already in progress if the key cannot be added
+        if (!refreshing.add(key)) {
+            return false;
+        }
+        LOGGER.debugf("Refreshing entry with key [%s] in cache [%s]", key, cacheInfo.name);
+        refreshes.increment();
+        return true;
+    }
+
+    void completeRefresh(Object key, CompletableFuture<Object> current, Object value, Throwable failure) {
+        try {
+            if (failure == null) {
+                // the entry is not replaced if it was invalidated or replaced in the meantime
+                cache.asMap().replace(key, current, CompletableFuture.completedFuture(value));
+            } else {
+                LOGGER.warnf(failure, "Unable to refresh entry with key [%s] in cache [%s]", key, cacheInfo.name);
+            }
+        } finally {
+            refreshing.remove(key);
+        }
+    }
+
+    void cancelRefresh(Object key) {
+        refreshing.remove(key);
+    }
+
+    /**
+     * Returns a {@link CompletionStage} holding the value obtained from the blocking {@code loader} on a worker thread.
+     * If {@code forInvocation} is {@code true}, the loader invokes again a method whose intercepted invocation has already
+     * returned, so it is invoked in a new request context.
+     */
+    <T> CompletionStage<T> reloadBlocking(Supplier<T> loader, boolean forInvocation) {
+        return CompletableFuture.supplyAsync(forInvocation ? new Supplier<T>() {
+            @Override
+            public T get() {
+                return inNewRequestContext(loader);
+            }
+        } : loader, Infrastructure.getDefaultWorkerPool());
+    }
+
+    /**
+     * Returns a {@link CompletionStage} holding the value emitted by the {@link Uni} obtained from {@code loader}. Uni
+     * loaders are not supposed to block, the reload is subscribed on the context captured by the operation. If
+     * {@code forInvocation} is {@code true}, the loader invokes again a method whose intercepted invocation has already
+     * returned, so it is invoked on a new duplicated context and in a new request context.
+     */
+    <T> CompletionStage<T> reloadAsync(Supplier<Uni<T>> loader, Context context, boolean forInvocation) {
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends T>>() {
+            @Override
+            public Uni<? extends T> get() {
+                return forInvocation ? inNewRequestContextAsync(loader) : loader.get();
+            }
+        }).runSubscriptionOn(forInvocation ? new NewDuplicatedContextExecutor(context) : new CapturedContextExecutor(context))
+                .subscribeAsCompletionStage();
+    }
+
+    private static <T> T inNewRequestContext(Supplier<T> loader) {
+        ManagedContext requestContext = Arc.container().requestContext();
+        if (requestContext.isActive()) {
+            return loader.get();
+        }
+        requestContext.activate();
+        try {
+            return loader.get();
+        } finally {
+            requestContext.terminate();
         }
     }
 
+    private static <T> Uni<T> inNewRequestContextAsync(Supplier<Uni<T>> loader) {
+        ManagedContext requestContext = Arc.container().requestContext();
+        if (requestContext.isActive()) {
+            return loader.get();
+        }
+        requestContext.activate();
+        ContextState state = requestContext.getState();
+        Uni<T> reload;
+        try {
+            reload = loader.get();
+        } catch (Throwable t) {
+            reload = Uni.createFrom().failure(t);
+        }
+        return reload.eventually(new Runnable() {
+            @Override
+            public void run() {
+                requestContext.destroy(state);
+                requestContext.deactivate();
+            }
+        });
+    }
+
     private CompletableFuture<Object> unwrapCacheValueOrThrowable(CompletableFuture<Object> cacheValue) {
         return cacheValue.thenApply(new Function<>() {
             @Override
             public Object apply(Object value) {
-                // If there's a throwable encapsulated into a CaffeineComputationThrowable, it must be rethrown.
-                if (value instanceof CaffeineComputationThrowable) {
-                    Throwable cause = ((CaffeineComputationThrowable) value).getCause();
-                    if (cause instanceof RuntimeException) {
-                        throw (RuntimeException) cause;
-                    } else {
-                        throw new CacheException(cause);
-                    }
-                } else {
-                    return NullValueConverter.fromCacheValue(value);
-                }
+                return unwrapCacheValue(value);
             }
         });
     }
 
+    static Object unwrapCacheValue(Object value) {
+        // If there's a throwable encapsulated into a CaffeineComputationThrowable, it must be rethrown.
+        if (value instanceof CaffeineComputationThrowable) {
+            Throwable cause = ((CaffeineComputationThrowable) value).getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else {
+                throw new CacheException(cause);
+            }
+        } else {
+            return NullValueConverter.fromCacheValue(value);
+        }
+    }
+
     @Override
     public Uni<Void> invalidate(Object key) {
         Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
@@ -295,10 +584,11 @@ public <V> void put(Object key, CompletableFuture<V> valueFuture) {
 
     @Override
     public void setExpireAfterWrite(Duration duration) {
-        Optional<FixedExpiration<Object, Object>> fixedExpiration = cache.synchronous().policy().expireAfterWrite();
-        if (fixedExpiration.isPresent()) {
-            fixedExpiration.get().setExpiresAfter(duration);
+        // the write-based expiration policy is also used internally when only refresh-after-write is configured
+        if (cacheInfo.expireAfterWrite != null && writeExpiration != null) {
+            writeExpiration.setExpiresAfter(writeExpiration(duration));
             cacheInfo.expireAfterWrite = duration;
+            updateRefreshPolicy();
         } else {
             throw new IllegalStateException("The write-based expiration policy can only be changed if the cache was " +
                     "constructed with an expire-after-write configuration value");
@@ -338,8 +628,29 @@ public long getSize() {
         return cache.synchronous().estimatedSize();
     }
 
+    /**
+     * @return {@code true} if the entries of this cache are refreshed after write or served stale while they are reloaded
+     */
+    public boolean isRefreshEnabled() {
+        return cacheInfo.refreshAfterWrite != null || staleWhileRevalidate != null;
+    }
+
+    /**
+     * @return the number of reloads started by this cache
+     */
+    public long getRefreshCount() {
+        return refreshes.sum();
+    }
+
+    /**
+     * @return the number of times a stale value was returned by this cache
+     */
+    public long getStaleHitCount() {
+        return staleHits.sum();
+    }
+
     @SuppressWarnings("unchecked")
-    private <T> T cast(Object value) {
+    static <T> T cast(Object value) {
         try {
             return (T) value;
         } catch (ClassCastException e) {
@@ -353,6 +664,88 @@ private <V> Function<V, V> fromCacheValue() {
         return (Function<V, V>) FROM_CACHE_VALUE;
     }
 
+    /**
+     * Emits the items on the context captured when the operation was created.
+     */
+    static class CapturedContextExecutor implements Executor {
+
+        private final Context context;
+
+        CapturedContextExecutor(Context context) {
+            this.context = context;
+        }
+
+        // We need make sure we go back to the original context when the cache value is computed.
+        // Otherwise, we would always emit on the context having computed the value, which could
+        // break the duplicated context isolation.
+        @Override
+        public void execute(Runnable command) {
+            Context ctx = Vertx.currentContext();
+            if (context == null) {
+                // We didn't capture a context
+                if (ctx == null) {
+                    // We are not on a context => we can execute immediately.
+                    command.run();
+                } else {
+                    // We are on a context.
+                    // We cannot continue on the current context as we may share a duplicated context.
+                    // We need a new one. Note that duplicate() does not duplicate the duplicated context,
+                    // but the root context.
+                    ((ContextInternal) ctx).duplicate()
+                            .runOnContext(new Handler<Void>() {
+                                @Override
+                                public void handle(Void ignored) {
+                                    command.run();
+                                }
+                            });
+                }
+            } else {
+                // We captured a context.
+                if (ctx == context) {
+                    // We are on the same context => we can execute immediately
+                    command.run();
+                } else {
+                    // 1) We are not on a context (ctx == null) => we need to switch to the captured context.
+                    // 2) We are on a different context (ctx != null) => we need to switch to the captured context.
+                    context.runOnContext(new Handler<Void>() {
+                        @Override
+                        public void handle(Void ignored) {
+                            command.run();
+                        }
+                    });
+                }
+            }
+        }
+    }
+
+    /**
+     * Subscribes the reloads of the entries loaded by intercepted invocations on a new duplicated context, since the
+     * duplicated context of the invocation may be gone when the reload starts.
+     */
+    private static class NewDuplicatedContextExecutor implements Executor {
+
+        private final Context context;
+
+        NewDuplicatedContextExecutor(Context context) {
+            this.context = context;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            if (context == null) {
+                // The operation was not created on a context => the reload is executed on a worker thread
+                Infrastructure.getDefaultWorkerPool().execute(command);
+            } else {
+                VertxContext.createNewDuplicatedContext(context).runOnContext(new Handler<Void>() {
+                    @Override
+                    public void handle(Void ignored) {
+                        command.run();
+                    }
+                });
+            }
+        }
+    }
+
     private interface StatsRecorder {
 
         void onValueAbsent();
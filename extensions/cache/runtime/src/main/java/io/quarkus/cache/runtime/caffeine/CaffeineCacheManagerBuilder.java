@@ -43,9 +43,11 @@ public CacheManager get() {
                         if (LOGGER.isDebugEnabled()) {
                             LOGGER.debugf(
                                     "Building Caffeine cache [%s] with [initialCapacity=%s], [maximumSize=%s], [expireAfterWrite=%s], "
-                                            + "[expireAfterAccess=%s] and [metricsEnabled=%s]",
+                                            + "[expireAfterAccess=%s], [refreshAfterWrite=%s], [staleWhileRevalidate=%s] "
+                                            + "and [metricsEnabled=%s]",
                                     cacheInfo.name, cacheInfo.initialCapacity, cacheInfo.maximumSize,
-                                    cacheInfo.expireAfterWrite, cacheInfo.expireAfterAccess, cacheInfo.metricsEnabled);
+                                    cacheInfo.expireAfterWrite, cacheInfo.expireAfterAccess, cacheInfo.refreshAfterWrite,
+                                    cacheInfo.staleWhileRevalidate, cacheInfo.metricsEnabled);
                         }
                         /*
                          * Metrics will be recorded for the current cache if:
@@ -56,6 +58,9 @@ public CacheManager get() {
                         CaffeineCacheImpl cache = new CaffeineCacheImpl(cacheInfo, recordMetrics);
                         if (recordMetrics) {
                             metricsInitializer.recordMetrics(cache.cache, cacheInfo.name);
+                            if (cache.isRefreshEnabled()) {
+                                metricsInitializer.recordRefreshMetrics(cache, cacheInfo.name);
+                            }
                         } else if (cacheInfo.metricsEnabled) {
                             LOGGER.warnf(
                                     "Metrics won't be recorded for cache '%s' because the application does not depend on a Micrometer extension. "
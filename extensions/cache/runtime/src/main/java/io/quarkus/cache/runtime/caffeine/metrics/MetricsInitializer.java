@@ -2,9 +2,13 @@
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
 
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+
 public interface MetricsInitializer {
 
     boolean metricsEnabled();
 
     void recordMetrics(AsyncCache<Object, Object> cache, String cacheName);
+
+    void recordRefreshMetrics(CaffeineCacheImpl cache, String cacheName);
 }
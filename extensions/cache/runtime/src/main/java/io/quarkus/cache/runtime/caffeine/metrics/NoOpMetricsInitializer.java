@@ -4,6 +4,8 @@
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
 
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+
 /**
  * An instance of this class is created during the instantiation of the Caffeine caches when the application does not depend on
  * any quarkus-micrometer-registry-* extension. It is required to make the micrometer-core dependency optional.
@@ -22,4 +24,9 @@ public void recordMetrics(AsyncCache<Object, Object> cache, String cacheName) {
         LOGGER.tracef("Initializing no-op metrics for cache [%s]", cacheName);
         // Do nothing more.
     }
+
+    @Override
+    public void recordRefreshMetrics(CaffeineCacheImpl cache, String cacheName) {
+        // Do nothing.
+    }
 }
@@ -5,6 +5,8 @@
 import static io.quarkus.container.util.PathsUtil.findMainSourcesRoot;
 import static io.quarkus.deployment.util.ContainerRuntimeUtil.detectContainerRuntime;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -26,6 +28,7 @@
 import io.quarkus.deployment.builditem.ContainerRuntimeStatusBuildItem;
 import io.quarkus.deployment.pkg.PackageConfig;
 import io.quarkus.deployment.pkg.PackageConfig.JarConfig.JarType;
+import io.quarkus.deployment.pkg.builditem.AotCacheResultBuildItem;
 import io.quarkus.deployment.pkg.builditem.ArtifactResultBuildItem;
 import io.quarkus.deployment.pkg.builditem.NativeImageBuildItem;
 import io.quarkus.deployment.pkg.builditem.OutputTargetBuildItem;
@@ -38,6 +41,8 @@
     protected static final String DOCKERFILE_LEGACY_JAR = "Dockerfile.legacy-jar";
     protected static final String DOCKERFILE_NATIVE = "Dockerfile.native";
     protected static final String DOCKER_DIRECTORY_NAME = "docker";
+    // next to the application jar, as laid out by the Dockerfiles generated by the Quarkus tooling
+    static final String CONTAINER_AOT_CACHE_PATH = "/deployments/app.aot";
 
     protected abstract String getProcessorImplementation();
 
@@ -55,6 +60,7 @@ protected void buildFromJar(C config,
             BuildProducer<ArtifactResultBuildItem> artifactResultProducer,
             BuildProducer<ContainerImageBuilderBuildItem> containerImageBuilder,
             PackageConfig packageConfig,
+            Optional<AotCacheResultBuildItem> aotCacheResult,
             ContainerRuntime... containerRuntimes) {
 
         var buildContainerImage = buildContainerImageNeeded(containerImageConfig, buildRequest);
@@ -68,6 +74,9 @@ protected void buildFromJar(C config,
             }
 
             var dockerfilePaths = getDockerfilePaths(config, false, packageConfig, out);
+            if (aotCacheResult.isPresent()) {
+                dockerfilePaths = withAotCache(dockerfilePaths, aotCacheResult.get(), out.getOutputDirectory());
+            }
             var dockerfileBaseInformation = DockerFileBaseInformationProvider.impl()
                     .determine(dockerfilePaths.dockerfilePath());
 
@@ -269,6 +278,73 @@ protected String getExecutableName(C config, ContainerRuntime... containerRuntim
                 .orElseGet(() -> detectContainerRuntime(containerRuntimes).getExecutableName());
     }
 
+    /**
+     * The JDK AOT cache is only used when the JVM is launched with the {@code -XX:AOTCache} flag, and only by the exact
+     * same JVM that created it. If the cache was created in the base image of the Dockerfile, and unless the Dockerfile
+     * already refers to the AOT cache, a copy of the Dockerfile is generated that adds the cache to the image and passes
+     * the flag using {@code JDK_JAVA_OPTIONS}, which the {@code java} launcher picks up regardless of the entrypoint.
+     * Otherwise, the flag could prevent the container from starting, so the Dockerfile is used as is and the
+     * instructions needed to use the cache are logged.
+     */
+    static DockerfilePaths withAotCache(DockerfilePaths dockerfilePaths, AotCacheResultBuildItem aotCacheResult,
+            Path outputDirectory) {
+        try {
+            var dockerfile = Files.readString(dockerfilePaths.dockerfilePath());
+            if (dockerfile.contains("-XX:AOTCache")) {
+                return dockerfilePaths;
+            }
+
+            var aotCacheSource = dockerfilePaths.dockerExecutionPath().toAbsolutePath()
+                    .relativize(aotCacheResult.getAotCache().toAbsolutePath()).toString().replace('\\', '/');
+            var aotCacheInstructions = """
+                    COPY %s %s
+                    ENV JDK_JAVA_OPTIONS="${JDK_JAVA_OPTIONS} -XX:AOTCache=%s"
+                    """.formatted(aotCacheSource, CONTAINER_AOT_CACHE_PATH, CONTAINER_AOT_CACHE_PATH);
+            var baseImage = baseImage(dockerfile);
+            if (baseImage.isEmpty() || !aotCacheResult.isCreatedIn(baseImage.get())) {
+                LOGGER.infof("The AOT cache was not created by the JVM of the base image of %s (%s), so it is not added"
+                        + " to the container image. To use it, set 'quarkus.package.jar.aot.builder-image' to the base"
+                        + " image and make sure it runs Java 24+, or add the following instructions to the Dockerfile"
+                        + " if the base image runs the exact same JVM as the one that created the AOT cache:%n%s",
+                        dockerfilePaths.dockerfilePath(), baseImage.orElse("unknown"), aotCacheInstructions);
+                return dockerfilePaths;
+            }
+
+            var aotDockerfile = outputDirectory.resolve(dockerfilePaths.dockerfilePath().getFileName() + "-aot");
+            Files.writeString(aotDockerfile, dockerfile + "\n" + aotCacheInstructions);
+            LOGGER.debugf("Using %s to add the AOT cache to the container image", aotDockerfile);
+            return new ProvidedDockerfile(aotDockerfile, dockerfilePaths.dockerExecutionPath());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the image of the last {@code FROM} instruction of the given Dockerfile, which is the base image of the
+     * container image, or an empty optional if it cannot be determined.
+     */
+    static Optional<String> baseImage(String dockerfile) {
+        String baseImage = null;
+        for (String line : dockerfile.lines().toList()) {
+            String[] tokens = line.trim().split("\\s+");
+            if (tokens.length < 2 || !tokens[0].equalsIgnoreCase("FROM")) {
+                continue;
+            }
+            baseImage = null;
+            for (int i = 1; i < tokens.length; i++) {
+                if (!tokens[i].startsWith("--")) {
+                    baseImage = tokens[i];
+                    break;
+                }
+            }
+        }
+        // an image set by a build argument is only known when the image is built
+        if (baseImage == null || baseImage.contains("$")) {
+            return Optional.empty();
+        }
+        return Optional.of(baseImage);
+    }
+
     private DockerfilePaths getDockerfilePaths(C config,
             boolean forNative,
             PackageConfig packageConfig,
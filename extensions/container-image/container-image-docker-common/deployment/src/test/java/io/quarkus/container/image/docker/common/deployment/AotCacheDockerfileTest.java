@@ -0,0 +1,110 @@
+package io.quarkus.container.image.docker.common.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.container.image.docker.common.deployment.CommonProcessor.DockerfilePaths;
+import io.quarkus.container.image.docker.common.deployment.CommonProcessor.ProvidedDockerfile;
+import io.quarkus.deployment.pkg.builditem.AotCacheResultBuildItem;
+
+class AotCacheDockerfileTest {
+
+    private static final String BASE_IMAGE = "registry.access.redhat.com/ubi9/openjdk-25:1.23";
+    private static final String DOCKERFILE = """
+            FROM registry.access.redhat.com/ubi9/openjdk-25:1.23
+            COPY target/quarkus-app/ /deployments/
+            ENV JAVA_APP_JAR="/deployments/quarkus-run.jar"
+            ENTRYPOINT [ "/opt/jboss/container/java/run/run-java.sh" ]
+            """;
+
+    @TempDir
+    Path projectDir;
+
+    @Test
+    void testAotCacheAddedToImage() throws IOException {
+        DockerfilePaths paths = dockerfile(DOCKERFILE);
+        Path outputDirectory = projectDir.resolve("target");
+        Path aotCache = outputDirectory.resolve("quarkus-app").resolve("app.aot");
+
+        DockerfilePaths result = CommonProcessor.withAotCache(paths, new AotCacheResultBuildItem(aotCache, BASE_IMAGE),
+                outputDirectory);
+
+        assertThat(result.dockerfilePath()).isEqualTo(outputDirectory.resolve("Dockerfile.jvm-aot"));
+        assertThat(result.dockerExecutionPath()).isEqualTo(projectDir);
+        assertThat(Files.readString(result.dockerfilePath()))
+                .startsWith(DOCKERFILE)
+                .contains("COPY target/quarkus-app/app.aot /deployments/app.aot\n")
+                .endsWith("ENV JDK_JAVA_OPTIONS=\"${JDK_JAVA_OPTIONS} -XX:AOTCache=/deployments/app.aot\"\n");
+        // the original Dockerfile is left untouched
+        assertThat(Files.readString(paths.dockerfilePath())).isEqualTo(DOCKERFILE);
+    }
+
+    @Test
+    void testAotCacheAlreadyConfigured() throws IOException {
+        DockerfilePaths paths = dockerfile(DOCKERFILE.replace("ENV JAVA_APP_JAR",
+                "ENV JAVA_OPTS_APPEND=\"-XX:AOTCache=/deployments/app.aot\"\nENV JAVA_APP_JAR"));
+        Path outputDirectory = projectDir.resolve("target");
+
+        DockerfilePaths result = CommonProcessor.withAotCache(paths,
+                new AotCacheResultBuildItem(outputDirectory.resolve("quarkus-app").resolve("app.aot"), BASE_IMAGE),
+                outputDirectory);
+
+        assertThat(result).isSameAs(paths);
+        assertThat(outputDirectory.resolve("Dockerfile.jvm-aot")).doesNotExist();
+    }
+
+    @Test
+    void testAotCacheCreatedByTheBuildJvm() throws IOException {
+        // the JVM of the base image may not even recognize -XX:AOTCache
+        DockerfilePaths paths = dockerfile(DOCKERFILE.replace(BASE_IMAGE, "registry.access.redhat.com/ubi9/openjdk-21:1.21"));
+        Path outputDirectory = projectDir.resolve("target");
+
+        DockerfilePaths result = CommonProcessor.withAotCache(paths,
+                new AotCacheResultBuildItem(outputDirectory.resolve("quarkus-app").resolve("app.aot")), outputDirectory);
+
+        assertThat(result).isSameAs(paths);
+        assertThat(outputDirectory.resolve("Dockerfile.jvm-aot")).doesNotExist();
+    }
+
+    @Test
+    void testAotCacheCreatedInAnotherImage() throws IOException {
+        DockerfilePaths paths = dockerfile(DOCKERFILE.replace(BASE_IMAGE, "registry.access.redhat.com/ubi9/openjdk-21:1.21"));
+        Path outputDirectory = projectDir.resolve("target");
+
+        DockerfilePaths result = CommonProcessor.withAotCache(paths,
+                new AotCacheResultBuildItem(outputDirectory.resolve("quarkus-app").resolve("app.aot"), BASE_IMAGE),
+                outputDirectory);
+
+        assertThat(result).isSameAs(paths);
+        assertThat(outputDirectory.resolve("Dockerfile.jvm-aot")).doesNotExist();
+    }
+
+    @Test
+    void testBaseImage() {
+        assertThat(CommonProcessor.baseImage(DOCKERFILE)).hasValue(BASE_IMAGE);
+        assertThat(CommonProcessor.baseImage("""
+                FROM maven:3-eclipse-temurin-25 AS build
+                RUN mvn package
+                from --platform=linux/amd64 eclipse-temurin:25-jre
+                COPY --from=build /build/target/quarkus-app/ /deployments/
+                """)).hasValue("eclipse-temurin:25-jre");
+        assertThat(CommonProcessor.baseImage("""
+                ARG JAVA_IMAGE=eclipse-temurin:25-jre
+                FROM ${JAVA_IMAGE}
+                """)).isEmpty();
+        assertThat(CommonProcessor.baseImage("COPY target/quarkus-app/ /deployments/")).isEmpty();
+    }
+
+    private DockerfilePaths dockerfile(String content) throws IOException {
+        Path dockerDirectory = Files.createDirectories(projectDir.resolve("src/main/docker"));
+        Files.createDirectories(projectDir.resolve("target/quarkus-app"));
+        Path dockerfile = Files.writeString(dockerDirectory.resolve("Dockerfile.jvm"), content);
+        return new ProvidedDockerfile(dockerfile, projectDir);
+    }
+}
@@ -70,6 +70,7 @@
 import io.quarkus.deployment.builditem.MainClassBuildItem;
 import io.quarkus.deployment.images.ContainerImages;
 import io.quarkus.deployment.pkg.PackageConfig;
+import io.quarkus.deployment.pkg.builditem.AotCacheResultBuildItem;
 import io.quarkus.deployment.pkg.builditem.AppCDSContainerImageBuildItem;
 import io.quarkus.deployment.pkg.builditem.AppCDSResultBuildItem;
 import io.quarkus.deployment.pkg.builditem.ArtifactResultBuildItem;
@@ -132,6 +133,21 @@ public void appCDS(ContainerImageConfig containerImageConfig, CompiledJavaVersio
         producer.produce(new AppCDSContainerImageBuildItem(determineBaseJvmImage(jibConfig, compiledJavaVersion)));
     }
 
+    /**
+     * The AOT cache can only be used by the exact same JVM that created it, and {@code -XX:AOTCache} is not even
+     * recognized before Java 24, so it is only added to the container image if it was created in the base image.
+     */
+    private static Optional<AotCacheResultBuildItem> usableAotCache(String baseJvmImage,
+            Optional<AotCacheResultBuildItem> aotCacheResult) {
+        if (aotCacheResult.isPresent() && !aotCacheResult.get().isCreatedIn(baseJvmImage)) {
+            log.infof("The AOT cache was not created by the JVM of the base image (%s), so it is not added to the"
+                    + " container image. To use it, make sure 'quarkus.package.jar.aot.use-container' is enabled and"
+                    + " that the base image runs Java 24+.", baseJvmImage);
+            return Optional.empty();
+        }
+        return aotCacheResult;
+    }
+
     private String determineBaseJvmImage(ContainerImageJibConfig jibConfig, CompiledJavaVersionBuildItem compiledJavaVersion) {
         if (jibConfig.baseJvmImage.isPresent()) {
             return jibConfig.baseJvmImage.get();
@@ -154,6 +170,7 @@ public void buildFromJar(ContainerImageConfig containerImageConfig, ContainerIma
             Optional<ContainerImagePushRequestBuildItem> pushRequest,
             List<ContainerImageLabelBuildItem> containerImageLabels,
             Optional<AppCDSResultBuildItem> appCDSResult,
+            Optional<AotCacheResultBuildItem> aotCacheResult,
             BuildProducer<ArtifactResultBuildItem> artifactResultProducer,
             BuildProducer<ContainerImageBuilderBuildItem> containerImageBuilder) {
 
@@ -170,11 +187,13 @@ public void buildFromJar(ContainerImageConfig containerImageConfig, ContainerIma
                 createContainerBuilderFromLegacyJar(determineBaseJvmImage(jibConfig, compiledJavaVersion),
                         jibConfig, containerImageConfig,
                         sourceJar, outputTarget, mainClass, containerImageLabels);
-            case FAST_JAR, MUTABLE_JAR ->
-                createContainerBuilderFromFastJar(determineBaseJvmImage(jibConfig, compiledJavaVersion),
+            case FAST_JAR, MUTABLE_JAR -> {
+                String baseJvmImage = determineBaseJvmImage(jibConfig, compiledJavaVersion);
+                yield createContainerBuilderFromFastJar(baseJvmImage,
                         jibConfig, containerImageConfig, sourceJar, curateOutcome,
                         containerImageLabels,
-                        appCDSResult, jarType == MUTABLE_JAR);
+                        appCDSResult, usableAotCache(baseJvmImage, aotCacheResult), jarType == MUTABLE_JAR);
+            }
         };
         setUser(jibConfig, jibContainerBuilder);
         setPlatforms(jibConfig, jibContainerBuilder);
@@ -416,6 +435,7 @@ private JibContainerBuilder createContainerBuilderFromFastJar(String baseJvmImag
             JarBuildItem sourceJarBuildItem,
             CurateOutcomeBuildItem curateOutcome, List<ContainerImageLabelBuildItem> containerImageLabels,
             Optional<AppCDSResultBuildItem> appCDSResult,
+            Optional<AotCacheResultBuildItem> aotCacheResult,
             boolean isMutableJar) {
         Path componentsPath = sourceJarBuildItem.getPath().getParent();
         Path appLibDir = componentsPath.resolve(JarResultBuildStep.LIB).resolve(JarResultBuildStep.MAIN);
@@ -426,16 +446,16 @@ private JibContainerBuilder createContainerBuilderFromFastJar(String baseJvmImag
         List<String> entrypoint;
         if (jibConfig.jvmEntrypoint.isPresent()) {
             entrypoint = Collections.unmodifiableList(jibConfig.jvmEntrypoint.get());
-        } else if (containsRunJava(baseJvmImage) && appCDSResult.isEmpty()) {
-            // we want to use run-java.sh by default. However, if AppCDS are being used, run-java.sh cannot be used because it would lead to using different JVM args
+        } else if (containsRunJava(baseJvmImage) && appCDSResult.isEmpty() && aotCacheResult.isEmpty()) {
+            // we want to use run-java.sh by default. However, if AppCDS (or the AOT cache) are being used, run-java.sh cannot be used because it would lead to using different JVM args
             // which would mean AppCDS would not be taken into account at all
             entrypoint = List.of(RUN_JAVA_PATH);
             envVars.put("JAVA_APP_JAR", workDirInContainer + "/" + JarResultBuildStep.QUARKUS_RUN_JAR);
             envVars.put("JAVA_APP_DIR", workDirInContainer.toString());
             envVars.put("JAVA_OPTS_APPEND",
-                    String.join(" ", determineEffectiveJvmArguments(jibConfig, appCDSResult, isMutableJar)));
+                    String.join(" ", determineEffectiveJvmArguments(jibConfig, appCDSResult, aotCacheResult, isMutableJar)));
         } else {
-            List<String> effectiveJvmArguments = determineEffectiveJvmArguments(jibConfig, appCDSResult, isMutableJar);
+            List<String> effectiveJvmArguments = determineEffectiveJvmArguments(jibConfig, appCDSResult, aotCacheResult, isMutableJar);
             List<String> argsList = new ArrayList<>(3 + effectiveJvmArguments.size());
             argsList.add("java");
             argsList.addAll(effectiveJvmArguments);
@@ -526,8 +546,8 @@ private JibContainerBuilder createContainerBuilderFromFastJar(String baseJvmImag
                                     .resolve(JarResultBuildStep.BOOT_LIB)
                                     .resolve(lib.getFileName());
                             Instant bootLibModificationTime;
-                            if (appCDSResult.isPresent()) {
-                                // the boot lib jars need to preserve the modification time because otherwise AppCDS won't work
+                            if (appCDSResult.isPresent() || aotCacheResult.isPresent()) {
+                                // the boot lib jars need to preserve the modification time because otherwise AppCDS (or the AOT cache) won't work
                                 bootLibModificationTime = Files.getLastModifiedTime(lib).toInstant();
                             } else {
                                 bootLibModificationTime = modificationTime;
@@ -556,14 +576,17 @@ private JibContainerBuilder createContainerBuilderFromFastJar(String baseJvmImag
                         isMutableJar, enforceModificationTime, modificationTime);
             }
 
-            if (appCDSResult.isPresent()) {
-                jibContainerBuilder.addFileEntriesLayer(FileEntriesLayer.builder().setName("app-cds").addEntry(
-                        componentsPath.resolve(JarResultBuildStep.QUARKUS_RUN_JAR),
-                        workDirInContainer.resolve(JarResultBuildStep.QUARKUS_RUN_JAR),
-                        Files.getLastModifiedTime(componentsPath.resolve(JarResultBuildStep.QUARKUS_RUN_JAR)).toInstant())
+            if (appCDSResult.isPresent() || aotCacheResult.isPresent()) {
+                jibContainerBuilder.addFileEntriesLayer(FileEntriesLayer.builder()
+                        .setName(aotCacheResult.isPresent() ? "aot-cache" : "app-cds").addEntry(
+                                componentsPath.resolve(JarResultBuildStep.QUARKUS_RUN_JAR),
+                                workDirInContainer.resolve(JarResultBuildStep.QUARKUS_RUN_JAR),
+                                Files.getLastModifiedTime(componentsPath.resolve(JarResultBuildStep.QUARKUS_RUN_JAR))
+                                        .toInstant())
                         .build());
-                jibContainerBuilder
-                        .addLayer(Collections.singletonList(appCDSResult.get().getAppCDS()), workDirInContainer);
+                Path archive = aotCacheResult.isPresent() ? aotCacheResult.get().getAotCache()
+                        : appCDSResult.get().getAppCDS();
+                jibContainerBuilder.addLayer(Collections.singletonList(archive), workDirInContainer);
             } else {
                 jibContainerBuilder.addFileEntriesLayer(FileEntriesLayer.builder()
                         .setName("fast-jar-run")
@@ -681,10 +704,22 @@ private void mayInheritEntrypoint(JibContainerBuilder jibContainerBuilder, List<
 
     private List<String> determineEffectiveJvmArguments(ContainerImageJibConfig jibConfig,
             Optional<AppCDSResultBuildItem> appCDSResult,
+            Optional<AotCacheResultBuildItem> aotCacheResult,
             boolean isMutableJar) {
         List<String> effectiveJvmArguments = new ArrayList<>(jibConfig.jvmArguments);
         jibConfig.jvmAdditionalArguments.ifPresent(effectiveJvmArguments::addAll);
-        if (appCDSResult.isPresent()) {
+        if (aotCacheResult.isPresent()) {
+            boolean containsAotCacheOptions = false;
+            for (String effectiveJvmArgument : effectiveJvmArguments) {
+                if (effectiveJvmArgument.startsWith("-XX:AOTCache")) {
+                    containsAotCacheOptions = true;
+                    break;
+                }
+            }
+            if (!containsAotCacheOptions) {
+                effectiveJvmArguments.add("-XX:AOTCache=" + aotCacheResult.get().getAotCache().getFileName().toString());
+            }
+        } else if (appCDSResult.isPresent()) {
             boolean containsAppCDSOptions = false;
             for (String effectiveJvmArgument : effectiveJvmArguments) {
                 if (effectiveJvmArgument.startsWith("-XX:SharedArchiveFile")) {
@@ -738,7 +773,7 @@ private JibContainerBuilder createContainerBuilderFromLegacyJar(String baseJvmIm
             // when there is no custom entry point, we just set everything up for a regular java run
             if (!jibConfig.jvmEntrypoint.isPresent()) {
                 javaContainerBuilder
-                        .addJvmFlags(determineEffectiveJvmArguments(jibConfig, Optional.empty(), false))
+                        .addJvmFlags(determineEffectiveJvmArguments(jibConfig, Optional.empty(), Optional.empty(), false))
                         .setMainClass(mainClassBuildItem.getClassName());
             }
 
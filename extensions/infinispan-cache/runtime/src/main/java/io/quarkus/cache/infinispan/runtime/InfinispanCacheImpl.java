@@ -1,9 +1,15 @@
 package io.quarkus.cache.infinispan.runtime;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Flow;
@@ -152,48 +158,75 @@ public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
                         }
                     });
             return resultAsync;
-        })).emitOn(new Executor() {
-            // We need make sure we go back to the original context when the cache value is computed.
-            // Otherwise, we would always emit on the context having computed the value, which could
-            // break the duplicated context isolation.
-            @Override
-            public void execute(Runnable command) {
-                Context ctx = Vertx.currentContext();
-                if (context == null) {
-                    // We didn't capture a context
-                    if (ctx == null) {
-                        // We are not on a context => we can execute immediately.
-                        command.run();
-                    } else {
-                        // We are on a context.
-                        // We cannot continue on the current context as we may share a duplicated context.
-                        // We need a new one. Note that duplicate() does not duplicate the duplicated context,
-                        // but the root context.
-                        ((ContextInternal) ctx).duplicate()
-                                .runOnContext(new Handler<Void>() {
-                                    @Override
-                                    public void handle(Void ignored) {
-                                        command.run();
-                                    }
-                                });
-                    }
+        })).emitOn(new CapturedContextExecutor(context));
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> valuesLoader) {
+        return Uni.createFrom().completionStage(() -> getAllFromInfinispan(keys, missingKeys -> {
+            try {
+                return CompletableFuture.completedFuture(valuesLoader.apply(missingKeys));
+            } catch (Throwable t) {
+                return CompletableFuture.failedFuture(t);
+            }
+        }));
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Collection<K> keys, Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        Context context = Vertx.currentContext();
+
+        return Uni.createFrom()
+                .completionStage(() -> getAllFromInfinispan(keys,
+                        missingKeys -> valuesLoader.apply(missingKeys).subscribeAsCompletionStage()))
+                .emitOn(new CapturedContextExecutor(context));
+    }
+
+    /**
+     * Retrieves the cached values with a single {@code getAll} operation, then computes the missing values with a single
+     * invocation of {@code valuesLoader} and stores them with a single {@code putAll} operation.
+     */
+    private <K, V> CompletionStage<Map<K, V>> getAllFromInfinispan(Collection<K> keys,
+            Function<Set<K>, CompletionStage<Map<K, V>>> valuesLoader) {
+        Set<K> uniqueKeys = new LinkedHashSet<>(keys);
+        for (K key : uniqueKeys) {
+            Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        return CompletionStages.handleAndCompose(remoteCache.getAllAsync(uniqueKeys), (cached, ex1) -> {
+            if (ex1 != null) {
+                return CompletableFuture.failedFuture((Throwable) ex1);
+            }
+
+            Map<K, V> result = new LinkedHashMap<>();
+            Set<K> missingKeys = new LinkedHashSet<>();
+            for (K key : uniqueKeys) {
+                Object value = ((Map<?, ?>) cached).get(key);
+                if (value != null) {
+                    result.put(key, decodeNull(value));
                 } else {
-                    // We captured a context.
-                    if (ctx == context) {
-                        // We are on the same context => we can execute immediately
-                        command.run();
-                    } else {
-                        // 1) We are not on a context (ctx == null) => we need to switch to the captured context.
-                        // 2) We are on a different context (ctx != null) => we need to switch to the captured context.
-                        context.runOnContext(new Handler<Void>() {
-                            @Override
-                            public void handle(Void ignored) {
-                                command.run();
-                            }
-                        });
-                    }
+                    missingKeys.add(key);
                 }
             }
+            if (missingKeys.isEmpty()) {
+                return CompletableFuture.completedFuture(result);
+            }
+
+            return valuesLoader.apply(missingKeys).thenCompose(newValues -> {
+                Map<K, Object> toStore = new HashMap<>();
+                for (K key : missingKeys) {
+                    if (newValues.containsKey(key)) {
+                        V newValue = newValues.get(key);
+                        toStore.put(key, encodeNull(newValue));
+                        result.put(key, newValue);
+                    }
+                }
+                if (toStore.isEmpty()) {
+                    return CompletableFuture.completedFuture(result);
+                }
+                return remoteCache
+                        .putAllAsync(toStore, lifespan, TimeUnit.MILLISECONDS, maxIdle, TimeUnit.MILLISECONDS)
+                        .thenApply(ignored -> result);
+            });
         });
     }
 
@@ -227,4 +260,58 @@ public <T extends Cache> T as(Class<T> type) {
 
         throw new IllegalArgumentException("Class type not supported : " + type);
     }
+
+    /**
+     * Emits the items on the context captured when the operation was created.
+     */
+    private static class CapturedContextExecutor implements Executor {
+
+        private final Context context;
+
+        CapturedContextExecutor(Context context) {
+            this.context = context;
+        }
+
+        // We need make sure we go back to the original context when the cache value is computed.
+        // Otherwise, we would always emit on the context having computed the value, which could
+        // break the duplicated context isolation.
+        @Override
+        public void execute(Runnable command) {
+            Context ctx = Vertx.currentContext();
+            if (context == null) {
+                // We didn't capture a context
+                if (ctx == null) {
+                    // We are not on a context => we can execute immediately.
+                    command.run();
+                } else {
+                    // We are on a context.
+                    // We cannot continue on the current context as we may share a duplicated context.
+                    // We need a new one. Note that duplicate() does not duplicate the duplicated context,
+                    // but the root context.
+                    ((ContextInternal) ctx).duplicate()
+                            .runOnContext(new Handler<Void>() {
+                                @Override
+                                public void handle(Void ignored) {
+                                    command.run();
+                                }
+                            });
+                }
+            } else {
+                // We captured a context.
+                if (ctx == context) {
+                    // We are on the same context => we can execute immediately
+                    command.run();
+                } else {
+                    // 1) We are not on a context (ctx == null) => we need to switch to the captured context.
+                    // 2) We are on a different context (ctx != null) => we need to switch to the captured context.
+                    context.runOnContext(new Handler<Void>() {
+                        @Override
+                        public void handle(Void ignored) {
+                            command.run();
+                        }
+                    });
+                }
+            }
+        }
+    }
 }
@@ -2,12 +2,32 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import jakarta.enterprise.inject.AmbiguousResolutionException;
+import jakarta.enterprise.inject.spi.DeploymentException;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Type;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.arc.deployment.ValidationPhaseBuildItem;
+import io.quarkus.arc.deployment.ValidationPhaseBuildItem.ValidationErrorBuildItem;
+import io.quarkus.arc.processor.BeanInfo;
+import io.quarkus.arc.processor.BeanResolver;
+import io.quarkus.arc.processor.BuiltinScope;
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
+import io.quarkus.load.shedding.LimitAlgorithm;
 import io.quarkus.load.shedding.runtime.HttpLoadShedding;
 import io.quarkus.load.shedding.runtime.HttpRequestClassifier;
+import io.quarkus.load.shedding.runtime.LoadSheddingRecorder;
 import io.quarkus.load.shedding.runtime.ManagementRequestPrioritizer;
 import io.quarkus.load.shedding.runtime.OverloadDetector;
 import io.quarkus.load.shedding.runtime.PriorityLoadShedding;
@@ -15,6 +35,8 @@
 public class LoadSheddingProcessor {
     private static final String FEATURE = "load-shedding";
 
+    private static final Type LIMIT_ALGORITHM = Type.create(DotName.createSimple(LimitAlgorithm.class), Type.Kind.CLASS);
+
     @BuildStep
     FeatureBuildItem feature() {
         return new FeatureBuildItem(FEATURE);
@@ -31,4 +53,37 @@ AdditionalBeanBuildItem beans() {
 
         return AdditionalBeanBuildItem.builder().addBeanClasses(beans).build();
     }
+
+    @BuildStep
+    void validateLimitAlgorithm(ValidationPhaseBuildItem validationPhase,
+            BuildProducer<ValidationErrorBuildItem> errors) {
+        BeanResolver beanResolver = validationPhase.getBeanResolver();
+        Set<BeanInfo> beans = beanResolver.resolveBeans(LIMIT_ALGORITHM);
+        if (beans.isEmpty()) {
+            return;
+        }
+
+        BeanInfo bean;
+        try {
+            bean = beanResolver.resolveAmbiguity(beans);
+        } catch (AmbiguousResolutionException e) {
+            errors.produce(new ValidationErrorBuildItem(new DeploymentException(
+                    "There can be at most one bean of type '" + LimitAlgorithm.class.getName() + "', found: " + beans)));
+            return;
+        }
+        // each limiter obtains its own instance, which must not be shared with other limiters
+        if (!BuiltinScope.DEPENDENT.is(bean.getScope())) {
+            errors.produce(new ValidationErrorBuildItem(new DeploymentException(
+                    "A bean of type '" + LimitAlgorithm.class.getName() + "' must be @Dependent: " + bean)));
+        }
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void metrics(LoadSheddingRecorder recorder, Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (metricsCapability.isPresent()) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerMetrics()));
+        }
+    }
 }
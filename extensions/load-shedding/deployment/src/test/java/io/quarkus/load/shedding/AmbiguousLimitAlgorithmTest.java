@@ -0,0 +1,39 @@
+package io.quarkus.load.shedding;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.spi.DeploymentException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class AmbiguousLimitAlgorithmTest {
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(MyLimit.class, MyOtherLimit.class))
+            .setExpectedException(DeploymentException.class);
+
+    @Test
+    public void test() {
+        fail("Should never have been called");
+    }
+
+    @Dependent
+    public static class MyLimit implements LimitAlgorithm {
+        @Override
+        public long update(long currentLimit, long requestTime, int currentRequests) {
+            return currentLimit;
+        }
+    }
+
+    @Dependent
+    public static class MyOtherLimit implements LimitAlgorithm {
+        @Override
+        public long update(long currentLimit, long requestTime, int currentRequests) {
+            return currentLimit + 1;
+        }
+    }
+}
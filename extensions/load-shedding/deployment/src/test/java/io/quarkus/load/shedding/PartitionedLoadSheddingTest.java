@@ -0,0 +1,82 @@
+package io.quarkus.load.shedding;
+
+import static io.restassured.RestAssured.when;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class PartitionedLoadSheddingTest {
+    private static final int NUM_THREADS = 20;
+    private static final int NUM_REQUESTS = 10;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(MyResource.class))
+            .overrideConfigKey("quarkus.load-shedding.priority.enabled", "false")
+            .overrideConfigKey("quarkus.load-shedding.partitions.slow.paths", "/slow/{id}")
+            .overrideConfigKey("quarkus.load-shedding.partitions.slow.initial-limit", "5")
+            .overrideConfigKey("quarkus.load-shedding.partitions.slow.max-limit", "10");
+
+    @Test
+    public void test() throws InterruptedException {
+        AtomicInteger numSlowErrors = new AtomicInteger();
+        CountDownLatch begin = new CountDownLatch(1);
+        CountDownLatch end = new CountDownLatch(NUM_THREADS);
+        for (int i = 0; i < NUM_THREADS; i++) {
+            new Thread(() -> {
+                try {
+                    begin.await();
+                    for (int j = 0; j < NUM_REQUESTS; j++) {
+                        int statusCode = when().get("/slow/" + j).then().extract().statusCode();
+                        if (statusCode == 503) {
+                            numSlowErrors.incrementAndGet();
+                        }
+                    }
+                    end.countDown();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }).start();
+        }
+
+        begin.countDown();
+        int numFastErrors = 0;
+        while (end.getCount() > 0) {
+            int statusCode = when().get("/fast").then().extract().statusCode();
+            if (statusCode == 503) {
+                numFastErrors++;
+            }
+        }
+        end.await();
+
+        // at least 1/2 of all requests to the slow partition failed
+        assertThat(numSlowErrors).hasValueGreaterThanOrEqualTo(100);
+        // the default limiter is not affected by the slow partition
+        assertThat(numFastErrors).isZero();
+    }
+
+    @Path("/")
+    public static class MyResource {
+        @GET
+        @Path("/slow/{id}")
+        public String slow() throws InterruptedException {
+            Thread.sleep(100);
+            return "Hello, world!";
+        }
+
+        @GET
+        @Path("/fast")
+        public String fast() {
+            return "Hello, world!";
+        }
+    }
+}
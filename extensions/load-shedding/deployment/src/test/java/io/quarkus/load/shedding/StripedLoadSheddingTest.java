@@ -0,0 +1,102 @@
+package io.quarkus.load.shedding;
+
+import static io.restassured.RestAssured.when;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.context.Dependent;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.load.shedding.runtime.OverloadDetector;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class StripedLoadSheddingTest {
+    private static final int NUM_THREADS = 20;
+    private static final int NUM_REQUESTS = 10;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot(jar -> jar.addClasses(MyResource.class, RecordingLimit.class))
+            .overrideConfigKey("quarkus.load-shedding.initial-limit", "5")
+            .overrideConfigKey("quarkus.load-shedding.max-limit", "10")
+            .overrideConfigKey("quarkus.load-shedding.priority.enabled", "false")
+            .overrideConfigKey("quarkus.load-shedding.striped.enabled", "true")
+            .overrideConfigKey("quarkus.load-shedding.striped.window", "500ms")
+            .overrideConfigKey("quarkus.load-shedding.striped.min-samples", "5");
+
+    @Inject
+    OverloadDetector detector;
+
+    @Test
+    public void test() throws InterruptedException {
+        AtomicInteger numErrors = new AtomicInteger();
+        CountDownLatch begin = new CountDownLatch(1);
+        CountDownLatch end = new CountDownLatch(NUM_THREADS);
+        for (int i = 0; i < NUM_THREADS; i++) {
+            new Thread(() -> {
+                try {
+                    begin.await();
+                    for (int j = 0; j < NUM_REQUESTS; j++) {
+                        int statusCode = when().get("/").then().extract().statusCode();
+                        if (statusCode == 503) {
+                            numErrors.incrementAndGet();
+                        }
+                    }
+                    end.countDown();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }).start();
+        }
+
+        long start = System.nanoTime();
+        begin.countDown();
+        end.await();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // the limit stays at 5, so at least 1/2 of all requests failed
+        assertThat(detector.limiters().get(0).currentLimit()).isEqualTo(5);
+        assertThat(numErrors).hasValueGreaterThanOrEqualTo(100);
+
+        int numSuccesses = NUM_THREADS * NUM_REQUESTS - numErrors.get();
+        // the limit is updated at most once per window with the aggregate of at least 5 samples,
+        // instead of once per finished request
+        assertThat(RecordingLimit.SAMPLES).hasSizeLessThanOrEqualTo((int) (elapsedMillis / 500) + 1);
+        assertThat(RecordingLimit.SAMPLES).hasSizeLessThan(numSuccesses);
+        for (long[] sample : RecordingLimit.SAMPLES) {
+            // the average request time of the window, in microseconds
+            assertThat(sample[0]).isGreaterThanOrEqualTo(100_000);
+            // the maximum number of concurrent requests of the window
+            assertThat(sample[1]).isBetween(1L, 10L);
+        }
+    }
+
+    @Path("/")
+    public static class MyResource {
+        @GET
+        public String hello() throws InterruptedException {
+            Thread.sleep(100);
+            return "Hello, world!";
+        }
+    }
+
+    @Dependent
+    public static class RecordingLimit implements LimitAlgorithm {
+        static final List<long[]> SAMPLES = new CopyOnWriteArrayList<>();
+
+        @Override
+        public long update(long currentLimit, long requestTime, int currentRequests) {
+            SAMPLES.add(new long[] { requestTime, currentRequests });
+            return currentLimit;
+        }
+    }
+}
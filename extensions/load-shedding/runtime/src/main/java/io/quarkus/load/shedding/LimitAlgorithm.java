@@ -0,0 +1,28 @@
+package io.quarkus.load.shedding;
+
+/**
+ * Computes the limit of concurrent requests from observed request times. Built-in
+ * implementations of TCP Vegas, Gradient2 and AIMD are selected using the
+ * {@code quarkus.load-shedding.algorithm} configuration property.
+ * <p>
+ * A custom implementation may be provided as a CDI bean, in which case it is used
+ * instead of the built-in algorithms. Each limiter (the default one and one for each
+ * configured partition) obtains its own instance, so the implementation must be
+ * a {@link jakarta.enterprise.context.Dependent @Dependent} bean. The build fails if the bean
+ * has a different scope or if there are multiple such beans.
+ * <p>
+ * An implementation may be stateful and does not have to be thread-safe. The load
+ * shedding runtime guarantees that {@link #update(long, long, int)} is never invoked
+ * concurrently on a single instance.
+ */
+public interface LimitAlgorithm {
+    /**
+     * Computes a new limit from given request time sample.
+     *
+     * @param currentLimit the limit that is currently in effect
+     * @param requestTime the request time, in microseconds
+     * @param currentRequests the number of concurrent requests at the time the request finished
+     * @return the new limit, which may be equal to {@code currentLimit}
+     */
+    long update(long currentLimit, long requestTime, int currentRequests);
+}
@@ -0,0 +1,38 @@
+package io.quarkus.load.shedding.runtime;
+
+import io.quarkus.load.shedding.LimitAlgorithm;
+
+/**
+ * The AIMD (additive increase, multiplicative decrease) limit algorithm, as implemented by
+ * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * <p>
+ * The limit grows by 1 whenever a request finishes in time while the limit is being
+ * utilized, and shrinks by the backoff ratio whenever a request takes longer than
+ * the configured timeout.
+ */
+final class AimdLimit implements LimitAlgorithm {
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long timeoutInMicros;
+
+    AimdLimit(LoadSheddingRuntimeConfig.Aimd config, int minLimit, int maxLimit) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = config.backoffRatio();
+        this.timeoutInMicros = config.timeout().toNanos() / 1_000;
+    }
+
+    @Override
+    public long update(long currentLimit, long requestTime, int currentRequests) {
+        long newLimit;
+        if (requestTime > timeoutInMicros) {
+            newLimit = (long) (currentLimit * backoffRatio);
+        } else if (2L * currentRequests >= currentLimit) {
+            newLimit = currentLimit + 1;
+        } else {
+            return currentLimit;
+        }
+        return Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+}
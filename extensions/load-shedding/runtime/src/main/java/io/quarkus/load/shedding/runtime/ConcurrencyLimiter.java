@@ -0,0 +1,74 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.quarkus.load.shedding.LimitAlgorithm;
+
+/**
+ * Tracks the number of concurrent requests and their limit for a single partition
+ * (or for the whole server, if no partitions are configured).
+ * <p>
+ * By default, the limit is updated on each finished request, under a lock. When the striped
+ * mode is enabled, request times are recorded into striped, lock-free cells and the limit
+ * is updated once per sample window by whichever thread happens to close the window.
+ */
+public final class ConcurrencyLimiter {
+    private final String name;
+    private final LimitAlgorithm algorithm;
+    private final StripedSampleWindow window;
+
+    private final AtomicInteger currentRequests = new AtomicInteger();
+    private volatile long currentLimit;
+
+    ConcurrencyLimiter(String name, long initialLimit, LimitAlgorithm algorithm, StripedSampleWindow window) {
+        this.name = name;
+        this.algorithm = algorithm;
+        this.window = window;
+        this.currentLimit = initialLimit;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public boolean isOverloaded() {
+        return currentRequests.get() >= currentLimit;
+    }
+
+    public void requestBegin() {
+        currentRequests.incrementAndGet();
+    }
+
+    public void requestEnd(long timeInMicros) {
+        int current = currentRequests.getAndDecrement();
+
+        if (window != null) {
+            window.record(timeInMicros, current);
+            if (window.tryAcquire()) {
+                try {
+                    StripedSampleWindow.Sample sample = window.drain();
+                    if (sample != null) {
+                        currentLimit = algorithm.update(currentLimit, sample.averageRequestTime(),
+                                sample.maxConcurrentRequests());
+                    }
+                } finally {
+                    window.release();
+                }
+            }
+        } else {
+            update(timeInMicros, current);
+        }
+    }
+
+    public long currentLimit() {
+        return currentLimit;
+    }
+
+    public int currentRequests() {
+        return currentRequests.get();
+    }
+
+    private synchronized void update(long requestTime, int currentRequests) {
+        currentLimit = algorithm.update(currentLimit, requestTime, currentRequests);
+    }
+}
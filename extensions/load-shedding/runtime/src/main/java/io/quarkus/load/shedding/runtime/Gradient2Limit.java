@@ -0,0 +1,73 @@
+package io.quarkus.load.shedding.runtime;
+
+import io.quarkus.load.shedding.LimitAlgorithm;
+
+/**
+ * The Gradient2 limit algorithm, as implemented by
+ * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * <p>
+ * The algorithm compares a short-term request time (the last sample) with an exponentially
+ * averaged long-term request time. When the short-term request time grows above the long-term
+ * one, the limit is decreased proportionally; otherwise, it grows by a queue size allowance.
+ * <p>
+ * This class is not thread-safe. Callers must make sure that {@link #update(long, long, int)}
+ * is never invoked concurrently.
+ */
+final class Gradient2Limit implements LimitAlgorithm {
+    private static final int WARMUP_SAMPLES = 10;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double rttTolerance;
+    private final int queueSize;
+    private final double longWindowFactor;
+
+    private double estimatedLimit;
+    private double longRequestTime;
+    private int samples;
+
+    Gradient2Limit(LoadSheddingRuntimeConfig.Gradient2 config, int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = config.smoothing();
+        this.rttTolerance = config.rttTolerance();
+        this.queueSize = config.queueSize();
+        this.longWindowFactor = 2.0 / (config.longWindow() + 1);
+        this.estimatedLimit = initialLimit;
+    }
+
+    @Override
+    public long update(long currentLimit, long requestTime, int currentRequests) {
+        if (requestTime <= 0) {
+            return currentLimit;
+        }
+
+        double shortRequestTime = requestTime;
+        if (samples < WARMUP_SAMPLES) {
+            samples++;
+            longRequestTime = longRequestTime + (shortRequestTime - longRequestTime) / samples;
+        } else {
+            longRequestTime = longRequestTime * (1.0 - longWindowFactor) + shortRequestTime * longWindowFactor;
+        }
+
+        // if the long-term request time is substantially larger than the short-term one,
+        // let it decay faster, so that we recover quickly from a period of high latency
+        if (longRequestTime / shortRequestTime > 2.0) {
+            longRequestTime *= 0.95;
+        }
+
+        // don't grow the limit if the application doesn't make use of it
+        if (currentRequests < estimatedLimit / 2.0) {
+            return (long) estimatedLimit;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRequestTime / shortRequestTime));
+        double newLimit = estimatedLimit * gradient + queueSize;
+        newLimit = estimatedLimit * (1.0 - smoothing) + newLimit * smoothing;
+        newLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+
+        estimatedLimit = newLimit;
+        return (long) newLimit;
+    }
+}
@@ -21,7 +21,8 @@ public void init(@Observes @Priority(-1_000_000_000) Router router, OverloadDete
         }
 
         router.route().order(-1_000_000_000).handler(ctx -> {
-            if (detector.isOverloaded() && priority.shedLoad(ctx.request())) {
+            ConcurrencyLimiter limiter = detector.limiter(ctx.request());
+            if (limiter.isOverloaded() && priority.shedLoad(ctx.request())) {
                 HttpServerResponse response = ctx.response();
                 response.setStatusCode(HttpResponseStatus.SERVICE_UNAVAILABLE.code());
                 response.headers().add(HttpHeaderNames.CONNECTION, "close");
@@ -33,13 +34,13 @@ public void handle(Void ignored) {
                 });
                 response.end();
             } else {
-                detector.requestBegin();
+                limiter.requestBegin();
                 long start = System.nanoTime();
                 ctx.addEndHandler(new Handler<AsyncResult<Void>>() {
                     @Override
                     public void handle(AsyncResult<Void> ignored) {
                         long end = System.nanoTime();
-                        detector.requestEnd((end - start) / 1_000);
+                        limiter.requestEnd((end - start) / 1_000);
                     }
                 });
                 ctx.next();
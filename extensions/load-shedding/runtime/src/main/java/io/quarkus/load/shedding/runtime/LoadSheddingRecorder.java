@@ -0,0 +1,30 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.function.Consumer;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+@Recorder
+public class LoadSheddingRecorder {
+    /* RUNTIME_INIT for metrics */
+    public Consumer<MetricsFactory> registerMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                OverloadDetector detector = Arc.container().instance(OverloadDetector.class).get();
+                for (ConcurrencyLimiter limiter : detector.limiters()) {
+                    metricsFactory.builder("load.shedding.limit")
+                            .description("Current limit of concurrent requests")
+                            .tag("partition", limiter.name())
+                            .buildGauge(limiter, ConcurrencyLimiter::currentLimit);
+                    metricsFactory.builder("load.shedding.requests")
+                            .description("Current number of concurrent requests")
+                            .tag("partition", limiter.name())
+                            .buildGauge(limiter, ConcurrencyLimiter::currentRequests);
+                }
+            }
+        };
+    }
+}
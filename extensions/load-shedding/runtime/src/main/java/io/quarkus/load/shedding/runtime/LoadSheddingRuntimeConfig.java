@@ -1,5 +1,13 @@
 package io.quarkus.load.shedding.runtime;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import io.quarkus.load.shedding.RequestPriority;
+import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -16,12 +24,25 @@ public interface LoadSheddingRuntimeConfig {
     @WithDefault("true")
     boolean enabled();
 
+    /**
+     * The algorithm used to compute the limit of concurrent requests.
+     * Ignored if the application provides a {@code LimitAlgorithm} bean.
+     */
+    @WithDefault("vegas")
+    Algorithm algorithm();
+
     /**
      * The maximum number of concurrent requests allowed.
      */
     @WithDefault("1000")
     int maxLimit();
 
+    /**
+     * The minimum number of concurrent requests allowed.
+     */
+    @WithDefault("1")
+    int minLimit();
+
     /**
      * The {@code alpha} factor of the Vegas overload detection algorithm.
      */
@@ -36,6 +57,10 @@ public interface LoadSheddingRuntimeConfig {
 
     /**
      * The probe factor of the Vegas overload detection algorithm.
+     * <p>
+     * The lowest request time is probed again after roughly {@code probe-factor * limit} limit updates.
+     * When the striped detector is enabled, the limit is updated once per sample window,
+     * so this counts sample windows instead of requests.
      */
     @WithDefault("30.0")
     double probeFactor();
@@ -46,6 +71,29 @@ public interface LoadSheddingRuntimeConfig {
     @WithDefault("100")
     int initialLimit();
 
+    /**
+     * Configuration of the Gradient2 overload detection algorithm.
+     */
+    Gradient2 gradient2();
+
+    /**
+     * Configuration of the AIMD overload detection algorithm.
+     */
+    Aimd aimd();
+
+    /**
+     * Limiter partitions. Each partition has its own limit of concurrent requests,
+     * so that requests in one partition do not affect the limit of other partitions.
+     * Requests that do not belong to any partition share the default limiter.
+     */
+    @ConfigDocMapKey("partition-name")
+    Map<String, Partition> partitions();
+
+    /**
+     * Configuration of the striped overload detector.
+     */
+    StripedDetector striped();
+
     /**
      * Configuration of priority load shedding.
      */
@@ -59,4 +107,127 @@ interface PriorityLoadShedding {
         @WithDefault("true")
         boolean enabled();
     }
+
+    @ConfigGroup
+    interface StripedDetector {
+        /**
+         * Whether the striped overload detector should be enabled.
+         * <p>
+         * The striped detector records request times into per-core cells without any shared lock
+         * and updates the limit once per sample window, instead of on every finished request.
+         * This avoids contention on the request path of servers with many event loops.
+         * <p>
+         * Note that the limit algorithm then observes one aggregated sample per window, instead of
+         * one sample per request. Settings that count samples, such as the Vegas probe factor and
+         * the Gradient2 long window, therefore count sample windows, so the limit is probed and
+         * adjusted less often than without the striped detector. These settings may have to be
+         * lowered when the striped detector is enabled.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The minimum duration of a sample window. The limit is updated at most once per window.
+         */
+        @WithDefault("100ms")
+        Duration window();
+
+        /**
+         * The minimum number of samples in a window. If a window contains fewer samples
+         * when its duration elapses, it is extended until enough samples are collected.
+         */
+        @WithDefault("10")
+        int minSamples();
+    }
+
+    enum Algorithm {
+        /**
+         * TCP Vegas, estimates the queue size from the lowest request time seen.
+         */
+        VEGAS,
+        /**
+         * Gradient2, compares short-term and long-term request times.
+         */
+        GRADIENT2,
+        /**
+         * Additive increase, multiplicative decrease based on a request time threshold.
+         */
+        AIMD,
+    }
+
+    @ConfigGroup
+    interface Gradient2 {
+        /**
+         * The smoothing factor of limit changes, between 0 and 1. Lower values make the limit
+         * change more slowly.
+         */
+        @WithDefault("0.2")
+        double smoothing();
+
+        /**
+         * The tolerance of request time growth. Request times up to this multiple of
+         * the long-term request time do not cause the limit to decrease.
+         */
+        @WithDefault("1.5")
+        double rttTolerance();
+
+        /**
+         * The number of samples over which the long-term request time is averaged.
+         * When the striped detector is enabled, each sample window is a single sample.
+         */
+        @WithDefault("600")
+        int longWindow();
+
+        /**
+         * The number of requests by which the limit may grow in a single update.
+         */
+        @WithDefault("4")
+        int queueSize();
+    }
+
+    @ConfigGroup
+    interface Aimd {
+        /**
+         * The factor by which the limit is multiplied when a request takes longer than the timeout.
+         */
+        @WithDefault("0.9")
+        double backoffRatio();
+
+        /**
+         * The request time above which the limit is decreased.
+         */
+        @WithDefault("5s")
+        Duration timeout();
+    }
+
+    @ConfigGroup
+    interface Partition {
+        /**
+         * Route templates of requests that belong to this partition. A template consists of
+         * literal segments, path parameters such as <code>{id}</code> and an optional trailing
+         * {@code *}, which matches any remainder of the path. For example: <code>/orders/{id}/items</code>
+         * or {@code /reports/*}.
+         */
+        Optional<List<String>> paths();
+
+        /**
+         * Priorities of requests that belong to this partition.
+         * <p>
+         * If both paths and priorities are configured, a request belongs to this partition
+         * only if it matches one of the paths and has one of the priorities.
+         */
+        Optional<List<RequestPriority>> priorities();
+
+        /**
+         * The initial limit of concurrent requests allowed in this partition.
+         * If not set, {@code quarkus.load-shedding.initial-limit} is used.
+         */
+        OptionalInt initialLimit();
+
+        /**
+         * The maximum number of concurrent requests allowed in this partition.
+         * If not set, {@code quarkus.load-shedding.max-limit} is used.
+         */
+        OptionalInt maxLimit();
+    }
 }
@@ -1,109 +1,162 @@
 package io.quarkus.load.shedding.runtime;
 
-import java.util.concurrent.ThreadLocalRandom;
-import java.util.concurrent.atomic.AtomicInteger;
-
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 
+import org.jboss.logging.Logger;
+
+import io.quarkus.load.shedding.LimitAlgorithm;
+import io.quarkus.load.shedding.RequestPriority;
+import io.vertx.core.http.HttpServerRequest;
+
 /**
- * An overload detector based on TCP Vegas, as implemented by
+ * An overload detector based on an adaptive concurrency limit, as implemented by
  * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * By default, the TCP Vegas algorithm is used to compute the limit.
+ * <p>
+ * If partitions are configured, each partition has its own {@linkplain ConcurrencyLimiter limiter}.
+ * Requests that do not belong to any partition share the default limiter.
  */
 @Singleton
 public class OverloadDetector {
-    private static final int[] LOG10_PLUS_1_TABLE = new int[1_000];
-
-    static {
-        LOG10_PLUS_1_TABLE[0] = 1;
-        for (int i = 1; i < 1_000; i++) {
-            LOG10_PLUS_1_TABLE[i] = 1 + (int) Math.log10(i);
-        }
-    }
+    private static final Logger log = Logger.getLogger(OverloadDetector.class);
 
-    private final int maxLimit;
-    private final int alphaFactor;
-    private final int betaFactor;
-    private final double probeFactor;
+    static final String DEFAULT_LIMITER = "<default>";
 
-    private final AtomicInteger currentRequests = new AtomicInteger();
-    private volatile long currentLimit;
+    private final ConcurrencyLimiter defaultLimiter;
+    private final Partition[] partitions;
+    private final PriorityLoadShedding priorityLoadShedding;
 
-    private long lowestRequestTime = Long.MAX_VALUE;
-    private double probeCount = 0.0;
-    private double probeJitter;
-
-    @Inject
     public OverloadDetector(LoadSheddingRuntimeConfig config) {
-        maxLimit = config.maxLimit();
-        alphaFactor = config.alphaFactor();
-        betaFactor = config.betaFactor();
-        probeFactor = config.probeFactor();
-        currentLimit = config.initialLimit();
-        resetProbeJitter();
+        this(config, null, null);
     }
 
-    public boolean isOverloaded() {
-        return currentRequests.get() >= currentLimit;
+    @Inject
+    public OverloadDetector(LoadSheddingRuntimeConfig config, PriorityLoadShedding priorityLoadShedding,
+            Instance<LimitAlgorithm> customAlgorithm) {
+        this.priorityLoadShedding = priorityLoadShedding;
+        boolean custom = customAlgorithm != null && customAlgorithm.isResolvable();
+        defaultLimiter = createLimiter(DEFAULT_LIMITER, config, config.initialLimit(), config.maxLimit(),
+                custom ? customAlgorithm : null);
+
+        List<Partition> partitions = new ArrayList<>();
+        // sort by name to make the order of partition matching predictable
+        for (Map.Entry<String, LoadSheddingRuntimeConfig.Partition> entry : new TreeMap<>(config.partitions()).entrySet()) {
+            String name = entry.getKey();
+            LoadSheddingRuntimeConfig.Partition partitionConfig = entry.getValue();
+
+            PathTemplate[] paths = null;
+            if (partitionConfig.paths().isPresent() && !partitionConfig.paths().get().isEmpty()) {
+                paths = partitionConfig.paths().get().stream().map(PathTemplate::parse).toArray(PathTemplate[]::new);
+            }
+            Set<RequestPriority> priorities = null;
+            if (partitionConfig.priorities().isPresent() && !partitionConfig.priorities().get().isEmpty()) {
+                priorities = EnumSet.copyOf(partitionConfig.priorities().get());
+            }
+            if (paths == null && priorities == null) {
+                log.warnf("Load shedding partition '%s' declares neither paths nor priorities, ignoring", name);
+                continue;
+            }
+
+            ConcurrencyLimiter limiter = createLimiter(name, config,
+                    partitionConfig.initialLimit().orElse(config.initialLimit()),
+                    partitionConfig.maxLimit().orElse(config.maxLimit()),
+                    custom ? customAlgorithm : null);
+            partitions.add(new Partition(paths, priorities, limiter));
+        }
+        this.partitions = partitions.toArray(new Partition[0]);
     }
 
-    public void requestBegin() {
-        currentRequests.incrementAndGet();
-    }
+    private static ConcurrencyLimiter createLimiter(String name, LoadSheddingRuntimeConfig config, int initialLimit,
+            int maxLimit, Instance<LimitAlgorithm> customAlgorithm) {
+        LimitAlgorithm algorithm;
+        if (customAlgorithm != null) {
+            algorithm = customAlgorithm.get();
+        } else {
+            algorithm = switch (config.algorithm()) {
+                case VEGAS -> new VegasLimit(config, config.minLimit(), maxLimit);
+                case GRADIENT2 -> new Gradient2Limit(config.gradient2(), initialLimit, config.minLimit(), maxLimit);
+                case AIMD -> new AimdLimit(config.aimd(), config.minLimit(), maxLimit);
+            };
+        }
 
-    public void requestEnd(long timeInMicros) {
-        int current = currentRequests.getAndDecrement();
+        StripedSampleWindow window = null;
+        if (config.striped().enabled()) {
+            window = new StripedSampleWindow(config.striped().window().toNanos(), config.striped().minSamples());
+        }
 
-        update(timeInMicros, current);
+        return new ConcurrencyLimiter(name, initialLimit, algorithm, window);
     }
 
-    private synchronized void update(long requestTime, int currentRequests) {
-        probeCount++;
-        if (probeFactor * probeJitter * currentLimit <= probeCount) {
-            resetProbeJitter();
-            probeCount = 0.0;
-            lowestRequestTime = requestTime;
-            return;
+    /**
+     * Returns the limiter of the partition to which given request belongs,
+     * or the default limiter if the request doesn't belong to any partition.
+     */
+    public ConcurrencyLimiter limiter(HttpServerRequest request) {
+        if (partitions.length == 0) {
+            return defaultLimiter;
         }
 
-        if (requestTime < lowestRequestTime) {
-            lowestRequestTime = requestTime;
-            return;
+        String path = request.path();
+        RequestPriority priority = null;
+        for (Partition partition : partitions) {
+            if (partition.paths != null && !partition.matchesPath(path)) {
+                continue;
+            }
+            if (partition.priorities != null) {
+                if (priority == null) {
+                    priority = priorityLoadShedding != null ? priorityLoadShedding.priority(request)
+                            : RequestPriority.NORMAL;
+                }
+                if (!partition.priorities.contains(priority)) {
+                    continue;
+                }
+            }
+            return partition.limiter;
         }
+        return defaultLimiter;
+    }
 
-        long currentLimit = this.currentLimit;
-
-        if (2L * currentRequests < currentLimit) {
-            return;
+    /**
+     * Returns all limiters, starting with the default one.
+     */
+    public List<ConcurrencyLimiter> limiters() {
+        List<ConcurrencyLimiter> result = new ArrayList<>(partitions.length + 1);
+        result.add(defaultLimiter);
+        for (Partition partition : partitions) {
+            result.add(partition.limiter);
         }
+        return result;
+    }
 
-        int queueSize = (int) Math.ceil(currentLimit * (1.0 - (double) lowestRequestTime / (double) requestTime));
+    public boolean isOverloaded() {
+        return defaultLimiter.isOverloaded();
+    }
 
-        int currentLimitLog10Plus1;
-        if (currentLimit >= 0 && currentLimit < 1_000) {
-            currentLimitLog10Plus1 = LOG10_PLUS_1_TABLE[(int) currentLimit];
-        } else {
-            currentLimitLog10Plus1 = 1 + (int) Math.log10(currentLimit);
-        }
-        int alpha = alphaFactor * currentLimitLog10Plus1;
-        int beta = betaFactor * currentLimitLog10Plus1;
-
-        long newLimit;
-        if (queueSize <= currentLimitLog10Plus1) {
-            newLimit = currentLimit + beta;
-        } else if (queueSize < alpha) {
-            newLimit = currentLimit + currentLimitLog10Plus1;
-        } else if (queueSize > beta) {
-            newLimit = currentLimit - currentLimitLog10Plus1;
-        } else {
-            return;
-        }
+    public void requestBegin() {
+        defaultLimiter.requestBegin();
+    }
 
-        newLimit = Math.max(1, Math.min(maxLimit, newLimit));
-        this.currentLimit = newLimit;
+    public void requestEnd(long timeInMicros) {
+        defaultLimiter.requestEnd(timeInMicros);
     }
 
-    private void resetProbeJitter() {
-        probeJitter = ThreadLocalRandom.current().nextDouble(0.5, 1);
+    private record Partition(PathTemplate[] paths, Set<RequestPriority> priorities, ConcurrencyLimiter limiter) {
+        boolean matchesPath(String path) {
+            for (PathTemplate template : paths) {
+                if (template.matches(path)) {
+                    return true;
+                }
+            }
+            return false;
+        }
     }
 }
@@ -0,0 +1,83 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A route template used to assign requests to limiter partitions. Templates consist
+ * of {@code /}-separated segments, where each segment is either a literal, a path parameter
+ * (such as {@code {id}}, matching any single non-empty segment), or a trailing {@code *}
+ * (matching any remainder of the path, including an empty one).
+ * <p>
+ * Matching does not allocate.
+ */
+final class PathTemplate {
+    private final String template;
+    // `null` element represents a path parameter
+    private final String[] segments;
+    private final boolean wildcard;
+
+    private PathTemplate(String template, String[] segments, boolean wildcard) {
+        this.template = template;
+        this.segments = segments;
+        this.wildcard = wildcard;
+    }
+
+    static PathTemplate parse(String template) {
+        List<String> segments = new ArrayList<>();
+        boolean wildcard = false;
+        String[] parts = template.split("/");
+        for (int i = 0; i < parts.length; i++) {
+            String part = parts[i];
+            if (part.isEmpty()) {
+                continue;
+            }
+            if (part.equals("*")) {
+                if (i != parts.length - 1) {
+                    throw new IllegalArgumentException("Wildcard may only be present at the end of a path template: "
+                            + template);
+                }
+                wildcard = true;
+            } else if (part.startsWith("{") && part.endsWith("}")) {
+                segments.add(null);
+            } else {
+                segments.add(part);
+            }
+        }
+        return new PathTemplate(template, segments.toArray(new String[0]), wildcard);
+    }
+
+    boolean matches(String path) {
+        int length = path.length();
+        int pos = 0;
+        for (String segment : segments) {
+            while (pos < length && path.charAt(pos) == '/') {
+                pos++;
+            }
+            if (pos == length) {
+                return false;
+            }
+            int end = path.indexOf('/', pos);
+            if (end < 0) {
+                end = length;
+            }
+            if (segment != null
+                    && (end - pos != segment.length() || !path.regionMatches(pos, segment, 0, segment.length()))) {
+                return false;
+            }
+            pos = end;
+        }
+        if (wildcard) {
+            return true;
+        }
+        while (pos < length && path.charAt(pos) == '/') {
+            pos++;
+        }
+        return pos == length;
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+}
@@ -0,0 +1,95 @@
+package io.quarkus.load.shedding.runtime;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects request time samples without any shared lock. Samples are recorded into
+ * striped cells ({@link LongAdder} and {@link LongAccumulator}), so that threads running
+ * on different cores (typically different event loops) don't contend on a single
+ * memory location.
+ * <p>
+ * Once a window is complete (it is at least as long as the configured duration and
+ * contains at least the configured number of samples), exactly one of the recording
+ * threads wins the right to {@linkplain #drain() drain} it. All other threads proceed
+ * immediately, they never wait for the aggregation to finish.
+ */
+final class StripedSampleWindow {
+    private final long windowNanos;
+    private final int minSamples;
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator maxConcurrentRequests = new LongAccumulator(Math::max, 0);
+
+    private final AtomicLong windowEnd;
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    StripedSampleWindow(long windowNanos, int minSamples) {
+        this.windowNanos = windowNanos;
+        this.minSamples = minSamples;
+        this.windowEnd = new AtomicLong(System.nanoTime() + windowNanos);
+    }
+
+    /**
+     * Records a single sample.
+     *
+     * @param requestTime the request time, in microseconds
+     * @param currentRequests the number of concurrent requests at the time the request finished
+     */
+    void record(long requestTime, int currentRequests) {
+        count.increment();
+        sum.add(requestTime);
+        maxConcurrentRequests.accumulate(currentRequests);
+    }
+
+    /**
+     * Returns whether the current window is complete and the caller became responsible
+     * for draining it. If this method returns {@code true}, the caller must call
+     * {@link #drain()} and then {@link #release()}.
+     */
+    boolean tryAcquire() {
+        long end = windowEnd.get();
+        if (System.nanoTime() - end < 0) {
+            return false;
+        }
+        if (!draining.compareAndSet(false, true)) {
+            return false;
+        }
+        if (count.sum() < minSamples || !windowEnd.compareAndSet(end, System.nanoTime() + windowNanos)) {
+            draining.set(false);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Resets the window and returns its aggregate. Samples recorded concurrently with
+     * this method may be attributed to the next window, which is fine for the purpose
+     * of limit estimation.
+     * <p>
+     * May only be called after {@link #tryAcquire()} returned {@code true}.
+     */
+    Sample drain() {
+        long samples = count.sumThenReset();
+        long total = sum.sumThenReset();
+        long max = maxConcurrentRequests.getThenReset();
+        if (samples <= 0) {
+            return null;
+        }
+        return new Sample(total / samples, (int) Math.min(Integer.MAX_VALUE, max));
+    }
+
+    void release() {
+        draining.set(false);
+    }
+
+    /**
+     * @param averageRequestTime the average request time in the window, in microseconds
+     * @param maxConcurrentRequests the maximum number of concurrent requests observed in the window
+     */
+    record Sample(long averageRequestTime, int maxConcurrentRequests) {
+    }
+}
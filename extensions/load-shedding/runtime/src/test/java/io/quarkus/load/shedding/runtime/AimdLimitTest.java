@@ -0,0 +1,48 @@
+package io.quarkus.load.shedding.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+public class AimdLimitTest {
+    private static final long TIMEOUT_MICROS = 50_000;
+
+    private final AimdLimit limit = new AimdLimit(new LoadSheddingRuntimeConfig.Aimd() {
+        @Override
+        public double backoffRatio() {
+            return 0.5;
+        }
+
+        @Override
+        public Duration timeout() {
+            return Duration.ofNanos(TIMEOUT_MICROS * 1_000);
+        }
+    }, 2, 20);
+
+    @Test
+    public void additiveIncrease() {
+        // the limit is utilized
+        assertThat(limit.update(10, 1_000, 5)).isEqualTo(11);
+        assertThat(limit.update(11, TIMEOUT_MICROS, 11)).isEqualTo(12);
+    }
+
+    @Test
+    public void noIncreaseWhenNotUtilized() {
+        assertThat(limit.update(10, 1_000, 4)).isEqualTo(10);
+    }
+
+    @Test
+    public void multiplicativeDecrease() {
+        assertThat(limit.update(10, TIMEOUT_MICROS + 1, 10)).isEqualTo(5);
+        // regardless of the utilization
+        assertThat(limit.update(16, TIMEOUT_MICROS + 1, 0)).isEqualTo(8);
+    }
+
+    @Test
+    public void bounds() {
+        assertThat(limit.update(20, 1_000, 20)).isEqualTo(20);
+        assertThat(limit.update(3, TIMEOUT_MICROS + 1, 3)).isEqualTo(2);
+    }
+}
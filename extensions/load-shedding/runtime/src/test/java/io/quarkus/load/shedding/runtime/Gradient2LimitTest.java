@@ -0,0 +1,76 @@
+package io.quarkus.load.shedding.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.Test;
+
+public class Gradient2LimitTest {
+    private static final int INITIAL_LIMIT = 20;
+    private static final int MAX_LIMIT = 100;
+
+    private final Gradient2Limit limit = new Gradient2Limit(new LoadSheddingRuntimeConfig.Gradient2() {
+        @Override
+        public double smoothing() {
+            return 0.2;
+        }
+
+        @Override
+        public double rttTolerance() {
+            return 1.5;
+        }
+
+        @Override
+        public int longWindow() {
+            return 600;
+        }
+
+        @Override
+        public int queueSize() {
+            return 4;
+        }
+    }, INITIAL_LIMIT, 1, MAX_LIMIT);
+
+    @Test
+    public void growByQueueSizeWhenRequestTimeIsStable() {
+        // 20 * 0.8 + (20 * 1.0 + 4) * 0.2 = 20.8
+        assertThat(limit.update(INITIAL_LIMIT, 1_000, INITIAL_LIMIT)).isEqualTo(20);
+        // 20.8 * 0.8 + (20.8 + 4) * 0.2 = 21.6
+        assertThat(limit.update(20, 1_000, INITIAL_LIMIT)).isEqualTo(21);
+
+        long current = 21;
+        for (int i = 0; i < 1_000; i++) {
+            current = limit.update(current, 1_000, (int) current);
+        }
+        assertThat(current).isEqualTo(MAX_LIMIT);
+    }
+
+    @Test
+    public void noGrowthWhenNotUtilized() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(limit.update(INITIAL_LIMIT, 1_000, INITIAL_LIMIT / 2 - 1)).isEqualTo(INITIAL_LIMIT);
+        }
+    }
+
+    @Test
+    public void decreaseWhenRequestTimeGrows() {
+        long current = INITIAL_LIMIT;
+        for (int i = 0; i < 10; i++) {
+            current = limit.update(current, 1_000, (int) current);
+        }
+        assertThat(current).isEqualTo(28);
+
+        // the gradient is capped at 0.5: 28.0 * 0.8 + (28.0 * 0.5 + 4) * 0.2 = 26
+        long decreased = limit.update(current, 10_000, (int) current);
+        assertThat((double) decreased).isCloseTo(26, within(1.0));
+
+        // a request time within the tolerance of the long-term one grows the limit again
+        long recovered = limit.update(decreased, 1_400, (int) decreased);
+        assertThat(limit.update(recovered, 1_400, (int) recovered)).isGreaterThan(decreased);
+    }
+
+    @Test
+    public void ignoreInvalidRequestTime() {
+        assertThat(limit.update(INITIAL_LIMIT, 0, INITIAL_LIMIT)).isEqualTo(INITIAL_LIMIT);
+    }
+}
@@ -0,0 +1,47 @@
+package io.quarkus.load.shedding.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+public class PathTemplateTest {
+    @Test
+    public void literal() {
+        PathTemplate template = PathTemplate.parse("/orders/items");
+        assertThat(template.matches("/orders/items")).isTrue();
+        assertThat(template.matches("/orders/items/")).isTrue();
+        assertThat(template.matches("//orders//items")).isTrue();
+        assertThat(template.matches("/orders")).isFalse();
+        assertThat(template.matches("/orders/item")).isFalse();
+        assertThat(template.matches("/orders/itemsx")).isFalse();
+        assertThat(template.matches("/orders/items/1")).isFalse();
+    }
+
+    @Test
+    public void pathParameter() {
+        PathTemplate template = PathTemplate.parse("/orders/{id}/items");
+        assertThat(template.matches("/orders/1/items")).isTrue();
+        assertThat(template.matches("/orders/abc/items")).isTrue();
+        assertThat(template.matches("/orders/items")).isFalse();
+        assertThat(template.matches("/orders/1/2/items")).isFalse();
+        assertThat(template.matches("/orders/1")).isFalse();
+    }
+
+    @Test
+    public void wildcard() {
+        PathTemplate template = PathTemplate.parse("/reports/*");
+        assertThat(template.matches("/reports")).isTrue();
+        assertThat(template.matches("/reports/")).isTrue();
+        assertThat(template.matches("/reports/2024/01")).isTrue();
+        assertThat(template.matches("/report")).isFalse();
+        assertThat(template.matches("/other/reports")).isFalse();
+    }
+
+    @Test
+    public void wildcardOnlyAtTheEnd() {
+        assertThatThrownBy(() -> PathTemplate.parse("/reports/*/items"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("/reports/*/items");
+    }
+}
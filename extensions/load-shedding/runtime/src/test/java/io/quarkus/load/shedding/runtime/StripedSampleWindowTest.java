@@ -0,0 +1,113 @@
+package io.quarkus.load.shedding.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class StripedSampleWindowTest {
+    private static final int NUM_THREADS = 8;
+    private static final int NUM_SAMPLES = 10_000;
+
+    @Test
+    public void aggregateSamplesOfAllThreads() throws InterruptedException {
+        StripedSampleWindow window = new StripedSampleWindow(0, NUM_THREADS * NUM_SAMPLES);
+        CountDownLatch begin = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < NUM_THREADS; i++) {
+            int requestTime = (i + 1) * 100;
+            int currentRequests = i + 1;
+            Thread thread = new Thread(() -> {
+                try {
+                    begin.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                for (int j = 0; j < NUM_SAMPLES; j++) {
+                    window.record(requestTime, currentRequests);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        begin.countDown();
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+
+        assertThat(window.tryAcquire()).isTrue();
+        StripedSampleWindow.Sample sample = window.drain();
+        window.release();
+        // no sample recorded in a stripe is lost: (100 + 200 + ... + 800) / 8
+        assertThat(sample.averageRequestTime()).isEqualTo(450);
+        assertThat(sample.maxConcurrentRequests()).isEqualTo(NUM_THREADS);
+
+        // the window has been reset
+        assertThat(window.tryAcquire()).isFalse();
+    }
+
+    @Test
+    public void minSamples() {
+        StripedSampleWindow window = new StripedSampleWindow(0, 10);
+        for (int i = 0; i < 9; i++) {
+            window.record(100, 1);
+        }
+        assertThat(window.tryAcquire()).isFalse();
+
+        window.record(100, 1);
+        assertThat(window.tryAcquire()).isTrue();
+        assertThat(window.drain().averageRequestTime()).isEqualTo(100);
+        window.release();
+    }
+
+    @Test
+    public void windowDuration() {
+        StripedSampleWindow window = new StripedSampleWindow(TimeUnit.HOURS.toNanos(1), 1);
+        for (int i = 0; i < 100; i++) {
+            window.record(100, 1);
+        }
+        assertThat(window.tryAcquire()).isFalse();
+    }
+
+    @Test
+    public void singleDrainer() {
+        StripedSampleWindow window = new StripedSampleWindow(0, 1);
+        window.record(100, 1);
+        assertThat(window.tryAcquire()).isTrue();
+
+        window.record(100, 1);
+        // another thread cannot drain the window while it is being drained
+        assertThat(window.tryAcquire()).isFalse();
+        window.drain();
+        window.release();
+    }
+
+    @Test
+    public void limiterUpdatedOncePerWindow() {
+        List<long[]> updates = new ArrayList<>();
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter("test", 2, (currentLimit, requestTime, currentRequests) -> {
+            updates.add(new long[] { requestTime, currentRequests });
+            return currentLimit + 1;
+        }, new StripedSampleWindow(0, 3));
+
+        limiter.requestBegin();
+        limiter.requestBegin();
+        // the limit applies to the striped limiter too
+        assertThat(limiter.isOverloaded()).isTrue();
+        limiter.requestEnd(100);
+        limiter.requestEnd(200);
+        assertThat(updates).isEmpty();
+        assertThat(limiter.currentLimit()).isEqualTo(2);
+
+        limiter.requestBegin();
+        limiter.requestEnd(300);
+        assertThat(updates).hasSize(1);
+        assertThat(updates.get(0)).containsExactly(200, 2);
+        assertThat(limiter.currentLimit()).isEqualTo(3);
+        assertThat(limiter.isOverloaded()).isFalse();
+    }
+}
@@ -0,0 +1,145 @@
+package io.quarkus.logging.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.MDC;
+import org.jboss.logmanager.formatters.StructuredFormatter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.logging.json.runtime.AdditionalFieldConfig;
+import io.quarkus.logging.json.runtime.JsonFormatter;
+
+/**
+ * Verifies that the output of the formatter matches the output of the JSON-P based formatter.
+ */
+public class JsonFormatterOutputTest {
+
+    @AfterEach
+    public void clearMdc() {
+        MDC.clear();
+    }
+
+    @Test
+    public void sameOutputAsDelegate() {
+        JsonFormatter formatter = new JsonFormatter("level=severity");
+        org.jboss.logmanager.formatters.JsonFormatter delegate = new org.jboss.logmanager.formatters.JsonFormatter(
+                "level=severity");
+        for (StructuredFormatter.ExceptionOutputType type : StructuredFormatter.ExceptionOutputType.values()) {
+            formatter.setExceptionOutputType(type);
+            delegate.setExceptionOutputType(type);
+            ExtLogRecord record = createRecord();
+            // Format the record multiple times so that the reused generator is verified as well
+            for (int i = 0; i < 3; i++) {
+                assertThat(formatter.format(record)).isEqualTo(delegate.format(record));
+            }
+        }
+    }
+
+    @Test
+    public void excludedKeysAndAdditionalFields() throws Exception {
+        Map<String, AdditionalFieldConfig> additionalFields = new LinkedHashMap<>();
+        additionalFields.put("foo", field("42", AdditionalFieldConfig.Type.INT));
+        additionalFields.put("bar", field("b\"a\nz", AdditionalFieldConfig.Type.STRING));
+        additionalFields.put("baz", field("1234567890123", AdditionalFieldConfig.Type.LONG));
+        Set<String> excludedKeys = Set.of("sequence", "threadId", "baz");
+
+        JsonFormatter formatter = new JsonFormatter(null, excludedKeys, additionalFields);
+        formatter.setPrintDetails(true);
+        // The pretty printed output is produced by the JSON-P generator
+        JsonFormatter prettyFormatter = new JsonFormatter(null, excludedKeys, additionalFields);
+        prettyFormatter.setPrintDetails(true);
+        prettyFormatter.setPrettyPrint(true);
+
+        ExtLogRecord record = createRecord();
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode node = mapper.readTree(formatter.format(record));
+        assertThat(node).isEqualTo(mapper.readTree(prettyFormatter.format(record)));
+        assertThat(node.has("sequence")).isFalse();
+        assertThat(node.has("threadId")).isFalse();
+        assertThat(node.has("baz")).isFalse();
+        assertThat(node.get("foo").asInt()).isEqualTo(42);
+        assertThat(node.get("bar").asText()).isEqualTo("b\"a\nz");
+        assertThat(node.get("message").asText()).isEqualTo("Hello \"wor\tld\" ☃");
+        assertThat(node.get("mdc").get("trace\\Id").asText()).isEqualTo("abc\u0001");
+    }
+
+    @Test
+    public void nullMap() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        JsonFormatter formatter = new JsonFormatter() {
+            @Override
+            protected void before(StructuredFormatter.Generator generator, ExtLogRecord record) throws Exception {
+                generator.add("empty", (Map<String, ?>) null);
+                generator.add("values", values);
+            }
+        };
+        org.jboss.logmanager.formatters.JsonFormatter delegate = new org.jboss.logmanager.formatters.JsonFormatter() {
+            @Override
+            protected void before(StructuredFormatter.Generator generator, ExtLogRecord record) throws Exception {
+                generator.add("empty", (Map<String, ?>) null);
+                generator.add("values", values);
+            }
+        };
+        values.put("null", null);
+        values.put("double", 1.5d);
+        values.put("float", 2.5f);
+        ExtLogRecord record = createRecord();
+        assertThat(formatter.format(record)).contains("\"empty\":{}").isEqualTo(delegate.format(record));
+    }
+
+    @Test
+    public void nonFiniteDouble() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        JsonFormatter formatter = new JsonFormatter() {
+            @Override
+            protected void before(StructuredFormatter.Generator generator, ExtLogRecord record) throws Exception {
+                generator.add("values", values);
+            }
+        };
+        org.jboss.logmanager.formatters.JsonFormatter delegate = new org.jboss.logmanager.formatters.JsonFormatter() {
+            @Override
+            protected void before(StructuredFormatter.Generator generator, ExtLogRecord record) throws Exception {
+                generator.add("values", values);
+            }
+        };
+        ExtLogRecord record = createRecord();
+        for (double value : new double[] { Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY }) {
+            values.put("double", value);
+            // JSON-P rejects the values that are not valid JSON numbers
+            assertThatThrownBy(() -> delegate.format(record)).hasRootCauseInstanceOf(NumberFormatException.class);
+            assertThatThrownBy(() -> formatter.format(record)).hasRootCauseInstanceOf(NumberFormatException.class);
+        }
+        // The formatter is still usable
+        values.put("double", 1.0d);
+        assertThat(formatter.format(record)).isEqualTo(delegate.format(record));
+    }
+
+    private static ExtLogRecord createRecord() {
+        MDC.put("trace\\Id", "abc\u0001");
+        ExtLogRecord record = new ExtLogRecord(Level.WARNING, "Hello {0} ☃", ExtLogRecord.FormatStyle.MESSAGE_FORMAT,
+                JsonFormatterOutputTest.class.getName());
+        record.setParameters(new Object[] { "\"wor\tld\"" });
+        record.setLoggerName("io.quarkus.test");
+        record.setThrown(new IllegalStateException("boom", new IllegalArgumentException("cause")));
+        record.copyMdc();
+        return record;
+    }
+
+    private static AdditionalFieldConfig field(String value, AdditionalFieldConfig.Type type) {
+        AdditionalFieldConfig field = new AdditionalFieldConfig();
+        field.value = value;
+        field.type = type;
+        return field;
+    }
+}
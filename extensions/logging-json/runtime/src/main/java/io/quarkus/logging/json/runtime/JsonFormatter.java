@@ -1,17 +1,25 @@
 package io.quarkus.logging.json.runtime;
 
 import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
+import jakarta.json.JsonValue;
+
 import org.jboss.logmanager.ExtLogRecord;
 
 public class JsonFormatter extends org.jboss.logmanager.formatters.JsonFormatter {
 
     private Set<String> excludedKeys;
     private Map<String, AdditionalFieldConfig> additionalFields;
+    // The following fields are guarded by this, i.e. the lock used by StructuredFormatter#format()
+    private String encodedAdditionalFields;
+    private DirectJsonGenerator generator;
 
     /**
      * Creates a new JSON formatter.
@@ -21,6 +29,7 @@ public JsonFormatter() {
         super();
         this.excludedKeys = new HashSet<>();
         this.additionalFields = new HashMap<>();
+        this.encodedAdditionalFields = "";
     }
 
     /**
@@ -34,6 +43,7 @@ public JsonFormatter(final String keyOverrides) {
         super(keyOverrides);
         this.excludedKeys = new HashSet<>();
         this.additionalFields = new HashMap<>();
+        this.encodedAdditionalFields = "";
     }
 
     /**
@@ -50,32 +60,53 @@ public JsonFormatter(final String keyOverrides, final Set<String> excludedKeys,
         super(keyOverrides);
         this.excludedKeys = excludedKeys;
         this.additionalFields = additionalFields;
+        this.encodedAdditionalFields = DirectJsonGenerator.encodeFields(additionalFields, excludedKeys);
     }
 
     public Set<String> getExcludedKeys() {
         return this.excludedKeys;
     }
 
-    public void setExcludedKeys(Set<String> excludedKeys) {
+    public synchronized void setExcludedKeys(Set<String> excludedKeys) {
         this.excludedKeys = excludedKeys;
+        fieldsChanged();
     }
 
     public Map<String, AdditionalFieldConfig> getAdditionalFields() {
         return this.additionalFields;
     }
 
-    public void setAdditionalFields(Map<String, AdditionalFieldConfig> additionalFields) {
+    public synchronized void setAdditionalFields(Map<String, AdditionalFieldConfig> additionalFields) {
         this.additionalFields = additionalFields;
+        fieldsChanged();
+    }
+
+    private void fieldsChanged() {
+        this.encodedAdditionalFields = DirectJsonGenerator.encodeFields(additionalFields, excludedKeys);
+        this.generator = null;
     }
 
     @Override
     protected Generator createGenerator(final Writer writer) {
-        Generator superGenerator = super.createGenerator(writer);
-        return new FormatterJsonGenerator(superGenerator, this.excludedKeys);
+        if (isPrettyPrint()) {
+            Generator superGenerator = super.createGenerator(writer);
+            return new FormatterJsonGenerator(superGenerator, this.excludedKeys);
+        }
+        // StructuredFormatter always passes the same writer
+        DirectJsonGenerator generator = this.generator;
+        if (generator == null || !generator.isBoundTo(writer)) {
+            generator = new DirectJsonGenerator(writer, this.excludedKeys, this.encodedAdditionalFields);
+            this.generator = generator;
+        }
+        return generator;
     }
 
     @Override
     protected void after(final Generator generator, final ExtLogRecord record) throws Exception {
+        if (generator instanceof DirectJsonGenerator directGenerator) {
+            directGenerator.addAdditionalFields();
+            return;
+        }
         for (var entry : this.additionalFields.entrySet()) {
             switch (entry.getValue().type) {
                 case STRING:
@@ -91,6 +122,295 @@ protected void after(final Generator generator, final ExtLogRecord record) throw
         }
     }
 
+    /**
+     * A {@link Generator} that writes the JSON record directly to a reusable buffer.
+     * <p>
+     * Unlike the JSON-P based generator, no objects are created per record. The encoded field names are cached, i.e. the
+     * record keys, the MDC keys and the names of the additional fields are only escaped once.
+     * <p>
+     * This class is not thread-safe. The formatter only uses the generator while holding the formatter lock.
+     */
+    private static final class DirectJsonGenerator implements Generator {
+
+        // Limits the number of cached names if there are too many distinct MDC keys
+        static final int MAX_CACHED_NAMES = 512;
+
+        // The buffer is discarded if a record, e.g. with a huge stack trace, made it grow beyond this limit
+        private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+
+        private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+        private final Writer writer;
+        private final Set<String> excludedKeys;
+        private final String additionalFields;
+        private final Map<String, String> names;
+
+        private StringBuilder buffer;
+        // Whether the container at the given depth already contains an element
+        private boolean[] notEmpty;
+        private int depth;
+
+        /**
+         * Creates a new generator bound to the given writer.
+         *
+         * @param writer the target writer
+         * @param excludedKeys the keys excluded from the output
+         * @param additionalFields the pre-encoded additional fields, see {@link #encodeFields(Map, Set)}
+         */
+        DirectJsonGenerator(Writer writer, Set<String> excludedKeys, String additionalFields) {
+            this.writer = writer;
+            this.excludedKeys = excludedKeys;
+            this.additionalFields = additionalFields;
+            this.names = new HashMap<>();
+            this.buffer = new StringBuilder(1024);
+            this.notEmpty = new boolean[8];
+        }
+
+        boolean isBoundTo(Writer writer) {
+            return this.writer == writer;
+        }
+
+        @Override
+        public Generator begin() {
+            buffer.setLength(0);
+            depth = -1;
+            open('{');
+            return this;
+        }
+
+        @Override
+        public Generator add(String key, int value) {
+            if (!excludedKeys.contains(key)) {
+                name(key).append(value);
+            }
+            return this;
+        }
+
+        @Override
+        public Generator add(String key, long value) {
+            if (!excludedKeys.contains(key)) {
+                name(key).append(value);
+            }
+            return this;
+        }
+
+        @Override
+        public Generator add(String key, Map<String, ?> value) {
+            if (!excludedKeys.contains(key)) {
+                name(key);
+                // A null map is written as an empty object, like the JSON-P generator does
+                open('{');
+                if (value != null) {
+                    for (Map.Entry<String, ?> e : value.entrySet()) {
+                        appendValue(name(e.getKey()), e.getValue());
+                    }
+                }
+                close('}');
+            }
+            return this;
+        }
+
+        @Override
+        public Generator add(String key, String value) {
+            if (!excludedKeys.contains(key)) {
+                appendString(name(key), value);
+            }
+            return this;
+        }
+
+        @Override
+        public Generator startObject(String key) {
+            if (key == null) {
+                separator();
+            } else {
+                name(key);
+            }
+            open('{');
+            return this;
+        }
+
+        @Override
+        public Generator endObject() {
+            close('}');
+            return this;
+        }
+
+        @Override
+        public Generator startArray(String key) {
+            if (key == null) {
+                separator();
+            } else {
+                name(key);
+            }
+            open('[');
+            return this;
+        }
+
+        @Override
+        public Generator endArray() {
+            close(']');
+            return this;
+        }
+
+        /**
+         * Appends the pre-encoded additional fields.
+         */
+        Generator addAdditionalFields() {
+            if (!additionalFields.isEmpty()) {
+                separator();
+                buffer.append(additionalFields);
+            }
+            return this;
+        }
+
+        @Override
+        public Generator end() throws Exception {
+            close('}');
+            writer.append(buffer);
+            if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+                buffer = new StringBuilder(1024);
+            }
+            return this;
+        }
+
+        /**
+         * Encodes the additional fields so that they can be appended to each record as is.
+         *
+         * @param additionalFields the additional fields
+         * @param excludedKeys the keys excluded from the output
+         * @return the encoded fields separated by comma
+         */
+        static String encodeFields(Map<String, AdditionalFieldConfig> additionalFields, Set<String> excludedKeys) {
+            StringBuilder fields = new StringBuilder();
+            for (Map.Entry<String, AdditionalFieldConfig> e : additionalFields.entrySet()) {
+                if (excludedKeys.contains(e.getKey())) {
+                    continue;
+                }
+                if (!fields.isEmpty()) {
+                    fields.append(',');
+                }
+                appendString(fields, e.getKey()).append(':');
+                String value = e.getValue().value;
+                switch (e.getValue().type) {
+                    case STRING:
+                        appendString(fields, value);
+                        break;
+                    case INT:
+                        fields.append(Integer.parseInt(value));
+                        break;
+                    case LONG:
+                        fields.append(Long.parseLong(value));
+                        break;
+                }
+            }
+            return fields.toString();
+        }
+
+        private StringBuilder name(String key) {
+            separator();
+            String name = names.get(key);
+            if (name == null) {
+                if (names.size() >= MAX_CACHED_NAMES) {
+                    return appendString(buffer, key).append(':');
+                }
+                name = appendString(new StringBuilder(key.length() + 3), key).append(':').toString();
+                names.put(key, name);
+            }
+            return buffer.append(name);
+        }
+
+        private void separator() {
+            if (notEmpty[depth]) {
+                buffer.append(',');
+            } else {
+                notEmpty[depth] = true;
+            }
+        }
+
+        private void open(char c) {
+            buffer.append(c);
+            if (++depth == notEmpty.length) {
+                notEmpty = Arrays.copyOf(notEmpty, depth * 2);
+            }
+            notEmpty[depth] = false;
+        }
+
+        private void close(char c) {
+            buffer.append(c);
+            depth--;
+        }
+
+        private static void appendValue(StringBuilder sb, Object value) {
+            if (value == null) {
+                sb.append("null");
+            } else if (value instanceof String str) {
+                appendString(sb, str);
+            } else if (value instanceof Boolean || value instanceof Integer || value instanceof Long
+                    || value instanceof BigInteger || value instanceof BigDecimal) {
+                sb.append(value);
+            } else if (value instanceof Double d) {
+                if (!Double.isFinite(d)) {
+                    // Same as the JSON-P generator, the record is not formatted
+                    throw new NumberFormatException("double value cannot be Infinite or NaN");
+                }
+                sb.append(d.doubleValue());
+            } else if (value instanceof JsonValue json) {
+                sb.append(json);
+            } else {
+                appendString(sb, String.valueOf(value));
+            }
+        }
+
+        private static StringBuilder appendString(StringBuilder sb, String value) {
+            if (value == null) {
+                return sb.append("null");
+            }
+            sb.append('"');
+            int start = 0;
+            int length = value.length();
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                if (c >= 0x20 && c != '"' && c != '\\') {
+                    continue;
+                }
+                if (i > start) {
+                    sb.append(value, start, i);
+                }
+                start = i + 1;
+                switch (c) {
+                    case '"':
+                        sb.append("\\\"");
+                        break;
+                    case '\\':
+                        sb.append("\\\\");
+                        break;
+                    case '\b':
+                        sb.append("\\b");
+                        break;
+                    case '\f':
+                        sb.append("\\f");
+                        break;
+                    case '\n':
+                        sb.append("\\n");
+                        break;
+                    case '\r':
+                        sb.append("\\r");
+                        break;
+                    case '\t':
+                        sb.append("\\t");
+                        break;
+                    default:
+                        sb.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                }
+            }
+            if (start < length) {
+                sb.append(value, start, length);
+            }
+            return sb.append('"');
+        }
+
+    }
+
     private static class FormatterJsonGenerator implements Generator {
         private final Generator generator;
         private final Set<String> excludedKeys;
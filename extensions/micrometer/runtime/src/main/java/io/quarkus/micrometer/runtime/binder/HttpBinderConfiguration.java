@@ -7,6 +7,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
@@ -29,12 +30,21 @@
 public class HttpBinderConfiguration {
     private static final Logger log = Logger.getLogger(HttpBinderConfiguration.class);
 
+    /** Upper bound for the number of cached route templates */
+    static final int MAX_SERVER_TEMPLATES = 1024;
+
+    /** Marker for route templates that match an ignore pattern */
+    private static final String IGNORED_TEMPLATE = new String("IGNORED");
+
     boolean serverEnabled = true;
     boolean clientEnabled = true;
 
     List<Pattern> serverIgnorePatterns = Collections.emptyList();
     Map<Pattern, String> serverMatchPatterns = Collections.emptyMap();
 
+    /** Cache of server route templates: /item/{id}/ --> /item/{id} (or IGNORED_TEMPLATE) */
+    final Map<String, String> serverTemplateUris = new ConcurrentHashMap<>();
+
     List<Pattern> clientIgnorePatterns = Collections.emptyList();
     Map<Pattern, String> clientMatchPatterns = Collections.emptyMap();
 
@@ -92,6 +102,36 @@ public Map<Pattern, String> getServerMatchPatterns() {
         return serverMatchPatterns;
     }
 
+    /**
+     * Route templates can only be used for the uri tag directly if no match patterns are configured, as match patterns
+     * are applied to the request path.
+     *
+     * @return {@code true} if the uri tag may be resolved from the matched route template
+     */
+    public boolean isServerTemplateUriEnabled() {
+        return serverMatchPatterns.isEmpty();
+    }
+
+    /**
+     * Normalize and filter the route template against the ignore patterns. The result is computed once per template.
+     *
+     * @param template the route template matched for a request, e.g. {@code /item/{id}}
+     * @return final uri for tag, or null to skip measurement
+     */
+    public String getServerTemplateUri(String template) {
+        String uri = serverTemplateUris.get(template);
+        if (uri == null) {
+            uri = RequestMetricInfo.filterIgnored(RequestMetricInfo.normalizePath(template), serverIgnorePatterns);
+            if (uri == null) {
+                uri = IGNORED_TEMPLATE;
+            }
+            if (serverTemplateUris.size() < MAX_SERVER_TEMPLATES) {
+                serverTemplateUris.put(template, uri);
+            }
+        }
+        return uri == IGNORED_TEMPLATE ? null : uri;
+    }
+
     public boolean isClientEnabled() {
         return clientEnabled;
     }
@@ -194,6 +234,7 @@ public HttpBinderConfiguration update(HttpBinderConfiguration httpConfig) {
         this.serverMatchPatterns = httpConfig.serverMatchPatterns;
         this.clientIgnorePatterns = httpConfig.clientIgnorePatterns;
         this.serverIgnorePatterns = httpConfig.serverIgnorePatterns;
+        this.serverTemplateUris.clear();
         return this;
     }
 }
@@ -86,6 +86,10 @@ protected static String normalizePath(String uri) {
             return ROOT;
         }
         // Label value consistency: result should begin with a '/' and should not end with one
+        if (uri.charAt(0) == '/' && uri.charAt(uri.length() - 1) != '/' && uri.indexOf("//") < 0) {
+            // Already normalized, e.g. a route template
+            return uri;
+        }
         String workingPath = MULTIPLE_SLASH_PATTERN.matcher('/' + uri).replaceAll("/");
         workingPath = TRAILING_SLASH_PATTERN.matcher(workingPath).replaceAll("");
         if (workingPath.isEmpty()) {
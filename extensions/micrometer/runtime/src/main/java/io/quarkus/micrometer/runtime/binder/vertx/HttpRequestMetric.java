@@ -6,6 +6,7 @@
 import java.util.concurrent.atomic.LongAdder;
 import java.util.regex.Pattern;
 
+import io.quarkus.micrometer.runtime.binder.HttpBinderConfiguration;
 import io.quarkus.micrometer.runtime.binder.RequestMetricInfo;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.impl.HttpServerRequestInternal;
@@ -25,6 +26,7 @@ public class HttpRequestMetric extends RequestMetricInfo {
     private final LongAdder activeRequests;
 
     private boolean requestActive = false;
+    private boolean templated = false;
 
     public HttpRequestMetric(String uri, LongAdder activeRequests) {
         this.initialPath = uri;
@@ -44,11 +46,41 @@ public String getNormalizedUriPath(Map<Pattern, String> matchPatterns, List<Patt
         return super.getNormalizedUriPath(matchPatterns, ignorePatterns, initialPath);
     }
 
+    /**
+     * Resolve the uri tag from the route template matched for this request, if any. Configured match patterns are
+     * applied to the request path, so the request path is used instead if there are any.
+     *
+     * @param config the http binder configuration
+     * @return final uri for tag, or null to skip measurement
+     */
+    public String getNormalizedUriPath(HttpBinderConfiguration config) {
+        if (config.isServerTemplateUriEnabled() && !isCORSPreflightRequest()) {
+            String template = getRouteTemplate();
+            if (template != null) {
+                templated = true;
+                return config.getServerTemplateUri(template);
+            }
+        }
+        return getNormalizedUriPath(config.getServerMatchPatterns(), config.getServerIgnorePatterns());
+    }
+
     public String applyTemplateMatching(String path) {
+        String template = getRouteTemplate();
+        return template != null ? normalizePath(template) : path;
+    }
+
+    /**
+     * @return {@code true} if the uri tag was resolved from the matched route template
+     */
+    public boolean isTemplated() {
+        return templated;
+    }
+
+    String getRouteTemplate() {
         // JAX-RS: UrlPathTemplate set in the
         String urlTemplatePath = getUrlTemplatePath();
         if (urlTemplatePath != null) {
-            return normalizePath(urlTemplatePath);
+            return urlTemplatePath;
         }
 
         // vertx-web or reactive route: is it templated?
@@ -62,8 +94,7 @@ public String applyTemplateMatching(String path) {
                 return normalizePath(String.join("/", segments));
             });
         }
-
-        return path;
+        return null;
     }
 
     public HttpServerRequestInternal request() {
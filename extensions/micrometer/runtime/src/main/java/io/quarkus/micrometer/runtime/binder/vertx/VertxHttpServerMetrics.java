@@ -3,6 +3,8 @@
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.LongAdder;
 
 import org.jboss.logging.Logger;
@@ -49,6 +51,12 @@ public class VertxHttpServerMetrics extends VertxTcpServerMetrics
     final MeterProvider<LongTaskTimer> websocketConnectionTimer;
     final MeterProvider<Counter> pushCounter;
 
+    /** Upper bound for the number of cached timers of templated requests */
+    static final int MAX_TEMPLATED_REQUEST_TIMERS = 4096;
+
+    /** Timers of templated requests: (uri, method, status) --> Timer */
+    final Map<TimerKey, Timer> templatedRequestTimers = new ConcurrentHashMap<>();
+
     private final List<HttpServerMetricsTagsContributor> httpServerMetricsTagsContributors;
 
     VertxHttpServerMetrics(MeterRegistry registry,
@@ -163,9 +171,7 @@ public HttpRequestMetric requestBegin(LongTaskTimer.Sample sample, HttpRequest r
     public void requestReset(HttpRequestMetric requestMetric) {
         log.debugf("requestReset %s", requestMetric);
 
-        String path = requestMetric.getNormalizedUriPath(
-                config.getServerMatchPatterns(),
-                config.getServerIgnorePatterns());
+        String path = requestMetric.getNormalizedUriPath(config);
         if (path != null) {
             Timer.Sample sample = requestMetric.getSample();
 
@@ -192,11 +198,17 @@ public void requestReset(HttpRequestMetric requestMetric) {
     public void responseEnd(HttpRequestMetric requestMetric, HttpResponse response, long bytesWritten) {
         log.debugf("responseEnd %s, %s", response, requestMetric);
 
-        String path = requestMetric.getNormalizedUriPath(
-                config.getServerMatchPatterns(),
-                config.getServerIgnorePatterns());
+        String path = requestMetric.getNormalizedUriPath(config);
         if (path != null) {
             Timer.Sample sample = requestMetric.getSample();
+            if (requestMetric.isTemplated() && httpServerMetricsTagsContributors.isEmpty()) {
+                Timer timer = getTemplatedRequestTimer(path, requestMetric.request().method(), response);
+                if (timer != null) {
+                    openTelemetryContextUnwrapper.executeInContext(sample::stop, timer, requestMetric.request().context());
+                    requestMetric.requestEnded();
+                    return;
+                }
+            }
             Tags allTags = Tags.of(
                     VertxMetricsTags.method(requestMetric.request().method()),
                     HttpCommonTags.uri(path, requestMetric.initialPath, response.statusCode()),
@@ -222,6 +234,32 @@ public void responseEnd(HttpRequestMetric requestMetric, HttpResponse response,
         requestMetric.requestEnded();
     }
 
+    /**
+     * The tags of a templated request only depend on the template, the method and the status code, so the timer can be
+     * reused. 3xx and 404 responses are not cached as the uri tag also depends on the request path.
+     *
+     * @return the cached timer or {@code null} if the timer should not be cached
+     */
+    Timer getTemplatedRequestTimer(String path, HttpMethod method, HttpResponse response) {
+        int status = response != null ? response.statusCode() : 0;
+        if (status <= 0 || status / 100 == 3 || status == 404) {
+            return null;
+        }
+        TimerKey key = new TimerKey(path, method, status);
+        Timer timer = templatedRequestTimers.get(key);
+        if (timer == null) {
+            timer = requestsTimer.withTags(Tags.of(
+                    VertxMetricsTags.method(method),
+                    HttpCommonTags.uri(path, null, status),
+                    VertxMetricsTags.outcome(response),
+                    HttpCommonTags.status(status)));
+            if (templatedRequestTimers.size() < MAX_TEMPLATED_REQUEST_TIMERS) {
+                templatedRequestTimers.put(key, timer);
+            }
+        }
+        return timer;
+    }
+
     /**
      * Called when a server web socket connects.
      *
@@ -232,9 +270,7 @@ public void responseEnd(HttpRequestMetric requestMetric, HttpResponse response,
     @Override
     public LongTaskTimer.Sample connected(LongTaskTimer.Sample sample, HttpRequestMetric requestMetric,
             ServerWebSocket serverWebSocket) {
-        String path = requestMetric.getNormalizedUriPath(
-                config.getServerMatchPatterns(),
-                config.getServerIgnorePatterns());
+        String path = requestMetric.getNormalizedUriPath(config);
         if (path != null) {
             return websocketConnectionTimer
                     .withTags(Tags.of(HttpCommonTags.uri(path, requestMetric.initialPath, 0)))
@@ -256,6 +292,9 @@ public void disconnected(LongTaskTimer.Sample websocketMetric) {
         }
     }
 
+    private record TimerKey(String uri, HttpMethod method, int status) {
+    }
+
     private record DefaultContext(HttpServerRequest request) implements HttpServerMetricsTagsContributor.Context {
     }
 }
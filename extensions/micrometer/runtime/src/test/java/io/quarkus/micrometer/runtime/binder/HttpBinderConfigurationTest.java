@@ -61,4 +61,37 @@ public void testHttpServerMetricsMatchPatterns() {
         Assertions.assertEquals("/msg/{other}", entry.getValue());
         Assertions.assertTrue(entry.getKey().matcher("/msg/789").matches());
     }
+
+    @Test
+    public void testHttpServerTemplateUri() {
+        HttpServerConfig serverConfig = new HttpServerConfig();
+        serverConfig.ignorePatterns = Optional.of(new ArrayList<>(Arrays.asList("/oranges/.*")));
+
+        HttpBinderConfiguration binderConfig = new HttpBinderConfiguration(
+                true, false,
+                serverConfig, new HttpClientConfig(), new VertxConfig());
+
+        Assertions.assertTrue(binderConfig.isServerTemplateUriEnabled());
+        Assertions.assertEquals("/item/{id}", binderConfig.getServerTemplateUri("/item/{id}/"));
+        Assertions.assertEquals("/item/{id}", binderConfig.getServerTemplateUri("item//{id}"));
+        Assertions.assertNull(binderConfig.getServerTemplateUri("/oranges/{id}"));
+        // Cached
+        Assertions.assertNull(binderConfig.getServerTemplateUri("/oranges/{id}"));
+        Assertions.assertEquals(3, binderConfig.serverTemplateUris.size());
+
+        binderConfig.update(binderConfig);
+        Assertions.assertTrue(binderConfig.serverTemplateUris.isEmpty());
+    }
+
+    @Test
+    public void testHttpServerTemplateUriDisabledWithMatchPatterns() {
+        HttpServerConfig serverConfig = new HttpServerConfig();
+        serverConfig.matchPatterns = Optional.of(new ArrayList<>(Arrays.asList("/item/\\d+=/item/{id}")));
+
+        HttpBinderConfiguration binderConfig = new HttpBinderConfiguration(
+                true, false,
+                serverConfig, new HttpClientConfig(), new VertxConfig());
+
+        Assertions.assertFalse(binderConfig.isServerTemplateUriEnabled());
+    }
 }
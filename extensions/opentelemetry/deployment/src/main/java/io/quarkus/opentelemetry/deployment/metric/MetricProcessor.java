@@ -28,6 +28,7 @@
 import io.quarkus.opentelemetry.runtime.config.build.OTelBuildConfig;
 import io.quarkus.opentelemetry.runtime.metrics.cdi.MetricsProducer;
 import io.quarkus.opentelemetry.runtime.metrics.instrumentation.JvmMetricsService;
+import io.quarkus.opentelemetry.runtime.metrics.instrumentation.PreAggregatedHttpServerMetrics;
 
 @BuildSteps(onlyIf = MetricProcessor.MetricEnabled.class)
 public class MetricProcessor {
@@ -49,6 +50,7 @@ UnremovableBeanBuildItem ensureProducersAreRetained(
                 .setUnremovable()
                 .addBeanClass(MetricsProducer.class)
                 .addBeanClass(JvmMetricsService.class)
+                .addBeanClass(PreAggregatedHttpServerMetrics.class)
                 .build());
 
         IndexView index = indexBuildItem.getIndex();
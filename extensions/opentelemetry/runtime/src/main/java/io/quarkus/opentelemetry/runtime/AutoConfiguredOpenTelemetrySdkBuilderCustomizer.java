@@ -33,6 +33,7 @@
 import io.quarkus.opentelemetry.runtime.config.build.OTelBuildConfig;
 import io.quarkus.opentelemetry.runtime.config.runtime.OTelRuntimeConfig;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.tracing.RemoveableLateBoundSpanProcessor;
+import io.quarkus.opentelemetry.runtime.metrics.instrumentation.PreAggregatedHttpServerMetrics;
 import io.quarkus.opentelemetry.runtime.propagation.TextMapPropagatorCustomizer;
 import io.quarkus.opentelemetry.runtime.tracing.DelayedAttributes;
 import io.quarkus.opentelemetry.runtime.tracing.DropTargetsSampler;
@@ -253,12 +254,18 @@ public boolean test(SpanProcessor sp) {
     @Singleton
     final class MetricProviderCustomizer implements AutoConfiguredOpenTelemetrySdkBuilderCustomizer {
         private final OTelBuildConfig oTelBuildConfig;
+        private final OTelRuntimeConfig oTelRuntimeConfig;
         private final Instance<Clock> clock;
+        private final Instance<PreAggregatedHttpServerMetrics> httpServerMetrics;
 
         public MetricProviderCustomizer(OTelBuildConfig oTelBuildConfig,
-                final Instance<Clock> clock) {
+                OTelRuntimeConfig oTelRuntimeConfig,
+                final Instance<Clock> clock,
+                final Instance<PreAggregatedHttpServerMetrics> httpServerMetrics) {
             this.oTelBuildConfig = oTelBuildConfig;
+            this.oTelRuntimeConfig = oTelRuntimeConfig;
             this.clock = clock;
+            this.httpServerMetrics = httpServerMetrics;
         }
 
         @Override
@@ -273,6 +280,11 @@ public SdkMeterProviderBuilder apply(SdkMeterProviderBuilder metricProvider,
                                     throw new IllegalStateException("No Clock bean found");
                                 }
                                 metricProvider.setClock(clock.get());
+                                if (PreAggregatedHttpServerMetrics.isEnabled(oTelBuildConfig, oTelRuntimeConfig)
+                                        && httpServerMetrics.isResolvable()) {
+                                    // Merged with the SDK metrics on each collection
+                                    metricProvider.registerMetricProducer(httpServerMetrics.get());
+                                }
                                 return metricProvider;
                             }
                         });
@@ -0,0 +1,12 @@
+package io.quarkus.opentelemetry.runtime.config.runtime;
+
+public enum HttpServerMetricsMode {
+    /**
+     * Record through the OpenTelemetry Metrics API, with the attributes built for each request.
+     */
+    SDK,
+    /**
+     * Record into per-thread histogram cells bound per route, method and status, merged when the metrics are exported.
+     */
+    PRE_AGGREGATED
+}
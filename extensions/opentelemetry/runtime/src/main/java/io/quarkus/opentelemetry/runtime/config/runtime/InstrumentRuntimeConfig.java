@@ -41,4 +41,14 @@ public interface InstrumentRuntimeConfig {
      */
     @WithDefault("true")
     boolean httpServerMetrics();
+
+    /**
+     * How HTTP Server Metrics are recorded.
+     * <p>
+     * With `pre-aggregated`, the `http.server.request.duration` histogram is recorded into lock-free per-thread cells,
+     * bound once per route, method and status, and merged when the metrics are exported. The histogram always uses the
+     * cumulative temporality and the default bucket boundaries in this mode.
+     */
+    @WithDefault("sdk")
+    HttpServerMetricsMode httpServerMetricsMode();
 }
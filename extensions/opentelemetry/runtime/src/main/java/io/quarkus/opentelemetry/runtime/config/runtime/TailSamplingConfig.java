@@ -0,0 +1,82 @@
+package io.quarkus.opentelemetry.runtime.config.runtime;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigDocMapKey;
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+import io.smallrye.config.WithName;
+
+@ConfigGroup
+public interface TailSamplingConfig {
+
+    /**
+     * Enable tail sampling of the spans exported by the OTLP exporter.
+     * <p>
+     * The ended spans are buffered per trace until the local root span of the trace ends. Only then is the trace checked
+     * against the latency, error and attribute rules and, if it matches any of them, exported.
+     * <p>
+     * Tail sampling only applies to the spans sampled by the head sampler, see `quarkus.otel.traces.sampler`.
+     * <p>
+     * This is a Quarkus specific property. Tail sampling is disabled by default.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * Keep the traces containing a span that lasted at least this long.
+     */
+    @WithName("latency-threshold")
+    Optional<Duration> latencyThreshold();
+
+    /**
+     * Keep the traces containing a span with the `ERROR` status.
+     */
+    @WithDefault("true")
+    boolean errors();
+
+    /**
+     * Keep the traces containing a span with the given attribute value, for example
+     * `quarkus.otel.traces.tail-sampling.attributes."http.route"=/checkout`.
+     * <p>
+     * The attribute value is compared with its string representation.
+     */
+    @ConfigDocMapKey("attribute-name")
+    Map<String, String> attributes();
+
+    /**
+     * The maximum number of traces exported per second. The traces matching the rules above the rate are dropped.
+     */
+    @WithName("rate-limit")
+    Optional<Integer> rateLimit();
+
+    /**
+     * The maximum number of traces buffered while waiting for their local root span to end.
+     * <p>
+     * When the limit is reached, the spans of a new trace are checked one by one.
+     */
+    @WithName("max-traces")
+    @WithDefault("10000")
+    int maxTraces();
+
+    /**
+     * The maximum number of spans buffered for a single trace.
+     * <p>
+     * When the limit is reached, the decision is made with the buffered spans and applied to the spans ending afterwards.
+     */
+    @WithName("max-spans-per-trace")
+    @WithDefault("1000")
+    int maxSpansPerTrace();
+
+    /**
+     * The maximum time a trace is buffered if its local root span does not end.
+     * <p>
+     * The decision is then made with the buffered spans. It is also remembered for this period of time, so that the spans
+     * ending after the local root span follow it.
+     */
+    @WithName("decision-wait")
+    @WithDefault("30s")
+    Duration decisionWait();
+}
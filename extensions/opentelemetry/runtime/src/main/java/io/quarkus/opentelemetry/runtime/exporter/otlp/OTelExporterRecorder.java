@@ -34,6 +34,7 @@
 import io.opentelemetry.sdk.metrics.export.DefaultAggregationSelector;
 import io.opentelemetry.sdk.metrics.export.MetricExporter;
 import io.opentelemetry.sdk.metrics.internal.aggregator.AggregationUtil;
+import io.opentelemetry.sdk.trace.SpanProcessor;
 import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
 import io.opentelemetry.sdk.trace.export.BatchSpanProcessorBuilder;
 import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
@@ -43,6 +44,7 @@
 import io.quarkus.opentelemetry.runtime.config.build.OTelBuildConfig;
 import io.quarkus.opentelemetry.runtime.config.runtime.BatchSpanProcessorConfig;
 import io.quarkus.opentelemetry.runtime.config.runtime.OTelRuntimeConfig;
+import io.quarkus.opentelemetry.runtime.config.runtime.TailSamplingConfig;
 import io.quarkus.opentelemetry.runtime.config.runtime.exporter.*;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.logs.NoopLogRecordExporter;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.logs.VertxGrpcLogRecordExporter;
@@ -54,6 +56,7 @@
 import io.quarkus.opentelemetry.runtime.exporter.otlp.sender.VertxHttpSender;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.tracing.LateBoundSpanProcessor;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.tracing.RemoveableLateBoundSpanProcessor;
+import io.quarkus.opentelemetry.runtime.exporter.otlp.tracing.TailSamplingSpanProcessor;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.tracing.VertxGrpcSpanExporter;
 import io.quarkus.opentelemetry.runtime.exporter.otlp.tracing.VertxHttpSpanExporter;
 import io.quarkus.runtime.annotations.Recorder;
@@ -100,7 +103,7 @@ public LateBoundSpanProcessor apply(
 
                     if (oTelBuildConfig.simple()) {
                         SimpleSpanProcessorBuilder processorBuilder = SimpleSpanProcessor.builder(spanExporter);
-                        return new LateBoundSpanProcessor(processorBuilder.build());
+                        return new LateBoundSpanProcessor(tailSampling(processorBuilder.build()));
                     } else {
                         BatchSpanProcessorBuilder processorBuilder = BatchSpanProcessor.builder(spanExporter);
 
@@ -111,13 +114,21 @@ public LateBoundSpanProcessor apply(
                         processorBuilder.setExporterTimeout(bspc.exportTimeout());
                         // processorBuilder.setMeterProvider() // TODO add meter provider to span processor.
 
-                        return new LateBoundSpanProcessor(processorBuilder.build());
+                        return new LateBoundSpanProcessor(tailSampling(processorBuilder.build()));
                     }
                 } catch (IllegalArgumentException iae) {
                     throw new IllegalStateException("Unable to install OTLP Exporter", iae);
                 }
             }
 
+            private SpanProcessor tailSampling(SpanProcessor processor) {
+                TailSamplingConfig tailSamplingConfig = otelRuntimeConfig.traces().tailSampling();
+                if (tailSamplingConfig.enabled()) {
+                    return new TailSamplingSpanProcessor(processor, tailSamplingConfig);
+                }
+                return processor;
+            }
+
             private SpanExporter createSpanExporter(OtlpExporterRuntimeConfig exporterRuntimeConfig,
                     Vertx vertx,
                     URI baseUri,
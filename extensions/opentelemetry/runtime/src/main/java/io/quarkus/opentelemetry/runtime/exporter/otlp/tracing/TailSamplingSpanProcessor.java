@@ -0,0 +1,350 @@
+package io.quarkus.opentelemetry.runtime.exporter.otlp.tracing;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.quarkus.opentelemetry.runtime.config.runtime.TailSamplingConfig;
+
+/**
+ * A {@link SpanProcessor} deciding whether a trace is exported once the trace is complete, rather than when it starts.
+ * <p>
+ * The ended spans are buffered per trace, in a bounded map, and only handed to the delegate, usually the batch span
+ * processor of the OTLP exporter, if the trace is kept. A trace is considered complete when its local root span ends, i.e.
+ * the span without a parent or with a remote parent. It is kept if any of its spans lasted longer than the latency
+ * threshold, has the error status or has one of the configured attribute values, within the rate limit.
+ * <p>
+ * The decision is remembered for a while, so that the spans ending after the local root span follow it. A trace whose
+ * local root span does not end in time is decided with the spans buffered so far.
+ */
+public class TailSamplingSpanProcessor implements SpanProcessor {
+
+    private static final long MAX_SWEEP_PERIOD_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final SpanProcessor delegate;
+    private final Clock clock;
+    private final long latencyThresholdNanos;
+    private final boolean errors;
+    private final AttributeRule[] attributes;
+    private final RateLimiter rateLimiter;
+    private final int maxTraces;
+    private final int maxSpansPerTrace;
+    private final long decisionWaitNanos;
+    private final ConcurrentHashMap<String, TraceBuffer> traces = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Decision> decisions = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService sweeper;
+
+    public TailSamplingSpanProcessor(SpanProcessor delegate, TailSamplingConfig config) {
+        this(delegate, Clock.getDefault(),
+                config.latencyThreshold().orElse(null),
+                config.errors(),
+                config.attributes(),
+                config.rateLimit().orElse(0),
+                config.maxTraces(),
+                config.maxSpansPerTrace(),
+                config.decisionWait(),
+                true);
+    }
+
+    TailSamplingSpanProcessor(SpanProcessor delegate, Clock clock, Duration latencyThreshold, boolean errors,
+            Map<String, String> attributes, int rateLimit, int maxTraces, int maxSpansPerTrace, Duration decisionWait,
+            boolean sweep) {
+        if (maxTraces < 1 || maxSpansPerTrace < 1) {
+            throw new IllegalArgumentException("The maximum number of traces and spans per trace must be at least 1");
+        }
+        this.delegate = delegate;
+        this.clock = clock;
+        this.latencyThresholdNanos = latencyThreshold != null ? latencyThreshold.toNanos() : Long.MAX_VALUE;
+        this.errors = errors;
+        this.attributes = attributes.entrySet().stream()
+                .map(e -> new AttributeRule(e.getKey(), e.getValue()))
+                .toArray(AttributeRule[]::new);
+        this.rateLimiter = rateLimit > 0 ? new RateLimiter(rateLimit, clock) : null;
+        this.maxTraces = maxTraces;
+        this.maxSpansPerTrace = maxSpansPerTrace;
+        this.decisionWaitNanos = decisionWait.toNanos();
+        if (sweep) {
+            this.sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "quarkus-otel-tail-sampling");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long period = Math.max(1, Math.min(decisionWaitNanos, MAX_SWEEP_PERIOD_NANOS));
+            this.sweeper.scheduleAtFixedRate(this::sweep, period, period, TimeUnit.NANOSECONDS);
+        } else {
+            this.sweeper = null;
+        }
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+        delegate.onStart(parentContext, span);
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return delegate.isStartRequired();
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        SpanContext spanContext = span.getSpanContext();
+        if (!spanContext.isSampled()) {
+            return;
+        }
+        String traceId = spanContext.getTraceId();
+        boolean matches = matches(span);
+        boolean localRoot = isLocalRoot(span);
+
+        TraceBuffer buffer = traces.get(traceId);
+        if (buffer == null) {
+            // The decision and the creation of the buffer are atomic per trace, so that a span ending concurrently with
+            // the local root span either finds the decision or is added to the buffer before the trace is decided
+            boolean[] keep = new boolean[1];
+            buffer = traces.compute(traceId, (id, existing) -> {
+                if (existing != null) {
+                    return existing;
+                }
+                Decision decision = decisions.get(id);
+                if (decision != null) {
+                    keep[0] = decision.keep;
+                    return null;
+                }
+                if (localRoot || traces.size() >= maxTraces) {
+                    // Nothing else was buffered for this trace, or there is no room left to buffer it
+                    keep[0] = matches && tryAcquire();
+                    if (localRoot) {
+                        remember(id, keep[0]);
+                    }
+                    return null;
+                }
+                return new TraceBuffer(clock.nanoTime());
+            });
+            if (buffer == null) {
+                if (keep[0]) {
+                    delegate.onEnd(span);
+                }
+                return;
+            }
+        }
+
+        ReadableSpan[] kept = null;
+        synchronized (buffer) {
+            if (buffer.decided) {
+                if (!buffer.keep) {
+                    return;
+                }
+                kept = new ReadableSpan[] { span };
+            } else {
+                buffer.add(span, matches);
+                if (localRoot || buffer.size >= maxSpansPerTrace) {
+                    kept = decide(traceId, buffer);
+                }
+            }
+        }
+        export(kept);
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+        decideAll();
+        return delegate.shutdown();
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        return delegate.forceFlush();
+    }
+
+    /**
+     * Decides the traces which were buffered for longer than the decision wait and forgets the expired decisions.
+     */
+    void sweep() {
+        long now = clock.nanoTime();
+        for (Map.Entry<String, TraceBuffer> entry : traces.entrySet()) {
+            TraceBuffer buffer = entry.getValue();
+            if (now - buffer.createdNanos >= decisionWaitNanos) {
+                ReadableSpan[] kept;
+                synchronized (buffer) {
+                    kept = buffer.decided ? null : decide(entry.getKey(), buffer);
+                }
+                export(kept);
+            }
+        }
+        for (Iterator<Decision> it = decisions.values().iterator(); it.hasNext();) {
+            if (now - it.next().decidedNanos >= decisionWaitNanos) {
+                it.remove();
+            }
+        }
+    }
+
+    int bufferedTraces() {
+        return traces.size();
+    }
+
+    private void decideAll() {
+        for (Map.Entry<String, TraceBuffer> entry : traces.entrySet()) {
+            TraceBuffer buffer = entry.getValue();
+            ReadableSpan[] kept;
+            synchronized (buffer) {
+                kept = buffer.decided ? null : decide(entry.getKey(), buffer);
+            }
+            export(kept);
+        }
+    }
+
+    /**
+     * Must be called while holding the lock of the buffer.
+     *
+     * @return the spans to export, or {@code null} if the trace is dropped
+     */
+    private ReadableSpan[] decide(String traceId, TraceBuffer buffer) {
+        buffer.decided = true;
+        buffer.keep = buffer.matches && tryAcquire();
+        ReadableSpan[] spans = buffer.keep ? Arrays.copyOf(buffer.spans, buffer.size) : null;
+        buffer.spans = null;
+        // The decision must be visible before the buffer is removed, so that a late span does not start a new buffer
+        remember(traceId, buffer.keep);
+        traces.remove(traceId, buffer);
+        return spans;
+    }
+
+    private void remember(String traceId, boolean keep) {
+        if (decisions.size() < maxTraces) {
+            decisions.put(traceId, new Decision(keep, clock.nanoTime()));
+        }
+    }
+
+    private void export(ReadableSpan[] spans) {
+        if (spans != null) {
+            for (ReadableSpan span : spans) {
+                delegate.onEnd(span);
+            }
+        }
+    }
+
+    private boolean tryAcquire() {
+        return rateLimiter == null || rateLimiter.tryAcquire();
+    }
+
+    private boolean matches(ReadableSpan span) {
+        if (span.getLatencyNanos() >= latencyThresholdNanos) {
+            return true;
+        }
+        if (errors && span.toSpanData().getStatus().getStatusCode() == StatusCode.ERROR) {
+            return true;
+        }
+        for (AttributeRule rule : attributes) {
+            if (rule.matches(span)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isLocalRoot(ReadableSpan span) {
+        SpanContext parent = span.getParentSpanContext();
+        return !parent.isValid() || parent.isRemote();
+    }
+
+    private static final class TraceBuffer {
+
+        private static final int INITIAL_CAPACITY = 8;
+
+        final long createdNanos;
+        // Guarded by this
+        ReadableSpan[] spans = new ReadableSpan[INITIAL_CAPACITY];
+        int size;
+        boolean matches;
+        boolean decided;
+        boolean keep;
+
+        TraceBuffer(long createdNanos) {
+            this.createdNanos = createdNanos;
+        }
+
+        void add(ReadableSpan span, boolean matches) {
+            if (size == spans.length) {
+                spans = Arrays.copyOf(spans, size << 1);
+            }
+            spans[size++] = span;
+            this.matches |= matches;
+        }
+    }
+
+    private record AttributeRule(AttributeKey<?>[] keys, String value) {
+
+        AttributeRule(String name, String value) {
+            // The type of the attribute is not known, the value is compared with its string representation
+            this(new AttributeKey<?>[] { AttributeKey.stringKey(name), AttributeKey.longKey(name),
+                    AttributeKey.booleanKey(name), AttributeKey.doubleKey(name) }, value);
+        }
+
+        boolean matches(ReadableSpan span) {
+            for (AttributeKey<?> key : keys) {
+                Object actual = span.getAttribute(key);
+                if (actual != null) {
+                    return value.equals(String.valueOf(actual));
+                }
+            }
+            return false;
+        }
+    }
+
+    private record Decision(boolean keep, long decidedNanos) {
+    }
+
+    /**
+     * A token bucket refilled continuously, allowing a burst of up to one second worth of traces.
+     */
+    private static final class RateLimiter {
+
+        private final double tokensPerNano;
+        private final double maxTokens;
+        private final Clock clock;
+        // Guarded by this
+        private double tokens;
+        private long lastNanos;
+
+        RateLimiter(int perSecond, Clock clock) {
+            this.tokensPerNano = perSecond / (double) TimeUnit.SECONDS.toNanos(1);
+            this.maxTokens = perSecond;
+            this.clock = clock;
+            this.tokens = perSecond;
+            this.lastNanos = clock.nanoTime();
+        }
+
+        synchronized boolean tryAcquire() {
+            long now = clock.nanoTime();
+            tokens = Math.min(maxTokens, tokens + (now - lastNanos) * tokensPerNano);
+            lastNanos = now;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens--;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,416 @@
+package io.quarkus.opentelemetry.runtime.metrics.instrumentation;
+
+import static io.opentelemetry.semconv.ErrorAttributes.ERROR_TYPE;
+import static io.opentelemetry.semconv.HttpAttributes.HTTP_REQUEST_METHOD;
+import static io.opentelemetry.semconv.HttpAttributes.HTTP_RESPONSE_STATUS_CODE;
+import static io.opentelemetry.semconv.HttpAttributes.HTTP_ROUTE;
+import static io.opentelemetry.semconv.UrlAttributes.URL_SCHEME;
+import static io.quarkus.opentelemetry.runtime.config.build.OTelBuildConfig.INSTRUMENTATION_NAME;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import jakarta.inject.Singleton;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.common.AttributesBuilder;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
+import io.opentelemetry.instrumentation.api.instrumenter.OperationListener;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.metrics.data.AggregationTemporality;
+import io.opentelemetry.sdk.metrics.data.Data;
+import io.opentelemetry.sdk.metrics.data.DoubleExemplarData;
+import io.opentelemetry.sdk.metrics.data.HistogramData;
+import io.opentelemetry.sdk.metrics.data.HistogramPointData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import io.opentelemetry.sdk.metrics.data.MetricDataType;
+import io.opentelemetry.sdk.metrics.export.MetricProducer;
+import io.opentelemetry.sdk.resources.Resource;
+import io.quarkus.opentelemetry.runtime.config.build.OTelBuildConfig;
+import io.quarkus.opentelemetry.runtime.config.runtime.HttpServerMetricsMode;
+import io.quarkus.opentelemetry.runtime.config.runtime.OTelRuntimeConfig;
+
+/**
+ * Records the {@code http.server.request.duration} histogram without going through the OpenTelemetry Metrics API.
+ * <p>
+ * A series is bound once per route, method, scheme, status and error type, with its attributes built at that time. Each
+ * series records into lock-free histogram cells, one per thread stripe, so that the event loops do not contend with each
+ * other. The cells are only merged when the metrics are collected by a reader, i.e. when they are exported.
+ * <p>
+ * The histogram is cumulative and uses the bucket boundaries advised by the semantic conventions. The number of series is
+ * limited, any additional series is recorded with the {@code otel.metric.overflow} attribute, as done by the SDK.
+ * <p>
+ * The collected data implement the public {@link MetricData} interfaces; the immutable implementations of the SDK are
+ * internal. No exemplars are recorded, i.e. the points are not linked to the sampled spans of the requests.
+ */
+@Singleton
+public class PreAggregatedHttpServerMetrics implements OperationListener, MetricProducer {
+
+    static final String NAME = "http.server.request.duration";
+    static final String DESCRIPTION = "Duration of HTTP server requests.";
+    static final String UNIT = "s";
+
+    static final double[] BOUNDARIES = { 0.005, 0.01, 0.025, 0.05, 0.075, 0.1, 0.25, 0.5, 0.75, 1.0, 2.5, 5.0, 7.5, 10.0 };
+    static final int MAX_SERIES = 2000;
+
+    private static final List<Double> BOUNDARY_LIST;
+    private static final AttributeKey<Boolean> OVERFLOW = AttributeKey.booleanKey("otel.metric.overflow");
+    private static final ContextKey<State> STATE_KEY = ContextKey.named("quarkus-http-server-metrics-state");
+    private static final String NO_ROUTE = "";
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    static {
+        List<Double> boundaries = new ArrayList<>(BOUNDARIES.length);
+        for (double boundary : BOUNDARIES) {
+            boundaries.add(boundary);
+        }
+        BOUNDARY_LIST = Collections.unmodifiableList(boundaries);
+    }
+
+    private final Clock clock;
+    private final long startEpochNanos;
+    private final int stripes;
+    private final InstrumentationScopeInfo scope = InstrumentationScopeInfo.create(INSTRUMENTATION_NAME);
+    private final ConcurrentHashMap<String, Route> routes = new ConcurrentHashMap<>();
+    private final AtomicLong seriesCount = new AtomicLong();
+    private final Series overflow;
+
+    public PreAggregatedHttpServerMetrics(Clock clock) {
+        this.clock = clock;
+        this.startEpochNanos = clock.now();
+        int processors = Runtime.getRuntime().availableProcessors();
+        this.stripes = Math.min(64, processors == 1 ? 1 : Integer.highestOneBit(processors - 1) << 1);
+        this.overflow = new Series(null, null, 0, null, Attributes.of(OVERFLOW, true), stripes);
+    }
+
+    /**
+     * @return {@code true} if the HTTP server metrics should be recorded by this class rather than by the SDK
+     */
+    public static boolean isEnabled(OTelBuildConfig buildConfig, OTelRuntimeConfig runtimeConfig) {
+        return buildConfig.metrics().enabled().orElse(false)
+                && !runtimeConfig.sdkDisabled()
+                && runtimeConfig.instrument().httpServerMetrics()
+                && runtimeConfig.instrument().httpServerMetricsMode() == HttpServerMetricsMode.PRE_AGGREGATED;
+    }
+
+    @Override
+    public Context onStart(Context context, Attributes startAttributes, long startNanos) {
+        return context.with(STATE_KEY,
+                new State(startNanos, startAttributes.get(HTTP_REQUEST_METHOD), startAttributes.get(URL_SCHEME)));
+    }
+
+    @Override
+    public void onEnd(Context context, Attributes endAttributes, long endNanos) {
+        State state = context.get(STATE_KEY);
+        if (state == null) {
+            return;
+        }
+        Long status = endAttributes.get(HTTP_RESPONSE_STATUS_CODE);
+        series(endAttributes.get(HTTP_ROUTE), state.method, state.scheme, status != null ? status : 0,
+                endAttributes.get(ERROR_TYPE))
+                .record((endNanos - state.startNanos) / NANOS_PER_SECOND);
+    }
+
+    Series series(String route, String method, String scheme, long status, String errorType) {
+        String key = route != null ? route : NO_ROUTE;
+        Route r = routes.get(key);
+        if (r == null) {
+            if (seriesCount.get() >= MAX_SERIES) {
+                return overflow;
+            }
+            r = routes.computeIfAbsent(key, k -> new Route());
+        }
+        // Lock-free lookup, only a new combination is added under the route lock
+        for (Series s : r.series) {
+            if (s.matches(method, scheme, status, errorType)) {
+                return s;
+            }
+        }
+        synchronized (r) {
+            for (Series s : r.series) {
+                if (s.matches(method, scheme, status, errorType)) {
+                    return s;
+                }
+            }
+            if (seriesCount.get() >= MAX_SERIES) {
+                return overflow;
+            }
+            Series s = new Series(method, scheme, status, errorType,
+                    attributes(route, method, scheme, status, errorType), stripes);
+            Series[] series = Arrays.copyOf(r.series, r.series.length + 1);
+            series[series.length - 1] = s;
+            r.series = series;
+            seriesCount.incrementAndGet();
+            return s;
+        }
+    }
+
+    private static Attributes attributes(String route, String method, String scheme, long status, String errorType) {
+        AttributesBuilder builder = Attributes.builder();
+        if (method != null) {
+            builder.put(HTTP_REQUEST_METHOD, method);
+        }
+        if (scheme != null) {
+            builder.put(URL_SCHEME, scheme);
+        }
+        if (status > 0) {
+            builder.put(HTTP_RESPONSE_STATUS_CODE, status);
+        }
+        if (route != null) {
+            builder.put(HTTP_ROUTE, route);
+        }
+        if (errorType != null) {
+            builder.put(ERROR_TYPE, errorType);
+        }
+        return builder.build();
+    }
+
+    @Override
+    public Collection<MetricData> produce(Resource resource) {
+        long epochNanos = clock.now();
+        List<HistogramPointData> points = new ArrayList<>();
+        for (Route route : routes.values()) {
+            for (Series series : route.series) {
+                series.collect(startEpochNanos, epochNanos, points);
+            }
+        }
+        overflow.collect(startEpochNanos, epochNanos, points);
+        if (points.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Collections.singletonList(new Histogram(resource, scope, points));
+    }
+
+    private record State(long startNanos, String method, String scheme) {
+    }
+
+    private record Histogram(Resource resource, InstrumentationScopeInfo scope,
+            Collection<HistogramPointData> points) implements MetricData, HistogramData {
+
+        @Override
+        public Resource getResource() {
+            return resource;
+        }
+
+        @Override
+        public InstrumentationScopeInfo getInstrumentationScopeInfo() {
+            return scope;
+        }
+
+        @Override
+        public String getName() {
+            return NAME;
+        }
+
+        @Override
+        public String getDescription() {
+            return DESCRIPTION;
+        }
+
+        @Override
+        public String getUnit() {
+            return UNIT;
+        }
+
+        @Override
+        public MetricDataType getType() {
+            return MetricDataType.HISTOGRAM;
+        }
+
+        @Override
+        public Data<?> getData() {
+            return this;
+        }
+
+        @Override
+        public AggregationTemporality getAggregationTemporality() {
+            return AggregationTemporality.CUMULATIVE;
+        }
+
+        @Override
+        public Collection<HistogramPointData> getPoints() {
+            return points;
+        }
+    }
+
+    private record Point(long startEpochNanos, long epochNanos, Attributes attributes, double sum, long count,
+            double min, double max, List<Long> counts) implements HistogramPointData {
+
+        @Override
+        public long getStartEpochNanos() {
+            return startEpochNanos;
+        }
+
+        @Override
+        public long getEpochNanos() {
+            return epochNanos;
+        }
+
+        @Override
+        public Attributes getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public double getSum() {
+            return sum;
+        }
+
+        @Override
+        public long getCount() {
+            return count;
+        }
+
+        @Override
+        public boolean hasMin() {
+            return true;
+        }
+
+        @Override
+        public double getMin() {
+            return min;
+        }
+
+        @Override
+        public boolean hasMax() {
+            return true;
+        }
+
+        @Override
+        public double getMax() {
+            return max;
+        }
+
+        @Override
+        public List<Double> getBoundaries() {
+            return BOUNDARY_LIST;
+        }
+
+        @Override
+        public List<Long> getCounts() {
+            return counts;
+        }
+
+        @Override
+        public List<DoubleExemplarData> getExemplars() {
+            return Collections.emptyList();
+        }
+    }
+
+    private static final class Route {
+
+        // Copy-on-write, guarded by this for writes
+        volatile Series[] series = new Series[0];
+    }
+
+    static final class Series {
+
+        private final String method;
+        private final String scheme;
+        private final long status;
+        private final String errorType;
+        private final Attributes attributes;
+        private final AtomicReferenceArray<Cell> cells;
+
+        Series(String method, String scheme, long status, String errorType, Attributes attributes, int stripes) {
+            this.method = method;
+            this.scheme = scheme;
+            this.status = status;
+            this.errorType = errorType;
+            this.attributes = attributes;
+            this.cells = new AtomicReferenceArray<>(stripes);
+        }
+
+        boolean matches(String method, String scheme, long status, String errorType) {
+            return this.status == status
+                    && Objects.equals(this.method, method)
+                    && Objects.equals(this.scheme, scheme)
+                    && Objects.equals(this.errorType, errorType);
+        }
+
+        void record(double value) {
+            long id = Thread.currentThread().getId();
+            // Spread sequential thread ids
+            int index = (int) ((id * 0x9E3779B97F4A7C15L) >>> 32) & (cells.length() - 1);
+            Cell cell = cells.get(index);
+            if (cell == null) {
+                cells.compareAndSet(index, null, new Cell());
+                cell = cells.get(index);
+            }
+            cell.record(value);
+        }
+
+        void collect(long startEpochNanos, long epochNanos, List<HistogramPointData> points) {
+            long[] counts = new long[BOUNDARIES.length + 1];
+            long count = 0;
+            double sum = 0;
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < cells.length(); i++) {
+                Cell cell = cells.get(i);
+                if (cell == null) {
+                    continue;
+                }
+                for (int j = 0; j < counts.length; j++) {
+                    long c = cell.counts.get(j);
+                    counts[j] += c;
+                    count += c;
+                }
+                sum += Double.longBitsToDouble(cell.sum.get());
+                min = Math.min(min, Double.longBitsToDouble(cell.min.get()));
+                max = Math.max(max, Double.longBitsToDouble(cell.max.get()));
+            }
+            if (count == 0) {
+                return;
+            }
+            List<Long> bucketCounts = new ArrayList<>(counts.length);
+            for (long c : counts) {
+                bucketCounts.add(c);
+            }
+            points.add(new Point(startEpochNanos, epochNanos, attributes, sum, count, min, max,
+                    Collections.unmodifiableList(bucketCounts)));
+        }
+    }
+
+    static final class Cell {
+
+        final AtomicLongArray counts = new AtomicLongArray(BOUNDARIES.length + 1);
+        final AtomicLong sum = new AtomicLong(Double.doubleToRawLongBits(0.0));
+        final AtomicLong min = new AtomicLong(Double.doubleToRawLongBits(Double.POSITIVE_INFINITY));
+        final AtomicLong max = new AtomicLong(Double.doubleToRawLongBits(Double.NEGATIVE_INFINITY));
+
+        void record(double value) {
+            int bucket = 0;
+            // Upper boundaries are inclusive
+            while (bucket < BOUNDARIES.length && value > BOUNDARIES[bucket]) {
+                bucket++;
+            }
+            counts.incrementAndGet(bucket);
+            long current;
+            do {
+                current = sum.get();
+            } while (!sum.compareAndSet(current, Double.doubleToRawLongBits(Double.longBitsToDouble(current) + value)));
+            while (value < Double.longBitsToDouble(current = min.get())) {
+                if (min.compareAndSet(current, Double.doubleToRawLongBits(value))) {
+                    break;
+                }
+            }
+            while (value > Double.longBitsToDouble(current = max.get())) {
+                if (max.compareAndSet(current, Double.doubleToRawLongBits(value))) {
+                    break;
+                }
+            }
+        }
+    }
+}
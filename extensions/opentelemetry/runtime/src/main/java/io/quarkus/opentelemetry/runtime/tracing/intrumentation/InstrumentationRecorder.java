@@ -8,6 +8,7 @@
 import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.opentelemetry.runtime.config.build.OTelBuildConfig;
 import io.quarkus.opentelemetry.runtime.config.runtime.OTelRuntimeConfig;
+import io.quarkus.opentelemetry.runtime.metrics.instrumentation.PreAggregatedHttpServerMetrics;
 import io.quarkus.opentelemetry.runtime.tracing.intrumentation.vertx.EventBusInstrumenterVertxTracer;
 import io.quarkus.opentelemetry.runtime.tracing.intrumentation.vertx.HttpInstrumenterVertxTracer;
 import io.quarkus.opentelemetry.runtime.tracing.intrumentation.vertx.InstrumenterVertxTracer;
@@ -59,7 +60,9 @@ public void setupVertxTracer(BeanContainer beanContainer, boolean sqlClientAvail
         OpenTelemetry openTelemetry = beanContainer.beanInstance(OpenTelemetry.class);
         List<InstrumenterVertxTracer<?, ?>> tracers = new ArrayList<>(4);
         if (config.getValue().instrument().vertxHttp()) {
-            tracers.add(new HttpInstrumenterVertxTracer(openTelemetry, config.getValue(), buildConfig));
+            PreAggregatedHttpServerMetrics serverMetrics = PreAggregatedHttpServerMetrics.isEnabled(buildConfig,
+                    config.getValue()) ? beanContainer.beanInstance(PreAggregatedHttpServerMetrics.class) : null;
+            tracers.add(new HttpInstrumenterVertxTracer(openTelemetry, config.getValue(), buildConfig, serverMetrics));
         }
         if (config.getValue().instrument().vertxEventBus()) {
             tracers.add(new EventBusInstrumenterVertxTracer(openTelemetry, config.getValue()));
@@ -22,6 +22,7 @@
 import io.opentelemetry.instrumentation.api.instrumenter.AttributesExtractor;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.api.instrumenter.InstrumenterBuilder;
+import io.opentelemetry.instrumentation.api.instrumenter.OperationListener;
 import io.opentelemetry.instrumentation.api.instrumenter.SpanNameExtractor;
 import io.opentelemetry.instrumentation.api.semconv.http.HttpClientAttributesGetter;
 import io.opentelemetry.instrumentation.api.semconv.http.HttpServerAttributesExtractor;
@@ -57,7 +58,17 @@ public class HttpInstrumenterVertxTracer implements InstrumenterVertxTracer<Http
     public HttpInstrumenterVertxTracer(final OpenTelemetry openTelemetry,
             final OTelRuntimeConfig runtimeConfig,
             final OTelBuildConfig buildConfig) {
-        serverInstrumenter = getServerInstrumenter(openTelemetry, runtimeConfig, buildConfig);
+        this(openTelemetry, runtimeConfig, buildConfig, null);
+    }
+
+    /**
+     * @param serverMetrics records the HTTP server metrics instead of the SDK, may be {@code null}
+     */
+    public HttpInstrumenterVertxTracer(final OpenTelemetry openTelemetry,
+            final OTelRuntimeConfig runtimeConfig,
+            final OTelBuildConfig buildConfig,
+            final OperationListener serverMetrics) {
+        serverInstrumenter = getServerInstrumenter(openTelemetry, runtimeConfig, buildConfig, serverMetrics);
         clientInstrumenter = getClientInstrumenter(openTelemetry, runtimeConfig);
     }
 
@@ -142,7 +153,7 @@ public HttpRequest writableHeaders(
     }
 
     static Instrumenter<HttpRequest, HttpResponse> getServerInstrumenter(final OpenTelemetry openTelemetry,
-            final OTelRuntimeConfig runtimeConfig, final OTelBuildConfig buildConfig) {
+            final OTelRuntimeConfig runtimeConfig, final OTelBuildConfig buildConfig, final OperationListener serverMetrics) {
         final ServerAttributesExtractor serverAttributesExtractor = new ServerAttributesExtractor();
 
         final InstrumenterBuilder<HttpRequest, HttpResponse> serverBuilder = Instrumenter.builder(
@@ -161,7 +172,11 @@ static Instrumenter<HttpRequest, HttpResponse> getServerInstrumenter(final OpenT
         if (buildConfig.metrics().enabled().orElse(false) &&
                 !runtimeConfig.sdkDisabled() &&
                 runtimeConfig.instrument().httpServerMetrics()) {
-            serverBuilder.addOperationMetrics(HttpServerMetrics.get());
+            if (serverMetrics != null) {
+                serverBuilder.addOperationListener(serverMetrics);
+            } else {
+                serverBuilder.addOperationMetrics(HttpServerMetrics.get());
+            }
         }
 
         return serverBuilder.buildServerInstrumenter(new HttpRequestTextMapGetter());
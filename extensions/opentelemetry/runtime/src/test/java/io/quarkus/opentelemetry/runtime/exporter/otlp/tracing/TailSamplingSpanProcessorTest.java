@@ -0,0 +1,283 @@
+package io.quarkus.opentelemetry.runtime.exporter.otlp.tracing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.Clock;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+
+class TailSamplingSpanProcessorTest {
+
+    private static final long START_MILLIS = 1_000;
+
+    private final TestClock clock = new TestClock();
+    private final CollectingSpanProcessor collecting = new CollectingSpanProcessor();
+    private SdkTracerProvider tracerProvider;
+
+    @AfterEach
+    void close() {
+        if (tracerProvider != null) {
+            tracerProvider.close();
+        }
+    }
+
+    @Test
+    void dropsUninterestingTraces() {
+        Tracer tracer = tracer(processor(Map.of(), 0, 100));
+
+        Span root = start(tracer, null, "root");
+        start(tracer, root, "child").end(START_MILLIS + 10, TimeUnit.MILLISECONDS);
+        root.end(START_MILLIS + 20, TimeUnit.MILLISECONDS);
+
+        assertEquals(List.of(), collecting.names());
+    }
+
+    @Test
+    void keepsSlowTraces() {
+        Tracer tracer = tracer(processor(Map.of(), 0, 100));
+
+        Span root = start(tracer, null, "root");
+        start(tracer, root, "child").end(START_MILLIS + 600, TimeUnit.MILLISECONDS);
+        assertEquals(List.of(), collecting.names());
+        root.end(START_MILLIS + 700, TimeUnit.MILLISECONDS);
+
+        assertEquals(List.of("child", "root"), collecting.names());
+    }
+
+    @Test
+    void keepsErroneousTraces() {
+        Tracer tracer = tracer(processor(Map.of(), 0, 100));
+
+        Span root = start(tracer, null, "root");
+        start(tracer, root, "child").setStatus(StatusCode.ERROR).end(START_MILLIS + 10, TimeUnit.MILLISECONDS);
+        root.end(START_MILLIS + 20, TimeUnit.MILLISECONDS);
+
+        assertEquals(List.of("child", "root"), collecting.names());
+    }
+
+    @Test
+    void keepsTracesMatchingAttributes() {
+        Tracer tracer = tracer(processor(Map.of("http.response.status_code", "503"), 0, 100));
+
+        Span root = start(tracer, null, "root");
+        root.setAttribute("http.response.status_code", 200L);
+        root.end(START_MILLIS + 10, TimeUnit.MILLISECONDS);
+        assertEquals(List.of(), collecting.names());
+
+        root = start(tracer, null, "other");
+        root.setAttribute("http.response.status_code", 503L);
+        root.end(START_MILLIS + 10, TimeUnit.MILLISECONDS);
+        assertEquals(List.of("other"), collecting.names());
+    }
+
+    @Test
+    void lateSpansFollowTheDecision() {
+        Tracer tracer = tracer(processor(Map.of(), 0, 100));
+
+        Span root = start(tracer, null, "root");
+        Span child = start(tracer, root, "child");
+        root.setStatus(StatusCode.ERROR);
+        root.end(START_MILLIS + 10, TimeUnit.MILLISECONDS);
+        child.end(START_MILLIS + 20, TimeUnit.MILLISECONDS);
+
+        assertEquals(List.of("root", "child"), collecting.names());
+    }
+
+    @Test
+    void rateLimitsKeptTraces() {
+        Tracer tracer = tracer(processor(Map.of(), 2, 100));
+
+        for (int i = 0; i < 5; i++) {
+            start(tracer, null, "root-" + i).setStatus(StatusCode.ERROR).end(START_MILLIS + 10, TimeUnit.MILLISECONDS);
+        }
+        assertEquals(List.of("root-0", "root-1"), collecting.names());
+
+        clock.advance(Duration.ofMillis(500));
+        start(tracer, null, "root-5").setStatus(StatusCode.ERROR).end(START_MILLIS + 10, TimeUnit.MILLISECONDS);
+        assertEquals(List.of("root-0", "root-1", "root-5"), collecting.names());
+    }
+
+    @Test
+    void decidesIncompleteTracesAfterTheDecisionWait() {
+        TailSamplingSpanProcessor processor = processor(Map.of(), 0, 100);
+        Tracer tracer = tracer(processor);
+
+        Span root = start(tracer, null, "root");
+        start(tracer, root, "child").setStatus(StatusCode.ERROR).end(START_MILLIS + 10, TimeUnit.MILLISECONDS);
+        processor.sweep();
+        assertEquals(1, processor.bufferedTraces());
+        assertEquals(List.of(), collecting.names());
+
+        clock.advance(Duration.ofSeconds(30));
+        processor.sweep();
+        assertEquals(0, processor.bufferedTraces());
+        assertEquals(List.of("child"), collecting.names());
+
+        root.end(START_MILLIS + 20, TimeUnit.MILLISECONDS);
+        assertEquals(List.of("child", "root"), collecting.names());
+    }
+
+    @Test
+    void decidesWhenTheTraceIsTooLarge() {
+        TailSamplingSpanProcessor processor = processor(Map.of(), 0, 2);
+        Tracer tracer = tracer(processor);
+
+        Span root = start(tracer, null, "root");
+        start(tracer, root, "child-0").setStatus(StatusCode.ERROR).end(START_MILLIS + 10, TimeUnit.MILLISECONDS);
+        start(tracer, root, "child-1").end(START_MILLIS + 10, TimeUnit.MILLISECONDS);
+        assertEquals(0, processor.bufferedTraces());
+        assertEquals(List.of("child-0", "child-1"), collecting.names());
+
+        start(tracer, root, "child-2").end(START_MILLIS + 10, TimeUnit.MILLISECONDS);
+        root.end(START_MILLIS + 20, TimeUnit.MILLISECONDS);
+        assertEquals(List.of("child-0", "child-1", "child-2", "root"), collecting.names());
+    }
+
+    @Test
+    void shutdownDecidesBufferedTraces() {
+        TailSamplingSpanProcessor processor = processor(Map.of(), 0, 100);
+        Tracer tracer = tracer(processor);
+
+        Span root = start(tracer, null, "root");
+        start(tracer, root, "child").setStatus(StatusCode.ERROR).end(START_MILLIS + 10, TimeUnit.MILLISECONDS);
+        processor.shutdown();
+
+        assertEquals(List.of("child"), collecting.names());
+        assertTrue(collecting.shutdown);
+    }
+
+    @Test
+    void concurrentSpansFollowTheDecision() throws Exception {
+        int count = 500;
+        TailSamplingSpanProcessor processor = new TailSamplingSpanProcessor(collecting, clock, Duration.ofMillis(500), true,
+                Map.of(), 0, count * 2, 100, Duration.ofSeconds(30), false);
+        Tracer tracer = tracer(processor);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CyclicBarrier barrier = new CyclicBarrier(2);
+            for (int i = 0; i < count; i++) {
+                Span root = start(tracer, null, "root");
+                Span child = start(tracer, root, "child");
+                // Only the even traces are kept
+                if (i % 2 == 0) {
+                    root.setStatus(StatusCode.ERROR);
+                }
+                Future<?> rootEnd = executor.submit(() -> {
+                    barrier.await();
+                    root.end(START_MILLIS + 10, TimeUnit.MILLISECONDS);
+                    return null;
+                });
+                Future<?> childEnd = executor.submit(() -> {
+                    barrier.await();
+                    child.end(START_MILLIS + 10, TimeUnit.MILLISECONDS);
+                    return null;
+                });
+                rootEnd.get(10, TimeUnit.SECONDS);
+                childEnd.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // No child span is left in a buffer created after its trace was decided
+        assertEquals(0, processor.bufferedTraces());
+        assertEquals(count, collecting.spans.size());
+        assertEquals(count / 2, collecting.names().stream().filter("child"::equals).count());
+    }
+
+    private TailSamplingSpanProcessor processor(Map<String, String> attributes, int rateLimit, int maxSpansPerTrace) {
+        return new TailSamplingSpanProcessor(collecting, clock, Duration.ofMillis(500), true, attributes, rateLimit, 100,
+                maxSpansPerTrace, Duration.ofSeconds(30), false);
+    }
+
+    private Tracer tracer(SpanProcessor processor) {
+        tracerProvider = SdkTracerProvider.builder()
+                .addSpanProcessor(processor)
+                .setClock(clock)
+                .build();
+        return tracerProvider.get("test");
+    }
+
+    private static Span start(Tracer tracer, Span parent, String name) {
+        return tracer.spanBuilder(name)
+                .setParent(parent != null ? Context.root().with(parent) : Context.root())
+                .setStartTimestamp(START_MILLIS, TimeUnit.MILLISECONDS)
+                .startSpan();
+    }
+
+    private static final class TestClock implements Clock {
+
+        private final AtomicLong nanos = new AtomicLong(TimeUnit.SECONDS.toNanos(1));
+
+        void advance(Duration duration) {
+            nanos.addAndGet(duration.toNanos());
+        }
+
+        @Override
+        public long now() {
+            return nanos.get();
+        }
+
+        @Override
+        public long nanoTime() {
+            return nanos.get();
+        }
+    }
+
+    private static final class CollectingSpanProcessor implements SpanProcessor {
+
+        final List<ReadableSpan> spans = new CopyOnWriteArrayList<>();
+        volatile boolean shutdown;
+
+        List<String> names() {
+            return spans.stream().map(ReadableSpan::getName).toList();
+        }
+
+        @Override
+        public void onStart(Context parentContext, ReadWriteSpan span) {
+        }
+
+        @Override
+        public boolean isStartRequired() {
+            return false;
+        }
+
+        @Override
+        public void onEnd(ReadableSpan span) {
+            spans.add(span);
+        }
+
+        @Override
+        public boolean isEndRequired() {
+            return true;
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            shutdown = true;
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+}
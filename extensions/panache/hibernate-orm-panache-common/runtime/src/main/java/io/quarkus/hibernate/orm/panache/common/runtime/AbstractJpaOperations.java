@@ -2,19 +2,28 @@
 
 import static io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Stream;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.TransactionRequiredException;
+import jakarta.transaction.Status;
 import jakarta.transaction.SystemException;
 import jakarta.transaction.TransactionManager;
 
 import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.query.CommonQueryContract;
 import org.hibernate.query.MutationQuery;
 import org.hibernate.query.SelectionQuery;
@@ -25,11 +34,18 @@
 import io.quarkus.arc.InstanceHandle;
 import io.quarkus.hibernate.orm.PersistenceUnit;
 import io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil;
+import io.quarkus.hibernate.orm.runtime.session.JTAStatelessSessionOpener;
 import io.quarkus.panache.common.Parameters;
 import io.quarkus.panache.common.Sort;
+import io.quarkus.panache.hibernate.common.runtime.InsertOrder;
 import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
 
 public abstract class AbstractJpaOperations<PanacheQueryType> {
+    /**
+     * The JDBC batch size of bulk inserts when none is configured for the persistence unit.
+     */
+    static final int DEFAULT_INSERT_BATCH_SIZE = 50;
+
     private static volatile Map<String, String> entityToPersistenceUnit = Collections.emptyMap();
 
     public static void setEntityToPersistenceUnit(Map<String, String> map) {
@@ -123,6 +139,69 @@ public void persist(Stream<?> entities) {
         entities.forEach(entity -> persist(entity));
     }
 
+    public void insertAll(Iterable<?> entities) {
+        insertAll(entities.iterator());
+    }
+
+    public void insertAll(Stream<?> entities) {
+        insertAll(entities.iterator());
+    }
+
+    /**
+     * Inserts the entities with a {@link StatelessSession} joining the current transaction, in JDBC batches of the batch
+     * size configured for the persistence unit. The entities are read and inserted one batch at a time, each batch being
+     * ordered by entity type and executed before the next one is read, so that the memory used does not depend on the
+     * number of entities.
+     */
+    private void insertAll(Iterator<?> entities) {
+        if (!entities.hasNext()) {
+            return;
+        }
+        checkTransaction();
+        Object first = entities.next();
+        String persistenceUnitName = entityToPersistenceUnit.get(first.getClass().getName());
+        SessionFactory sessionFactory = getSession(persistenceUnitName).getSessionFactory();
+        int configuredBatchSize = sessionFactory.unwrap(SessionFactoryImplementor.class).getSessionFactoryOptions()
+                .getJdbcBatchSize();
+        int batchSize = configuredBatchSize > 1 ? configuredBatchSize : DEFAULT_INSERT_BATCH_SIZE;
+        InsertOrder order = new InsertOrder(sessionFactory.getMetamodel());
+        List<Object> batch = new ArrayList<>(batchSize);
+        batch.add(first);
+        try (StatelessSession session = JTAStatelessSessionOpener.create(sessionFactory).openSession()) {
+            session.setJdbcBatchSize(batchSize);
+            do {
+                while (batch.size() < batchSize && entities.hasNext()) {
+                    Object entity = entities.next();
+                    String entityPersistenceUnitName = entityToPersistenceUnit.get(entity.getClass().getName());
+                    if (!Objects.equals(persistenceUnitName, entityPersistenceUnitName)) {
+                        throw new IllegalArgumentException("All the entities inserted at once must belong to the same"
+                                + " persistence unit, but " + first.getClass().getName() + " belongs to '"
+                                + persistenceUnitName + "' and " + entity.getClass().getName() + " belongs to '"
+                                + entityPersistenceUnitName + "'");
+                    }
+                    batch.add(entity);
+                }
+                order.sort(batch);
+                for (Object entity : batch) {
+                    session.insert(entity);
+                }
+                ((SharedSessionContractImplementor) session).getJdbcCoordinator().executeBatch();
+                batch.clear();
+            } while (entities.hasNext());
+        }
+    }
+
+    private static void checkTransaction() {
+        try {
+            if (getTransactionManager().getStatus() != Status.STATUS_ACTIVE) {
+                throw new TransactionRequiredException("Transaction is not active, consider adding @Transactional to your"
+                        + " method to automatically activate one.");
+            }
+        } catch (SystemException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     public void delete(Object entity) {
         Session session = getSession(entity.getClass());
         session.remove(session.contains(entity) ? entity : session.getReference(entity));
@@ -294,13 +373,13 @@ public Stream<?> stream(Class<?> entityClass, String panacheQuery, Sort sort, Pa
     }
 
     public PanacheQueryType findAll(Class<?> entityClass) {
-        String query = "FROM " + PanacheJpaUtil.getEntityName(entityClass);
+        String query = PanacheJpaUtil.createFindQuery(entityClass, null, 0);
         Session session = getSession(entityClass);
         return createPanacheQuery(session, query, null, null, null);
     }
 
     public PanacheQueryType findAll(Class<?> entityClass, Sort sort) {
-        String query = "FROM " + PanacheJpaUtil.getEntityName(entityClass);
+        String query = PanacheJpaUtil.createFindQuery(entityClass, null, 0);
         Session session = getSession(entityClass);
         return createPanacheQuery(session, query, null, PanacheJpaUtil.toOrderBy(sort), null);
     }
@@ -323,7 +402,7 @@ public Stream<?> streamAll(Class<?> entityClass, Sort sort) {
 
     public long count(Class<?> entityClass) {
         return getSession(entityClass)
-                .createSelectionQuery("FROM " + PanacheJpaUtil.getEntityName(entityClass), entityClass)
+                .createSelectionQuery(PanacheJpaUtil.createFindQuery(entityClass, null, 0), entityClass)
                 .getResultCount();
     }
 
@@ -396,7 +475,7 @@ public boolean exists(Class<?> entityClass, String query, Parameters params) {
     }
 
     public long deleteAll(Class<?> entityClass) {
-        return getSession(entityClass).createMutationQuery("DELETE FROM " + PanacheJpaUtil.getEntityName(entityClass))
+        return getSession(entityClass).createMutationQuery(PanacheJpaUtil.createDeleteQuery(entityClass, null, 0))
                 .executeUpdate();
     }
 
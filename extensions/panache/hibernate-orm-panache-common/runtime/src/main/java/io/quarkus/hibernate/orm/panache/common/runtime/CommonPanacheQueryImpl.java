@@ -10,8 +10,12 @@
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import jakarta.persistence.LockModeType;
 
@@ -25,6 +29,7 @@
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Range;
 import io.quarkus.panache.common.exception.PanacheQueryException;
+import io.quarkus.panache.hibernate.common.runtime.KeysetQuery;
 import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
 
 public class CommonPanacheQueryImpl<Entity> {
@@ -69,6 +74,10 @@ public void close() {
     private Map<String, Map<String, Object>> filters;
     private Class<?> projectionType;
 
+    private Object[] keyset;
+    private Integer fetchSize;
+    private int clearInterval;
+
     public CommonPanacheQueryImpl(Session session, String query, String originalQuery, String orderBy,
             Object paramsArrayOrMap) {
         this.session = session;
@@ -93,6 +102,9 @@ private CommonPanacheQueryImpl(CommonPanacheQueryImpl<?> previousQuery, String n
         this.hints = previousQuery.hints;
         this.filters = previousQuery.filters;
         this.projectionType = projectionType;
+        this.keyset = previousQuery.keyset;
+        this.fetchSize = previousQuery.fetchSize;
+        this.clearInterval = previousQuery.clearInterval;
     }
 
     // Builder
@@ -201,37 +213,37 @@ public void page(int pageIndex, int pageSize) {
     }
 
     public void nextPage() {
-        checkPagination();
+        checkIndexedPagination();
         page(page.next());
     }
 
     public void previousPage() {
-        checkPagination();
+        checkIndexedPagination();
         page(page.previous());
     }
 
     public void firstPage() {
-        checkPagination();
+        checkIndexedPagination();
         page(page.first());
     }
 
     public void lastPage() {
-        checkPagination();
+        checkIndexedPagination();
         page(page.index(pageCount() - 1));
     }
 
     public boolean hasNextPage() {
-        checkPagination();
+        checkIndexedPagination();
         return page.index < (pageCount() - 1);
     }
 
     public boolean hasPreviousPage() {
-        checkPagination();
+        checkIndexedPagination();
         return page.index > 0;
     }
 
     public int pageCount() {
-        checkPagination();
+        checkIndexedPagination();
         long count = count();
         if (count == 0)
             return 1; // a single page of zero results
@@ -254,12 +266,40 @@ private void checkPagination() {
         }
     }
 
+    private void checkIndexedPagination() {
+        checkPagination();
+        if (keyset != null) {
+            // The position of the page is given by the sort key, its index is meaningless
+            throw new UnsupportedOperationException("Cannot call a page index related method in a keyset query, " +
+                    "use after(Object...) to move to the next page");
+        }
+    }
+
     public void range(int startIndex, int lastIndex) {
         this.range = Range.of(startIndex, lastIndex);
         // reset the page to its default to be able to switch from page to range
         this.page = null;
     }
 
+    public void after(Object... lastSortKey) {
+        KeysetQuery.checkSortKey(orderBy, lastSortKey);
+        this.keyset = lastSortKey;
+    }
+
+    public void withFetchSize(int fetchSize) {
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("The fetch size must be at least 1");
+        }
+        this.fetchSize = fetchSize;
+    }
+
+    public void withSessionClearing(int interval) {
+        if (interval < 0) {
+            throw new IllegalArgumentException("The session clearing interval must be positive, or 0 to disable it");
+        }
+        this.clearInterval = interval;
+    }
+
     public void withLock(LockModeType lockModeType) {
         this.lockModeType = lockModeType;
     }
@@ -285,7 +325,8 @@ public long count() {
                     count = countQuery.getSingleResult();
                 }
             } else {
-                SelectionQuery<?> query = createBaseQuery();
+                // The count is the one of the whole query, whatever the current keyset
+                SelectionQuery<?> query = createBaseQuery(false);
                 try (NonThrowingCloseable c = applyFilters()) {
                     count = query.getResultCount();
                 }
@@ -306,10 +347,35 @@ public <T extends Entity> List<T> list() {
     public <T extends Entity> Stream<T> stream() {
         SelectionQuery hibernateQuery = createQuery();
         try (NonThrowingCloseable c = applyFilters()) {
-            return hibernateQuery.getResultStream();
+            Stream<T> stream = hibernateQuery.getResultStream();
+            return clearInterval > 0 ? clearingSessionEvery(stream, clearInterval) : stream;
         }
     }
 
+    /**
+     * Clears the session once every {@code interval} results, after the result went through the stream pipeline, so that
+     * the persistence context does not grow with the number of results.
+     */
+    private <T> Stream<T> clearingSessionEvery(Stream<T> stream, int interval) {
+        Spliterator<T> results = stream.spliterator();
+        Spliterator<T> clearing = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED) {
+            private int count;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                if (!results.tryAdvance(action)) {
+                    return false;
+                }
+                if (++count == interval) {
+                    count = 0;
+                    session.clear();
+                }
+                return true;
+            }
+        };
+        return StreamSupport.stream(clearing, false).onClose(stream::close);
+    }
+
     public <T extends Entity> T firstResult() {
         SelectionQuery hibernateQuery = createQuery(1);
         try (NonThrowingCloseable c = applyFilters()) {
@@ -350,7 +416,8 @@ private SelectionQuery createQuery() {
             // range is 0 based, so we add 1
             hibernateQuery.setMaxResults(range.getLastIndex() - range.getStartIndex() + 1);
         } else if (page != null) {
-            hibernateQuery.setFirstResult(page.index * page.size);
+            // With a keyset, the page is where the keyset points to, only its size is used
+            hibernateQuery.setFirstResult(keyset != null ? 0 : page.index * page.size);
             hibernateQuery.setMaxResults(page.size);
         } else {
             //no-op
@@ -365,7 +432,7 @@ private SelectionQuery createQuery(int maxResults) {
         if (range != null) {
             hibernateQuery.setFirstResult(range.getStartIndex());
         } else if (page != null) {
-            hibernateQuery.setFirstResult(page.index * page.size);
+            hibernateQuery.setFirstResult(keyset != null ? 0 : page.index * page.size);
         } else {
             //no-op
         }
@@ -374,10 +441,23 @@ private SelectionQuery createQuery(int maxResults) {
         return hibernateQuery;
     }
 
-    @SuppressWarnings("unchecked")
     private SelectionQuery createBaseQuery() {
+        return createBaseQuery(true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private SelectionQuery createBaseQuery(boolean applyKeyset) {
         SelectionQuery hibernateQuery;
-        if (PanacheJpaUtil.isNamedQuery(query)) {
+        Object params = paramsArrayOrMap;
+        if (applyKeyset && keyset != null) {
+            KeysetQuery keysetQuery = KeysetQuery.of(query, orderBy, paramsArrayOrMap, keyset);
+            try {
+                hibernateQuery = session.createSelectionQuery(keysetQuery.query(), projectionType);
+            } catch (RuntimeException x) {
+                throw NamedQueryUtil.checkForNamedQueryMistake(x, originalQuery);
+            }
+            params = keysetQuery.params();
+        } else if (PanacheJpaUtil.isNamedQuery(query)) {
             String namedQuery = query.substring(1);
             hibernateQuery = session.createNamedSelectionQuery(namedQuery, projectionType);
         } else {
@@ -388,10 +468,14 @@ private SelectionQuery createBaseQuery() {
             }
         }
 
-        if (paramsArrayOrMap instanceof Map) {
-            AbstractJpaOperations.bindParameters(hibernateQuery, (Map<String, Object>) paramsArrayOrMap);
+        if (params instanceof Map) {
+            AbstractJpaOperations.bindParameters(hibernateQuery, (Map<String, Object>) params);
         } else {
-            AbstractJpaOperations.bindParameters(hibernateQuery, (Object[]) paramsArrayOrMap);
+            AbstractJpaOperations.bindParameters(hibernateQuery, (Object[]) params);
+        }
+
+        if (fetchSize != null) {
+            hibernateQuery.setFetchSize(fetchSize);
         }
 
         if (this.lockModeType != null) {
@@ -0,0 +1,73 @@
+package io.quarkus.hibernate.orm.panache.kotlin.deployment.test.insert
+
+import io.quarkus.narayana.jta.QuarkusTransaction
+import io.quarkus.test.QuarkusUnitTest
+import jakarta.inject.Inject
+import jakarta.persistence.TransactionRequiredException
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertNotNull
+import org.junit.jupiter.api.Assertions.assertThrows
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.RegisterExtension
+
+class InsertAllTest {
+    @Inject
+    lateinit var repository: InsertEntityRepository
+
+    @Test
+    fun testCompanionInsertAll() {
+        val entities = (0 until 10).map { InsertEntity("entity-$it") }
+
+        QuarkusTransaction.requiringNew().run {
+            InsertEntity.deleteAll()
+            InsertEntity.insertAll(entities)
+
+            // The batches were executed, and the entities were never attached to the session
+            assertEquals(10L, InsertEntity.count())
+            for (entity in entities) {
+                assertNotNull(entity.id)
+                assertFalse(entity.isPersistent())
+            }
+            assertEquals("entity-3", InsertEntity.findById(entities[3].id!!)!!.name)
+        }
+    }
+
+    @Test
+    fun testRepositoryInsertAll() {
+        val entities = (0 until 10).map { InsertEntity("entity-$it") }
+
+        QuarkusTransaction.requiringNew().run {
+            repository.deleteAll()
+            repository.insertAll(entities.stream())
+            repository.insertAll(listOf(InsertEntity("entity-10")))
+
+            assertEquals(11L, repository.count())
+            for (entity in entities) {
+                assertNotNull(entity.id)
+                assertFalse(repository.isPersistent(entity))
+            }
+        }
+    }
+
+    @Test
+    fun testInsertAllRequiresTransaction() {
+        assertThrows(TransactionRequiredException::class.java) {
+            InsertEntity.insertAll(listOf(InsertEntity("entity")))
+        }
+        assertThrows(TransactionRequiredException::class.java) {
+            repository.insertAll(listOf(InsertEntity("entity")))
+        }
+    }
+
+    companion object {
+        @RegisterExtension
+        @JvmField
+        val runner = QuarkusUnitTest()
+            .withApplicationRoot { jar ->
+                jar.addAsResource("application-test.properties", "application.properties")
+                    .addClasses(InsertEntity::class.java, InsertEntityRepository::class.java)
+            }
+            .overrideConfigKey("quarkus.hibernate-orm.jdbc.statement-batch-size", "4")
+    }
+}
@@ -0,0 +1,16 @@
+package io.quarkus.hibernate.orm.panache.kotlin.deployment.test.insert
+
+import io.quarkus.hibernate.orm.panache.kotlin.PanacheCompanion
+import io.quarkus.hibernate.orm.panache.kotlin.PanacheEntity
+import jakarta.persistence.Entity
+
+@Entity
+class InsertEntity() : PanacheEntity() {
+    companion object : PanacheCompanion<InsertEntity>
+
+    lateinit var name: String
+
+    constructor(name: String) : this() {
+        this.name = name
+    }
+}
@@ -133,6 +133,43 @@ fun page(): Page
      */
     fun range(startIndex: Int, lastIndex: Int): PanacheQuery<Entity>
 
+    /**
+     * Switch the query to keyset (seek) pagination: only the results sorted after the given sort key are returned.
+     *
+     * Rather than skipping the results of the previous pages, as done by [page], the database seeks directly to the given
+     * sort key, which keeps deep pages as fast as the first one. The query must be created with a
+     * [io.quarkus.panache.common.Sort], and the sort key holds the values of its columns for the last result of the previous
+     * page, in the same order. The sort columns must not be nullable and must identify a result uniquely, typically by
+     * ending with the identifier.
+     *
+     * If a page is set, only its size is used: the page index is ignored. The sort key does not apply to [count].
+     *
+     * @param lastSortKey the values of the sort columns for the last result of the previous page
+     * @return this query, modified
+     */
+    fun after(vararg lastSortKey: Any): PanacheQuery<Entity>
+
+    /**
+     * Set the JDBC fetch size, i.e. the number of rows fetched from the database in one round-trip while iterating over
+     * the results. This is mostly useful with [stream], to read large results without loading them at once.
+     *
+     * @param fetchSize the JDBC fetch size
+     * @return this query, modified
+     */
+    fun withFetchSize(fetchSize: Int): PanacheQuery<Entity>
+
+    /**
+     * Clear the session every `interval` results obtained with [stream], so that the persistence context does not grow
+     * with the number of results and large exports run in constant memory.
+     *
+     * WARNING: clearing the session detaches all its entities, including the ones loaded outside of this query, and
+     * discards their pending changes. The results must not be used once they went through the stream pipeline.
+     *
+     * @param interval the number of results after which the session is cleared, or 0 to never clear it
+     * @return this query, modified
+     */
+    fun withSessionClearing(interval: Int): PanacheQuery<Entity>
+
     /**
      * Define the locking strategy used for this query.
      *
@@ -559,6 +559,38 @@ fun persist(firstEntity: Entity, vararg entities: Entity) {
         INSTANCE.persist(firstEntity, *entities)
     }
 
+    /**
+     * Insert all given entities in bulk, in JDBC batches, which is much faster than persisting them one by one when there
+     * are many of them.
+     *
+     * The entities are inserted with a [org.hibernate.StatelessSession] joining the current transaction, so they are not
+     * attached to the session, they are not checked for changes, and no cascade or lifecycle callback applies. They are
+     * read and inserted one batch at a time, batches being as large as the configured
+     * `quarkus.hibernate-orm.jdbc.statement-batch-size`, or 50 if none is configured. Within a batch, the inserts are
+     * grouped by entity type, and an entity type referenced by another one through a foreign key is inserted first.
+     *
+     * @param entities the entities to insert
+     */
+    fun insertAll(entities: Iterable<Entity>) {
+        INSTANCE.insertAll(entities)
+    }
+
+    /**
+     * Insert all given entities in bulk, in JDBC batches, which is much faster than persisting them one by one when there
+     * are many of them.
+     *
+     * The entities are inserted with a [org.hibernate.StatelessSession] joining the current transaction, so they are not
+     * attached to the session, they are not checked for changes, and no cascade or lifecycle callback applies. They are
+     * read and inserted one batch at a time, batches being as large as the configured
+     * `quarkus.hibernate-orm.jdbc.statement-batch-size`, or 50 if none is configured. Within a batch, the inserts are
+     * grouped by entity type, and an entity type referenced by another one through a foreign key is inserted first.
+     *
+     * @param entities the entities to insert, read lazily
+     */
+    fun insertAll(entities: Stream<Entity>) {
+        INSTANCE.insertAll(entities)
+    }
+
     /**
      * Update all entities of this type matching the given query, with optional indexed parameters.
      *
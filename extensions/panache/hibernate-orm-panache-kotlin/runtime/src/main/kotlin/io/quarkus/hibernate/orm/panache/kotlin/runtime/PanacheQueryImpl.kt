@@ -82,6 +82,21 @@ override fun range(startIndex: Int, lastIndex: Int): PanacheQuery<Entity> {
         return this
     }
 
+    override fun after(vararg lastSortKey: Any): PanacheQuery<Entity> {
+        delegate.after(*lastSortKey)
+        return this
+    }
+
+    override fun withFetchSize(fetchSize: Int): PanacheQuery<Entity> {
+        delegate.withFetchSize(fetchSize)
+        return this
+    }
+
+    override fun withSessionClearing(interval: Int): PanacheQuery<Entity> {
+        delegate.withSessionClearing(interval)
+        return this
+    }
+
     override fun withLock(lockModeType: LockModeType): PanacheQuery<Entity> {
         delegate.withLock(lockModeType)
         return this
@@ -43,6 +43,7 @@
 import io.quarkus.panache.common.deployment.PanacheMethodCustomizerBuildItem;
 import io.quarkus.panache.hibernate.common.deployment.HibernateEnhancersRegisteredBuildItem;
 import io.quarkus.panache.hibernate.common.deployment.PanacheJpaEntityOperationsEnhancer;
+import io.quarkus.panache.hibernate.common.deployment.PanacheQueryTypeBuildItem;
 
 public final class PanacheHibernateResourceProcessor {
 
@@ -93,7 +94,8 @@ void build(
             List<PanacheEntityClassBuildItem> entityClasses,
             Optional<JpaModelPersistenceUnitMappingBuildItem> jpaModelPersistenceUnitMapping,
             List<PanacheMethodCustomizerBuildItem> methodCustomizersBuildItems,
-            BuildProducer<EntityToPersistenceUnitBuildItem> entityToPersistenceUnit) {
+            BuildProducer<EntityToPersistenceUnitBuildItem> entityToPersistenceUnit,
+            BuildProducer<PanacheQueryTypeBuildItem> queryTypes) {
 
         List<PanacheMethodCustomizer> methodCustomizers = methodCustomizersBuildItems.stream()
                 .map(PanacheMethodCustomizerBuildItem::getMethodCustomizer).collect(Collectors.toList());
@@ -109,7 +111,11 @@ void build(
                 continue;
             List<org.jboss.jandex.Type> typeParameters = JandexUtil
                     .resolveTypeParameters(classInfo.name(), DOTNAME_PANACHE_REPOSITORY_BASE, index.getIndex());
-            panacheEntities.add(typeParameters.get(0).name().toString());
+            String entityClassName = typeParameters.get(0).name().toString();
+            panacheEntities.add(entityClassName);
+            if (typeParameters.get(0).kind() == org.jboss.jandex.Type.Kind.CLASS) {
+                queryTypes.produce(new PanacheQueryTypeBuildItem(classInfo.name().toString(), entityClassName));
+            }
             transformers.produce(new BytecodeTransformerBuildItem(classInfo.name().toString(), daoEnhancer));
         }
 
@@ -119,6 +125,7 @@ void build(
         for (PanacheEntityClassBuildItem entityClass : entityClasses) {
             String entityClassName = entityClass.get().name().toString();
             modelClasses.add(entityClassName);
+            queryTypes.produce(new PanacheQueryTypeBuildItem(entityClassName, entityClassName));
             transformers.produce(new BytecodeTransformerBuildItem(entityClassName, entityOperationsEnhancer));
         }
 
@@ -0,0 +1,108 @@
+package io.quarkus.hibernate.orm.panache.deployment.test.insert;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import jakarta.inject.Inject;
+import jakarta.persistence.TransactionRequiredException;
+import jakarta.transaction.Transactional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.panache.Panache;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class InsertAllTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("application-test.properties", "application.properties")
+                    .addClasses(InsertParent.class, InsertChild.class, InsertChildRepository.class))
+            .overrideConfigKey("quarkus.hibernate-orm.jdbc.statement-batch-size", "4");
+
+    @Inject
+    InsertChildRepository childRepository;
+
+    @Test
+    @Transactional
+    public void testEntityInsertAll() {
+        InsertChild.deleteAll();
+        InsertParent.deleteAll();
+        List<InsertParent> parents = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            parents.add(new InsertParent("parent-" + i));
+        }
+
+        InsertParent.insertAll(parents);
+
+        // The batches were executed, and the entities were never attached to the session
+        assertEquals(10, InsertParent.count());
+        for (InsertParent parent : parents) {
+            assertNotNull(parent.id);
+            assertFalse(Panache.getEntityManager().contains(parent));
+        }
+        assertEquals("parent-3", InsertParent.<InsertParent> findById(parents.get(3).id).name);
+    }
+
+    @Test
+    @Transactional
+    public void testEntityInsertAllOrdersByForeignKey() {
+        InsertChild.deleteAll();
+        InsertParent.deleteAll();
+        // Each child comes before its parent, but they are in the same batch of 4 entities
+        List<Object> entities = new ArrayList<>();
+        List<InsertChild> children = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            InsertParent parent = new InsertParent("parent-" + i);
+            InsertChild child = new InsertChild("child-" + i, parent);
+            entities.add(child);
+            entities.add(parent);
+            children.add(child);
+        }
+
+        InsertParent.insertAll(entities.stream());
+
+        assertEquals(10, InsertParent.count());
+        assertEquals(10, InsertChild.count());
+        for (int i = 0; i < 10; i++) {
+            assertEquals("parent-" + i, InsertChild.<InsertChild> findById(children.get(i).id).parent.name);
+        }
+    }
+
+    @Test
+    @Transactional
+    public void testRepositoryInsertAll() {
+        InsertChild.deleteAll();
+        InsertParent.deleteAll();
+        InsertParent parent = new InsertParent("parent");
+        parent.persist();
+        List<InsertChild> children = IntStream.range(0, 10)
+                .mapToObj(i -> new InsertChild("child-" + i, parent))
+                .toList();
+
+        childRepository.insertAll(children.stream());
+        childRepository.insertAll(List.of(new InsertChild("child-10", parent)));
+
+        assertEquals(11, childRepository.count("parent", parent));
+        for (InsertChild child : children) {
+            assertNotNull(child.id);
+            assertFalse(childRepository.isPersistent(child));
+        }
+    }
+
+    @Test
+    public void testInsertAllRequiresTransaction() {
+        assertThrows(TransactionRequiredException.class,
+                () -> InsertParent.insertAll(List.of(new InsertParent("parent"))));
+        assertThrows(TransactionRequiredException.class,
+                () -> childRepository.insertAll(List.of(new InsertChild("child", new InsertParent("parent")))));
+    }
+}
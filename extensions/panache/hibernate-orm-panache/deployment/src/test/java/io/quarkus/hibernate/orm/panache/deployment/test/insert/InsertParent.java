@@ -0,0 +1,18 @@
+package io.quarkus.hibernate.orm.panache.deployment.test.insert;
+
+import jakarta.persistence.Entity;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+@Entity
+public class InsertParent extends PanacheEntity {
+
+    public String name;
+
+    public InsertParent() {
+    }
+
+    public InsertParent(String name) {
+        this.name = name;
+    }
+}
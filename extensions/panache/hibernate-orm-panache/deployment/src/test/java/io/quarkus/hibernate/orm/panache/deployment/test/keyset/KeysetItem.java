@@ -0,0 +1,15 @@
+package io.quarkus.hibernate.orm.panache.deployment.test.keyset;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+
+import io.quarkus.hibernate.orm.panache.PanacheEntity;
+
+@Entity
+public class KeysetItem extends PanacheEntity {
+
+    @Column(nullable = false)
+    public String category;
+
+    public int position;
+}
@@ -0,0 +1,102 @@
+package io.quarkus.hibernate.orm.panache.deployment.test.keyset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import jakarta.transaction.Transactional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.panache.Panache;
+import io.quarkus.hibernate.orm.panache.PanacheQuery;
+import io.quarkus.panache.common.Page;
+import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class KeysetPaginationTest {
+
+    private static final int COUNT = 23;
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("application-test.properties", "application.properties")
+                    .addClasses(KeysetItem.class));
+
+    @Test
+    @Transactional
+    public void testAfterWithMixedSortDirections() {
+        createItems();
+        Sort sort = Sort.by("category", Sort.Direction.Descending).and("id");
+        List<Long> expected = ids(KeysetItem.<KeysetItem> listAll(sort));
+
+        PanacheQuery<KeysetItem> query = KeysetItem.<KeysetItem> find("position >= ?1", sort, 0).page(Page.ofSize(5));
+        List<Long> actual = new ArrayList<>();
+        List<KeysetItem> page = query.list();
+        while (!page.isEmpty()) {
+            actual.addAll(ids(page));
+            KeysetItem last = page.get(page.size() - 1);
+            page = query.after(last.category, last.id).list();
+        }
+        assertEquals(expected, actual);
+        // The sort key does not apply to the count
+        assertEquals(COUNT, query.count());
+    }
+
+    @Test
+    @Transactional
+    public void testAfterWithNamedParameters() {
+        createItems();
+        Sort sort = Sort.by("category").and("id", Sort.Direction.Descending);
+        List<KeysetItem> all = KeysetItem.list("position >= :min", sort, Parameters.with("min", 5));
+        KeysetItem middle = all.get(all.size() / 2);
+
+        List<KeysetItem> after = KeysetItem.<KeysetItem> find("position >= :min", sort, Parameters.with("min", 5))
+                .after(middle.category, middle.id)
+                .list();
+        assertEquals(ids(all.subList(all.size() / 2 + 1, all.size())), ids(after));
+    }
+
+    @Test
+    @Transactional
+    public void testStreamWithSessionClearing() {
+        createItems();
+        Sort sort = Sort.by("category", Sort.Direction.Descending).and("id");
+        List<Long> expected = ids(KeysetItem.<KeysetItem> listAll(sort));
+        Panache.getEntityManager().clear();
+
+        List<KeysetItem> streamed;
+        try (Stream<KeysetItem> stream = KeysetItem.<KeysetItem> find("position >= ?1", sort, 0)
+                .withFetchSize(4)
+                .withSessionClearing(4)
+                .stream()) {
+            streamed = stream.collect(Collectors.toList());
+        }
+        assertEquals(expected, ids(streamed));
+        // The first results were detached when the session was cleared
+        assertFalse(Panache.getEntityManager().contains(streamed.get(0)));
+        assertTrue(Panache.getEntityManager().contains(streamed.get(streamed.size() - 1)));
+    }
+
+    private static void createItems() {
+        KeysetItem.deleteAll();
+        for (int i = 0; i < COUNT; i++) {
+            KeysetItem item = new KeysetItem();
+            item.category = "c" + (i % 4);
+            item.position = i;
+            item.persist();
+        }
+    }
+
+    private static List<Long> ids(List<KeysetItem> items) {
+        return items.stream().map(item -> item.id).collect(Collectors.toList());
+    }
+}
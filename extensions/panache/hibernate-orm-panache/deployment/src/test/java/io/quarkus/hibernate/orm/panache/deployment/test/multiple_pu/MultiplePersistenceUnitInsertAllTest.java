@@ -0,0 +1,61 @@
+package io.quarkus.hibernate.orm.panache.deployment.test.multiple_pu;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import jakarta.transaction.Transactional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.panache.deployment.test.multiple_pu.first.FirstEntity;
+import io.quarkus.hibernate.orm.panache.deployment.test.multiple_pu.second.SecondEntity;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class MultiplePersistenceUnitInsertAllTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(FirstEntity.class, SecondEntity.class)
+                    .addAsResource("application-multiple-persistence-units.properties", "application.properties"));
+
+    // A transaction cannot span the datasources of both persistence units
+    @Test
+    @Transactional
+    public void testInsertAllInFirstPersistenceUnit() {
+        FirstEntity first = new FirstEntity();
+        first.name = "first";
+
+        FirstEntity.insertAll(List.of(first));
+
+        assertEquals(1, FirstEntity.count("name", "first"));
+    }
+
+    @Test
+    @Transactional
+    public void testInsertAllInSecondPersistenceUnit() {
+        SecondEntity second = new SecondEntity();
+        second.name = "second";
+
+        SecondEntity.insertAll(List.of(second));
+
+        assertEquals(1, SecondEntity.count("name", "second"));
+    }
+
+    @Test
+    @Transactional
+    public void testInsertAllFromDifferentPersistenceUnits() {
+        FirstEntity first = new FirstEntity();
+        first.name = "first";
+        SecondEntity second = new SecondEntity();
+        second.name = "second";
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> FirstEntity.insertAll(List.of(first, second)));
+        assertTrue(e.getMessage().contains("must belong to the same persistence unit"), e.getMessage());
+    }
+}
@@ -85,7 +85,8 @@
      * Sets the current page to the next page
      *
      * @return this query, modified
-     * @throws UnsupportedOperationException if a page hasn't been set or if a range is already set
+     * @throws UnsupportedOperationException if a page hasn't been set, if a range is already set or if a sort key is
+     *         set with {@link #after(Object...)}
      * @see #previousPage()
      */
     public <T extends Entity> PanacheQuery<T> nextPage();
@@ -94,7 +95,8 @@
      * Sets the current page to the previous page (or the first page if there is no previous page)
      *
      * @return this query, modified
-     * @throws UnsupportedOperationException if a page hasn't been set or if a range is already set
+     * @throws UnsupportedOperationException if a page hasn't been set, if a range is already set or if a sort key is
+     *         set with {@link #after(Object...)}
      * @see #nextPage()
      */
     public <T extends Entity> PanacheQuery<T> previousPage();
@@ -103,7 +105,8 @@
      * Sets the current page to the first page
      *
      * @return this query, modified
-     * @throws UnsupportedOperationException if a page hasn't been set or if a range is already set
+     * @throws UnsupportedOperationException if a page hasn't been set, if a range is already set or if a sort key is
+     *         set with {@link #after(Object...)}
      * @see #lastPage()
      */
     public <T extends Entity> PanacheQuery<T> firstPage();
@@ -112,7 +115,8 @@
      * Sets the current page to the last page. This will cause reading of the entity count.
      *
      * @return this query, modified
-     * @throws UnsupportedOperationException if a page hasn't been set or if a range is already set
+     * @throws UnsupportedOperationException if a page hasn't been set, if a range is already set or if a sort key is
+     *         set with {@link #after(Object...)}
      * @see #firstPage()
      * @see #count()
      */
@@ -123,7 +127,8 @@
      * This will cause reading of the entity count.
      *
      * @return true if there is another page to read
-     * @throws UnsupportedOperationException if a page hasn't been set or if a range is already set
+     * @throws UnsupportedOperationException if a page hasn't been set, if a range is already set or if a sort key is
+     *         set with {@link #after(Object...)}
      * @see #hasPreviousPage()
      * @see #count()
      */
@@ -133,7 +138,8 @@
      * Returns true if there is a page to read before the current one.
      *
      * @return true if there is a previous page to read
-     * @throws UnsupportedOperationException if a page hasn't been set or if a range is already set
+     * @throws UnsupportedOperationException if a page hasn't been set, if a range is already set or if a sort key is
+     *         set with {@link #after(Object...)}
      * @see #hasNextPage()
      */
     public boolean hasPreviousPage();
@@ -143,7 +149,8 @@
      * This will cause reading of the entity count.
      *
      * @return the total number of pages to be read using the current page size.
-     * @throws UnsupportedOperationException if a page hasn't been set or if a range is already set
+     * @throws UnsupportedOperationException if a page hasn't been set, if a range is already set or if a sort key is
+     *         set with {@link #after(Object...)}
      */
     public int pageCount();
 
@@ -167,6 +174,49 @@
      */
     public <T extends Entity> PanacheQuery<T> range(int startIndex, int lastIndex);
 
+    /**
+     * Switch the query to keyset (seek) pagination: only the results sorted after the given sort key are returned.
+     * <p>
+     * Rather than skipping the results of the previous pages, as done by {@link #page(Page)}, the database seeks directly
+     * to the given sort key, which keeps deep pages as fast as the first one. The query must be created with a
+     * {@link io.quarkus.panache.common.Sort}, and the sort key holds the values of its columns for the last result of the
+     * previous page, in the same order. The sort columns must not be nullable and must identify a result uniquely,
+     * typically by ending with the identifier.
+     * <p>
+     * If a page is set, only its size is used: the page index is ignored, and the methods relying on it, such as
+     * {@link #nextPage()}, {@link #hasNextPage()} or {@link #pageCount()}, fail.
+     * The sort key does not apply to {@link #count()}.
+     *
+     * @param lastSortKey the values of the sort columns for the last result of the previous page
+     * @return this query, modified
+     * @throws PanacheQueryException if the query is not sorted, is a named query, or if the sort key does not match the sort
+     */
+    public <T extends Entity> PanacheQuery<T> after(Object... lastSortKey);
+
+    /**
+     * Set the JDBC fetch size, i.e. the number of rows fetched from the database in one round-trip while iterating over
+     * the results. This is mostly useful with {@link #stream()}, to read large results without loading them at once.
+     *
+     * @param fetchSize the JDBC fetch size
+     * @return this query, modified
+     * @see #withSessionClearing(int)
+     */
+    public <T extends Entity> PanacheQuery<T> withFetchSize(int fetchSize);
+
+    /**
+     * Clear the session every {@code interval} results obtained with {@link #stream()}, so that the persistence context
+     * does not grow with the number of results and large exports run in constant memory.
+     * <p>
+     * WARNING: clearing the session detaches all its entities, including the ones loaded outside of this query, and
+     * discards their pending changes. The session is cleared once a result went through the stream pipeline, so the
+     * results must not be used after that, e.g. they must not be collected.
+     *
+     * @param interval the number of results after which the session is cleared, or 0 to never clear it
+     * @return this query, modified
+     * @see #withFetchSize(int)
+     */
+    public <T extends Entity> PanacheQuery<T> withSessionClearing(int interval);
+
     /**
      * Define the locking strategy used for this query.
      *
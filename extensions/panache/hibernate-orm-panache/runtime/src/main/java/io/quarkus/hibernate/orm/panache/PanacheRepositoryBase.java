@@ -763,6 +763,48 @@ default void persist(Entity firstEntity, @SuppressWarnings("unchecked") Entity..
         INSTANCE.persist(firstEntity, entities);
     }
 
+    /**
+     * Insert all given entities in bulk, in JDBC batches, which is much faster than persisting them one by one when there
+     * are many of them.
+     * <p>
+     * The entities are inserted with a {@link org.hibernate.StatelessSession} joining the current transaction, so they are
+     * not attached to the {@link Session}, they are not checked for changes, and no cascade or lifecycle callback applies.
+     * They are read and inserted one batch at a time, batches being as large as the configured
+     * {@code quarkus.hibernate-orm.jdbc.statement-batch-size}, or 50 if none is configured. Within a batch, the inserts are
+     * grouped by entity type, and an entity type referenced by another one through a foreign key is inserted first. The
+     * entities referenced by an entity must be inserted in a previous batch or in the same one, or already exist.
+     * <p>
+     * As with any JDBC batching, the identifiers should be generated by a sequence: entities with an identity column are
+     * inserted one by one.
+     *
+     * @param entities the entities to insert
+     * @see #persist(Iterable)
+     */
+    default void insertAll(Iterable<Entity> entities) {
+        INSTANCE.insertAll(entities);
+    }
+
+    /**
+     * Insert all given entities in bulk, in JDBC batches, which is much faster than persisting them one by one when there
+     * are many of them.
+     * <p>
+     * The entities are inserted with a {@link org.hibernate.StatelessSession} joining the current transaction, so they are
+     * not attached to the {@link Session}, they are not checked for changes, and no cascade or lifecycle callback applies.
+     * They are read and inserted one batch at a time, batches being as large as the configured
+     * {@code quarkus.hibernate-orm.jdbc.statement-batch-size}, or 50 if none is configured. Within a batch, the inserts are
+     * grouped by entity type, and an entity type referenced by another one through a foreign key is inserted first. The
+     * entities referenced by an entity must be inserted in a previous batch or in the same one, or already exist.
+     * <p>
+     * As with any JDBC batching, the identifiers should be generated by a sequence: entities with an identity column are
+     * inserted one by one.
+     *
+     * @param entities the entities to insert, read lazily
+     * @see #persist(Stream)
+     */
+    default void insertAll(Stream<Entity> entities) {
+        INSTANCE.insertAll(entities);
+    }
+
     /**
      * Update all entities of this type matching the given query, with optional indexed parameters.
      *
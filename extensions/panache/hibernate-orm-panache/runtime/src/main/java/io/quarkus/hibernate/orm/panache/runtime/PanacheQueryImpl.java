@@ -103,6 +103,27 @@ public <T extends Entity> PanacheQuery<T> range(int startIndex, int lastIndex) {
         return (PanacheQuery<T>) this;
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Entity> PanacheQuery<T> after(Object... lastSortKey) {
+        delegate.after(lastSortKey);
+        return (PanacheQuery<T>) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Entity> PanacheQuery<T> withFetchSize(int fetchSize) {
+        delegate.withFetchSize(fetchSize);
+        return (PanacheQuery<T>) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Entity> PanacheQuery<T> withSessionClearing(int interval) {
+        delegate.withSessionClearing(interval);
+        return (PanacheQuery<T>) this;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T extends Entity> PanacheQuery<T> withLock(LockModeType lockModeType) {
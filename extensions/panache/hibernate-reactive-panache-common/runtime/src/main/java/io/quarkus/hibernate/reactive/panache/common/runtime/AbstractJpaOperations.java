@@ -8,6 +8,7 @@
 import java.util.stream.Stream;
 
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.TransactionRequiredException;
 
 import org.hibernate.internal.util.LockModeConverter;
 import org.hibernate.reactive.mutiny.Mutiny;
@@ -15,7 +16,9 @@
 
 import io.quarkus.panache.common.Parameters;
 import io.quarkus.panache.common.Sort;
+import io.quarkus.panache.hibernate.common.runtime.InsertOrder;
 import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
 public abstract class AbstractJpaOperations<PanacheQueryType> {
@@ -23,6 +26,10 @@
     // FIXME: make it configurable?
     static final long TIMEOUT_MS = 5000;
     private static final Object[] EMPTY_OBJECT_ARRAY = new Object[0];
+    /**
+     * The batch size of bulk inserts when none is configured for the persistence unit.
+     */
+    static final int DEFAULT_INSERT_BATCH_SIZE = 50;
 
     protected abstract PanacheQueryType createPanacheQuery(Uni<Mutiny.Session> session, String query, String originalQuery,
             String orderBy,
@@ -70,6 +77,52 @@ public Uni<Void> persist(Object... entities) {
         return getSession().chain(session -> session.persistAll(entities));
     }
 
+    public Uni<Void> insertAll(Iterable<?> entities) {
+        return insertAll(Multi.createFrom().iterable(entities));
+    }
+
+    public Uni<Void> insertAll(Stream<?> entities) {
+        return insertAll(Multi.createFrom().items(() -> entities));
+    }
+
+    /**
+     * Inserts the entities with the current session and transaction, in batches of the batch size configured for the persistence unit,
+     * which Hibernate Reactive executes with a single batched statement of the SQL client. The entities are read and
+     * inserted one batch at a time, each batch being ordered by entity type, flushed and detached before the next one is
+     * read, so that the memory used does not depend on the number of entities.
+     */
+    private Uni<Void> insertAll(Multi<?> entities) {
+        return getSession().chain(session -> {
+            if (session.currentTransaction() == null) {
+                // Each batch would be committed on its own
+                return Uni.createFrom().failure(new TransactionRequiredException("Transaction is not active, consider"
+                        + " adding @WithTransaction to your method to automatically activate one."));
+            }
+            Integer previousBatchSize = session.getBatchSize();
+            int batchSize = previousBatchSize != null && previousBatchSize > 1 ? previousBatchSize
+                    : DEFAULT_INSERT_BATCH_SIZE;
+            InsertOrder order = new InsertOrder(session.getFactory().getMetamodel());
+            session.setBatchSize(batchSize);
+            return entities.group().intoLists().of(batchSize)
+                    .onItem().call(batch -> insertBatch(session, batch, order))
+                    .onItem().ignoreAsUni()
+                    .eventually(() -> session.setBatchSize(previousBatchSize));
+        });
+    }
+
+    private static Uni<Void> insertBatch(Mutiny.Session session, List<?> entities, InsertOrder order) {
+        List<Object> batch = new ArrayList<>(entities);
+        order.sort(batch);
+        Object[] array = batch.toArray(EMPTY_OBJECT_ARRAY);
+        return session.persistAll(array)
+                .chain(session::flush)
+                .invoke(() -> {
+                    for (Object entity : array) {
+                        session.detach(entity);
+                    }
+                });
+    }
+
     public Uni<Void> delete(Object entity) {
         return getSession().chain(session -> session.remove(entity));
     }
@@ -176,13 +229,13 @@ public Uni<List<?>> list(Class<?> entityClass, String query, Sort sort, Paramete
     }
 
     public PanacheQueryType findAll(Class<?> entityClass) {
-        String query = "FROM " + PanacheJpaUtil.getEntityName(entityClass);
+        String query = PanacheJpaUtil.createFindQuery(entityClass, null, 0);
         Uni<Mutiny.Session> session = getSession();
         return createPanacheQuery(session, query, null, null, null);
     }
 
     public PanacheQueryType findAll(Class<?> entityClass, Sort sort) {
-        String query = "FROM " + PanacheJpaUtil.getEntityName(entityClass);
+        String query = PanacheJpaUtil.createFindQuery(entityClass, null, 0);
         Uni<Mutiny.Session> session = getSession();
         return createPanacheQuery(session, query, null, PanacheJpaUtil.toOrderBy(sort), null);
     }
@@ -198,7 +251,7 @@ public Uni<List<?>> listAll(Class<?> entityClass, Sort sort) {
     public Uni<Long> count(Class<?> entityClass) {
         return getSession()
                 .chain(session -> session
-                        .createSelectionQuery("FROM " + PanacheJpaUtil.getEntityName(entityClass), entityClass)
+                        .createSelectionQuery(PanacheJpaUtil.createFindQuery(entityClass, null, 0), entityClass)
                         .getResultCount());
     }
 
@@ -259,7 +312,7 @@ public Uni<Boolean> exists(Class<?> entityClass, String query, Parameters params
 
     public Uni<Long> deleteAll(Class<?> entityClass) {
         return getSession().chain(
-                session -> session.createMutationQuery("DELETE FROM " + PanacheJpaUtil.getEntityName(entityClass))
+                session -> session.createMutationQuery(PanacheJpaUtil.createDeleteQuery(entityClass, null, 0))
                         .executeUpdate()
                         .map(Integer::longValue));
     }
@@ -4,6 +4,7 @@
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Parameter;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -14,6 +15,7 @@
 import java.util.stream.Stream;
 
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.metamodel.Metamodel;
 
 import org.hibernate.Filter;
 import org.hibernate.reactive.mutiny.Mutiny;
@@ -23,6 +25,7 @@
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Range;
 import io.quarkus.panache.common.exception.PanacheQueryException;
+import io.quarkus.panache.hibernate.common.runtime.KeysetQuery;
 import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
@@ -58,6 +61,10 @@
     private Map<String, Map<String, Object>> filters;
     private Class<?> projectionType;
 
+    private Object[] keyset;
+    private Integer fetchSize;
+    private int clearInterval;
+
     public CommonPanacheQueryImpl(Uni<Mutiny.Session> em, String query, String originalQuery, String orderBy,
             Object paramsArrayOrMap) {
         this.em = em;
@@ -82,6 +89,9 @@ private CommonPanacheQueryImpl(CommonPanacheQueryImpl<?> previousQuery, String n
         this.hints = previousQuery.hints;
         this.filters = previousQuery.filters;
         this.projectionType = projectionType;
+        this.keyset = previousQuery.keyset;
+        this.fetchSize = previousQuery.fetchSize;
+        this.clearInterval = previousQuery.clearInterval;
     }
 
     // Builder
@@ -189,22 +199,22 @@ public void page(int pageIndex, int pageSize) {
     }
 
     public void nextPage() {
-        checkPagination();
+        checkIndexedPagination();
         page(page.next());
     }
 
     public void previousPage() {
-        checkPagination();
+        checkIndexedPagination();
         page(page.previous());
     }
 
     public void firstPage() {
-        checkPagination();
+        checkIndexedPagination();
         page(page.first());
     }
 
     public Uni<Void> lastPage() {
-        checkPagination();
+        checkIndexedPagination();
         return pageCount().map(count -> {
             page(page.index(count - 1));
             return null;
@@ -212,17 +222,17 @@ public Uni<Void> lastPage() {
     }
 
     public Uni<Boolean> hasNextPage() {
-        checkPagination();
+        checkIndexedPagination();
         return pageCount().map(pageCount -> page.index < (pageCount - 1));
     }
 
     public boolean hasPreviousPage() {
-        checkPagination();
+        checkIndexedPagination();
         return page.index > 0;
     }
 
     public Uni<Integer> pageCount() {
-        checkPagination();
+        checkIndexedPagination();
         return count().map(count -> {
             if (count == 0)
                 return 1; // a single page of zero results
@@ -247,12 +257,40 @@ private void checkPagination() {
         }
     }
 
+    private void checkIndexedPagination() {
+        checkPagination();
+        if (keyset != null) {
+            // The position of the page is given by the sort key, its index is meaningless
+            throw new UnsupportedOperationException("Cannot call a page index related method in a keyset query, " +
+                    "use after(Object...) to move to the next page");
+        }
+    }
+
     public void range(int startIndex, int lastIndex) {
         this.range = Range.of(startIndex, lastIndex);
         // reset the page to its default to be able to switch from page to range
         this.page = null;
     }
 
+    public void after(Object... lastSortKey) {
+        KeysetQuery.checkSortKey(orderBy, lastSortKey);
+        this.keyset = lastSortKey;
+    }
+
+    public void withFetchSize(int fetchSize) {
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("The fetch size must be at least 1");
+        }
+        this.fetchSize = fetchSize;
+    }
+
+    public void withSessionClearing(int interval) {
+        if (interval < 0) {
+            throw new IllegalArgumentException("The session clearing interval must be positive, or 0 to disable it");
+        }
+        this.clearInterval = interval;
+    }
+
     public void withLock(LockModeType lockModeType) {
         this.lockModeType = lockModeType;
     }
@@ -281,7 +319,8 @@ public Uni<Long> count() {
                         AbstractJpaOperations.bindParameters(countQuery, (Object[]) paramsArrayOrMap);
                     return applyFilters(session, () -> countQuery.getSingleResult());
                 } else {
-                    Mutiny.SelectionQuery<?> query = createBaseQuery(session);
+                    // The count is the one of the whole query, whatever the current keyset
+                    Mutiny.SelectionQuery<?> query = createBaseQuery(session, null, false);
                     return applyFilters(session, () -> query.getResultCount());
                 }
             });
@@ -298,6 +337,9 @@ public <T extends Entity> Uni<List<T>> list() {
     }
 
     public <T extends Entity> Multi<T> stream() {
+        if (fetchSize != null) {
+            return streamInChunks(fetchSize);
+        }
         // FIXME: requires Hibernate support
         //        Mutiny.Query<?> jpaQuery = createQuery();
         //        return applyFilters(jpaQuery.getResultStream());
@@ -307,6 +349,86 @@ public <T extends Entity> Multi<T> stream() {
         });
     }
 
+    /**
+     * Hibernate Reactive has no cursor, so the results are read in chunks of the fetch size, one query per chunk, and the
+     * session is cleared between chunks once the clearing interval is reached.
+     * <p>
+     * If the query is sorted, each chunk seeks from the sort key of the last result of the previous chunk, with an
+     * inclusive seek predicate skipping the results already read with that sort key, so that the database does not read
+     * and skip all the previous results. Otherwise, or if the sort key cannot be read, see
+     * {@link KeysetQuery#readSortKey}, the chunks are read with increasing offsets.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private <T extends Entity> Multi<T> streamInChunks(int chunkSize) {
+        ChunkState state = new ChunkState();
+        int maxResults;
+        if (range != null) {
+            state.skip = range.getStartIndex();
+            maxResults = range.getLastIndex() - range.getStartIndex() + 1;
+        } else if (page != null) {
+            state.skip = keyset != null ? 0 : page.index * page.size;
+            maxResults = page.size;
+        } else {
+            maxResults = Integer.MAX_VALUE;
+        }
+        state.seekable = PanacheJpaUtil.getOrderByColumnCount(orderBy) > 0 && PanacheJpaUtil.canAddPredicate(query);
+        Multi<List<T>> chunks = Multi.createBy().repeating()
+                .<ChunkState, List<T>> uni(() -> state, s -> {
+                    int size = Math.min(chunkSize, maxResults - s.read);
+                    if (size <= 0) {
+                        return Uni.createFrom().item(List.of());
+                    }
+                    return em.flatMap(session -> {
+                        if (clearInterval > 0 && s.sinceClear >= clearInterval) {
+                            s.sinceClear = 0;
+                            session.clear();
+                        }
+                        Mutiny.SelectionQuery<?> jpaQuery = s.sortKey != null ? createBaseQuery(session, s.sortKey, true)
+                                : createBaseQuery(session);
+                        jpaQuery.setFirstResult(s.skip);
+                        jpaQuery.setMaxResults(size);
+                        return ((Uni<List<T>>) (Uni) applyFilters(session, () -> jpaQuery.getResultList()))
+                                .invoke(list -> s.next(list, session.getFactory().getMetamodel(), orderBy));
+                    });
+                })
+                .whilst(list -> list.size() == chunkSize);
+        return chunks.onItem().transformToMultiAndConcatenate(list -> Multi.createFrom().iterable(list));
+    }
+
+    private static final class ChunkState {
+        boolean seekable;
+        // The sort key the chunks seek from, inclusively, or null to read the query itself
+        Object[] sortKey;
+        // The number of results to skip from the sort key, or from the start of the query
+        int skip;
+        int read;
+        int sinceClear;
+
+        void next(List<?> chunk, Metamodel metamodel, String orderBy) {
+            read += chunk.size();
+            sinceClear += chunk.size();
+            Object[] last = seekable && !chunk.isEmpty()
+                    ? KeysetQuery.readSortKey(metamodel, orderBy, chunk.get(chunk.size() - 1))
+                    : null;
+            if (last == null) {
+                // Keep reading with an offset from the current sort key
+                seekable = false;
+                skip += chunk.size();
+            } else if (Arrays.equals(last, sortKey)) {
+                skip += chunk.size();
+            } else {
+                // The next chunk starts with the results having the same sort key as the last one, skip those already read
+                int ties = 1;
+                while (ties < chunk.size() && Arrays.equals(last,
+                        KeysetQuery.readSortKey(metamodel, orderBy, chunk.get(chunk.size() - 1 - ties)))) {
+                    ties++;
+                }
+                sortKey = last;
+                skip = ties;
+            }
+        }
+    }
+
     @SuppressWarnings("unchecked")
     public <T extends Entity> Uni<T> firstResult() {
         return em.flatMap(session -> {
@@ -333,7 +455,8 @@ private Mutiny.SelectionQuery<?> createQuery(Mutiny.Session em) {
             // range is 0 based, so we add 1
             jpaQuery.setMaxResults(range.getLastIndex() - range.getStartIndex() + 1);
         } else if (page != null) {
-            jpaQuery.setFirstResult(page.index * page.size);
+            // With a keyset, the page is where the keyset points to, only its size is used
+            jpaQuery.setFirstResult(keyset != null ? 0 : page.index * page.size);
             jpaQuery.setMaxResults(page.size);
         } else {
             // Use deprecated API in org.hibernate.Query that will be moved to org.hibernate.query.Query on Hibernate 6.0
@@ -357,7 +480,7 @@ private Mutiny.SelectionQuery<?> createQuery(Mutiny.Session em, int maxResults)
         if (range != null) {
             jpaQuery.setFirstResult(range.getStartIndex());
         } else if (page != null) {
-            jpaQuery.setFirstResult(page.index * page.size);
+            jpaQuery.setFirstResult(keyset != null ? 0 : page.index * page.size);
         } else {
             // Use deprecated API in org.hibernate.Query that will be moved to org.hibernate.query.Query on Hibernate 6.0
             // FIXME: requires Hibernate support
@@ -371,10 +494,26 @@ private Mutiny.SelectionQuery<?> createQuery(Mutiny.Session em, int maxResults)
         return jpaQuery;
     }
 
-    @SuppressWarnings("unchecked")
     private Mutiny.SelectionQuery<?> createBaseQuery(Mutiny.Session em) {
+        return createBaseQuery(em, keyset, false);
+    }
+
+    /**
+     * @param sortKey the sort key to seek from, or {@code null} to read the query from its start
+     * @param inclusive whether the results with the given sort key are selected too
+     */
+    private Mutiny.SelectionQuery<?> createBaseQuery(Mutiny.Session em, Object[] sortKey, boolean inclusive) {
         Mutiny.SelectionQuery<?> hibernateQuery;
-        if (PanacheJpaUtil.isNamedQuery(query)) {
+        Object params = paramsArrayOrMap;
+        if (sortKey != null) {
+            KeysetQuery keysetQuery = KeysetQuery.of(query, orderBy, paramsArrayOrMap, sortKey, inclusive);
+            try {
+                hibernateQuery = em.createSelectionQuery(keysetQuery.query(), projectionType);
+            } catch (RuntimeException x) {
+                throw NamedQueryUtil.checkForNamedQueryMistake(x, originalQuery);
+            }
+            params = keysetQuery.params();
+        } else if (PanacheJpaUtil.isNamedQuery(query)) {
             String namedQuery = query.substring(1);
             hibernateQuery = em.createNamedQuery(namedQuery, projectionType);
         } else {
@@ -385,11 +524,7 @@ private Mutiny.SelectionQuery<?> createBaseQuery(Mutiny.Session em) {
             }
         }
 
-        if (paramsArrayOrMap instanceof Map) {
-            AbstractJpaOperations.bindParameters(hibernateQuery, (Map<String, Object>) paramsArrayOrMap);
-        } else {
-            AbstractJpaOperations.bindParameters(hibernateQuery, (Object[]) paramsArrayOrMap);
-        }
+        bindParameters(hibernateQuery, params);
 
         if (this.lockModeType != null) {
             hibernateQuery.setLockMode(lockModeType);
@@ -404,6 +539,15 @@ private Mutiny.SelectionQuery<?> createBaseQuery(Mutiny.Session em) {
         return hibernateQuery;
     }
 
+    @SuppressWarnings("unchecked")
+    private static void bindParameters(Mutiny.SelectionQuery<?> query, Object paramsArrayOrMap) {
+        if (paramsArrayOrMap instanceof Map) {
+            AbstractJpaOperations.bindParameters(query, (Map<String, Object>) paramsArrayOrMap);
+        } else {
+            AbstractJpaOperations.bindParameters(query, (Object[]) paramsArrayOrMap);
+        }
+    }
+
     private <T> Uni<T> applyFilters(Mutiny.Session em, Supplier<Uni<T>> uni) {
         if (filters == null)
             return uni.get();
@@ -0,0 +1,89 @@
+package io.quarkus.hibernate.reactive.panache.kotlin.deployment.test.insert
+
+import io.quarkus.hibernate.reactive.panache.Panache
+import io.quarkus.test.QuarkusUnitTest
+import io.quarkus.test.vertx.RunOnVertxContext
+import io.quarkus.test.vertx.UniAsserter
+import jakarta.inject.Inject
+import jakarta.persistence.TransactionRequiredException
+import org.junit.jupiter.api.Assertions.assertFalse
+import org.junit.jupiter.api.Assertions.assertNotNull
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.RegisterExtension
+
+class InsertAllTest {
+    @Inject
+    lateinit var repository: InsertEntityRepository
+
+    @RunOnVertxContext
+    @Test
+    fun testCompanionInsertAll(asserter: UniAsserter) {
+        val entities = (0 until 10).map { InsertEntity("entity-$it") }
+
+        asserter.execute<Long> { Panache.withTransaction { InsertEntity.deleteAll() } }
+        asserter.execute<Void> {
+            Panache.withTransaction {
+                InsertEntity.insertAll(entities)
+                    // The batches were flushed, and the entities were never attached to the session
+                    .chain { _ -> Panache.getSession() }
+                    .invoke { session ->
+                        for (entity in entities) {
+                            assertNotNull(entity.id)
+                            assertFalse(session.contains(entity))
+                        }
+                    }
+                    .replaceWithVoid()
+            }
+        }
+        asserter.assertEquals({ Panache.withSession { InsertEntity.count() } }, 10L)
+        asserter.assertEquals({
+            Panache.withSession { InsertEntity.findById(entities[3].id!!) }.map { it!!.name }
+        }, "entity-3")
+    }
+
+    @RunOnVertxContext
+    @Test
+    fun testRepositoryInsertAll(asserter: UniAsserter) {
+        val entities = (0 until 10).map { InsertEntity("entity-$it") }
+
+        asserter.execute<Long> { Panache.withTransaction { repository.deleteAll() } }
+        asserter.execute<Void> {
+            Panache.withTransaction {
+                repository.insertAll(entities.stream())
+                    .chain { _ -> repository.insertAll(listOf(InsertEntity("entity-10"))) }
+                    .chain { _ -> Panache.getSession() }
+                    .invoke { session ->
+                        for (entity in entities) {
+                            assertNotNull(entity.id)
+                            assertFalse(session.contains(entity))
+                        }
+                    }
+                    .replaceWithVoid()
+            }
+        }
+        asserter.assertEquals({ Panache.withSession { repository.count() } }, 11L)
+    }
+
+    @RunOnVertxContext
+    @Test
+    fun testInsertAllRequiresTransaction(asserter: UniAsserter) {
+        asserter.assertFailedWith(
+            { Panache.withSession { InsertEntity.insertAll(listOf(InsertEntity("entity"))) } },
+            TransactionRequiredException::class.java
+        )
+        asserter.assertFailedWith(
+            { Panache.withSession { repository.insertAll(listOf(InsertEntity("entity"))) } },
+            TransactionRequiredException::class.java
+        )
+    }
+
+    companion object {
+        @RegisterExtension
+        @JvmField
+        val runner = QuarkusUnitTest()
+            .withApplicationRoot { jar ->
+                jar.addClasses(InsertEntity::class.java, InsertEntityRepository::class.java)
+            }
+            .overrideConfigKey("quarkus.hibernate-orm.jdbc.statement-batch-size", "4")
+    }
+}
@@ -0,0 +1,7 @@
+package io.quarkus.hibernate.reactive.panache.kotlin.deployment.test.insert
+
+import io.quarkus.hibernate.reactive.panache.kotlin.PanacheRepository
+import jakarta.enterprise.context.ApplicationScoped
+
+@ApplicationScoped
+class InsertEntityRepository : PanacheRepository<InsertEntity>
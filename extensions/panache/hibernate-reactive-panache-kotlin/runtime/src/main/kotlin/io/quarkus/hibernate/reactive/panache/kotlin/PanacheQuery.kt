@@ -3,6 +3,7 @@
 import io.quarkus.panache.common.Page
 import io.quarkus.panache.common.Parameters
 import io.smallrye.common.annotation.CheckReturnValue
+import io.smallrye.mutiny.Multi
 import io.smallrye.mutiny.Uni
 import jakarta.persistence.LockModeType
 import jakarta.persistence.NonUniqueResultException
@@ -127,6 +128,45 @@ fun page(): Page
      */
     fun range(startIndex: Int, lastIndex: Int): PanacheQuery<Entity>
 
+    /**
+     * Switch the query to keyset (seek) pagination: only the results sorted after the given sort key are returned.
+     *
+     * Rather than skipping the results of the previous pages, as done by [page], the database seeks directly to the given
+     * sort key, which keeps deep pages as fast as the first one. The query must be created with a
+     * [io.quarkus.panache.common.Sort], and the sort key holds the values of its columns for the last result of the previous
+     * page, in the same order. The sort columns must not be nullable and must identify a result uniquely, typically by
+     * ending with the identifier.
+     *
+     * If a page is set, only its size is used: the page index is ignored. The sort key does not apply to [count].
+     *
+     * @param lastSortKey the values of the sort columns for the last result of the previous page
+     * @return this query, modified
+     */
+    fun after(vararg lastSortKey: Any): PanacheQuery<Entity>
+
+    /**
+     * Make [stream] read the results in chunks of the given size, one query per chunk, rather than all at once.
+     *
+     * If the query is sorted with a [io.quarkus.panache.common.Sort] and returns entities, each chunk seeks from the sort
+     * key of the last result of the previous chunk, as with [after]. Otherwise, the chunks are read with increasing offsets.
+     *
+     * @param fetchSize the number of results read per chunk
+     * @return this query, modified
+     */
+    fun withFetchSize(fetchSize: Int): PanacheQuery<Entity>
+
+    /**
+     * Clear the session between the chunks read by [stream], once at least `interval` results were read since the
+     * session was last cleared, so that large exports run in constant memory. This requires a fetch size.
+     *
+     * WARNING: clearing the session detaches all its entities, including the ones loaded outside of this query, and
+     * discards their pending changes. The results of a chunk must not be used once the next chunk is read.
+     *
+     * @param interval the minimal number of results after which the session is cleared, or 0 to never clear it
+     * @return this query, modified
+     */
+    fun withSessionClearing(interval: Int): PanacheQuery<Entity>
+
     /**
      * Define the locking strategy used for this query.
      *
@@ -216,6 +256,15 @@ fun filter(filterName: String): PanacheQuery<Entity>
      */
     @CheckReturnValue fun list(): Uni<List<Entity>>
 
+    /**
+     * Returns the current page of results as a [Multi]. The results are read all at once, unless a fetch size is set.
+     *
+     * @return the current page of results as a [Multi].
+     * @see [PanacheQuery.withFetchSize]
+     * @see [PanacheQuery.page]
+     */
+    @CheckReturnValue fun stream(): Multi<Entity>
+
     /**
      * Returns the first result of the current page index. This ignores the current page size to
      * fetch a single result.
@@ -444,6 +444,38 @@ fun persist(entities: Iterable<Entity>): Uni<Void> = INSTANCE.persist(entities)
     fun persist(firstEntity: Entity, vararg entities: Entity): Uni<Void> =
         INSTANCE.persist(listOf(firstEntity) + listOf(*entities))
 
+    /**
+     * Insert all given entities in bulk, in batches, which is much faster than persisting them one by one when there are
+     * many of them.
+     *
+     * The entities are read and inserted one batch at a time, batches being as large as the configured
+     * `quarkus.hibernate-orm.jdbc.statement-batch-size`, or 50 if none is configured. Each batch is persisted, flushed as
+     * a single batched statement of the reactive SQL client and detached from the session before the next one is read.
+     * Within a batch, the inserts are grouped by entity type, and an entity type referenced by another one through a
+     * foreign key is inserted first.
+     *
+     * @param entities the entities to insert
+     * @return nothing
+     */
+    @CheckReturnValue
+    fun insertAll(entities: Iterable<Entity>): Uni<Void> = INSTANCE.insertAll(entities)
+
+    /**
+     * Insert all given entities in bulk, in batches, which is much faster than persisting them one by one when there are
+     * many of them.
+     *
+     * The entities are read and inserted one batch at a time, batches being as large as the configured
+     * `quarkus.hibernate-orm.jdbc.statement-batch-size`, or 50 if none is configured. Each batch is persisted, flushed as
+     * a single batched statement of the reactive SQL client and detached from the session before the next one is read.
+     * Within a batch, the inserts are grouped by entity type, and an entity type referenced by another one through a
+     * foreign key is inserted first.
+     *
+     * @param entities the entities to insert, read lazily
+     * @return nothing
+     */
+    @CheckReturnValue
+    fun insertAll(entities: Stream<Entity>): Uni<Void> = INSTANCE.insertAll(entities)
+
     /**
      * Update all entities of this type matching the given query, with optional indexed parameters.
      *
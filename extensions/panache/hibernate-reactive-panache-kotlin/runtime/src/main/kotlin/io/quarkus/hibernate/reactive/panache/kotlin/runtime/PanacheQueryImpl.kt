@@ -4,6 +4,7 @@
 import io.quarkus.hibernate.reactive.panache.kotlin.PanacheQuery
 import io.quarkus.panache.common.Page
 import io.quarkus.panache.common.Parameters
+import io.smallrye.mutiny.Multi
 import io.smallrye.mutiny.Uni
 import jakarta.persistence.LockModeType
 import org.hibernate.reactive.mutiny.Mutiny
@@ -79,6 +80,21 @@ override fun range(startIndex: Int, lastIndex: Int): PanacheQuery<Entity> {
         return this
     }
 
+    override fun after(vararg lastSortKey: Any): PanacheQuery<Entity> {
+        delegate.after(*lastSortKey)
+        return this
+    }
+
+    override fun withFetchSize(fetchSize: Int): PanacheQuery<Entity> {
+        delegate.withFetchSize(fetchSize)
+        return this
+    }
+
+    override fun withSessionClearing(interval: Int): PanacheQuery<Entity> {
+        delegate.withSessionClearing(interval)
+        return this
+    }
+
     override fun withLock(lockModeType: LockModeType): PanacheQuery<Entity> {
         delegate.withLock(lockModeType)
         return this
@@ -110,6 +126,8 @@ override fun count() = delegate.count()
 
     override fun list(): Uni<List<Entity>> = delegate.list()
 
+    override fun stream(): Multi<Entity> = delegate.stream()
+
     override fun firstResult(): Uni<Entity?> = delegate.firstResult()
 
     override fun singleResult(): Uni<Entity> = delegate.singleResult()
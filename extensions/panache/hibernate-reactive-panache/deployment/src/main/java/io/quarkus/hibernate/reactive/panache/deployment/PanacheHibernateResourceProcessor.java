@@ -37,6 +37,7 @@
 import io.quarkus.panache.common.deployment.PanacheMethodCustomizerBuildItem;
 import io.quarkus.panache.hibernate.common.deployment.HibernateEnhancersRegisteredBuildItem;
 import io.quarkus.panache.hibernate.common.deployment.PanacheJpaEntityOperationsEnhancer;
+import io.quarkus.panache.hibernate.common.deployment.PanacheQueryTypeBuildItem;
 import io.smallrye.common.annotation.CheckReturnValue;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
@@ -89,7 +90,8 @@ void collectEntityClasses(CombinedIndexBuildItem index, BuildProducer<PanacheEnt
     void build(CombinedIndexBuildItem index,
             BuildProducer<BytecodeTransformerBuildItem> transformers,
             List<PanacheEntityClassBuildItem> entityClasses,
-            List<PanacheMethodCustomizerBuildItem> methodCustomizersBuildItems) throws Exception {
+            List<PanacheMethodCustomizerBuildItem> methodCustomizersBuildItems,
+            BuildProducer<PanacheQueryTypeBuildItem> queryTypes) throws Exception {
 
         List<PanacheMethodCustomizer> methodCustomizers = methodCustomizersBuildItems.stream()
                 .map(bi -> bi.getMethodCustomizer()).collect(Collectors.toList());
@@ -111,6 +113,12 @@ void build(CombinedIndexBuildItem index,
         }
         for (String daoClass : daoClasses) {
             transformers.produce(new BytecodeTransformerBuildItem(daoClass, daoEnhancer));
+            org.jboss.jandex.Type entityType = JandexUtil
+                    .resolveTypeParameters(DotName.createSimple(daoClass), DOTNAME_PANACHE_REPOSITORY_BASE, index.getIndex())
+                    .get(0);
+            if (entityType.kind() == org.jboss.jandex.Type.Kind.CLASS) {
+                queryTypes.produce(new PanacheQueryTypeBuildItem(daoClass, entityType.name().toString()));
+            }
         }
 
         PanacheJpaEntityOperationsEnhancer entityOperationsEnhancer = new PanacheJpaEntityOperationsEnhancer(index.getIndex(),
@@ -119,6 +127,7 @@ void build(CombinedIndexBuildItem index,
         for (PanacheEntityClassBuildItem entityClass : entityClasses) {
             String entityClassName = entityClass.get().name().toString();
             transformers.produce(new BytecodeTransformerBuildItem(entityClassName, entityOperationsEnhancer));
+            queryTypes.produce(new PanacheQueryTypeBuildItem(entityClassName, entityClassName));
         }
     }
 
@@ -0,0 +1,109 @@
+package io.quarkus.hibernate.reactive.panache.test.insert;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import jakarta.inject.Inject;
+import jakarta.persistence.TransactionRequiredException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.reactive.panache.Panache;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.vertx.RunOnVertxContext;
+import io.quarkus.test.vertx.UniAsserter;
+import io.smallrye.mutiny.Uni;
+
+public class InsertAllTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(InsertParent.class, InsertChild.class, InsertChildRepository.class))
+            .overrideConfigKey("quarkus.hibernate-orm.jdbc.statement-batch-size", "4");
+
+    @Inject
+    InsertChildRepository childRepository;
+
+    @RunOnVertxContext
+    @Test
+    public void testEntityInsertAll(UniAsserter asserter) {
+        List<InsertParent> parents = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            parents.add(new InsertParent("parent-" + i));
+        }
+        asserter.execute(() -> deleteAll());
+        asserter.execute(() -> Panache.withTransaction(() -> InsertParent.insertAll(parents)
+                // The batches were flushed, and the entities were never attached to the session
+                .chain(() -> Panache.getSession())
+                .invoke(session -> {
+                    for (InsertParent parent : parents) {
+                        assertNotNull(parent.id);
+                        assertFalse(session.contains(parent));
+                    }
+                })
+                .chain(() -> InsertParent.count())
+                .invoke(count -> assertEquals(10, count))));
+        asserter.assertEquals(() -> Panache.withSession(() -> InsertParent.<InsertParent> findById(parents.get(3).id))
+                .map(parent -> parent.name), "parent-3");
+    }
+
+    @RunOnVertxContext
+    @Test
+    public void testEntityInsertAllOrdersByForeignKey(UniAsserter asserter) {
+        // Each child comes before its parent, but they are in the same batch of 4 entities
+        List<Object> entities = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            InsertParent parent = new InsertParent("parent-" + i);
+            entities.add(new InsertChild("child-" + i, parent));
+            entities.add(parent);
+        }
+        asserter.execute(() -> deleteAll());
+        asserter.execute(() -> Panache.withTransaction(() -> InsertParent.insertAll(entities.stream())));
+        asserter.assertEquals(() -> Panache.withSession(() -> InsertParent.count()), 10L);
+        asserter.assertEquals(() -> Panache.withSession(() -> InsertChild.count()), 10L);
+        asserter.assertEquals(() -> Panache.withSession(
+                () -> InsertChild.count("name = ?1 and parent.name = ?2", "child-3", "parent-3")), 1L);
+    }
+
+    @RunOnVertxContext
+    @Test
+    public void testRepositoryInsertAll(UniAsserter asserter) {
+        InsertParent parent = new InsertParent("parent");
+        List<InsertChild> children = IntStream.range(0, 10)
+                .mapToObj(i -> new InsertChild("child-" + i, parent))
+                .toList();
+        asserter.execute(() -> deleteAll());
+        asserter.execute(() -> Panache.withTransaction(() -> parent.persist()
+                .chain(() -> childRepository.insertAll(children.stream()))
+                .chain(() -> childRepository.insertAll(List.of(new InsertChild("child-10", parent))))
+                .invoke(() -> {
+                    for (InsertChild child : children) {
+                        assertNotNull(child.id);
+                    }
+                })
+                .chain(() -> Panache.getSession())
+                .invoke(session -> assertFalse(session.contains(children.get(0))))));
+        asserter.assertEquals(() -> Panache.withSession(() -> childRepository.count("parent.name", "parent")), 11L);
+    }
+
+    @RunOnVertxContext
+    @Test
+    public void testInsertAllRequiresTransaction(UniAsserter asserter) {
+        asserter.assertFailedWith(() -> Panache.withSession(
+                () -> InsertParent.insertAll(List.of(new InsertParent("parent")))),
+                TransactionRequiredException.class);
+        asserter.assertFailedWith(() -> Panache.withSession(
+                () -> childRepository.insertAll(List.of(new InsertChild("child", new InsertParent("parent"))))),
+                TransactionRequiredException.class);
+    }
+
+    private static Uni<Long> deleteAll() {
+        return Panache.withTransaction(() -> InsertChild.deleteAll().chain(() -> InsertParent.deleteAll()));
+    }
+}
@@ -0,0 +1,9 @@
+package io.quarkus.hibernate.reactive.panache.test.insert;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import io.quarkus.hibernate.reactive.panache.PanacheRepository;
+
+@ApplicationScoped
+public class InsertChildRepository implements PanacheRepository<InsertChild> {
+}
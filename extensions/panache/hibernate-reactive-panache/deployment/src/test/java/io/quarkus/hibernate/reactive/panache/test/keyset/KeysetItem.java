@@ -0,0 +1,18 @@
+package io.quarkus.hibernate.reactive.panache.test.keyset;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+
+import io.quarkus.hibernate.reactive.panache.PanacheEntity;
+
+@Entity
+public class KeysetItem extends PanacheEntity {
+
+    @Column(nullable = false)
+    public String category;
+
+    // Nullable, so it cannot be used to seek
+    public String label;
+
+    public int position;
+}
@@ -0,0 +1,123 @@
+package io.quarkus.hibernate.reactive.panache.test.keyset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.reactive.panache.Panache;
+import io.quarkus.hibernate.reactive.panache.PanacheQuery;
+import io.quarkus.panache.common.Page;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.vertx.RunOnVertxContext;
+import io.quarkus.test.vertx.UniAsserter;
+import io.smallrye.mutiny.Uni;
+
+public class KeysetPaginationTest {
+
+    private static final int COUNT = 23;
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar.addClasses(KeysetItem.class));
+
+    @RunOnVertxContext
+    @Test
+    public void testAfterWithMixedSortDirections(UniAsserter asserter) {
+        Sort sort = Sort.by("category", Sort.Direction.Descending).and("id");
+        asserter.execute(() -> createItems());
+        asserter.execute(() -> Panache.withSession(() -> KeysetItem.<KeysetItem> listAll(sort)
+                .chain(all -> readPages(KeysetItem.<KeysetItem> find("position >= ?1", sort, 0).page(Page.ofSize(5)),
+                        new ArrayList<>())
+                        .invoke(pages -> assertEquals(ids(all), pages)))));
+    }
+
+    @RunOnVertxContext
+    @Test
+    public void testStreamWithSessionClearing(UniAsserter asserter) {
+        Sort sort = Sort.by("category", Sort.Direction.Descending).and("id");
+        asserter.execute(() -> createItems());
+        asserter.execute(() -> Panache.withSession(() -> KeysetItem.<KeysetItem> listAll(sort)
+                .call(all -> Panache.getSession().invoke(session -> session.clear()))
+                .chain(all -> KeysetItem.<KeysetItem> find("position >= ?1", sort, 0)
+                        .withFetchSize(4)
+                        .withSessionClearing(4)
+                        .<KeysetItem> stream()
+                        .collect().asList()
+                        .invoke(streamed -> assertEquals(ids(all), ids(streamed)))
+                        .call(streamed -> Panache.getSession().invoke(session -> {
+                            // The first results were detached when the session was cleared
+                            assertFalse(session.contains(streamed.get(0)));
+                            assertTrue(session.contains(streamed.get(streamed.size() - 1)));
+                        })))));
+    }
+
+    @RunOnVertxContext
+    @Test
+    public void testStreamWithNonUniqueSort(UniAsserter asserter) {
+        // The chunks seek from the last category read, and skip the results with this category already read
+        asserter.execute(() -> createItems());
+        asserter.execute(() -> Panache.withSession(() -> KeysetItem.<KeysetItem> listAll()
+                .chain(all -> KeysetItem.<KeysetItem> findAll(Sort.by("category"))
+                        .withFetchSize(3)
+                        .<KeysetItem> stream()
+                        .collect().asList()
+                        .invoke(streamed -> {
+                            assertEquals(ids(all).stream().sorted().collect(Collectors.toList()),
+                                    ids(streamed).stream().sorted().collect(Collectors.toList()));
+                            for (int i = 1; i < streamed.size(); i++) {
+                                assertTrue(streamed.get(i - 1).category.compareTo(streamed.get(i).category) <= 0);
+                            }
+                        }))));
+    }
+
+    @RunOnVertxContext
+    @Test
+    public void testStreamWithNullableSortColumn(UniAsserter asserter) {
+        // The chunks are read with offsets
+        Sort sort = Sort.by("label", Sort.Direction.Descending).and("id");
+        asserter.execute(() -> createItems());
+        asserter.execute(() -> Panache.withSession(() -> KeysetItem.<KeysetItem> listAll(sort)
+                .chain(all -> KeysetItem.<KeysetItem> findAll(sort)
+                        .withFetchSize(4)
+                        .<KeysetItem> stream()
+                        .collect().asList()
+                        .invoke(streamed -> assertEquals(ids(all), ids(streamed))))));
+    }
+
+    private static Uni<Void> createItems() {
+        return Panache.withTransaction(() -> KeysetItem.deleteAll().chain(() -> {
+            List<KeysetItem> items = new ArrayList<>();
+            for (int i = 0; i < COUNT; i++) {
+                KeysetItem item = new KeysetItem();
+                item.category = "c" + (i % 4);
+                item.label = i % 5 == 0 ? null : "l" + (i % 3);
+                item.position = i;
+                items.add(item);
+            }
+            return KeysetItem.persist(items);
+        }));
+    }
+
+    private static Uni<List<Long>> readPages(PanacheQuery<KeysetItem> query, List<Long> ids) {
+        return query.list().chain(page -> {
+            if (page.isEmpty()) {
+                return Uni.createFrom().item(ids);
+            }
+            ids.addAll(ids(page));
+            KeysetItem last = page.get(page.size() - 1);
+            return readPages(query.after(last.category, last.id), ids);
+        });
+    }
+
+    private static List<Long> ids(List<KeysetItem> items) {
+        return items.stream().map(item -> item.id).collect(Collectors.toList());
+    }
+}
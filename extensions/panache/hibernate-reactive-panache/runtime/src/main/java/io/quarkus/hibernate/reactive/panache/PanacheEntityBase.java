@@ -614,6 +614,52 @@ public static Uni<Void> persist(Object firstEntity, Object... entities) {
         return INSTANCE.persist(firstEntity, entities);
     }
 
+    /**
+     * Insert all given entities in bulk, in batches, which is much faster than persisting them one by one when there are
+     * many of them.
+     * <p>
+     * The entities are read and inserted one batch at a time, batches being as large as the configured
+     * {@code quarkus.hibernate-orm.jdbc.statement-batch-size}, or 50 if none is configured. Each batch is persisted,
+     * flushed as a single batched statement of the reactive SQL client and detached from the session before the next one
+     * is read, so the memory used does not depend on the number of entities. Within a batch, the inserts are grouped by
+     * entity type, and an entity type referenced by another one through a foreign key is inserted first.
+     * <p>
+     * Flushing a batch also flushes the other pending changes of the session. As with any batching, the identifiers should
+     * be generated by a sequence: entities with an identity column are inserted one by one.
+     *
+     * @param entities the entities to insert
+     * @return nothing
+     * @see #persist(Iterable)
+     */
+    @CheckReturnValue
+    @GenerateBridge(callSuperMethod = true)
+    public static Uni<Void> insertAll(Iterable<?> entities) {
+        return INSTANCE.insertAll(entities);
+    }
+
+    /**
+     * Insert all given entities in bulk, in batches, which is much faster than persisting them one by one when there are
+     * many of them.
+     * <p>
+     * The entities are read and inserted one batch at a time, batches being as large as the configured
+     * {@code quarkus.hibernate-orm.jdbc.statement-batch-size}, or 50 if none is configured. Each batch is persisted,
+     * flushed as a single batched statement of the reactive SQL client and detached from the session before the next one
+     * is read, so the memory used does not depend on the number of entities. Within a batch, the inserts are grouped by
+     * entity type, and an entity type referenced by another one through a foreign key is inserted first.
+     * <p>
+     * Flushing a batch also flushes the other pending changes of the session. As with any batching, the identifiers should
+     * be generated by a sequence: entities with an identity column are inserted one by one.
+     *
+     * @param entities the entities to insert, read lazily
+     * @return nothing
+     * @see #persist(Stream)
+     */
+    @CheckReturnValue
+    @GenerateBridge(callSuperMethod = true)
+    public static Uni<Void> insertAll(Stream<?> entities) {
+        return INSTANCE.insertAll(entities);
+    }
+
     /**
      * Update all entities of this type matching the given query, with optional indexed parameters.
      *
@@ -15,6 +15,7 @@
 import io.quarkus.panache.common.Parameters;
 import io.quarkus.panache.common.exception.PanacheQueryException;
 import io.smallrye.common.annotation.CheckReturnValue;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
 /**
@@ -85,7 +86,8 @@
      * Sets the current page to the next page
      *
      * @return this query, modified
-     * @throws UnsupportedOperationException if a page hasn't been set or if a range is already set
+     * @throws UnsupportedOperationException if a page hasn't been set, if a range is already set or if a sort key is
+     *         set with {@link #after(Object...)}
      * @see #previousPage()
      */
     public <T extends Entity> PanacheQuery<T> nextPage();
@@ -94,7 +96,8 @@
      * Sets the current page to the previous page (or the first page if there is no previous page)
      *
      * @return this query, modified
-     * @throws UnsupportedOperationException if a page hasn't been set or if a range is already set
+     * @throws UnsupportedOperationException if a page hasn't been set, if a range is already set or if a sort key is
+     *         set with {@link #after(Object...)}
      * @see #nextPage()
      */
     public <T extends Entity> PanacheQuery<T> previousPage();
@@ -103,7 +106,8 @@
      * Sets the current page to the first page
      *
      * @return this query, modified
-     * @throws UnsupportedOperationException if a page hasn't been set or if a range is already set
+     * @throws UnsupportedOperationException if a page hasn't been set, if a range is already set or if a sort key is
+     *         set with {@link #after(Object...)}
      * @see #lastPage()
      */
     public <T extends Entity> PanacheQuery<T> firstPage();
@@ -112,7 +116,8 @@
      * Sets the current page to the last page. This will cause reading of the entity count.
      *
      * @return this query, modified
-     * @throws UnsupportedOperationException if a page hasn't been set or if a range is already set
+     * @throws UnsupportedOperationException if a page hasn't been set, if a range is already set or if a sort key is
+     *         set with {@link #after(Object...)}
      * @see #firstPage()
      * @see #count()
      */
@@ -124,7 +129,8 @@
      * This will cause reading of the entity count.
      *
      * @return true if there is another page to read
-     * @throws UnsupportedOperationException if a page hasn't been set or if a range is already set
+     * @throws UnsupportedOperationException if a page hasn't been set, if a range is already set or if a sort key is
+     *         set with {@link #after(Object...)}
      * @see #hasPreviousPage()
      * @see #count()
      */
@@ -135,7 +141,8 @@
      * Returns true if there is a page to read before the current one.
      *
      * @return true if there is a previous page to read
-     * @throws UnsupportedOperationException if a page hasn't been set or if a range is already set
+     * @throws UnsupportedOperationException if a page hasn't been set, if a range is already set or if a sort key is
+     *         set with {@link #after(Object...)}
      * @see #hasNextPage()
      */
     public boolean hasPreviousPage();
@@ -145,7 +152,8 @@
      * This will cause reading of the entity count.
      *
      * @return the total number of pages to be read using the current page size.
-     * @throws UnsupportedOperationException if a page hasn't been set or if a range is already set
+     * @throws UnsupportedOperationException if a page hasn't been set, if a range is already set or if a sort key is
+     *         set with {@link #after(Object...)}
      */
     @CheckReturnValue
     public Uni<Integer> pageCount();
@@ -170,6 +178,51 @@
      */
     public <T extends Entity> PanacheQuery<T> range(int startIndex, int lastIndex);
 
+    /**
+     * Switch the query to keyset (seek) pagination: only the results sorted after the given sort key are returned.
+     * <p>
+     * Rather than skipping the results of the previous pages, as done by {@link #page(Page)}, the database seeks directly
+     * to the given sort key, which keeps deep pages as fast as the first one. The query must be created with a
+     * {@link io.quarkus.panache.common.Sort}, and the sort key holds the values of its columns for the last result of the
+     * previous page, in the same order. The sort columns must not be nullable and must identify a result uniquely,
+     * typically by ending with the identifier.
+     * <p>
+     * If a page is set, only its size is used: the page index is ignored, and the methods relying on it, such as
+     * {@link #nextPage()}, {@link #hasNextPage()} or {@link #pageCount()}, fail.
+     * The sort key does not apply to {@link #count()}.
+     *
+     * @param lastSortKey the values of the sort columns for the last result of the previous page
+     * @return this query, modified
+     * @throws PanacheQueryException if the query is not sorted, is a named query, or if the sort key does not match the sort
+     */
+    public <T extends Entity> PanacheQuery<T> after(Object... lastSortKey);
+
+    /**
+     * Make {@link #stream()} read the results in chunks of the given size, one query per chunk, rather than all at once.
+     * <p>
+     * If the query is sorted with a {@link io.quarkus.panache.common.Sort} and returns entities, each chunk seeks from the
+     * sort key of the last result of the previous chunk, as with {@link #after(Object...)}. Otherwise, the chunks are read
+     * with increasing offsets.
+     *
+     * @param fetchSize the number of results read per chunk
+     * @return this query, modified
+     * @see #withSessionClearing(int)
+     */
+    public <T extends Entity> PanacheQuery<T> withFetchSize(int fetchSize);
+
+    /**
+     * Clear the session between the chunks read by {@link #stream()}, once at least {@code interval} results were read
+     * since the session was last cleared, so that large exports run in constant memory. This requires a fetch size.
+     * <p>
+     * WARNING: clearing the session detaches all its entities, including the ones loaded outside of this query, and
+     * discards their pending changes. The results of a chunk must not be used once the next chunk is read.
+     *
+     * @param interval the minimal number of results after which the session is cleared, or 0 to never clear it
+     * @return this query, modified
+     * @see #withFetchSize(int)
+     */
+    public <T extends Entity> PanacheQuery<T> withSessionClearing(int interval);
+
     /**
      * Define the locking strategy used for this query.
      *
@@ -256,6 +309,18 @@
     @CheckReturnValue
     public <T extends Entity> Uni<List<T>> list();
 
+    /**
+     * Returns the current page of results as a {@link Multi}. The results are read all at once, unless a fetch size is
+     * set.
+     *
+     * @return the current page of results as a {@link Multi}.
+     * @see #withFetchSize(int)
+     * @see #page(Page)
+     * @see #page()
+     */
+    @CheckReturnValue
+    public <T extends Entity> Multi<T> stream();
+
     /**
      * Returns the first result of the current page index. This ignores the current page size to fetch
      * a single result.
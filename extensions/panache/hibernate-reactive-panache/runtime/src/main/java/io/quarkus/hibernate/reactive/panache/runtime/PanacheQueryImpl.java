@@ -12,6 +12,7 @@
 import io.quarkus.hibernate.reactive.panache.common.runtime.CommonPanacheQueryImpl;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Parameters;
+import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
 public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
@@ -101,6 +102,27 @@ public <T extends Entity> PanacheQuery<T> range(int startIndex, int lastIndex) {
         return (PanacheQuery<T>) this;
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Entity> PanacheQuery<T> after(Object... lastSortKey) {
+        delegate.after(lastSortKey);
+        return (PanacheQuery<T>) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Entity> PanacheQuery<T> withFetchSize(int fetchSize) {
+        delegate.withFetchSize(fetchSize);
+        return (PanacheQuery<T>) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Entity> PanacheQuery<T> withSessionClearing(int interval) {
+        delegate.withSessionClearing(interval);
+        return (PanacheQuery<T>) this;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T extends Entity> PanacheQuery<T> withLock(LockModeType lockModeType) {
@@ -148,6 +170,11 @@ public <T extends Entity> Uni<List<T>> list() {
         return delegate.list();
     }
 
+    @Override
+    public <T extends Entity> Multi<T> stream() {
+        return delegate.stream();
+    }
+
     @Override
     public <T extends Entity> Uni<T> firstResult() {
         return delegate.firstResult();
@@ -0,0 +1,133 @@
+package io.quarkus.panache.hibernate.common.deployment;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.logging.Logger;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.analysis.Analyzer;
+import org.objectweb.asm.tree.analysis.AnalyzerException;
+import org.objectweb.asm.tree.analysis.Frame;
+import org.objectweb.asm.tree.analysis.SourceInterpreter;
+import org.objectweb.asm.tree.analysis.SourceValue;
+
+import io.quarkus.panache.hibernate.common.runtime.ExpandedQuery;
+import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
+import io.quarkus.panache.hibernate.common.runtime.PanacheQueryCache.Kind;
+
+/**
+ * Finds the constant short-form queries passed to the Panache query methods of entities and repositories, and expands them.
+ * <p>
+ * A query is considered constant if the value passed as the query parameter always comes from a single string constant,
+ * which is what the compiler emits for a string literal or a constant expression.
+ */
+final class ConstantQueryScanner {
+
+    private static final Logger LOG = Logger.getLogger(ConstantQueryScanner.class);
+
+    private static final Map<String, Kind> QUERY_METHODS = Map.of(
+            "find", Kind.FIND,
+            "list", Kind.FIND,
+            "stream", Kind.FIND,
+            "count", Kind.COUNT,
+            "exists", Kind.COUNT,
+            "delete", Kind.DELETE,
+            "update", Kind.UPDATE);
+    private static final String STRING_FIRST_PARAMETER = "(Ljava/lang/String;";
+
+    // Internal name of the entity or repository -> entity class name
+    private final Map<String, String> queryTypes;
+    private final Set<ConstantQuery> queries = new LinkedHashSet<>();
+
+    ConstantQueryScanner(Map<String, String> queryTypes) {
+        this.queryTypes = queryTypes;
+    }
+
+    void scan(byte[] bytecode) {
+        ClassNode classNode = new ClassNode();
+        new ClassReader(bytecode).accept(classNode, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        for (MethodNode method : classNode.methods) {
+            if (method.instructions.size() == 0 || !invokesQueryMethod(method)) {
+                continue;
+            }
+            Frame<SourceValue>[] frames;
+            try {
+                frames = new Analyzer<>(new SourceInterpreter()).analyze(classNode.name, method);
+            } catch (AnalyzerException e) {
+                LOG.debugf(e, "Unable to analyze %s#%s, its queries will be expanded at runtime", classNode.name,
+                        method.name);
+                continue;
+            }
+            for (int i = 0; i < frames.length; i++) {
+                AbstractInsnNode insn = method.instructions.get(i);
+                // Unreachable code has no frame
+                if (frames[i] != null && insn instanceof MethodInsnNode invocation && isQueryMethod(invocation)) {
+                    String query = constantQuery(frames[i], invocation);
+                    if (query != null && !PanacheJpaUtil.isNamedQuery(query)) {
+                        queries.add(new ConstantQuery(QUERY_METHODS.get(invocation.name),
+                                queryTypes.get(invocation.owner), query));
+                    }
+                }
+            }
+        }
+    }
+
+    List<ExpandedQuery> getExpandedQueries() {
+        List<ExpandedQuery> expandedQueries = new ArrayList<>();
+        for (ConstantQuery query : queries) {
+            // The number of parameters may change the expanded query, it is not known at build time
+            for (boolean singleParameter : new boolean[] { false, true }) {
+                try {
+                    expandedQueries.add(new ExpandedQuery(query.kind, query.entityClassName, query.query, singleParameter,
+                            query.kind.expand(query.entityClassName, query.query, singleParameter)));
+                } catch (RuntimeException e) {
+                    // Invalid query, let it fail at runtime
+                    LOG.debugf(e, "Unable to expand the query %s", query.query);
+                }
+            }
+        }
+        return expandedQueries;
+    }
+
+    private boolean invokesQueryMethod(MethodNode method) {
+        for (AbstractInsnNode insn : method.instructions) {
+            if (insn instanceof MethodInsnNode invocation && isQueryMethod(invocation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isQueryMethod(MethodInsnNode invocation) {
+        return QUERY_METHODS.containsKey(invocation.name)
+                && invocation.desc.startsWith(STRING_FIRST_PARAMETER)
+                && queryTypes.containsKey(invocation.owner);
+    }
+
+    private static String constantQuery(Frame<SourceValue> frame, MethodInsnNode invocation) {
+        // The query is the first argument, values of any size take a single stack entry
+        int index = frame.getStackSize() - Type.getArgumentTypes(invocation.desc).length;
+        if (index < 0) {
+            return null;
+        }
+        SourceValue value = frame.getStack(index);
+        if (value.insns.size() == 1
+                && value.insns.iterator().next() instanceof LdcInsnNode ldc
+                && ldc.cst instanceof String query) {
+            return query;
+        }
+        return null;
+    }
+
+    private record ConstantQuery(Kind kind, String entityClassName, String query) {
+    }
+}
@@ -1,7 +1,11 @@
 package io.quarkus.panache.hibernate.common.deployment;
 
+import java.io.IOException;
 import java.lang.reflect.Modifier;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -19,15 +23,19 @@
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Consume;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
 import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.util.IoUtil;
 import io.quarkus.gizmo.DescriptorUtils;
 import io.quarkus.panache.common.deployment.EntityField;
 import io.quarkus.panache.common.deployment.EntityModel;
 import io.quarkus.panache.common.deployment.MetamodelInfo;
 import io.quarkus.panache.common.deployment.PanacheEntityClassesBuildItem;
 import io.quarkus.panache.common.deployment.PanacheFieldAccessEnhancer;
+import io.quarkus.panache.hibernate.common.runtime.PanacheHibernateCommonRecorder;
 
 public final class PanacheHibernateCommonResourceProcessor {
 
@@ -150,6 +158,37 @@ void replaceFieldAccesses(CombinedIndexBuildItem index,
         }
     }
 
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    void expandConstantQueries(CombinedIndexBuildItem index,
+            List<PanacheQueryTypeBuildItem> queryTypes,
+            PanacheHibernateCommonRecorder recorder) throws IOException {
+        Map<String, String> queryTypesInternal = new HashMap<>();
+        Set<DotName> users = new HashSet<>();
+        for (PanacheQueryTypeBuildItem queryType : queryTypes) {
+            queryTypesInternal.put(queryType.getClassName().replace('.', '/'), queryType.getEntityClassName());
+            DotName name = DotName.createSimple(queryType.getClassName());
+            // Entities and repositories may query themselves
+            users.add(name);
+            for (ClassInfo userClass : index.getIndex().getKnownUsers(name)) {
+                users.add(userClass.name());
+            }
+        }
+
+        // The bytecode transformations are applied later, this is the bytecode as compiled
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        ConstantQueryScanner scanner = new ConstantQueryScanner(queryTypesInternal);
+        for (DotName user : users) {
+            byte[] bytecode = IoUtil.readClassAsBytes(classLoader, user.toString());
+            if (bytecode != null) {
+                scanner.scan(bytecode);
+            }
+        }
+
+        // Always record the queries, even if there are none, so that the queries of a previous dev mode run are replaced
+        recorder.setExpandedQueries(scanner.getExpandedQueries());
+    }
+
     private EntityModel createEntityModel(ClassInfo classInfo) {
         EntityModel entityModel = new EntityModel(classInfo);
         // Unfortunately, at the moment Hibernate ORM's enhancement ignores XML mapping,
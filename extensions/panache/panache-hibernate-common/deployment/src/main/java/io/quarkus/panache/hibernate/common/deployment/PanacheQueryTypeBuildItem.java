@@ -0,0 +1,26 @@
+package io.quarkus.panache.hibernate.common.deployment;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * A Panache entity or repository, on which the query methods such as {@code find()} or {@code count()} are invoked,
+ * and the entity these methods operate on.
+ */
+public final class PanacheQueryTypeBuildItem extends MultiBuildItem {
+
+    private final String className;
+    private final String entityClassName;
+
+    public PanacheQueryTypeBuildItem(String className, String entityClassName) {
+        this.className = className;
+        this.entityClassName = entityClassName;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public String getEntityClassName() {
+        return entityClassName;
+    }
+}
@@ -0,0 +1,166 @@
+package io.quarkus.panache.hibernate.common.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_STATIC;
+import static org.objectweb.asm.Opcodes.ACONST_NULL;
+import static org.objectweb.asm.Opcodes.ANEWARRAY;
+import static org.objectweb.asm.Opcodes.GOTO;
+import static org.objectweb.asm.Opcodes.ICONST_0;
+import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.objectweb.asm.Opcodes.POP;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.V1_6;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import io.quarkus.deployment.util.IoUtil;
+import io.quarkus.panache.hibernate.common.runtime.ExpandedQuery;
+import io.quarkus.panache.hibernate.common.runtime.PanacheQueryCache.Kind;
+
+public class ConstantQueryScannerTest {
+
+    private static final String PERSON = "org.acme.Person";
+
+    @Test
+    public void testStaticEntityCall() throws IOException {
+        assertEquals(List.of(
+                "FIND " + PERSON + " [name] false: FROM `org.acme.Person` WHERE name",
+                "FIND " + PERSON + " [name] true: FROM `org.acme.Person` WHERE name = ?1",
+                "COUNT " + PERSON + " [age > ?1] false: FROM `org.acme.Person` WHERE age > ?1",
+                "COUNT " + PERSON + " [age > ?1] true: FROM `org.acme.Person` WHERE age > ?1"),
+                scan(EntityCaller.class));
+    }
+
+    @Test
+    public void testRepositoryCall() throws IOException {
+        assertEquals(List.of(
+                "DELETE " + PERSON + " [name] false: DELETE FROM `org.acme.Person` WHERE name",
+                "DELETE " + PERSON + " [name] true: DELETE FROM `org.acme.Person` WHERE name = ?1"),
+                scan(RepositoryCaller.class));
+    }
+
+    @Test
+    public void testNonConstantQuery() throws IOException {
+        assertEquals(List.of(), scan(NonConstantCaller.class));
+    }
+
+    @Test
+    public void testNamedQuery() throws IOException {
+        assertEquals(List.of(), scan(NamedQueryCaller.class));
+    }
+
+    @Test
+    public void testUnreachableCode() {
+        // The compiler does not emit unreachable code
+        ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        writer.visit(V1_6, ACC_PUBLIC, "Unreachable", null, Type.getInternalName(Object.class), null);
+        MethodVisitor method = writer.visitMethod(ACC_PUBLIC | ACC_STATIC, "unreachable", "()V", null, null);
+        method.visitCode();
+        Label end = new Label();
+        method.visitJumpInsn(GOTO, end);
+        method.visitLdcInsn("name");
+        method.visitInsn(ICONST_0);
+        method.visitTypeInsn(ANEWARRAY, Type.getInternalName(Object.class));
+        method.visitMethodInsn(INVOKESTATIC, Type.getInternalName(Person.class), "find",
+                "(Ljava/lang/String;[Ljava/lang/Object;)Ljava/lang/Object;", false);
+        method.visitInsn(POP);
+        method.visitLabel(end);
+        method.visitInsn(RETURN);
+        method.visitMaxs(0, 0);
+        method.visitEnd();
+        writer.visitEnd();
+
+        ConstantQueryScanner scanner = newScanner();
+        scanner.scan(writer.toByteArray());
+        assertEquals(List.of(), toStrings(scanner.getExpandedQueries()));
+    }
+
+    private static List<String> scan(Class<?> caller) throws IOException {
+        ConstantQueryScanner scanner = newScanner();
+        scanner.scan(IoUtil.readClassAsBytes(ConstantQueryScannerTest.class.getClassLoader(), caller.getName()));
+        return toStrings(scanner.getExpandedQueries());
+    }
+
+    private static ConstantQueryScanner newScanner() {
+        return new ConstantQueryScanner(Map.of(
+                Type.getInternalName(Person.class), PERSON,
+                Type.getInternalName(PersonRepository.class), PERSON));
+    }
+
+    private static List<String> toStrings(List<ExpandedQuery> queries) {
+        return queries.stream()
+                .map(q -> q.getKind() + " " + q.getEntityClassName() + " [" + q.getQuery() + "] " + q.isSingleParameter()
+                        + ": " + q.getExpandedQuery())
+                .collect(Collectors.toList());
+    }
+
+    // Mimics the static methods of a Panache entity
+    public static class Person {
+
+        public static Object find(String query, Object... params) {
+            return null;
+        }
+
+        public static long count(String query, Object... params) {
+            return 0;
+        }
+
+        public static Object list(String query, Map<String, Object> params) {
+            return null;
+        }
+    }
+
+    // Mimics the methods of a Panache repository
+    public static class PersonRepository {
+
+        public long delete(String query, Object... params) {
+            return 0;
+        }
+    }
+
+    public static class EntityCaller {
+
+        static final String AGE = "age > ?1";
+
+        void call(String name) {
+            Person.find("name", name);
+            Person.count(AGE, 18);
+            // Already expanded
+            Person.find("name", name);
+        }
+    }
+
+    public static class RepositoryCaller {
+
+        void call(PersonRepository repository, String name) {
+            repository.delete("name", name);
+        }
+    }
+
+    public static class NonConstantCaller {
+
+        void call(String field, String name, boolean byName) {
+            Person.find(field, name);
+            Person.find("name = ?1 and " + field + " = ?2", name, name);
+            Person.find(byName ? "name" : "nickname", name);
+        }
+    }
+
+    public static class NamedQueryCaller {
+
+        void call(String name) {
+            Person.find("#Person.byName", name);
+            Person.list("#Person.byName", Map.of("name", name));
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package io.quarkus.panache.hibernate.common.runtime;
+
+import io.quarkus.runtime.annotations.RecordableConstructor;
+
+/**
+ * A Panache short-form query expanded to HQL at build time.
+ */
+public final class ExpandedQuery {
+
+    private final PanacheQueryCache.Kind kind;
+    private final String entityClassName;
+    private final String query;
+    private final boolean singleParameter;
+    private final String expandedQuery;
+
+    @RecordableConstructor
+    public ExpandedQuery(PanacheQueryCache.Kind kind, String entityClassName, String query, boolean singleParameter,
+            String expandedQuery) {
+        this.kind = kind;
+        this.entityClassName = entityClassName;
+        this.query = query;
+        this.singleParameter = singleParameter;
+        this.expandedQuery = expandedQuery;
+    }
+
+    public PanacheQueryCache.Kind getKind() {
+        return kind;
+    }
+
+    public String getEntityClassName() {
+        return entityClassName;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public boolean isSingleParameter() {
+        return singleParameter;
+    }
+
+    public String getExpandedQuery() {
+        return expandedQuery;
+    }
+}
@@ -0,0 +1,92 @@
+package io.quarkus.panache.hibernate.common.runtime;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Member;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.Attribute.PersistentAttributeType;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.Metamodel;
+
+/**
+ * Orders the entities of a bulk insert, as {@code hibernate.order_inserts} does for a flush: the entities of the same type
+ * are grouped, so that their inserts can be batched, and an entity type is inserted after the entity types it references
+ * through a foreign key. The entities of a given type keep their relative order.
+ * <p>
+ * An instance caches the position of the entity types, it is meant to be used for a single bulk insert.
+ */
+public final class InsertOrder {
+
+    private final Metamodel metamodel;
+    private final Map<Class<?>, Integer> depths = new HashMap<>();
+
+    public InsertOrder(Metamodel metamodel) {
+        this.metamodel = metamodel;
+    }
+
+    public void sort(List<Object> entities) {
+        Map<Class<?>, Integer> firstIndexes = new HashMap<>();
+        for (int i = 0; i < entities.size(); i++) {
+            firstIndexes.putIfAbsent(entities.get(i).getClass(), i);
+        }
+        if (firstIndexes.size() == 1) {
+            return;
+        }
+        // List.sort() is stable, the entities of a type keep their order
+        entities.sort(Comparator.<Object> comparingInt(entity -> depth(entity.getClass(), new HashSet<>()))
+                .thenComparingInt(entity -> firstIndexes.get(entity.getClass())));
+    }
+
+    /**
+     * @return the length of the longest chain of foreign keys starting from the given entity type
+     */
+    int depth(Class<?> type, Set<Class<?>> visiting) {
+        Integer depth = depths.get(type);
+        if (depth != null) {
+            return depth;
+        }
+        if (!visiting.add(type)) {
+            // A cycle of foreign keys, the order cannot satisfy all of them anyway
+            return 0;
+        }
+        EntityType<?> entityType;
+        try {
+            entityType = metamodel.entity(type);
+        } catch (IllegalArgumentException e) {
+            // Not an entity, let the insert fail with the error of the provider
+            depths.put(type, 0);
+            return 0;
+        }
+        int max = 0;
+        for (Attribute<?, ?> attribute : entityType.getAttributes()) {
+            Class<?> target = attribute.getJavaType();
+            if (target != type && isForeignKey(attribute)) {
+                max = Math.max(max, depth(target, visiting) + 1);
+            }
+        }
+        visiting.remove(type);
+        depths.put(type, max);
+        return max;
+    }
+
+    private static boolean isForeignKey(Attribute<?, ?> attribute) {
+        if (attribute.getPersistentAttributeType() == PersistentAttributeType.MANY_TO_ONE) {
+            return true;
+        }
+        if (attribute.getPersistentAttributeType() != PersistentAttributeType.ONE_TO_ONE) {
+            return false;
+        }
+        // Only the owning side of a one-to-one association holds the foreign key
+        Member member = attribute.getJavaMember();
+        OneToOne oneToOne = member instanceof AnnotatedElement ? ((AnnotatedElement) member).getAnnotation(OneToOne.class)
+                : null;
+        return oneToOne == null || oneToOne.mappedBy().isEmpty();
+    }
+}
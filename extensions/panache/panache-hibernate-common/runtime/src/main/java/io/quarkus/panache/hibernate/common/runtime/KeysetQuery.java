@@ -0,0 +1,138 @@
+package io.quarkus.panache.hibernate.common.runtime;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.Metamodel;
+import jakarta.persistence.metamodel.SingularAttribute;
+import jakarta.persistence.metamodel.Type.PersistenceType;
+
+import io.quarkus.panache.common.exception.PanacheQueryException;
+
+/**
+ * A query restricted to the rows coming after a sort key, for keyset (seek) pagination.
+ * <p>
+ * The seek predicate is added to the where clause of the query, and its parameters follow the style of the query
+ * parameters: named if the query parameters are named, positional otherwise.
+ *
+ * @param query the HQL query, with the seek predicate and the order by clause
+ * @param params the parameters of the query, including the sort key values
+ */
+public record KeysetQuery(String query, Object params) {
+
+    private static final String PARAMETER_PREFIX = "__panacheKeyset";
+
+    /**
+     * @throws PanacheQueryException if the sort key does not match the order by clause of the query
+     */
+    public static void checkSortKey(String orderBy, Object[] lastSortKey) {
+        int columns = PanacheJpaUtil.getOrderByColumnCount(orderBy);
+        if (columns == 0) {
+            throw new PanacheQueryException("Keyset pagination requires the query to be sorted, use a Sort");
+        }
+        if (lastSortKey.length != columns) {
+            throw new PanacheQueryException("Keyset pagination requires one value per sort column: the query is sorted by "
+                    + columns + " column(s) but " + lastSortKey.length + " value(s) were given");
+        }
+        for (Object value : lastSortKey) {
+            if (value == null) {
+                throw new PanacheQueryException("Keyset pagination does not support null sort key values");
+            }
+        }
+    }
+
+    public static KeysetQuery of(String query, String orderBy, Object paramsArrayOrMap, Object[] lastSortKey) {
+        return of(query, orderBy, paramsArrayOrMap, lastSortKey, false);
+    }
+
+    /**
+     * @param inclusive whether the rows with the given sort key are selected too
+     */
+    @SuppressWarnings("unchecked")
+    public static KeysetQuery of(String query, String orderBy, Object paramsArrayOrMap, Object[] lastSortKey,
+            boolean inclusive) {
+        String[] references = new String[lastSortKey.length];
+        Object params;
+        if (paramsArrayOrMap instanceof Map) {
+            Map<String, Object> named = new HashMap<>((Map<String, Object>) paramsArrayOrMap);
+            for (int i = 0; i < lastSortKey.length; i++) {
+                references[i] = ":" + PARAMETER_PREFIX + i;
+                named.put(PARAMETER_PREFIX + i, lastSortKey[i]);
+            }
+            params = named;
+        } else {
+            Object[] positional = paramsArrayOrMap != null ? (Object[]) paramsArrayOrMap : new Object[0];
+            Object[] all = new Object[positional.length + lastSortKey.length];
+            System.arraycopy(positional, 0, all, 0, positional.length);
+            for (int i = 0; i < lastSortKey.length; i++) {
+                references[i] = "?" + (positional.length + i + 1);
+                all[positional.length + i] = lastSortKey[i];
+            }
+            params = all;
+        }
+        String predicate = PanacheJpaUtil.toKeysetPredicate(orderBy, references, inclusive);
+        return new KeysetQuery(PanacheJpaUtil.addPredicate(query, predicate) + orderBy, params);
+    }
+
+    /**
+     * Reads the sort key of a result, so that the next results can be read by seeking from it.
+     * <p>
+     * The sort key can only be read if the result is an entity, and if all the sort columns are mandatory basic attributes
+     * of this entity or of its embeddables: the seek predicate would skip the rows with a null sort column.
+     *
+     * @param metamodel the metamodel of the persistence unit of the result
+     * @param orderBy the order by clause of the query
+     * @param result the result
+     * @return the sort key, or {@code null} if it cannot be read
+     */
+    public static Object[] readSortKey(Metamodel metamodel, String orderBy, Object result) {
+        String[] paths = PanacheJpaUtil.getOrderByAttributePaths(orderBy);
+        if (paths.length == 0 || result == null) {
+            return null;
+        }
+        Object[] sortKey = new Object[paths.length];
+        try {
+            for (int i = 0; i < paths.length; i++) {
+                Object value = result;
+                for (String name : paths[i].split("\\.")) {
+                    if (value == null) {
+                        return null;
+                    }
+                    ManagedType<?> type = metamodel.managedType(value.getClass());
+                    if (!(type.getAttribute(name) instanceof SingularAttribute<?, ?> attribute)
+                            || attribute.isOptional()
+                            || (attribute.getType().getPersistenceType() != PersistenceType.BASIC
+                                    && attribute.getType().getPersistenceType() != PersistenceType.EMBEDDABLE)) {
+                        return null;
+                    }
+                    value = read(attribute, value);
+                }
+                if (value == null) {
+                    return null;
+                }
+                sortKey[i] = value;
+            }
+        } catch (RuntimeException | ReflectiveOperationException e) {
+            // Not an entity, such as a projection or a proxy, or an unknown attribute, such as a function
+            return null;
+        }
+        return sortKey;
+    }
+
+    private static Object read(Attribute<?, ?> attribute, Object owner) throws ReflectiveOperationException {
+        Member member = attribute.getJavaMember();
+        if (member instanceof Field field) {
+            field.setAccessible(true);
+            return field.get(owner);
+        } else if (member instanceof Method method) {
+            method.setAccessible(true);
+            return method.invoke(owner);
+        }
+        throw new IllegalArgumentException("Unable to read the attribute " + attribute.getName());
+    }
+}
@@ -0,0 +1,13 @@
+package io.quarkus.panache.hibernate.common.runtime;
+
+import java.util.List;
+
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class PanacheHibernateCommonRecorder {
+
+    public void setExpandedQueries(List<ExpandedQuery> queries) {
+        PanacheQueryCache.setBuildTimeQueries(queries);
+    }
+}
@@ -30,10 +30,14 @@ public class PanacheJpaUtil {
             Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
 
     public static String getEntityName(Class<?> entityClass) {
+        return getEntityName(entityClass.getName());
+    }
+
+    static String getEntityName(String entityClassName) {
         // FIXME: not true?
         // Escape the entity name just in case some keywords are used
         // in package names that will prevent ORM from executing a query
-        return "`%s`".formatted(entityClass.getName());
+        return "`%s`".formatted(entityClassName);
     }
 
     /**
@@ -55,13 +59,17 @@ public static String trimForAnalysis(String query) {
     }
 
     public static String createFindQuery(Class<?> entityClass, String query, int paramCount) {
+        return PanacheQueryCache.get(PanacheQueryCache.Kind.FIND, entityClass, query, paramCount);
+    }
+
+    static String expandFindQuery(String entityClassName, String query, boolean singleParameter) {
         if (query == null) {
-            return "FROM " + getEntityName(entityClass);
+            return "FROM " + getEntityName(entityClassName);
         }
 
         String trimmedForAnalysis = trimForAnalysis(query);
         if (trimmedForAnalysis.isEmpty()) {
-            return "FROM " + getEntityName(entityClass);
+            return "FROM " + getEntityName(entityClassName);
         }
 
         if (trimmedForAnalysis.startsWith("from ")
@@ -71,12 +79,12 @@ public static String createFindQuery(Class<?> entityClass, String query, int par
         }
         if (trimmedForAnalysis.startsWith("order by ")
                 || trimmedForAnalysis.startsWith("where ")) {
-            return "FROM " + getEntityName(entityClass) + " " + query;
+            return "FROM " + getEntityName(entityClassName) + " " + query;
         }
-        if (trimmedForAnalysis.indexOf(' ') == -1 && trimmedForAnalysis.indexOf('=') == -1 && paramCount == 1) {
+        if (trimmedForAnalysis.indexOf(' ') == -1 && trimmedForAnalysis.indexOf('=') == -1 && singleParameter) {
             query += " = ?1";
         }
-        return "FROM " + getEntityName(entityClass) + " WHERE " + query;
+        return "FROM " + getEntityName(entityClassName) + " WHERE " + query;
     }
 
     public static boolean isNamedQuery(String query) {
@@ -87,12 +95,16 @@ public static boolean isNamedQuery(String query) {
     }
 
     public static String createQueryForCount(Class<?> entityClass, String query, int paramCount) {
+        return PanacheQueryCache.get(PanacheQueryCache.Kind.COUNT, entityClass, query, paramCount);
+    }
+
+    static String expandQueryForCount(String entityClassName, String query, boolean singleParameter) {
         if (query == null || query.isEmpty())
-            return "FROM " + getEntityName(entityClass);
+            return "FROM " + getEntityName(entityClassName);
 
         String trimmedForAnalysis = trimForAnalysis(query);
         if (trimmedForAnalysis.isEmpty())
-            return "FROM " + getEntityName(entityClass);
+            return "FROM " + getEntityName(entityClassName);
 
         // assume these have valid select clauses and let them through
         if (trimmedForAnalysis.startsWith("select ")
@@ -101,19 +113,23 @@ public static String createQueryForCount(Class<?> entityClass, String query, int
             return query;
         }
         if (trimmedForAnalysis.startsWith("where ")) {
-            return "FROM " + getEntityName(entityClass) + " " + query;
+            return "FROM " + getEntityName(entityClassName) + " " + query;
         }
         if (trimmedForAnalysis.startsWith("order by ")) {
             // ignore it
-            return "FROM " + getEntityName(entityClass);
+            return "FROM " + getEntityName(entityClassName);
         }
-        if (trimmedForAnalysis.indexOf(' ') == -1 && trimmedForAnalysis.indexOf('=') == -1 && paramCount == 1) {
+        if (trimmedForAnalysis.indexOf(' ') == -1 && trimmedForAnalysis.indexOf('=') == -1 && singleParameter) {
             query += " = ?1";
         }
-        return "FROM " + getEntityName(entityClass) + " WHERE " + query;
+        return "FROM " + getEntityName(entityClassName) + " WHERE " + query;
     }
 
     public static String createUpdateQuery(Class<?> entityClass, String query, int paramCount) {
+        return PanacheQueryCache.get(PanacheQueryCache.Kind.UPDATE, entityClass, query, paramCount);
+    }
+
+    static String expandUpdateQuery(String entityClassName, String query, boolean singleParameter) {
         if (query == null) {
             throw new PanacheQueryException("Query string cannot be null");
         }
@@ -137,22 +153,26 @@ public static String createUpdateQuery(Class<?> entityClass, String query, int p
             int index = query.toLowerCase(Locale.ROOT).indexOf("from");
             return "UPDATE " + query.substring(index + 4);
         }
-        if (trimmedForAnalysis.indexOf(' ') == -1 && trimmedForAnalysis.indexOf('=') == -1 && paramCount == 1) {
+        if (trimmedForAnalysis.indexOf(' ') == -1 && trimmedForAnalysis.indexOf('=') == -1 && singleParameter) {
             query += " = ?1";
         }
         if (trimmedForAnalysis.startsWith("set ")) {
-            return "UPDATE " + getEntityName(entityClass) + " " + query;
+            return "UPDATE " + getEntityName(entityClassName) + " " + query;
         }
-        return "UPDATE " + getEntityName(entityClass) + " SET " + query;
+        return "UPDATE " + getEntityName(entityClassName) + " SET " + query;
     }
 
     public static String createDeleteQuery(Class<?> entityClass, String query, int paramCount) {
+        return PanacheQueryCache.get(PanacheQueryCache.Kind.DELETE, entityClass, query, paramCount);
+    }
+
+    static String expandDeleteQuery(String entityClassName, String query, boolean singleParameter) {
         if (query == null)
-            return "DELETE FROM " + getEntityName(entityClass);
+            return "DELETE FROM " + getEntityName(entityClassName);
 
         String trimmedForAnalysis = trimForAnalysis(query);
         if (trimmedForAnalysis.isEmpty())
-            return "DELETE FROM " + getEntityName(entityClass);
+            return "DELETE FROM " + getEntityName(entityClassName);
 
         if (trimmedForAnalysis.startsWith("delete ")) {
             return query;
@@ -162,12 +182,12 @@ public static String createDeleteQuery(Class<?> entityClass, String query, int p
         }
         if (trimmedForAnalysis.startsWith("order by ")) {
             // ignore it
-            return "DELETE FROM " + getEntityName(entityClass);
+            return "DELETE FROM " + getEntityName(entityClassName);
         }
-        if (trimmedForAnalysis.indexOf(' ') == -1 && trimmedForAnalysis.indexOf('=') == -1 && paramCount == 1) {
+        if (trimmedForAnalysis.indexOf(' ') == -1 && trimmedForAnalysis.indexOf('=') == -1 && singleParameter) {
             query += " = ?1";
         }
-        return "DELETE FROM " + getEntityName(entityClass) + " WHERE " + query;
+        return "DELETE FROM " + getEntityName(entityClassName) + " WHERE " + query;
     }
 
     public static String toOrderBy(Sort sort) {
@@ -203,6 +223,205 @@ public static String toOrderBy(Sort sort) {
         return sb.toString();
     }
 
+    /**
+     * Builds the seek predicate selecting the rows coming after a given sort key, for keyset pagination.
+     * <p>
+     * For an order by clause {@code ORDER BY a, b DESC} this returns {@code (a > ?1 OR (a = ?1 AND b < ?2))}, where the
+     * parameters are the given ones. The null precedence of the columns is ignored, so the sort columns must not be
+     * nullable, and they must identify a row uniquely for the pagination to be stable.
+     *
+     * @param orderBy the order by clause, as created by {@link #toOrderBy(Sort)}
+     * @param parameters the parameter references, one per sort column, e.g. {@code ?3} or {@code :key0}
+     * @return the seek predicate
+     */
+    public static String toKeysetPredicate(String orderBy, String[] parameters) {
+        return toKeysetPredicate(orderBy, parameters, false);
+    }
+
+    /**
+     * Builds the seek predicate selecting the rows coming after a given sort key, or also the rows with this sort key if
+     * {@code inclusive} is {@code true}, in which case {@code OR (a = ?1 AND b = ?2)} is added to the predicate.
+     *
+     * @see #toKeysetPredicate(String, String[])
+     */
+    public static String toKeysetPredicate(String orderBy, String[] parameters, boolean inclusive) {
+        String[] columns = getOrderByColumns(orderBy);
+        if (columns.length == 0 || columns.length != parameters.length) {
+            throw new IllegalArgumentException("Expected one parameter per sort column of '" + orderBy + "'");
+        }
+        StringBuilder sb = new StringBuilder("(");
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                sb.append(" OR ");
+            }
+            sb.append('(');
+            for (int j = 0; j < i; j++) {
+                sb.append(getOrderByColumnName(columns[j])).append(" = ").append(parameters[j]).append(" AND ");
+            }
+            sb.append(getOrderByColumnName(columns[i]))
+                    .append(isDescending(columns[i]) ? " < " : " > ")
+                    .append(parameters[i])
+                    .append(')');
+        }
+        if (inclusive) {
+            sb.append(" OR (");
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0) {
+                    sb.append(" AND ");
+                }
+                sb.append(getOrderByColumnName(columns[i])).append(" = ").append(parameters[i]);
+            }
+            sb.append(')');
+        }
+        return sb.append(')').toString();
+    }
+
+    /**
+     * @return the attribute paths of the columns of an order by clause created by {@link #toOrderBy(Sort)}, without the
+     *         quotes, e.g. {@code address.city}
+     */
+    public static String[] getOrderByAttributePaths(String orderBy) {
+        String[] columns = getOrderByColumns(orderBy);
+        String[] paths = new String[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            String[] path = getOrderByColumnName(columns[i]).split("\\.");
+            for (int j = 0; j < path.length; j++) {
+                path[j] = unquoteColumnName(path[j]);
+            }
+            paths[i] = String.join(".", path);
+        }
+        return paths;
+    }
+
+    /**
+     * @return the number of columns of an order by clause created by {@link #toOrderBy(Sort)}
+     */
+    public static int getOrderByColumnCount(String orderBy) {
+        return getOrderByColumns(orderBy).length;
+    }
+
+    /**
+     * Adds a predicate to the top-level where clause of a query, or adds a where clause if there is none.
+     *
+     * @throws PanacheQueryException if the query is a named query, is grouped, uses set operations or limits its results
+     */
+    public static String addPredicate(String query, String predicate) {
+        if (isNamedQuery(query)) {
+            throw new PanacheQueryException("Keyset pagination is not supported for named queries: " + query);
+        }
+        int[] clauses = findWhereAndOrderBy(query);
+        if (clauses == null) {
+            throw new PanacheQueryException("Keyset pagination is not supported for grouped queries, set operations or "
+                    + "queries with a limit, offset or fetch clause: " + query);
+        }
+        int where = clauses[0];
+        int end = clauses[1];
+        String head;
+        if (where >= 0) {
+            int condition = where + "where".length();
+            head = query.substring(0, condition) + " (" + query.substring(condition, end).trim() + ") AND " + predicate;
+        } else {
+            head = query.substring(0, end).trim() + " WHERE " + predicate;
+        }
+        return end < query.length() ? head + " " + query.substring(end) : head;
+    }
+
+    /**
+     * @return {@code true} if {@link #addPredicate(String, String)} supports the query
+     */
+    public static boolean canAddPredicate(String query) {
+        return !isNamedQuery(query) && findWhereAndOrderBy(query) != null;
+    }
+
+    /**
+     * @return the index of the top-level where keyword, or -1, and the index of the top-level order by clause, or the
+     *         query length, or {@code null} if the query is grouped, uses set operations or limits its results
+     */
+    private static int[] findWhereAndOrderBy(String query) {
+        int where = -1;
+        int end = query.length();
+        int depth = 0;
+        boolean quoted = false;
+        // Scans the whole query, the clauses limiting the results come after the order by clause
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (quoted) {
+                continue;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (depth == 0 && (i == 0 || !Character.isJavaIdentifierPart(query.charAt(i - 1)))) {
+                if (isKeywordAt(query, i, "where")) {
+                    where = i;
+                } else if (isKeywordAt(query, i, "order") && end == query.length()) {
+                    end = i;
+                } else if (isKeywordAt(query, i, "group") || isKeywordAt(query, i, "having")
+                        || isKeywordAt(query, i, "union") || isKeywordAt(query, i, "intersect")
+                        || isKeywordAt(query, i, "except")) {
+                    return null;
+                } else if (isKeywordAt(query, i, "limit") || isKeywordAt(query, i, "offset") || isFetchClauseAt(query, i)) {
+                    // The predicate would have to be added before these clauses, and the sort after them
+                    return null;
+                }
+            }
+        }
+        return new int[] { where, end };
+    }
+
+    /**
+     * @return {@code true} if a {@code fetch first} or {@code fetch next} clause starts at the given index, as opposed to
+     *         a {@code join fetch}
+     */
+    private static boolean isFetchClauseAt(String query, int index) {
+        if (!isKeywordAt(query, index, "fetch")) {
+            return false;
+        }
+        int next = index + "fetch".length();
+        while (next < query.length() && Character.isWhitespace(query.charAt(next))) {
+            next++;
+        }
+        return isKeywordAt(query, next, "first") || isKeywordAt(query, next, "next");
+    }
+
+    private static boolean isKeywordAt(String query, int index, String keyword) {
+        int end = index + keyword.length();
+        return query.regionMatches(true, index, keyword, 0, keyword.length())
+                && (end == query.length() || !Character.isJavaIdentifierPart(query.charAt(end)));
+    }
+
+    private static String[] getOrderByColumns(String orderBy) {
+        if (orderBy == null) {
+            return new String[0];
+        }
+        String columns = orderBy.trim();
+        if (!columns.regionMatches(true, 0, "ORDER BY ", 0, "ORDER BY ".length())) {
+            return new String[0];
+        }
+        columns = columns.substring("ORDER BY ".length()).trim();
+        return columns.isEmpty() ? new String[0] : columns.split(" , ");
+    }
+
+    private static String getOrderByColumnName(String column) {
+        String name = stripSuffix(column.trim(), " NULLS FIRST");
+        name = stripSuffix(name, " NULLS LAST");
+        return stripSuffix(name, " DESC");
+    }
+
+    private static boolean isDescending(String column) {
+        String name = stripSuffix(column.trim(), " NULLS FIRST");
+        name = stripSuffix(name, " NULLS LAST");
+        return !name.equals(stripSuffix(name, " DESC"));
+    }
+
+    private static String stripSuffix(String column, String suffix) {
+        int start = column.length() - suffix.length();
+        return start > 0 && column.regionMatches(true, start, suffix, 0, suffix.length()) ? column.substring(0, start)
+                : column;
+    }
+
     private static StringBuilder escapeColumnName(String columnName) {
         StringBuilder sb = new StringBuilder();
         String[] path = columnName.split("\\.");
@@ -0,0 +1,78 @@
+package io.quarkus.panache.hibernate.common.runtime;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the HQL queries expanded from Panache short-form queries, such as {@code "status = ?1 and owner = ?2"}.
+ * <p>
+ * The constant queries found in the application at build time are expanded once and registered at startup. Any other
+ * query is expanded on first use and kept in a bounded cache, keyed by the entity, the query and whether a single
+ * parameter is passed, since it may change the expanded query. Once the cache is full, the queries which are not cached
+ * yet are expanded on every call.
+ */
+public final class PanacheQueryCache {
+
+    static final int MAX_SIZE = 2048;
+
+    public enum Kind {
+        FIND,
+        COUNT,
+        UPDATE,
+        DELETE;
+
+        public String expand(String entityClassName, String query, boolean singleParameter) {
+            return switch (this) {
+                case FIND -> PanacheJpaUtil.expandFindQuery(entityClassName, query, singleParameter);
+                case COUNT -> PanacheJpaUtil.expandQueryForCount(entityClassName, query, singleParameter);
+                case UPDATE -> PanacheJpaUtil.expandUpdateQuery(entityClassName, query, singleParameter);
+                case DELETE -> PanacheJpaUtil.expandDeleteQuery(entityClassName, query, singleParameter);
+            };
+        }
+    }
+
+    private static volatile Map<Key, String> buildTimeQueries = Map.of();
+    private static final ConcurrentHashMap<Key, String> runtimeQueries = new ConcurrentHashMap<>();
+
+    private PanacheQueryCache() {
+    }
+
+    /**
+     * Replaces the queries expanded at build time and clears the runtime cache.
+     */
+    public static void setBuildTimeQueries(List<ExpandedQuery> queries) {
+        Map<Key, String> map = new HashMap<>();
+        for (ExpandedQuery query : queries) {
+            map.put(new Key(query.getKind(), query.getEntityClassName(), query.getQuery(), query.isSingleParameter()),
+                    query.getExpandedQuery());
+        }
+        buildTimeQueries = map;
+        runtimeQueries.clear();
+    }
+
+    static String get(Kind kind, Class<?> entityClass, String query, int paramCount) {
+        Key key = new Key(kind, entityClass.getName(), query, paramCount == 1);
+        String expanded = buildTimeQueries.get(key);
+        if (expanded != null) {
+            return expanded;
+        }
+        expanded = runtimeQueries.get(key);
+        if (expanded != null) {
+            return expanded;
+        }
+        expanded = kind.expand(key.entityClassName, query, key.singleParameter);
+        if (runtimeQueries.size() < MAX_SIZE) {
+            runtimeQueries.putIfAbsent(key, expanded);
+        }
+        return expanded;
+    }
+
+    static int runtimeSize() {
+        return runtimeQueries.size();
+    }
+
+    private record Key(Kind kind, String entityClassName, String query, boolean singleParameter) {
+    }
+}
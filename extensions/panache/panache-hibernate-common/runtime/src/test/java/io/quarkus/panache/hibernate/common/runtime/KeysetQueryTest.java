@@ -0,0 +1,105 @@
+package io.quarkus.panache.hibernate.common.runtime;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.panache.common.Sort;
+import io.quarkus.panache.common.exception.PanacheQueryException;
+
+public class KeysetQueryTest {
+
+    @Test
+    public void testSeekPredicate() {
+        Assertions.assertEquals("((`name` > ?1))",
+                PanacheJpaUtil.toKeysetPredicate(PanacheJpaUtil.toOrderBy(Sort.by("name")), new String[] { "?1" }));
+        Assertions.assertEquals("((`name` < :k0) OR (`name` = :k0 AND `id` > :k1))",
+                PanacheJpaUtil.toKeysetPredicate(
+                        PanacheJpaUtil.toOrderBy(Sort.by("name", Sort.Direction.Descending, Sort.NullPrecedence.NULLS_LAST)
+                                .and("id")),
+                        new String[] { ":k0", ":k1" }));
+        Assertions.assertEquals("((a.b > ?1) OR (a.b = ?1 AND c < ?2))",
+                PanacheJpaUtil.toKeysetPredicate(
+                        PanacheJpaUtil.toOrderBy(Sort.by("a.b").and("c", Sort.Direction.Descending).disableEscaping()),
+                        new String[] { "?1", "?2" }));
+        Assertions.assertEquals("((`name` < ?1) OR (`name` = ?1 AND `id` > ?2) OR (`name` = ?1 AND `id` = ?2))",
+                PanacheJpaUtil.toKeysetPredicate(
+                        PanacheJpaUtil.toOrderBy(Sort.by("name", Sort.Direction.Descending).and("id")),
+                        new String[] { "?1", "?2" }, true));
+    }
+
+    @Test
+    public void testOrderByAttributePaths() {
+        Assertions.assertArrayEquals(new String[] { "name", "address.city", "id" },
+                PanacheJpaUtil.getOrderByAttributePaths(PanacheJpaUtil.toOrderBy(
+                        Sort.by("name", Sort.Direction.Descending, Sort.NullPrecedence.NULLS_FIRST).and("address.city")
+                                .and("id"))));
+        Assertions.assertArrayEquals(new String[0], PanacheJpaUtil.getOrderByAttributePaths(null));
+    }
+
+    @Test
+    public void testAddPredicate() {
+        Assertions.assertEquals("FROM Person WHERE p", PanacheJpaUtil.addPredicate("FROM Person", "p"));
+        Assertions.assertEquals("FROM Person WHERE (name = ?1 or age = ?2) AND p",
+                PanacheJpaUtil.addPredicate("FROM Person WHERE name = ?1 or age = ?2", "p"));
+        Assertions.assertEquals("from Person where (name = 'where' and id in (select o.id from Order o where o.x = 1)) AND p",
+                PanacheJpaUtil.addPredicate(
+                        "from Person where name = 'where' and id in (select o.id from Order o where o.x = 1)", "p"));
+        Assertions.assertEquals("from Person where (name = ?1) AND p order by name",
+                PanacheJpaUtil.addPredicate("from Person where name = ?1 order by name", "p"));
+        Assertions.assertEquals("from Person WHERE p order by name",
+                PanacheJpaUtil.addPredicate("from Person order by name", "p"));
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> PanacheJpaUtil.addPredicate("select name, count(*) from Person group by name", "p"));
+        Assertions.assertThrows(PanacheQueryException.class, () -> PanacheJpaUtil.addPredicate("#Person.byName", "p"));
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> PanacheJpaUtil.addPredicate("from Person order by name limit 10", "p"));
+        Assertions.assertThrows(PanacheQueryException.class, () -> PanacheJpaUtil.addPredicate("from Person offset 5", "p"));
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> PanacheJpaUtil.addPredicate("from Person fetch first 10 rows only", "p"));
+        Assertions.assertEquals("from Person p join fetch p.address WHERE p",
+                PanacheJpaUtil.addPredicate("from Person p join fetch p.address", "p"));
+        Assertions.assertTrue(PanacheJpaUtil.canAddPredicate("from Person where name = ?1 order by name"));
+        Assertions.assertFalse(PanacheJpaUtil.canAddPredicate("select name, count(*) from Person group by name"));
+        Assertions.assertFalse(PanacheJpaUtil.canAddPredicate("#Person.byName"));
+        Assertions.assertFalse(PanacheJpaUtil.canAddPredicate("from Person limit 10"));
+        Assertions.assertTrue(PanacheJpaUtil.canAddPredicate("from Person where name = 'limit' order by name"));
+    }
+
+    @Test
+    public void testKeysetQuery() {
+        String orderBy = PanacheJpaUtil.toOrderBy(Sort.by("name").and("id"));
+
+        KeysetQuery positional = KeysetQuery.of("FROM Person WHERE age > ?1", orderBy, new Object[] { 18 },
+                new Object[] { "Stef", 42L });
+        Assertions.assertEquals("FROM Person WHERE (age > ?1) AND ((`name` > ?2) OR (`name` = ?2 AND `id` > ?3))"
+                + " ORDER BY `name` , `id`", positional.query());
+        Assertions.assertArrayEquals(new Object[] { 18, "Stef", 42L }, (Object[]) positional.params());
+
+        KeysetQuery named = KeysetQuery.of("FROM Person WHERE age > :age", orderBy, Map.of("age", 18),
+                new Object[] { "Stef", 42L });
+        Assertions.assertEquals("FROM Person WHERE (age > :age) AND ((`name` > :__panacheKeyset0) OR"
+                + " (`name` = :__panacheKeyset0 AND `id` > :__panacheKeyset1)) ORDER BY `name` , `id`", named.query());
+        Assertions.assertEquals(Map.of("age", 18, "__panacheKeyset0", "Stef", "__panacheKeyset1", 42L), named.params());
+
+        KeysetQuery inclusive = KeysetQuery.of("FROM Person WHERE age > ?1", orderBy, new Object[] { 18 },
+                new Object[] { "Stef", 42L }, true);
+        Assertions.assertEquals("FROM Person WHERE (age > ?1) AND ((`name` > ?2) OR (`name` = ?2 AND `id` > ?3)"
+                + " OR (`name` = ?2 AND `id` = ?3)) ORDER BY `name` , `id`", inclusive.query());
+
+        KeysetQuery noParams = KeysetQuery.of("FROM Person", orderBy, null, new Object[] { "Stef", 42L });
+        Assertions.assertArrayEquals(new Object[] { "Stef", 42L }, (Object[]) noParams.params());
+    }
+
+    @Test
+    public void testCheckSortKey() {
+        String orderBy = PanacheJpaUtil.toOrderBy(Sort.by("name").and("id"));
+        KeysetQuery.checkSortKey(orderBy, new Object[] { "Stef", 42L });
+        Assertions.assertThrows(PanacheQueryException.class, () -> KeysetQuery.checkSortKey(null, new Object[] { 1 }));
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> KeysetQuery.checkSortKey(orderBy, new Object[] { "Stef" }));
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> KeysetQuery.checkSortKey(orderBy, new Object[] { "Stef", null }));
+    }
+}
@@ -0,0 +1,66 @@
+package io.quarkus.panache.hibernate.common.runtime;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PanacheQueryCacheTest {
+
+    @AfterEach
+    public void reset() {
+        PanacheQueryCache.setBuildTimeQueries(List.of());
+    }
+
+    @Test
+    public void testExpandedQueries() {
+        String entity = "`" + PanacheQueryCacheTest.class.getName() + "`";
+        Class<?> entityClass = PanacheQueryCacheTest.class;
+
+        Assertions.assertEquals("FROM " + entity, PanacheJpaUtil.createFindQuery(entityClass, null, 0));
+        Assertions.assertEquals("FROM " + entity + " WHERE name = ?1", PanacheJpaUtil.createFindQuery(entityClass, "name", 1));
+        Assertions.assertEquals("FROM " + entity + " WHERE name", PanacheJpaUtil.createFindQuery(entityClass, "name", 2));
+        Assertions.assertEquals("FROM " + entity + " WHERE status = ?1 and owner = ?2",
+                PanacheJpaUtil.createQueryForCount(entityClass, "status = ?1 and owner = ?2", 2));
+        Assertions.assertEquals("FROM " + entity, PanacheJpaUtil.createQueryForCount(entityClass, "order by name", 0));
+        Assertions.assertEquals("UPDATE " + entity + " SET name = ?1",
+                PanacheJpaUtil.createUpdateQuery(entityClass, "name = ?1", 1));
+        Assertions.assertEquals("DELETE FROM " + entity + " WHERE name = ?1",
+                PanacheJpaUtil.createDeleteQuery(entityClass, "name", 1));
+        // Cached queries are returned as is
+        Assertions.assertSame(PanacheJpaUtil.createFindQuery(entityClass, "name", 1),
+                PanacheJpaUtil.createFindQuery(entityClass, "name", 1));
+    }
+
+    @Test
+    public void testInvalidQueriesAreNotCached() {
+        int size = PanacheQueryCache.runtimeSize();
+        Assertions.assertThrows(RuntimeException.class,
+                () -> PanacheJpaUtil.createUpdateQuery(PanacheQueryCacheTest.class, " ", 0));
+        Assertions.assertEquals(size, PanacheQueryCache.runtimeSize());
+    }
+
+    @Test
+    public void testBuildTimeQueries() {
+        PanacheQueryCache.setBuildTimeQueries(List.of(new ExpandedQuery(PanacheQueryCache.Kind.FIND,
+                PanacheQueryCacheTest.class.getName(), "name", true, "FROM Precomputed WHERE name = ?1")));
+
+        Assertions.assertEquals("FROM Precomputed WHERE name = ?1",
+                PanacheJpaUtil.createFindQuery(PanacheQueryCacheTest.class, "name", 1));
+        // The number of parameters is part of the key
+        Assertions.assertEquals("FROM `" + PanacheQueryCacheTest.class.getName() + "` WHERE name",
+                PanacheJpaUtil.createFindQuery(PanacheQueryCacheTest.class, "name", 0));
+        Assertions.assertEquals(1, PanacheQueryCache.runtimeSize());
+    }
+
+    @Test
+    public void testRuntimeCacheIsBounded() {
+        for (int i = 0; i < PanacheQueryCache.MAX_SIZE + 10; i++) {
+            PanacheJpaUtil.createFindQuery(PanacheQueryCacheTest.class, "field" + i + " = ?1", 1);
+        }
+        Assertions.assertEquals(PanacheQueryCache.MAX_SIZE, PanacheQueryCache.runtimeSize());
+        Assertions.assertEquals("FROM `" + PanacheQueryCacheTest.class.getName() + "` WHERE other = ?1",
+                PanacheJpaUtil.createFindQuery(PanacheQueryCacheTest.class, "other = ?1", 1));
+    }
+}
@@ -1,9 +1,18 @@
 package io.quarkus.reactive.datasource.deployment;
 
+import java.util.Optional;
+
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.datasource.runtime.DataSourcesBuildTimeConfig;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.reactive.datasource.ReactiveDataSource;
+import io.quarkus.reactive.datasource.runtime.DataSourcesReactiveBuildTimeConfig;
+import io.quarkus.reactive.datasource.runtime.ReactiveDataSourceMetricsRecorder;
 
 class ReactiveDataSourceProcessor {
 
@@ -12,4 +21,23 @@ void addQualifierAsBean(BuildProducer<AdditionalBeanBuildItem> additionalBeans)
         // add the @ReactiveDataSource class otherwise it won't be registered as a qualifier
         additionalBeans.produce(AdditionalBeanBuildItem.builder().addBeanClass(ReactiveDataSource.class).build());
     }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void registerMetrics(ReactiveDataSourceMetricsRecorder recorder,
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            DataSourcesBuildTimeConfig dataSourcesBuildTimeConfig,
+            DataSourcesReactiveBuildTimeConfig dataSourcesReactiveBuildTimeConfig,
+            BuildProducer<MetricsFactoryConsumerBuildItem> datasourceMetrics) {
+        if (metricsCapability.isEmpty() || !dataSourcesBuildTimeConfig.metricsEnabled()) {
+            return;
+        }
+        for (String dataSourceName : dataSourcesBuildTimeConfig.dataSources().keySet()) {
+            // Whether the pool uses event loop affinity is only known at runtime
+            if (dataSourcesReactiveBuildTimeConfig.dataSources().get(dataSourceName).reactive().enabled()) {
+                datasourceMetrics.produce(
+                        new MetricsFactoryConsumerBuildItem(recorder.registerDataSourceMetrics(dataSourceName)));
+            }
+        }
+    }
 }
@@ -0,0 +1,207 @@
+package io.quarkus.reactive.datasource.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.SqlConnection;
+
+public class EventLoopAffinityPoolTest {
+
+    private VertxInternal vertx;
+    private List<EventLoop> loops;
+    private List<RecordingPool> subPools;
+
+    @BeforeEach
+    public void setup() {
+        vertx = (VertxInternal) Vertx.vertx(new VertxOptions().setEventLoopPoolSize(2));
+        loops = new ArrayList<>();
+        for (EventExecutor executor : vertx.getEventLoopGroup()) {
+            loops.add((EventLoop) executor);
+        }
+        subPools = new ArrayList<>();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        vertx.close().toCompletionStage().toCompletableFuture().join();
+    }
+
+    @Test
+    public void testAcquireFromTheCurrentEventLoop() throws Exception {
+        TestAffinityPool pool = new TestAffinityPool("own", new PoolOptions().setMaxSize(4));
+        assertEquals(2, subPools.size());
+        assertEquals(2, subPools.get(0).maxSize);
+
+        getConnection(pool, loops.get(0));
+        getConnection(pool, loops.get(1));
+        getConnection(pool, loops.get(0));
+
+        assertEquals(List.of(loops.get(0), loops.get(0)), subPools.get(0).acquisitionLoops);
+        assertEquals(List.of(loops.get(1)), subPools.get(1).acquisitionLoops);
+        assertEquals(3, EventLoopAffinityPool.stats("own").acquisitions());
+        assertEquals(0, EventLoopAffinityPool.stats("own").crossLoopBorrows());
+    }
+
+    @Test
+    public void testBorrowWhenExhausted() throws Exception {
+        TestAffinityPool pool = new TestAffinityPool("borrow", new PoolOptions().setMaxSize(2));
+        RecordingPool own = subPools.get(0);
+        RecordingPool other = subPools.get(1);
+
+        // The sub-pool has reached its maximum size, and a first acquisition waits for a connection
+        own.size = 1;
+        getConnection(pool, loops.get(0));
+        assertEquals(1, own.pending.size());
+
+        getConnection(pool, loops.get(0));
+        // The borrowed connection is acquired on the event loop of the other sub-pool
+        assertEquals(List.of(loops.get(1)), other.acquisitionLoops);
+        assertEquals(1, EventLoopAffinityPool.stats("borrow").crossLoopBorrows());
+
+        own.pending.remove(0).complete();
+        getConnection(pool, loops.get(0));
+        assertEquals(2, own.acquisitionLoops.size());
+        assertEquals(3, EventLoopAffinityPool.stats("borrow").acquisitions());
+        assertEquals(1, EventLoopAffinityPool.stats("borrow").crossLoopBorrows());
+    }
+
+    @Test
+    public void testEventLoopSize() {
+        TestAffinityPool pool = new TestAffinityPool("size", new PoolOptions().setMaxSize(4).setEventLoopSize(1));
+        assertEquals(1, subPools.size());
+        assertEquals(4, subPools.get(0).maxSize);
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void testMaxSizeRemainder() {
+        new TestAffinityPool("remainder", new PoolOptions().setMaxSize(5).setMaxWaitQueueSize(3));
+        // The sizes of the sub-pools sum to the sizes of the pool
+        assertEquals(List.of(3, 2), List.of(subPools.get(0).maxSize, subPools.get(1).maxSize));
+        assertEquals(List.of(2, 1), List.of(subPools.get(0).maxWaitQueueSize, subPools.get(1).maxWaitQueueSize));
+
+        subPools.clear();
+        new TestAffinityPool("unbounded", new PoolOptions().setMaxSize(4));
+        assertEquals(List.of(-1, -1), List.of(subPools.get(0).maxWaitQueueSize, subPools.get(1).maxWaitQueueSize));
+    }
+
+    @Test
+    public void testMaxSizeLowerThanEventLoops() throws Exception {
+        TestAffinityPool pool = new TestAffinityPool("lower", new PoolOptions().setMaxSize(1));
+        assertEquals(1, subPools.size());
+        assertEquals(1, subPools.get(0).maxSize);
+
+        // The event loop without a sub-pool borrows its connections, which are acquired on the event loop of the sub-pool
+        getConnection(pool, loops.get(1));
+        assertEquals(List.of(loops.get(0)), subPools.get(0).acquisitionLoops);
+        assertEquals(1, EventLoopAffinityPool.stats("lower").crossLoopBorrows());
+    }
+
+    @Test
+    public void testStatsResetOnClose() throws Exception {
+        TestAffinityPool pool = new TestAffinityPool("close", new PoolOptions().setMaxSize(2));
+        getConnection(pool, loops.get(0));
+        EventLoopAffinityPool.Stats stats = EventLoopAffinityPool.stats("close");
+        assertEquals(1, stats.acquisitions());
+
+        pool.close().toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+        assertTrue(subPools.get(0).isClosed());
+        assertTrue(subPools.get(1).isClosed());
+        assertNotSame(stats, EventLoopAffinityPool.stats("close"));
+        assertEquals(0, EventLoopAffinityPool.stats("close").acquisitions());
+
+        // A new pool for the datasource records its acquisitions in the new statistics
+        TestAffinityPool restarted = new TestAffinityPool("close", new PoolOptions().setMaxSize(2));
+        getConnection(restarted, loops.get(0));
+        assertEquals(1, EventLoopAffinityPool.stats("close").acquisitions());
+    }
+
+    @Test
+    public void testShared() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new TestAffinityPool("shared", new PoolOptions().setShared(true)));
+    }
+
+    private void getConnection(Pool pool, EventLoop loop) throws Exception {
+        ContextInternal context = vertx.createEventLoopContext(loop, null, getClass().getClassLoader());
+        CompletableFuture<Void> called = new CompletableFuture<>();
+        context.runOnContext(v -> {
+            pool.getConnection();
+            called.complete(null);
+        });
+        called.get(5, TimeUnit.SECONDS);
+        // Let a borrowing acquisition run on the event loop of its sub-pool
+        for (EventLoop l : loops) {
+            l.submit(() -> {
+            }).get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private class TestAffinityPool extends EventLoopAffinityPool {
+
+        TestAffinityPool(String dataSourceName, PoolOptions poolOptions) {
+            super(vertx, dataSourceName, poolOptions, new Function<PoolOptions, Pool>() {
+                @Override
+                public Pool apply(PoolOptions options) {
+                    RecordingPool subPool = new RecordingPool(options.getMaxSize(), options.getMaxWaitQueueSize());
+                    subPools.add(subPool);
+                    return subPool;
+                }
+            });
+        }
+    }
+
+    private static class RecordingPool extends TestPool {
+
+        final int maxSize;
+        final int maxWaitQueueSize;
+        final List<EventLoop> acquisitionLoops = new ArrayList<>();
+        final List<Promise<SqlConnection>> pending = new ArrayList<>();
+        volatile int size;
+
+        RecordingPool(int maxSize, int maxWaitQueueSize) {
+            this.maxSize = maxSize;
+            this.maxWaitQueueSize = maxWaitQueueSize;
+        }
+
+        @Override
+        public Future<SqlConnection> getConnection() {
+            ContextInternal context = (ContextInternal) Vertx.currentContext();
+            acquisitionLoops.add(context.nettyEventLoop());
+            Promise<SqlConnection> promise = context.promise();
+            if (size == maxSize) {
+                pending.add(promise);
+            } else {
+                promise.complete();
+            }
+            return promise.future();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -52,6 +52,23 @@ public interface DataSourceReactiveRuntimeConfig {
      */
     OptionalInt eventLoopSize();
 
+    /**
+     * Whether each event loop should own a part of the pool.
+     * <p>
+     * When enabled, the pool is split in one sub-pool per event loop, {@code #max-size} being divided between the
+     * sub-pools, and the connections of a sub-pool are bound to its event loop.
+     * A connection is acquired from the sub-pool of the current event loop, so that the results of its queries are handled
+     * without switching threads, and is only borrowed from the sub-pool of another event loop when the one of the current
+     * event loop is exhausted.
+     * The pool has as many sub-pools as {@code #event-loop-size} when it is set to a strictly positive value, one for each
+     * event loop otherwise, but never more than {@code #max-size}.
+     * <p>
+     * Cannot be enabled for a {@code #shared} pool, nor when the pool is created by a pool creator bean, e.g. a
+     * {@code PgPoolCreator}.
+     */
+    @WithDefault("false")
+    boolean eventLoopAffinity();
+
     /**
      * Whether all server certificates should be trusted.
      */
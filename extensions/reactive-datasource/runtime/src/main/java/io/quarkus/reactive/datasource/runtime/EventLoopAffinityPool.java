@@ -0,0 +1,272 @@
+package io.quarkus.reactive.datasource.runtime;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.PrepareOptions;
+import io.vertx.sqlclient.PreparedQuery;
+import io.vertx.sqlclient.Query;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.SqlConnection;
+
+/**
+ * A pool split in one sub-pool per event loop, the connections of a sub-pool being bound to its event loop.
+ * <p>
+ * A connection is acquired from the sub-pool of the event loop of the caller, so that the results of its queries are handled
+ * on the event loop of the caller. It is borrowed from another sub-pool only when the sub-pool of the caller is exhausted,
+ * i.e. when it has reached its maximum size and another acquisition is already waiting for one of its connections.
+ * As the pool does not know how many connections are in use, the first acquisition finding all the connections of its
+ * event loop in use waits for one of them, and only the next ones borrow.
+ * <p>
+ * Subclasses implement the pool interface of a given client, e.g. {@code PgPool}.
+ */
+public abstract class EventLoopAffinityPool implements Pool {
+
+    private static final Map<String, Stats> STATS = new ConcurrentHashMap<>();
+
+    private final VertxInternal vertx;
+    private final String dataSourceName;
+    private final SubPool[] subPools;
+    private final Map<EventLoop, SubPool> subPoolsByLoop;
+    private final Stats stats;
+    private final AtomicInteger nextBorrow = new AtomicInteger();
+
+    /**
+     * @param poolOptions the options of the whole pool, its maximum size and wait queue size are shared between the
+     *        sub-pools
+     * @param poolFactory creates a sub-pool with the given options
+     */
+    protected EventLoopAffinityPool(VertxInternal vertx, String dataSourceName, PoolOptions poolOptions,
+            Function<PoolOptions, ? extends Pool> poolFactory) {
+        if (poolOptions.isShared()) {
+            throw new IllegalArgumentException("The reactive pool of datasource '" + dataSourceName
+                    + "' cannot be shared and use event loop affinity at the same time");
+        }
+        List<EventLoop> loops = new ArrayList<>();
+        for (EventExecutor executor : vertx.getEventLoopGroup()) {
+            if (poolOptions.getEventLoopSize() > 0 && loops.size() == poolOptions.getEventLoopSize()) {
+                break;
+            }
+            loops.add((EventLoop) executor);
+        }
+        // No sub-pool can be empty: the event loops without a sub-pool borrow from the others
+        int subPoolCount = Math.min(loops.size(), poolOptions.getMaxSize());
+        int maxWaitQueueSize = poolOptions.getMaxWaitQueueSize();
+
+        this.vertx = vertx;
+        this.dataSourceName = dataSourceName;
+        this.subPools = new SubPool[subPoolCount];
+        this.subPoolsByLoop = new IdentityHashMap<>();
+        for (int i = 0; i < subPools.length; i++) {
+            EventLoop loop = loops.get(i);
+            int subPoolMaxSize = share(poolOptions.getMaxSize(), subPoolCount, i);
+            // Each sub-pool opens its connections on the event loop of the acquisition, which is always its own event loop
+            PoolOptions subPoolOptions = new PoolOptions(poolOptions)
+                    .setMaxSize(subPoolMaxSize)
+                    .setMaxWaitQueueSize(maxWaitQueueSize < 0 ? maxWaitQueueSize : share(maxWaitQueueSize, subPoolCount, i))
+                    .setEventLoopSize(0);
+            ContextInternal context = vertx.createEventLoopContext(loop, null,
+                    Thread.currentThread().getContextClassLoader());
+            subPools[i] = new SubPool(poolFactory.apply(subPoolOptions), context, subPoolMaxSize);
+            subPoolsByLoop.put(loop, subPools[i]);
+        }
+        this.stats = stats(dataSourceName);
+    }
+
+    /**
+     * @return the share of {@code total} of the sub-pool at {@code index}, the remainder of the division going to the
+     *         first sub-pools so that the shares sum to {@code total}
+     */
+    static int share(int total, int subPoolCount, int index) {
+        return total / subPoolCount + (index < total % subPoolCount ? 1 : 0);
+    }
+
+    /**
+     * @return the statistics of the event loop affinity pool of the given datasource, until this pool is closed
+     */
+    public static Stats stats(String dataSourceName) {
+        return STATS.computeIfAbsent(dataSourceName, k -> new Stats());
+    }
+
+    @Override
+    public void getConnection(Handler<AsyncResult<SqlConnection>> handler) {
+        Future<SqlConnection> future = getConnection();
+        if (handler != null) {
+            future.onComplete(handler);
+        }
+    }
+
+    @Override
+    public Future<SqlConnection> getConnection() {
+        ContextInternal current = vertx.getOrCreateContext();
+        SubPool own = subPoolsByLoop.get(current.nettyEventLoop());
+        SubPool target = select(own, true);
+        if (target == own) {
+            return acquire(target);
+        }
+        // Acquire on the event loop of the sub-pool, so that a connection opened for this borrow is bound to it
+        Promise<SqlConnection> promise = current.promise();
+        target.context.runOnContext(v -> acquire(target).onComplete(promise));
+        return promise.future();
+    }
+
+    @Override
+    public Query<RowSet<Row>> query(String sql) {
+        return select().query(sql);
+    }
+
+    @Override
+    public PreparedQuery<RowSet<Row>> preparedQuery(String sql) {
+        return select().preparedQuery(sql);
+    }
+
+    @Override
+    public PreparedQuery<RowSet<Row>> preparedQuery(String sql, PrepareOptions options) {
+        return select().preparedQuery(sql, options);
+    }
+
+    @Override
+    public Pool connectHandler(Handler<SqlConnection> handler) {
+        for (SubPool subPool : subPools) {
+            subPool.pool.connectHandler(handler);
+        }
+        return this;
+    }
+
+    @Override
+    public Pool connectionProvider(Function<Context, Future<SqlConnection>> provider) {
+        for (SubPool subPool : subPools) {
+            subPool.pool.connectionProvider(provider);
+        }
+        return this;
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (SubPool subPool : subPools) {
+            size += subPool.pool.size();
+        }
+        return size;
+    }
+
+    @Override
+    public void close(Handler<AsyncResult<Void>> handler) {
+        Future<Void> future = close();
+        if (handler != null) {
+            future.onComplete(handler);
+        }
+    }
+
+    @Override
+    public Future<Void> close() {
+        List<Future<Void>> futures = new ArrayList<>(subPools.length);
+        for (SubPool subPool : subPools) {
+            futures.add(subPool.pool.close());
+        }
+        // The next pool created for this datasource, e.g. after a dev mode restart, starts with new statistics
+        STATS.remove(dataSourceName, stats);
+        return Future.all(futures).mapEmpty();
+    }
+
+    /**
+     * Selects the sub-pool of a query executed directly on the pool, which acquires its connection on the current event
+     * loop.
+     */
+    private Pool select() {
+        ContextInternal current = vertx.getOrCreateContext();
+        // Only borrow from a sub-pool that cannot open a connection, which would be bound to the current event loop
+        return select(subPoolsByLoop.get(current.nettyEventLoop()), false).pool;
+    }
+
+    /**
+     * Selects the sub-pool to acquire a connection from.
+     * <p>
+     * The Vert.x pool does not tell how many of its connections are in use, so the own sub-pool is only considered
+     * exhausted when it has reached its maximum size and another acquisition is queued on it. The first acquisition that
+     * finds all its connections in use still waits on the own sub-pool, only the next ones are borrowed from another
+     * sub-pool, even when that sub-pool has idle connections.
+     *
+     * @param own the sub-pool of the event loop of the caller, or {@code null} if this event loop has none
+     * @param mayConnect whether the acquisition runs on the event loop of the selected sub-pool, so that it may open a new
+     *        connection there
+     */
+    private SubPool select(SubPool own, boolean mayConnect) {
+        stats.acquisitions.increment();
+        if (own != null && (own.pool.size() < own.maxSize || own.acquiring.get() == 0)) {
+            return own;
+        }
+        int start = Math.floorMod(nextBorrow.getAndIncrement(), subPools.length);
+        for (int i = 0; i < subPools.length; i++) {
+            SubPool candidate = subPools[(start + i) % subPools.length];
+            if (candidate != own && candidate.acquiring.get() == 0
+                    && (mayConnect || candidate.pool.size() >= candidate.maxSize)) {
+                stats.crossLoopBorrows.increment();
+                return candidate;
+            }
+        }
+        if (own != null) {
+            // All the sub-pools are exhausted, wait for a connection of the current event loop
+            return own;
+        }
+        stats.crossLoopBorrows.increment();
+        return subPools[start];
+    }
+
+    private static Future<SqlConnection> acquire(SubPool subPool) {
+        subPool.acquiring.incrementAndGet();
+        return subPool.pool.getConnection().andThen(ar -> subPool.acquiring.decrementAndGet());
+    }
+
+    private static final class SubPool {
+
+        final Pool pool;
+        final ContextInternal context;
+        final int maxSize;
+        final AtomicInteger acquiring = new AtomicInteger();
+
+        SubPool(Pool pool, ContextInternal context, int maxSize) {
+            this.pool = pool;
+            this.context = context;
+            this.maxSize = maxSize;
+        }
+    }
+
+    public static final class Stats {
+
+        private final LongAdder acquisitions = new LongAdder();
+        private final LongAdder crossLoopBorrows = new LongAdder();
+
+        /**
+         * @return the number of connections acquired from the pool, including the ones acquired to execute a single query
+         */
+        public long acquisitions() {
+            return acquisitions.sum();
+        }
+
+        /**
+         * @return the number of connections borrowed from the sub-pool of another event loop than the one of the caller
+         */
+        public long crossLoopBorrows() {
+            return crossLoopBorrows.sum();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package io.quarkus.reactive.datasource.runtime;
+
+import java.util.function.Consumer;
+
+import jakarta.inject.Inject;
+
+import io.quarkus.datasource.common.runtime.DataSourceUtil;
+import io.quarkus.reactive.datasource.runtime.EventLoopAffinityPool.Stats;
+import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+@Recorder
+public class ReactiveDataSourceMetricsRecorder {
+
+    private final RuntimeValue<DataSourcesReactiveRuntimeConfig> reactiveRuntimeConfig;
+
+    @Inject
+    public ReactiveDataSourceMetricsRecorder(RuntimeValue<DataSourcesReactiveRuntimeConfig> reactiveRuntimeConfig) {
+        this.reactiveRuntimeConfig = reactiveRuntimeConfig;
+    }
+
+    /* RUNTIME_INIT */
+    public Consumer<MetricsFactory> registerDataSourceMetrics(String dataSourceName) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                if (!reactiveRuntimeConfig.getValue().dataSources().get(dataSourceName).reactive().eventLoopAffinity()) {
+                    return;
+                }
+
+                String tagValue = DataSourceUtil.isDefault(dataSourceName) ? "default" : dataSourceName;
+                Stats stats = EventLoopAffinityPool.stats(dataSourceName);
+
+                metricsFactory.builder("reactive.datasource.acquisitions")
+                        .description("Number of connections acquired from the event loop affinity pool.")
+                        .tag("datasource", tagValue)
+                        .buildCounter(stats, Stats::acquisitions);
+                metricsFactory.builder("reactive.datasource.cross.loop.borrows")
+                        .description("Number of connections borrowed from the sub-pool of another event loop,"
+                                + " because the sub-pool of the current event loop was exhausted.")
+                        .tag("datasource", tagValue)
+                        .buildCounter(stats, Stats::crossLoopBorrows);
+            }
+        };
+    }
+}
@@ -33,16 +33,20 @@
 import io.quarkus.reactive.datasource.runtime.ConnectOptionsSupplier;
 import io.quarkus.reactive.datasource.runtime.DataSourceReactiveRuntimeConfig;
 import io.quarkus.reactive.datasource.runtime.DataSourcesReactiveRuntimeConfig;
+import io.quarkus.reactive.datasource.runtime.EventLoopAffinityPool;
 import io.quarkus.reactive.db2.client.DB2PoolCreator;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.db2client.DB2ConnectOptions;
 import io.vertx.db2client.DB2Pool;
 import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.SqlConnection;
 import io.vertx.sqlclient.impl.Utils;
 
 @Recorder
@@ -129,6 +133,15 @@ private DB2Pool initialize(VertxInternal vertx,
                 dataSourceReactiveRuntimeConfig, dataSourceReactiveDB2Config);
         Supplier<Future<DB2ConnectOptions>> databasesSupplier = toDatabasesSupplier(vertx, List.of(db2ConnectOptions),
                 dataSourceRuntimeConfig);
+        if (dataSourceReactiveRuntimeConfig.eventLoopAffinity()) {
+            if (context.getInjectedReference(POOL_CREATOR_TYPE_LITERAL, qualifier(dataSourceName)).isResolvable()) {
+                // The creator would be called once per sub-pool
+                throw new IllegalArgumentException("The reactive pool of datasource '" + dataSourceName
+                        + "' cannot be created by a DB2PoolCreator and use event loop affinity at the same time");
+            }
+            return new EventLoopAffinityDB2Pool(vertx, dataSourceName, poolOptions,
+                    options -> createPool(vertx, options, db2ConnectOptions, dataSourceName, databasesSupplier, context));
+        }
         return createPool(vertx, poolOptions, db2ConnectOptions, dataSourceName, databasesSupplier, context);
     }
 
@@ -274,6 +287,26 @@ private DB2Pool createPool(Vertx vertx, PoolOptions poolOptions, DB2ConnectOptio
         return DB2Pool.pool(vertx, databases, poolOptions);
     }
 
+    private static class EventLoopAffinityDB2Pool extends EventLoopAffinityPool implements DB2Pool {
+
+        EventLoopAffinityDB2Pool(VertxInternal vertx, String dataSourceName, PoolOptions poolOptions,
+                Function<PoolOptions, DB2Pool> poolFactory) {
+            super(vertx, dataSourceName, poolOptions, poolFactory);
+        }
+
+        @Override
+        public DB2Pool connectHandler(Handler<SqlConnection> handler) {
+            super.connectHandler(handler);
+            return this;
+        }
+
+        @Override
+        public DB2Pool connectionProvider(Function<Context, Future<SqlConnection>> provider) {
+            super.connectionProvider(provider);
+            return this;
+        }
+    }
+
     private static class DefaultInput implements DB2PoolCreator.Input {
         private final Vertx vertx;
         private final PoolOptions poolOptions;
@@ -33,16 +33,20 @@
 import io.quarkus.reactive.datasource.runtime.ConnectOptionsSupplier;
 import io.quarkus.reactive.datasource.runtime.DataSourceReactiveRuntimeConfig;
 import io.quarkus.reactive.datasource.runtime.DataSourcesReactiveRuntimeConfig;
+import io.quarkus.reactive.datasource.runtime.EventLoopAffinityPool;
 import io.quarkus.reactive.mssql.client.MSSQLPoolCreator;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.mssqlclient.MSSQLConnectOptions;
 import io.vertx.mssqlclient.MSSQLPool;
 import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.SqlConnection;
 import io.vertx.sqlclient.impl.Utils;
 
 @Recorder
@@ -129,6 +133,15 @@ private MSSQLPool initialize(VertxInternal vertx,
                 dataSourceReactiveRuntimeConfig, dataSourceReactiveMSSQLConfig);
         Supplier<Future<MSSQLConnectOptions>> databasesSupplier = toDatabasesSupplier(vertx, List.of(mssqlConnectOptions),
                 dataSourceRuntimeConfig);
+        if (dataSourceReactiveRuntimeConfig.eventLoopAffinity()) {
+            if (context.getInjectedReference(POOL_CREATOR_TYPE_LITERAL, qualifier(dataSourceName)).isResolvable()) {
+                // The creator would be called once per sub-pool
+                throw new IllegalArgumentException("The reactive pool of datasource '" + dataSourceName
+                        + "' cannot be created by a MSSQLPoolCreator and use event loop affinity at the same time");
+            }
+            return new EventLoopAffinityMSSQLPool(vertx, dataSourceName, poolOptions,
+                    options -> createPool(vertx, options, mssqlConnectOptions, dataSourceName, databasesSupplier, context));
+        }
         return createPool(vertx, poolOptions, mssqlConnectOptions, dataSourceName, databasesSupplier, context);
     }
 
@@ -277,6 +290,26 @@ private MSSQLPool createPool(Vertx vertx, PoolOptions poolOptions, MSSQLConnectO
         return MSSQLPool.pool(vertx, databases, poolOptions);
     }
 
+    private static class EventLoopAffinityMSSQLPool extends EventLoopAffinityPool implements MSSQLPool {
+
+        EventLoopAffinityMSSQLPool(VertxInternal vertx, String dataSourceName, PoolOptions poolOptions,
+                Function<PoolOptions, MSSQLPool> poolFactory) {
+            super(vertx, dataSourceName, poolOptions, poolFactory);
+        }
+
+        @Override
+        public MSSQLPool connectHandler(Handler<SqlConnection> handler) {
+            super.connectHandler(handler);
+            return this;
+        }
+
+        @Override
+        public MSSQLPool connectionProvider(Function<Context, Future<SqlConnection>> provider) {
+            super.connectionProvider(provider);
+            return this;
+        }
+    }
+
     private static class DefaultInput implements MSSQLPoolCreator.Input {
         private final Vertx vertx;
         private final PoolOptions poolOptions;
@@ -33,17 +33,21 @@
 import io.quarkus.reactive.datasource.runtime.ConnectOptionsSupplier;
 import io.quarkus.reactive.datasource.runtime.DataSourceReactiveRuntimeConfig;
 import io.quarkus.reactive.datasource.runtime.DataSourcesReactiveRuntimeConfig;
+import io.quarkus.reactive.datasource.runtime.EventLoopAffinityPool;
 import io.quarkus.reactive.mysql.client.MySQLPoolCreator;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.mysqlclient.MySQLConnectOptions;
 import io.vertx.mysqlclient.MySQLPool;
 import io.vertx.mysqlclient.SslMode;
 import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.SqlConnection;
 import io.vertx.sqlclient.impl.Utils;
 
 @Recorder
@@ -128,6 +132,15 @@ private MySQLPool initialize(VertxInternal vertx,
                 dataSourceReactiveRuntimeConfig, dataSourceReactiveMySQLConfig);
         Supplier<Future<MySQLConnectOptions>> databasesSupplier = toDatabasesSupplier(vertx, mySQLConnectOptions,
                 dataSourceRuntimeConfig);
+        if (dataSourceReactiveRuntimeConfig.eventLoopAffinity()) {
+            if (context.getInjectedReference(POOL_CREATOR_TYPE_LITERAL, qualifier(dataSourceName)).isResolvable()) {
+                // The creator would be called once per sub-pool
+                throw new IllegalArgumentException("The reactive pool of datasource '" + dataSourceName
+                        + "' cannot be created by a MySQLPoolCreator and use event loop affinity at the same time");
+            }
+            return new EventLoopAffinityMySQLPool(vertx, dataSourceName, poolOptions,
+                    options -> createPool(vertx, options, mySQLConnectOptions, dataSourceName, databasesSupplier, context));
+        }
         return createPool(vertx, poolOptions, mySQLConnectOptions, dataSourceName, databasesSupplier, context);
     }
 
@@ -296,6 +309,26 @@ private MySQLPool createPool(Vertx vertx, PoolOptions poolOptions, List<MySQLCon
         return MySQLPool.pool(vertx, databases, poolOptions);
     }
 
+    private static class EventLoopAffinityMySQLPool extends EventLoopAffinityPool implements MySQLPool {
+
+        EventLoopAffinityMySQLPool(VertxInternal vertx, String dataSourceName, PoolOptions poolOptions,
+                Function<PoolOptions, MySQLPool> poolFactory) {
+            super(vertx, dataSourceName, poolOptions, poolFactory);
+        }
+
+        @Override
+        public MySQLPool connectHandler(Handler<SqlConnection> handler) {
+            super.connectHandler(handler);
+            return this;
+        }
+
+        @Override
+        public MySQLPool connectionProvider(Function<Context, Future<SqlConnection>> provider) {
+            super.connectionProvider(provider);
+            return this;
+        }
+    }
+
     private static class DefaultInput implements MySQLPoolCreator.Input {
         private final Vertx vertx;
         private final PoolOptions poolOptions;
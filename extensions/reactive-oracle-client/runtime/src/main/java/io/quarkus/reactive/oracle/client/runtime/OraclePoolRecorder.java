@@ -27,16 +27,20 @@
 import io.quarkus.reactive.datasource.runtime.ConnectOptionsSupplier;
 import io.quarkus.reactive.datasource.runtime.DataSourceReactiveRuntimeConfig;
 import io.quarkus.reactive.datasource.runtime.DataSourcesReactiveRuntimeConfig;
+import io.quarkus.reactive.datasource.runtime.EventLoopAffinityPool;
 import io.quarkus.reactive.oracle.client.OraclePoolCreator;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.oracleclient.OracleConnectOptions;
 import io.vertx.oracleclient.OraclePool;
 import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.SqlConnection;
 import io.vertx.sqlclient.impl.Utils;
 
 @SuppressWarnings("deprecation")
@@ -123,6 +127,15 @@ private OraclePool initialize(VertxInternal vertx,
                 dataSourceReactiveRuntimeConfig, dataSourceReactiveOracleConfig);
         Supplier<Future<OracleConnectOptions>> databasesSupplier = toDatabasesSupplier(vertx, List.of(oracleConnectOptions),
                 dataSourceRuntimeConfig);
+        if (dataSourceReactiveRuntimeConfig.eventLoopAffinity()) {
+            if (context.getInjectedReference(POOL_CREATOR_TYPE_LITERAL, qualifier(dataSourceName)).isResolvable()) {
+                // The creator would be called once per sub-pool
+                throw new IllegalArgumentException("The reactive pool of datasource '" + dataSourceName
+                        + "' cannot be created by a OraclePoolCreator and use event loop affinity at the same time");
+            }
+            return new EventLoopAffinityOraclePool(vertx, dataSourceName, poolOptions,
+                    options -> createPool(vertx, options, oracleConnectOptions, dataSourceName, databasesSupplier, context));
+        }
         return createPool(vertx, poolOptions, oracleConnectOptions, dataSourceName, databasesSupplier, context);
     }
 
@@ -244,6 +257,26 @@ private OraclePool createPool(Vertx vertx, PoolOptions poolOptions, OracleConnec
         return OraclePool.pool(vertx, databases, poolOptions);
     }
 
+    private static class EventLoopAffinityOraclePool extends EventLoopAffinityPool implements OraclePool {
+
+        EventLoopAffinityOraclePool(VertxInternal vertx, String dataSourceName, PoolOptions poolOptions,
+                Function<PoolOptions, OraclePool> poolFactory) {
+            super(vertx, dataSourceName, poolOptions, poolFactory);
+        }
+
+        @Override
+        public OraclePool connectHandler(Handler<SqlConnection> handler) {
+            super.connectHandler(handler);
+            return this;
+        }
+
+        @Override
+        public OraclePool connectionProvider(Function<Context, Future<SqlConnection>> provider) {
+            super.connectionProvider(provider);
+            return this;
+        }
+    }
+
     private static class DefaultInput implements OraclePoolCreator.Input {
         private final Vertx vertx;
         private final PoolOptions poolOptions;
@@ -49,6 +49,8 @@
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageConfigBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ServiceProviderBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
 import io.quarkus.reactive.datasource.deployment.VertxPoolBuildItem;
 import io.quarkus.reactive.datasource.runtime.DataSourceReactiveBuildTimeConfig;
@@ -117,6 +119,29 @@ ServiceStartBuildItem build(BuildProducer<FeatureBuildItem> feature,
         return new ServiceStartBuildItem("reactive-pg-client");
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void registerMetrics(PgPoolRecorder recorder,
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            DataSourcesBuildTimeConfig dataSourcesBuildTimeConfig,
+            DataSourcesReactiveBuildTimeConfig dataSourcesReactiveBuildTimeConfig,
+            DataSourcesReactivePostgreSQLConfig dataSourcesReactivePostgreSQLConfig,
+            List<DefaultDataSourceDbKindBuildItem> defaultDataSourceDbKindBuildItems,
+            CurateOutcomeBuildItem curateOutcomeBuildItem,
+            BuildProducer<MetricsFactoryConsumerBuildItem> datasourceMetrics) {
+        if (metricsCapability.isEmpty() || !dataSourcesBuildTimeConfig.metricsEnabled()) {
+            return;
+        }
+        for (String dataSourceName : dataSourcesBuildTimeConfig.dataSources().keySet()) {
+            // Whether the pool uses adaptive pipelining is only known at runtime
+            if (isReactivePostgreSQLPoolDefined(dataSourcesBuildTimeConfig, dataSourcesReactiveBuildTimeConfig,
+                    dataSourceName, defaultDataSourceDbKindBuildItems, curateOutcomeBuildItem)) {
+                datasourceMetrics.produce(new MetricsFactoryConsumerBuildItem(
+                        recorder.registerPreparedStatementMetrics(dataSourceName, dataSourcesReactivePostgreSQLConfig)));
+            }
+        }
+    }
+
     /**
      * The health check needs to be produced in a separate method to avoid a circular dependency (the Vert.x instance creation
      * consumes the AdditionalBeanBuildItems).
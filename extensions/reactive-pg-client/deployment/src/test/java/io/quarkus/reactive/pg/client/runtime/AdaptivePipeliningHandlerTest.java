@@ -0,0 +1,129 @@
+package io.quarkus.reactive.pg.client.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.vertx.sqlclient.ClosedConnectionException;
+import io.vertx.sqlclient.impl.command.CloseConnectionCommand;
+import io.vertx.sqlclient.impl.command.CloseStatementCommand;
+import io.vertx.sqlclient.impl.command.CommandBase;
+import io.vertx.sqlclient.impl.command.CommandResponse;
+
+public class AdaptivePipeliningHandlerTest {
+
+    private long now;
+    private AdaptivePipeliningHandler handler;
+    private EmbeddedChannel channel;
+
+    @BeforeEach
+    public void setup() {
+        handler = new AdaptivePipeliningHandler(10, new PreparedStatementRegistry(), () -> now);
+        channel = new EmbeddedChannel(handler);
+        now = 1;
+    }
+
+    @Test
+    public void testHoldCommandsBeyondLimit() {
+        List<CommandBase<?>> commands = write(AdaptivePipeliningHandler.INITIAL_LIMIT + 2);
+        assertEquals(AdaptivePipeliningHandler.INITIAL_LIMIT, sent().size());
+
+        now += 100;
+        respond();
+        // The round-trip time is the shortest observed and commands are held, so the limit is increased
+        assertEquals(AdaptivePipeliningHandler.INITIAL_LIMIT + 1, handler.limit());
+        assertEquals(commands.subList(AdaptivePipeliningHandler.INITIAL_LIMIT, commands.size()), sent());
+    }
+
+    @Test
+    public void testIncreaseUpToMaximum() {
+        write(20);
+        sent();
+        for (int i = 0; i < 20; i++) {
+            respond();
+        }
+        assertEquals(10, handler.limit());
+    }
+
+    @Test
+    public void testDecreaseWhenRoundTripIncreases() {
+        write(AdaptivePipeliningHandler.INITIAL_LIMIT + 2);
+        sent();
+        now += 100;
+        respond();
+        assertEquals(AdaptivePipeliningHandler.INITIAL_LIMIT + 1, handler.limit());
+
+        now += 300;
+        respond();
+        assertEquals(AdaptivePipeliningHandler.INITIAL_LIMIT, handler.limit());
+        // The next command has been sent before the decrease
+        respond();
+        assertEquals(AdaptivePipeliningHandler.INITIAL_LIMIT, handler.limit());
+    }
+
+    @Test
+    public void testCloseConnectionIsNotCounted() {
+        write(AdaptivePipeliningHandler.INITIAL_LIMIT - 1);
+        channel.writeOutbound(CloseConnectionCommand.INSTANCE);
+        List<CommandBase<?>> commands = write(1);
+        List<Object> sent = sent();
+        assertEquals(AdaptivePipeliningHandler.INITIAL_LIMIT + 1, sent.size());
+        assertSame(commands.get(0), sent.get(sent.size() - 1));
+    }
+
+    @Test
+    public void testFailHeldCommandsWhenClosed() {
+        write(AdaptivePipeliningHandler.INITIAL_LIMIT);
+        List<CommandBase<?>> held = new ArrayList<>();
+        List<ChannelFuture> writes = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            CommandBase<?> command = new CloseStatementCommand(null);
+            held.add(command);
+            writes.add(channel.writeAndFlush(command));
+        }
+        assertFalse(writes.get(0).isDone());
+        channel.close();
+
+        for (int i = 0; i < held.size(); i++) {
+            CommandResponse<?> response = channel.readInbound();
+            assertSame(held.get(i), response.cmd);
+            assertSame(ClosedConnectionException.INSTANCE, response.toAsyncResult().cause());
+            // The write of the command is failed too, it would never complete otherwise
+            assertSame(ClosedConnectionException.INSTANCE, writes.get(i).cause());
+        }
+        assertNull(channel.readInbound());
+    }
+
+    private List<CommandBase<?>> write(int count) {
+        List<CommandBase<?>> commands = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            CommandBase<?> command = new CloseStatementCommand(null);
+            commands.add(command);
+            channel.writeOutbound(command);
+        }
+        return commands;
+    }
+
+    private void respond() {
+        channel.writeInbound(CommandResponse.success(null));
+        channel.readInbound();
+    }
+
+    private List<Object> sent() {
+        List<Object> sent = new ArrayList<>();
+        Object msg;
+        while ((msg = channel.readOutbound()) != null) {
+            sent.add(msg);
+        }
+        return sent;
+    }
+}
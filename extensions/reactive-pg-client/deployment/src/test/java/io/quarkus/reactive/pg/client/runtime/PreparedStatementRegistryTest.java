@@ -0,0 +1,80 @@
+package io.quarkus.reactive.pg.client.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class PreparedStatementRegistryTest {
+
+    @Test
+    public void testCacheOnlyRepeatedStatements() {
+        PreparedStatementRegistry registry = new PreparedStatementRegistry();
+        assertFalse(registry.test("SELECT 1"));
+        assertTrue(registry.test("SELECT 1"));
+        assertTrue(registry.test("SELECT 1"));
+        assertEquals(1, registry.repeatedStatements());
+
+        // The statements too long to be cached are never remembered
+        String tooLong = "SELECT " + "1".repeat(2048);
+        assertFalse(registry.test(tooLong));
+        assertFalse(registry.test(tooLong));
+        assertEquals(1, registry.repeatedStatements());
+    }
+
+    @Test
+    public void testCacheSize() {
+        PreparedStatementRegistry registry = new PreparedStatementRegistry();
+        assertEquals(256, registry.cacheSize(256));
+
+        for (int i = 0; i < 300; i++) {
+            registry.test("SELECT " + i + " FROM test");
+            registry.test("SELECT " + i + " FROM test");
+        }
+        assertEquals(300 + 300 / 4, registry.cacheSize(256));
+        assertEquals(512, registry.cacheSize(512));
+
+        for (int i = 300; i < PreparedStatementRegistry.MAX_CACHE_SIZE; i++) {
+            registry.test("SELECT " + i + " FROM test");
+            registry.test("SELECT " + i + " FROM test");
+        }
+        assertEquals(PreparedStatementRegistry.MAX_CACHE_SIZE, registry.cacheSize(256));
+    }
+
+    @Test
+    public void testForgetOneOffStatements() {
+        PreparedStatementRegistry registry = new PreparedStatementRegistry();
+        registry.test("SELECT repeated");
+        registry.test("SELECT repeated");
+        for (int i = 0; i < PreparedStatementRegistry.MAX_STATEMENTS - 1; i++) {
+            assertFalse(registry.test("SELECT " + i + " FROM test"));
+        }
+        // The registry is full, but nothing is forgotten yet
+        assertTrue(registry.test("SELECT 0 FROM test"));
+        assertEquals(2, registry.repeatedStatements());
+
+        // Remembering one more statement forgets the ones executed only once
+        assertFalse(registry.test("SELECT one more"));
+        assertFalse(registry.test("SELECT 1 FROM test"));
+        assertFalse(registry.test("SELECT one more"));
+        assertTrue(registry.test("SELECT repeated"));
+        assertTrue(registry.test("SELECT 0 FROM test"));
+        assertEquals(2, registry.repeatedStatements());
+    }
+
+    @Test
+    public void testRemove() {
+        PreparedStatementRegistry registry = PreparedStatementRegistry.forDataSource("remove");
+        assertSame(registry, PreparedStatementRegistry.forDataSource("remove"));
+        registry.test("SELECT 1");
+        registry.test("SELECT 1");
+
+        PreparedStatementRegistry.remove("remove");
+        assertEquals(0, registry.repeatedStatements());
+        assertFalse(registry.test("SELECT 1"));
+        assertNotSame(registry, PreparedStatementRegistry.forDataSource("remove"));
+    }
+}
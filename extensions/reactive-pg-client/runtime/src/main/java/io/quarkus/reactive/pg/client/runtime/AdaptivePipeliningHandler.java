@@ -0,0 +1,182 @@
+package io.quarkus.reactive.pg.client.runtime;
+
+import java.util.ArrayDeque;
+import java.util.function.LongSupplier;
+
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.ChannelPromise;
+import io.vertx.core.Handler;
+import io.vertx.sqlclient.ClosedConnectionException;
+import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.impl.Connection;
+import io.vertx.sqlclient.impl.SocketConnectionBase;
+import io.vertx.sqlclient.impl.SqlConnectionBase;
+import io.vertx.sqlclient.impl.command.CloseConnectionCommand;
+import io.vertx.sqlclient.impl.command.CommandBase;
+import io.vertx.sqlclient.impl.command.CommandResponse;
+import io.vertx.sqlclient.impl.command.ExtendedQueryCommand;
+import io.vertx.sqlclient.impl.command.PrepareStatementCommand;
+
+/**
+ * Limits the number of commands pipelined on a connection, the limit being adapted to the round-trip time of the commands.
+ * <p>
+ * The handler is installed between the codec and the handler of the connection, so it sees the commands written by the
+ * connection and their responses, each command getting exactly one response. The limit is increased while commands are
+ * held back and the round-trip time stays close to the shortest one observed, and decreased as soon as the round-trip
+ * time increases, i.e. when the commands start queuing in the server.
+ * <p>
+ * All the methods are called on the event loop of the connection.
+ */
+final class AdaptivePipeliningHandler extends ChannelDuplexHandler {
+
+    static final String NAME = "quarkus-adaptive-pipelining";
+
+    static final int INITIAL_LIMIT = 8;
+
+    /**
+     * A round-trip time greater than the shortest one times this factor decreases the limit.
+     */
+    private static final int LATENCY_TOLERANCE = 2;
+
+    /**
+     * The shortest round-trip time is reset every that many responses, so that the limit follows the changes of the network
+     * latency.
+     */
+    private static final int SAMPLES_PER_PERIOD = 1000;
+
+    private final int maxLimit;
+    private final PreparedStatementRegistry registry;
+    private final LongSupplier nanoTime;
+    private final ArrayDeque<Long> sendTimes = new ArrayDeque<>();
+    // Pairs of command and promise
+    private final ArrayDeque<Object> held = new ArrayDeque<>();
+    private int limit;
+    private long minRoundTrip = Long.MAX_VALUE;
+    private long lastDecrease;
+    private int samples;
+
+    AdaptivePipeliningHandler(int maxLimit, PreparedStatementRegistry registry) {
+        this(maxLimit, registry, System::nanoTime);
+    }
+
+    AdaptivePipeliningHandler(int maxLimit, PreparedStatementRegistry registry, LongSupplier nanoTime) {
+        this.maxLimit = maxLimit;
+        this.registry = registry;
+        this.nanoTime = nanoTime;
+        this.limit = Math.min(maxLimit, INITIAL_LIMIT);
+        this.lastDecrease = nanoTime.getAsLong();
+    }
+
+    /**
+     * @param maxLimit the pipelining limit of the connections, which the adaptive limit never exceeds
+     * @return a pool connect handler installing the adaptive pipelining handler on the new connections
+     */
+    static Handler<SqlConnection> installer(int maxLimit, PreparedStatementRegistry registry) {
+        return new Handler<SqlConnection>() {
+            @Override
+            public void handle(SqlConnection connection) {
+                Connection conn = ((SqlConnectionBase<?>) connection).unwrap().unwrap();
+                if (conn instanceof SocketConnectionBase) {
+                    ChannelPipeline pipeline = ((SocketConnectionBase) conn).socket().channelHandlerContext().pipeline();
+                    pipeline.addBefore("handler", NAME, new AdaptivePipeliningHandler(maxLimit, registry));
+                }
+                // Give the new connection to the pool
+                connection.close();
+            }
+        };
+    }
+
+    int limit() {
+        return limit;
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+        if (!(msg instanceof CommandBase)) {
+            ctx.write(msg, promise);
+            return;
+        }
+        if (msg instanceof ExtendedQueryCommand) {
+            registry.executed();
+        } else if (msg instanceof PrepareStatementCommand) {
+            registry.prepared();
+        }
+        if (held.isEmpty() && canSend(msg)) {
+            send(ctx, msg, promise);
+        } else {
+            held.add(msg);
+            held.add(promise);
+        }
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (msg instanceof CommandResponse) {
+            Long sendTime = sendTimes.poll();
+            if (sendTime != null) {
+                adapt(sendTime, nanoTime.getAsLong());
+            }
+            sendHeld(ctx);
+        }
+        ctx.fireChannelRead(msg);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        // The codec has failed the commands it has sent, fail the ones it has never seen
+        while (!held.isEmpty()) {
+            CommandBase<?> cmd = (CommandBase<?>) held.poll();
+            ((ChannelPromise) held.poll()).tryFailure(ClosedConnectionException.INSTANCE);
+            CommandResponse<Object> failure = CommandResponse.failure(ClosedConnectionException.INSTANCE);
+            failure.cmd = (CommandBase) cmd;
+            ctx.fireChannelRead(failure);
+        }
+        super.channelInactive(ctx);
+    }
+
+    private void adapt(long sendTime, long now) {
+        long roundTrip = now - sendTime;
+        if (++samples == SAMPLES_PER_PERIOD) {
+            samples = 0;
+            minRoundTrip = roundTrip;
+        } else if (roundTrip < minRoundTrip) {
+            minRoundTrip = roundTrip;
+        }
+        if (roundTrip > minRoundTrip * LATENCY_TOLERANCE) {
+            // Commands sent before the last decrease do not reflect it yet
+            if (sendTime - lastDecrease > 0) {
+                limit = Math.max(1, limit - Math.max(1, limit / 10));
+                lastDecrease = now;
+            }
+        } else if (!held.isEmpty() && limit < maxLimit) {
+            limit++;
+        }
+    }
+
+    private boolean canSend(Object cmd) {
+        // Closing the connection does not get a response
+        return cmd instanceof CloseConnectionCommand || sendTimes.size() < limit;
+    }
+
+    private void send(ChannelHandlerContext ctx, Object cmd, ChannelPromise promise) {
+        if (!(cmd instanceof CloseConnectionCommand)) {
+            sendTimes.add(nanoTime.getAsLong());
+        }
+        ctx.write(cmd, promise);
+    }
+
+    private void sendHeld(ChannelHandlerContext ctx) {
+        boolean sent = false;
+        while (!held.isEmpty() && canSend(held.peek())) {
+            Object cmd = held.poll();
+            ChannelPromise promise = (ChannelPromise) held.poll();
+            send(ctx, cmd, promise);
+            sent = true;
+        }
+        if (sent) {
+            ctx.flush();
+        }
+    }
+}
@@ -16,6 +16,21 @@ public interface DataSourceReactivePostgreSQLConfig {
      */
     OptionalInt pipeliningLimit();
 
+    /**
+     * Whether the number of inflight database commands of each connection should be adapted to the round-trip time of the
+     * commands.
+     * <p>
+     * When enabled, {@code #pipelining-limit} is the maximum number of inflight commands of a connection.
+     * The limit of a connection is increased while commands are waiting to be sent and the round-trip time is stable, and
+     * decreased when the round-trip time increases.
+     * <p>
+     * When prepared statements are cached, a statement is only cached by a connection once it has been executed on any
+     * connection of the pool, and the cache of the connections is sized after the number of statements executed repeatedly
+     * on the pool.
+     */
+    @WithDefault("false")
+    boolean adaptivePipelining();
+
     /**
      * SSL operating mode of the client.
      * <p>
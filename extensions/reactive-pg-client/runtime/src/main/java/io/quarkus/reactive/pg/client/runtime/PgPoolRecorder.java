@@ -15,6 +15,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -32,17 +33,22 @@
 import io.quarkus.reactive.datasource.runtime.ConnectOptionsSupplier;
 import io.quarkus.reactive.datasource.runtime.DataSourceReactiveRuntimeConfig;
 import io.quarkus.reactive.datasource.runtime.DataSourcesReactiveRuntimeConfig;
+import io.quarkus.reactive.datasource.runtime.EventLoopAffinityPool;
 import io.quarkus.reactive.pg.client.PgPoolCreator;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 import io.vertx.core.impl.VertxInternal;
 import io.vertx.pgclient.PgConnectOptions;
 import io.vertx.pgclient.PgPool;
 import io.vertx.pgclient.SslMode;
 import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.SqlConnection;
 import io.vertx.sqlclient.impl.Utils;
 
 @Recorder
@@ -96,12 +102,53 @@ public PgPool apply(SyntheticCreationalContext<PgPool> context) {
                         dataSourcesReactivePostgreSQLConfig.dataSources().get(dataSourceName).reactive().postgresql(),
                         context);
 
-                shutdown.addShutdownTask(pgPool::close);
+                shutdown.addShutdownTask(new Runnable() {
+                    @Override
+                    public void run() {
+                        pgPool.close();
+                        PreparedStatementRegistry.remove(dataSourceName);
+                    }
+                });
                 return pgPool;
             }
         };
     }
 
+    /* RUNTIME_INIT */
+    public Consumer<MetricsFactory> registerPreparedStatementMetrics(String dataSourceName,
+            DataSourcesReactivePostgreSQLConfig dataSourcesReactivePostgreSQLConfig) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                if (!dataSourcesReactivePostgreSQLConfig.dataSources().get(dataSourceName).reactive().postgresql()
+                        .adaptivePipelining()) {
+                    return;
+                }
+
+                String tagValue = DataSourceUtil.isDefault(dataSourceName) ? "default" : dataSourceName;
+                PreparedStatementRegistry registry = PreparedStatementRegistry.forDataSource(dataSourceName);
+
+                metricsFactory.builder("postgresql.prepared.statements.executions")
+                        .description("Number of statements executed with the extended query protocol.")
+                        .tag("datasource", tagValue)
+                        .buildCounter(registry, PreparedStatementRegistry::executions);
+                metricsFactory.builder("postgresql.prepared.statements.prepares")
+                        .description("Number of statements prepared because they were not found in the prepared statement"
+                                + " cache of the connection.")
+                        .tag("datasource", tagValue)
+                        .buildCounter(registry, PreparedStatementRegistry::prepares);
+                metricsFactory.builder("postgresql.prepared.statements.cache.hit.ratio")
+                        .description("Ratio of the statement executions which did not require preparing the statement.")
+                        .tag("datasource", tagValue)
+                        .buildGauge(registry, PreparedStatementRegistry::cacheHitRatio);
+                metricsFactory.builder("postgresql.prepared.statements.repeated")
+                        .description("Number of statements executed more than once on the connections of the pool.")
+                        .tag("datasource", tagValue)
+                        .buildGauge(registry, PreparedStatementRegistry::repeatedStatements);
+            }
+        };
+    }
+
     public Function<SyntheticCreationalContext<io.vertx.mutiny.pgclient.PgPool>, io.vertx.mutiny.pgclient.PgPool> mutinyPgPool(
             String dataSourceName) {
         return new Function<>() {
@@ -123,15 +170,33 @@ private PgPool initialize(VertxInternal vertx,
             SyntheticCreationalContext<PgPool> context) {
         PoolOptions poolOptions = toPoolOptions(eventLoopCount, dataSourceRuntimeConfig, dataSourceReactiveRuntimeConfig,
                 dataSourceReactivePostgreSQLConfig);
+        PreparedStatementRegistry registry = dataSourceReactivePostgreSQLConfig.adaptivePipelining()
+                ? PreparedStatementRegistry.forDataSource(dataSourceName)
+                : null;
         List<PgConnectOptions> pgConnectOptionsList = toPgConnectOptions(dataSourceName, dataSourceRuntimeConfig,
-                dataSourceReactiveRuntimeConfig, dataSourceReactivePostgreSQLConfig);
+                dataSourceReactiveRuntimeConfig, dataSourceReactivePostgreSQLConfig, registry);
         Supplier<Future<PgConnectOptions>> databasesSupplier = toDatabasesSupplier(vertx, pgConnectOptionsList,
-                dataSourceRuntimeConfig);
-        return createPool(vertx, poolOptions, pgConnectOptionsList, dataSourceName, databasesSupplier, context);
+                dataSourceRuntimeConfig, dataSourceReactiveRuntimeConfig, registry);
+        // The pipelining limit of the connections is the maximum of the adaptive limit
+        Handler<SqlConnection> connectHandler = registry == null ? null
+                : AdaptivePipeliningHandler.installer(pgConnectOptionsList.get(0).getPipeliningLimit(), registry);
+        if (dataSourceReactiveRuntimeConfig.eventLoopAffinity()) {
+            if (context.getInjectedReference(PG_POOL_CREATOR_TYPE_LITERAL, qualifier(dataSourceName)).isResolvable()) {
+                // The creator would be called once per sub-pool
+                throw new IllegalArgumentException("The reactive pool of datasource '" + dataSourceName
+                        + "' cannot be created by a PgPoolCreator and use event loop affinity at the same time");
+            }
+            return new EventLoopAffinityPgPool(vertx, dataSourceName, poolOptions,
+                    options -> createPool(vertx, options, pgConnectOptionsList, dataSourceName, databasesSupplier,
+                            connectHandler, context));
+        }
+        return createPool(vertx, poolOptions, pgConnectOptionsList, dataSourceName, databasesSupplier, connectHandler,
+                context);
     }
 
     private Supplier<Future<PgConnectOptions>> toDatabasesSupplier(Vertx vertx, List<PgConnectOptions> pgConnectOptionsList,
-            DataSourceRuntimeConfig dataSourceRuntimeConfig) {
+            DataSourceRuntimeConfig dataSourceRuntimeConfig, DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig,
+            PreparedStatementRegistry registry) {
         Supplier<Future<PgConnectOptions>> supplier;
         if (dataSourceRuntimeConfig.credentialsProvider().isPresent()) {
             String beanName = dataSourceRuntimeConfig.credentialsProviderName().orElse(null);
@@ -142,9 +207,24 @@ private Supplier<Future<PgConnectOptions>> toDatabasesSupplier(Vertx vertx, List
         } else {
             supplier = Utils.roundRobinSupplier(pgConnectOptionsList);
         }
+        if (registry != null && dataSourceReactiveRuntimeConfig.cachePreparedStatements()) {
+            supplier = sizePreparedStatementCache(supplier, registry);
+        }
         return supplier;
     }
 
+    private static Supplier<Future<PgConnectOptions>> sizePreparedStatementCache(Supplier<Future<PgConnectOptions>> supplier,
+            PreparedStatementRegistry registry) {
+        return new Supplier<>() {
+            @Override
+            public Future<PgConnectOptions> get() {
+                // Copy the options, which are shared by the connections
+                return supplier.get().map(options -> new PgConnectOptions(options)
+                        .setPreparedStatementCacheMaxSize(registry.cacheSize(options.getPreparedStatementCacheMaxSize())));
+            }
+        };
+    }
+
     private PoolOptions toPoolOptions(Integer eventLoopCount,
             DataSourceRuntimeConfig dataSourceRuntimeConfig,
             DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig,
@@ -182,7 +262,7 @@ private PoolOptions toPoolOptions(Integer eventLoopCount,
 
     private List<PgConnectOptions> toPgConnectOptions(String dataSourceName, DataSourceRuntimeConfig dataSourceRuntimeConfig,
             DataSourceReactiveRuntimeConfig dataSourceReactiveRuntimeConfig,
-            DataSourceReactivePostgreSQLConfig dataSourceReactivePostgreSQLConfig) {
+            DataSourceReactivePostgreSQLConfig dataSourceReactivePostgreSQLConfig, PreparedStatementRegistry registry) {
         List<PgConnectOptions> pgConnectOptionsList = new ArrayList<>();
 
         if (dataSourceReactiveRuntimeConfig.url().isPresent()) {
@@ -220,6 +300,9 @@ private List<PgConnectOptions> toPgConnectOptions(String dataSourceName, DataSou
             }
 
             pgConnectOptions.setCachePreparedStatements(dataSourceReactiveRuntimeConfig.cachePreparedStatements());
+            if (registry != null) {
+                pgConnectOptions.setPreparedStatementCacheSqlFilter(registry);
+            }
 
             if (dataSourceReactivePostgreSQLConfig.pipeliningLimit().isPresent()) {
                 pgConnectOptions.setPipeliningLimit(dataSourceReactivePostgreSQLConfig.pipeliningLimit().getAsInt());
@@ -274,7 +357,7 @@ private List<PgConnectOptions> toPgConnectOptions(String dataSourceName, DataSou
     }
 
     private PgPool createPool(Vertx vertx, PoolOptions poolOptions, List<PgConnectOptions> pgConnectOptionsList,
-            String dataSourceName, Supplier<Future<PgConnectOptions>> databases,
+            String dataSourceName, Supplier<Future<PgConnectOptions>> databases, Handler<SqlConnection> connectHandler,
             SyntheticCreationalContext<PgPool> context) {
         Instance<PgPoolCreator> instance = context.getInjectedReference(PG_POOL_CREATOR_TYPE_LITERAL,
                 qualifier(dataSourceName));
@@ -282,7 +365,31 @@ private PgPool createPool(Vertx vertx, PoolOptions poolOptions, List<PgConnectOp
             PgPoolCreator.Input input = new DefaultInput(vertx, poolOptions, pgConnectOptionsList);
             return instance.get().create(input);
         }
-        return PgPool.pool(vertx, databases, poolOptions);
+        PgPool pool = PgPool.pool(vertx, databases, poolOptions);
+        if (connectHandler != null) {
+            pool.connectHandler(connectHandler);
+        }
+        return pool;
+    }
+
+    private static class EventLoopAffinityPgPool extends EventLoopAffinityPool implements PgPool {
+
+        EventLoopAffinityPgPool(VertxInternal vertx, String dataSourceName, PoolOptions poolOptions,
+                Function<PoolOptions, PgPool> poolFactory) {
+            super(vertx, dataSourceName, poolOptions, poolFactory);
+        }
+
+        @Override
+        public PgPool connectHandler(Handler<SqlConnection> handler) {
+            super.connectHandler(handler);
+            return this;
+        }
+
+        @Override
+        public PgPool connectionProvider(Function<Context, Future<SqlConnection>> provider) {
+            super.connectionProvider(provider);
+            return this;
+        }
     }
 
     private static class DefaultInput implements PgPoolCreator.Input {
@@ -0,0 +1,137 @@
+package io.quarkus.reactive.pg.client.runtime;
+
+import static io.vertx.sqlclient.SqlConnectOptions.DEFAULT_PREPARED_STATEMENT_CACHE_MAX_SIZE;
+import static io.vertx.sqlclient.SqlConnectOptions.DEFAULT_PREPARED_STATEMENT_CACHE_SQL_LIMIT;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * The statements executed on the connections of a pool, shared by these connections.
+ * <p>
+ * PostgreSQL prepared statements belong to a session, so the connections cannot share them. Instead, the registry is used
+ * as the prepared statement cache filter of the connections: a statement is only cached on a connection once it has been
+ * executed on any connection of the pool, so that one-off statements do not evict the statements the pool keeps executing.
+ * The number of such statements also sizes the cache of the connections opened afterwards.
+ */
+final class PreparedStatementRegistry implements Predicate<String> {
+
+    /**
+     * The maximum size of the prepared statement cache of a connection, PostgreSQL keeping the prepared statements of all the
+     * connections in memory.
+     */
+    static final int MAX_CACHE_SIZE = 4 * DEFAULT_PREPARED_STATEMENT_CACHE_MAX_SIZE;
+
+    /**
+     * The maximum number of statements remembered, beyond which the statements executed only once are forgotten.
+     */
+    static final int MAX_STATEMENTS = 16 * MAX_CACHE_SIZE;
+
+    private static final Map<String, PreparedStatementRegistry> REGISTRIES = new ConcurrentHashMap<>();
+
+    // The value is whether the statement has been executed more than once
+    private final Map<String, Boolean> statements = new ConcurrentHashMap<>();
+    private final AtomicInteger repeatedStatements = new AtomicInteger();
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder prepares = new LongAdder();
+
+    /**
+     * @return the registry of the given datasource, until its pool is closed
+     */
+    static PreparedStatementRegistry forDataSource(String dataSourceName) {
+        return REGISTRIES.computeIfAbsent(dataSourceName, k -> new PreparedStatementRegistry());
+    }
+
+    /**
+     * Called when the pool of the given datasource is closed, so that the next pool created for this datasource, e.g. after
+     * a dev mode restart, starts with an empty registry.
+     */
+    static void remove(String dataSourceName) {
+        PreparedStatementRegistry registry = REGISTRIES.remove(dataSourceName);
+        if (registry != null) {
+            registry.statements.clear();
+            registry.repeatedStatements.set(0);
+        }
+    }
+
+    /**
+     * Called by a connection when a statement is not found in its cache.
+     *
+     * @return whether the statement should be cached by the connection
+     */
+    @Override
+    public boolean test(String sql) {
+        if (sql.length() >= DEFAULT_PREPARED_STATEMENT_CACHE_SQL_LIMIT) {
+            return false;
+        }
+        Boolean repeated = statements.putIfAbsent(sql, Boolean.FALSE);
+        if (repeated == null) {
+            if (statements.size() > MAX_STATEMENTS) {
+                forgetOneOffStatements();
+            }
+            return false;
+        }
+        if (!repeated && statements.replace(sql, Boolean.FALSE, Boolean.TRUE)) {
+            repeatedStatements.incrementAndGet();
+        }
+        return true;
+    }
+
+    /**
+     * @param minSize the minimum size, i.e. the one of a connection without the registry
+     * @return the size of the prepared statement cache of a new connection, large enough to hold the statements executed
+     *         repeatedly on the pool
+     */
+    int cacheSize(int minSize) {
+        int repeated = repeatedStatements.get();
+        return Math.max(minSize, Math.min(MAX_CACHE_SIZE, repeated + repeated / 4));
+    }
+
+    void executed() {
+        executions.increment();
+    }
+
+    void prepared() {
+        prepares.increment();
+    }
+
+    /**
+     * @return the number of statements executed with the extended query protocol
+     */
+    long executions() {
+        return executions.sum();
+    }
+
+    /**
+     * @return the number of statements prepared, i.e. not found in the prepared statement cache of the connection
+     */
+    long prepares() {
+        return prepares.sum();
+    }
+
+    /**
+     * @return the ratio of the executions which did not require preparing the statement
+     */
+    double cacheHitRatio() {
+        long executions = executions();
+        return executions == 0 ? 0 : Math.max(0, 1 - (double) prepares() / executions);
+    }
+
+    /**
+     * @return the number of statements executed more than once on the pool
+     */
+    int repeatedStatements() {
+        return repeatedStatements.get();
+    }
+
+    private void forgetOneOffStatements() {
+        statements.values().removeIf(repeated -> !repeated);
+        if (statements.size() > MAX_STATEMENTS) {
+            statements.clear();
+            repeatedStatements.set(0);
+        }
+    }
+}
@@ -34,6 +34,7 @@
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.types.TypeParser;
 import io.quarkus.redis.deployment.client.RequestedRedisClientBuildItem;
@@ -48,8 +49,8 @@ public class RedisCacheProcessor {
 
     @BuildStep
     @Record(RUNTIME_INIT)
-    CacheManagerInfoBuildItem cacheManagerInfo(RedisCacheBuildRecorder recorder) {
-        return new CacheManagerInfoBuildItem(recorder.getCacheManagerSupplier());
+    CacheManagerInfoBuildItem cacheManagerInfo(RedisCacheBuildRecorder recorder, ShutdownContextBuildItem shutdown) {
+        return new CacheManagerInfoBuildItem(recorder.getCacheManagerSupplier(shutdown));
     }
 
     @BuildStep
@@ -67,6 +68,13 @@ void nativeImage(BuildProducer<ReflectiveClassBuildItem> producer) {
         producer.produce(ReflectiveClassBuildItem.builder(CompositeCacheKey.class)
                 .reason(getClass().getName())
                 .methods().build());
+        // LZ4Factory.safeInstance() looks up the INSTANCE field of the pure Java implementations reflectively
+        producer.produce(ReflectiveClassBuildItem.builder("net.jpountz.lz4.LZ4JavaSafeCompressor",
+                "net.jpountz.lz4.LZ4HCJavaSafeCompressor",
+                "net.jpountz.lz4.LZ4JavaSafeFastDecompressor",
+                "net.jpountz.lz4.LZ4JavaSafeSafeDecompressor")
+                .reason(getClass().getName())
+                .fields().build());
     }
 
     @BuildStep
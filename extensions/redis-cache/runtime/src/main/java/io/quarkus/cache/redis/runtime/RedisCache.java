@@ -1,5 +1,8 @@
 package io.quarkus.cache.redis.runtime;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -76,6 +79,61 @@ public interface RedisCache extends Cache {
      */
     <K, V> Uni<V> getAsync(K key, TypeLiteral<V> type, Function<K, Uni<V>> valueLoader);
 
+    @Override
+    <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> valuesLoader);
+
+    @Override
+    <K, V> Uni<Map<K, V>> getAllAsync(Collection<K> keys, Function<Set<K>, Uni<Map<K, V>>> valuesLoader);
+
+    /**
+     * Allows retrieving several values from the Redis cache, with a single round trip if they are all cached.
+     *
+     * @param keys the keys
+     * @param clazz the class of the values
+     * @param valuesLoader the values loader called once with the keys that have no value stored in the cache
+     * @param <K> the type of key
+     * @param <V> the type of value
+     * @return the Uni emitting the cached values.
+     */
+    <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Class<V> clazz, Function<Set<K>, Map<K, V>> valuesLoader);
+
+    /**
+     * Allows retrieving several values from the Redis cache, with a single round trip if they are all cached.
+     *
+     * @param keys the keys
+     * @param type the type of the values
+     * @param valuesLoader the values loader called once with the keys that have no value stored in the cache
+     * @param <K> the type of key
+     * @param <V> the type of value
+     * @return the Uni emitting the cached values.
+     */
+    <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, TypeLiteral<V> type, Function<Set<K>, Map<K, V>> valuesLoader);
+
+    /**
+     * Allows retrieving several values from the Redis cache, with a single round trip if they are all cached.
+     *
+     * @param keys the keys
+     * @param clazz the class of the values
+     * @param valuesLoader the values loader called once with the keys that have no value stored in the cache
+     * @param <K> the type of key
+     * @param <V> the type of value
+     * @return the Uni emitting the cached values.
+     */
+    <K, V> Uni<Map<K, V>> getAllAsync(Collection<K> keys, Class<V> clazz, Function<Set<K>, Uni<Map<K, V>>> valuesLoader);
+
+    /**
+     * Allows retrieving several values from the Redis cache, with a single round trip if they are all cached.
+     *
+     * @param keys the keys
+     * @param type the type of the values
+     * @param valuesLoader the values loader called once with the keys that have no value stored in the cache
+     * @param <K> the type of key
+     * @param <V> the type of value
+     * @return the Uni emitting the cached values.
+     */
+    <K, V> Uni<Map<K, V>> getAllAsync(Collection<K> keys, TypeLiteral<V> type,
+            Function<Set<K>, Uni<Map<K, V>>> valuesLoader);
+
     /**
      * Put a value in the cache.
      *
@@ -11,6 +11,7 @@
 import io.quarkus.cache.CacheManagerInfo;
 import io.quarkus.cache.runtime.CacheManagerImpl;
 import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
@@ -29,7 +30,7 @@ public RedisCacheBuildRecorder(RedisCachesBuildTimeConfig buildConfig, RuntimeVa
         this.redisCacheConfigRV = redisCacheConfigRV;
     }
 
-    public CacheManagerInfo getCacheManagerSupplier() {
+    public CacheManagerInfo getCacheManagerSupplier(ShutdownContext shutdownContext) {
         return new CacheManagerInfo() {
             @Override
             public boolean supports(Context context) {
@@ -51,13 +52,24 @@ public CacheManager get() {
                             for (RedisCacheInfo cacheInfo : cacheInfos) {
                                 if (LOGGER.isDebugEnabled()) {
                                     LOGGER.debugf(
-                                            "Building Redis cache [%s] with [ttl=%s], [prefix=%s], [classOfItems=%s]",
+                                            "Building Redis cache [%s] with [ttl=%s], [prefix=%s], [classOfItems=%s], [nearCache=%s]",
                                             cacheInfo.name, cacheInfo.expireAfterAccess, cacheInfo.prefix,
-                                            cacheInfo.valueType);
+                                            cacheInfo.valueType, cacheInfo.nearCache);
                                 }
 
                                 RedisCacheImpl cache = new RedisCacheImpl(cacheInfo, buildConfig.clientName);
-                                caches.put(cacheInfo.name, cache);
+                                if (cacheInfo.nearCache) {
+                                    RedisNearCacheImpl nearCache = new RedisNearCacheImpl(cacheInfo, cache);
+                                    shutdownContext.addShutdownTask(new Runnable() {
+                                        @Override
+                                        public void run() {
+                                            nearCache.close();
+                                        }
+                                    });
+                                    caches.put(cacheInfo.name, nearCache);
+                                } else {
+                                    caches.put(cacheInfo.name, cache);
+                                }
                             }
                             return new CacheManagerImpl(caches);
                         }
@@ -0,0 +1,27 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class RedisCacheCompressionConfig {
+
+    /**
+     * Whether the encoded values are compressed with LZ4 before being stored in Redis.
+     * <p>
+     * Values stored without compression can still be read once compression is enabled.
+     * Default is {@code false}.
+     */
+    @ConfigItem
+    public Optional<Boolean> enabled;
+
+    /**
+     * The minimum size, in bytes, of an encoded value for it to be compressed. Smaller values are stored as-is.
+     * Default is {@code 1024}.
+     */
+    @ConfigItem
+    public OptionalInt threshold;
+}
@@ -4,9 +4,15 @@
 import java.net.ConnectException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -34,6 +40,7 @@
 import io.vertx.mutiny.redis.client.RedisConnection;
 import io.vertx.mutiny.redis.client.Request;
 import io.vertx.mutiny.redis.client.Response;
+import io.vertx.redis.client.ResponseType;
 
 /**
  * This class is an internal Quarkus cache implementation using Redis.
@@ -43,14 +50,15 @@ public class RedisCacheImpl extends AbstractCache implements RedisCache {
 
     private static final Logger log = Logger.getLogger(RedisCacheImpl.class);
 
-    private final Vertx vertx;
-    private final Redis redis;
+    final Vertx vertx;
+    final Redis redis;
 
     private final RedisCacheInfo cacheInfo;
     private final Type classOfValue;
     private final Type classOfKey;
 
     private final Marshaller marshaller;
+    private final RedisCacheValueCompressor compressor;
 
     private final Supplier<Boolean> blockingAllowedSupplier;
 
@@ -84,9 +92,23 @@ public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Suppli
             this.marshaller = new Marshaller(this.classOfKey);
         }
         this.marshaller.add(CompositeCacheKey.class);
+        this.compressor = new RedisCacheValueCompressor(cacheInfo.compressionThreshold);
         this.redis = redis;
     }
 
+    private byte[] encodeValue(Object value) {
+        byte[] encoded = marshaller.encode(value);
+        return cacheInfo.compression ? compressor.compress(encoded) : encoded;
+    }
+
+    private <V> V decodeValue(Type type, Response response) {
+        if (response == null || response.type() == ResponseType.SIMPLE) {
+            return marshaller.decode(type, response);
+        }
+        // Compressed values are always detected, so that toggling the compression does not invalidate the stored entries
+        return marshaller.decode(type, compressor.decompress(response.toBytes()));
+    }
+
     private static boolean isRecomputableError(Throwable error) {
         return error instanceof ConnectException
                 || error instanceof ConnectionPoolTooBusyException;
@@ -107,7 +129,7 @@ public Class<?> getDefaultValueType() {
         return classOfValue instanceof Class<?> ? (Class<?>) classOfValue : null;
     }
 
-    private <K> String encodeKey(K key) {
+    <K> String encodeKey(K key) {
         return new String(marshaller.encode(key), StandardCharsets.UTF_8);
     }
 
@@ -188,7 +210,7 @@ public Uni<?> apply(V value) {
                                             if (value == null) {
                                                 throw new IllegalArgumentException("Cannot cache `null` value");
                                             }
-                                            byte[] encodedValue = marshaller.encode(value);
+                                            byte[] encodedValue = encodeValue(value);
                                             Uni<V> result;
                                             if (cacheInfo.useOptimisticLocking) {
                                                 result = multi(connection, set(connection, encodedKey, encodedValue))
@@ -260,7 +282,7 @@ public Uni<V> apply(RedisConnection connection) {
                                 Uni<V> getter = valueLoader.apply(key);
                                 return getter
                                         .chain(value -> {
-                                            byte[] encodedValue = marshaller.encode(value);
+                                            byte[] encodedValue = encodeValue(value);
                                             if (cacheInfo.useOptimisticLocking) {
                                                 return multi(connection, set(connection, encodedKey, encodedValue))
                                                         .replaceWith(value);
@@ -279,6 +301,146 @@ public Uni<V> apply(RedisConnection connection) {
                 });
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> valuesLoader) {
+        enforceDefaultType("getAll");
+        return getAll(keys, classOfValue, valuesLoader);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Class<V> clazz, Function<Set<K>, Map<K, V>> valuesLoader) {
+        return getAll(keys, (Type) clazz, valuesLoader);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, TypeLiteral<V> type,
+            Function<Set<K>, Map<K, V>> valuesLoader) {
+        return getAll(keys, type.getType(), valuesLoader);
+    }
+
+    private <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Type type, Function<Set<K>, Map<K, V>> valuesLoader) {
+        boolean isWorkerThread = blockingAllowedSupplier.get();
+        return getAll(keys, type, new Function<Set<K>, Uni<Map<K, V>>>() {
+            @Override
+            public Uni<Map<K, V>> apply(Set<K> missingKeys) {
+                return computeValue(missingKeys, valuesLoader, isWorkerThread);
+            }
+        }, isWorkerThread);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Collection<K> keys, Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        enforceDefaultType("getAllAsync");
+        return getAll(keys, classOfValue, valuesLoader, false);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Collection<K> keys, Class<V> clazz,
+            Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        return getAll(keys, (Type) clazz, valuesLoader, false);
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Collection<K> keys, TypeLiteral<V> type,
+            Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        return getAll(keys, type.getType(), valuesLoader, false);
+    }
+
+    private <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Type type, Function<Set<K>, Uni<Map<K, V>>> valuesLoader,
+            boolean isWorkerThread) {
+        // The cached values are retrieved with a single MGET (or pipelined GETEX when expire-after-access is used),
+        // and the missing values are computed with a single valuesLoader invocation and written with pipelined SETs.
+        Map<K, byte[]> encodedKeys = new LinkedHashMap<>();
+        for (K key : keys) {
+            Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+            if (!encodedKeys.containsKey(key)) {
+                encodedKeys.put(key, marshaller.encode(computeActualKey(encodeKey(key))));
+            }
+        }
+        if (encodedKeys.isEmpty()) {
+            return Uni.createFrom().item(new Supplier<Map<K, V>>() {
+                @Override
+                public Map<K, V> get() {
+                    return new LinkedHashMap<>();
+                }
+            });
+        }
+        return withConnection(new Function<RedisConnection, Uni<Map<K, V>>>() {
+            @Override
+            public Uni<Map<K, V>> apply(RedisConnection connection) {
+                Uni<List<Response>> startingPoint;
+                if (cacheInfo.useOptimisticLocking) {
+                    startingPoint = watch(connection, encodedKeys.values())
+                            .chain(() -> doGetAll(connection, encodedKeys.values()));
+                } else {
+                    startingPoint = doGetAll(connection, encodedKeys.values());
+                }
+
+                return startingPoint.chain(new Function<List<Response>, Uni<? extends Map<K, V>>>() {
+                    @Override
+                    public Uni<Map<K, V>> apply(List<Response> responses) {
+                        Map<K, V> result = new LinkedHashMap<>();
+                        Set<K> missingKeys = new LinkedHashSet<>();
+                        int i = 0;
+                        for (K key : encodedKeys.keySet()) {
+                            V cached = decodeValue(type, responses.get(i++));
+                            if (cached == null) {
+                                missingKeys.add(key);
+                            } else {
+                                result.put(key, cached);
+                            }
+                        }
+                        if (missingKeys.isEmpty()) {
+                            // Unwatch if optimistic locking
+                            if (cacheInfo.useOptimisticLocking) {
+                                return connection.send(Request.cmd(Command.UNWATCH)).replaceWith(result);
+                            }
+                            return Uni.createFrom().item(new StaticSupplier<>(result));
+                        }
+                        return valuesLoader.apply(missingKeys).chain(new Function<Map<K, V>, Uni<? extends Map<K, V>>>() {
+                            @Override
+                            public Uni<Map<K, V>> apply(Map<K, V> values) {
+                                List<Request> requests = new ArrayList<>();
+                                for (K key : missingKeys) {
+                                    if (values.containsKey(key)) {
+                                        V value = values.get(key);
+                                        if (value == null) {
+                                            throw new IllegalArgumentException("Cannot cache `null` value");
+                                        }
+                                        requests.add(setRequest(encodedKeys.get(key), encodeValue(value)));
+                                        result.put(key, value);
+                                    }
+                                }
+                                Uni<Void> write;
+                                if (requests.isEmpty()) {
+                                    write = cacheInfo.useOptimisticLocking
+                                            ? connection.send(Request.cmd(Command.UNWATCH)).replaceWithVoid()
+                                            : Uni.createFrom().voidItem();
+                                } else if (cacheInfo.useOptimisticLocking) {
+                                    write = multi(connection, connection.batch(requests).replaceWithVoid());
+                                } else {
+                                    write = connection.batch(requests).replaceWithVoid();
+                                }
+                                if (isWorkerThread) {
+                                    write = write.runSubscriptionOn(MutinyHelper.blockingExecutor(vertx.getDelegate(), false));
+                                }
+                                return write.replaceWith(result);
+                            }
+                        });
+                    }
+                });
+            }
+        })
+                .onFailure(RedisCacheImpl::isRecomputableError)
+                .recoverWithUni(new Function<Throwable, Uni<? extends Map<K, V>>>() {
+                    @Override
+                    public Uni<? extends Map<K, V>> apply(Throwable e) {
+                        log.warn("Unable to connect to Redis, recomputing cached values", e);
+                        return valuesLoader.apply(new LinkedHashSet<>(encodedKeys.keySet()));
+                    }
+                });
+    }
+
     @Override
     public <K, V> Uni<Void> put(K key, V value) {
         return put(key, new StaticSupplier<>(value));
@@ -287,7 +449,7 @@ public <K, V> Uni<Void> put(K key, V value) {
     @Override
     public <K, V> Uni<Void> put(K key, Supplier<V> supplier) {
         byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        byte[] encodedValue = marshaller.encode(supplier.get());
+        byte[] encodedValue = encodeValue(supplier.get());
         return withConnection(new Function<RedisConnection, Uni<Void>>() {
             @Override
             public Uni<Void> apply(RedisConnection connection) {
@@ -413,7 +575,7 @@ private String getKeyPattern() {
         return getKeyPrefix() + ":*";
     }
 
-    private String getKeyPrefix() {
+    String getKeyPrefix() {
         if (cacheInfo.prefix != null) {
             return cacheInfo.prefix.replace("{cache-name}", getName());
         } else {
@@ -443,6 +605,15 @@ private Uni<Void> watch(RedisConnection connection, byte[] keyToWatch) {
                 .replaceWithVoid();
     }
 
+    private Uni<Void> watch(RedisConnection connection, Collection<byte[]> keysToWatch) {
+        Request request = Request.cmd(Command.WATCH);
+        for (byte[] keyToWatch : keysToWatch) {
+            request.arg(keyToWatch);
+        }
+        return connection.send(request)
+                .replaceWithVoid();
+    }
+
     private <X> Uni<X> doGet(RedisConnection connection, byte[] encoded, Type clazz,
             Marshaller marshaller) {
         if (cacheInfo.expireAfterAccess.isPresent()) {
@@ -451,7 +622,7 @@ private <X> Uni<X> doGet(RedisConnection connection, byte[] encoded, Type clazz,
                     .map(new Function<Response, X>() {
                         @Override
                         public X apply(Response r) {
-                            return marshaller.decode(clazz, r);
+                            return decodeValue(clazz, r);
                         }
                     });
         } else {
@@ -459,18 +630,49 @@ public X apply(Response r) {
                     .map(new Function<Response, X>() {
                         @Override
                         public X apply(Response r) {
-                            return marshaller.decode(clazz, r);
+                            return decodeValue(clazz, r);
+                        }
+                    });
+        }
+    }
+
+    private Uni<List<Response>> doGetAll(RedisConnection connection, Collection<byte[]> encodedKeys) {
+        if (cacheInfo.expireAfterAccess.isPresent()) {
+            long seconds = cacheInfo.expireAfterAccess.get().toSeconds();
+            List<Request> requests = new ArrayList<>(encodedKeys.size());
+            for (byte[] encodedKey : encodedKeys) {
+                requests.add(Request.cmd(Command.GETEX).arg(encodedKey).arg("EX").arg(seconds));
+            }
+            return connection.batch(requests);
+        } else {
+            Request request = Request.cmd(Command.MGET);
+            for (byte[] encodedKey : encodedKeys) {
+                request.arg(encodedKey);
+            }
+            return connection.send(request)
+                    .map(new Function<Response, List<Response>>() {
+                        @Override
+                        public List<Response> apply(Response r) {
+                            List<Response> responses = new ArrayList<>(r.size());
+                            for (int i = 0; i < r.size(); i++) {
+                                responses.add(r.get(i));
+                            }
+                            return responses;
                         }
                     });
         }
     }
 
     private Uni<Void> set(RedisConnection connection, byte[] key, byte[] value) {
+        return connection.send(setRequest(key, value)).replaceWithVoid();
+    }
+
+    private Request setRequest(byte[] key, byte[] value) {
         Request request = Request.cmd(Command.SET).arg(key).arg(value);
         if (cacheInfo.expireAfterWrite.isPresent()) {
             request = request.arg("EX").arg(cacheInfo.expireAfterWrite.get().toSeconds());
         }
-        return connection.send(request).replaceWithVoid();
+        return request;
     }
 
     private Uni<Void> multi(RedisConnection connection, Uni<Void> operation) {
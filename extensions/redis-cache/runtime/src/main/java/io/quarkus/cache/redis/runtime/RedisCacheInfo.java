@@ -43,4 +43,29 @@ public class RedisCacheInfo {
      * Locking</a> for details.
      */
     public boolean useOptimisticLocking = false;
+
+    /**
+     * Whether the most recently used entries are also kept in a local cache.
+     */
+    public boolean nearCache = false;
+
+    /**
+     * The maximum number of entries kept in the local cache.
+     */
+    public long nearCacheMaximumSize = 10_000;
+
+    /**
+     * The time to live of the entries kept in the local cache.
+     */
+    public Optional<Duration> nearCacheExpireAfterWrite = Optional.empty();
+
+    /**
+     * Whether the encoded values are compressed before being stored in Redis.
+     */
+    public boolean compression = false;
+
+    /**
+     * The minimum size, in bytes, of an encoded value for it to be compressed.
+     */
+    public int compressionThreshold = 1024;
 }
@@ -61,6 +61,36 @@ public static Set<RedisCacheInfo> build(Set<String> cacheNames, RedisCachesConfi
                     cacheInfo.useOptimisticLocking = defaultRuntimeConfig.useOptimisticLocking.get();
                 }
 
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCache.enabled.isPresent()) {
+                    cacheInfo.nearCache = namedRuntimeConfig.nearCache.enabled.get();
+                } else if (defaultRuntimeConfig.nearCache.enabled.isPresent()) {
+                    cacheInfo.nearCache = defaultRuntimeConfig.nearCache.enabled.get();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCache.maximumSize.isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = namedRuntimeConfig.nearCache.maximumSize.getAsLong();
+                } else if (defaultRuntimeConfig.nearCache.maximumSize.isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = defaultRuntimeConfig.nearCache.maximumSize.getAsLong();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCache.expireAfterWrite.isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = namedRuntimeConfig.nearCache.expireAfterWrite;
+                } else if (defaultRuntimeConfig.nearCache.expireAfterWrite.isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = defaultRuntimeConfig.nearCache.expireAfterWrite;
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.compression.enabled.isPresent()) {
+                    cacheInfo.compression = namedRuntimeConfig.compression.enabled.get();
+                } else if (defaultRuntimeConfig.compression.enabled.isPresent()) {
+                    cacheInfo.compression = defaultRuntimeConfig.compression.enabled.get();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.compression.threshold.isPresent()) {
+                    cacheInfo.compressionThreshold = namedRuntimeConfig.compression.threshold.getAsInt();
+                } else if (defaultRuntimeConfig.compression.threshold.isPresent()) {
+                    cacheInfo.compressionThreshold = defaultRuntimeConfig.compression.threshold.getAsInt();
+                }
+
                 result.add(cacheInfo);
             }
             return result;
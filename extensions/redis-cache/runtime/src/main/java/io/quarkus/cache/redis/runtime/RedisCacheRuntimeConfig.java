@@ -48,4 +48,16 @@ public class RedisCacheRuntimeConfig {
     @ConfigItem
     public Optional<Boolean> useOptimisticLocking;
 
+    /**
+     * The local near cache configuration.
+     */
+    @ConfigItem
+    public RedisNearCacheConfig nearCache;
+
+    /**
+     * The value compression configuration.
+     */
+    @ConfigItem
+    public RedisCacheCompressionConfig compression;
+
 }
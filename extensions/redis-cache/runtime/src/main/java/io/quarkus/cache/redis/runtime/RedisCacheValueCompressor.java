@@ -0,0 +1,106 @@
+package io.quarkus.cache.redis.runtime;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+
+/**
+ * Compresses the encoded cache values using LZ4.
+ * <p>
+ * Only the values whose encoded size reaches the configured threshold are compressed, and only if compression actually
+ * reduces their size. A compressed value starts with a 4 bytes header ({@code 0x00 'L' 'Z' '4'}) followed by the
+ * original length (4 bytes, big-endian) and the LZ4 block. Values without the header are returned as-is by
+ * {@link #decompress(byte[])}, so entries written before compression was enabled can still be read.
+ * <p>
+ * This class is an internal Quarkus cache implementation class. Do not use it explicitly from your Quarkus application.
+ */
+public class RedisCacheValueCompressor {
+
+    static final byte[] MAGIC = new byte[] { 0x00, 'L', 'Z', '4' };
+    static final int HEADER_LENGTH = MAGIC.length + 4;
+
+    // The pure Java implementations are used so that neither JNI nor sun.misc.Unsafe is needed in native mode
+    private static final LZ4Factory FACTORY = LZ4Factory.safeInstance();
+
+    private final int threshold;
+    private final LZ4Compressor compressor;
+    private final LZ4FastDecompressor decompressor;
+
+    public RedisCacheValueCompressor(int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("The compression threshold must not be negative");
+        }
+        this.threshold = threshold;
+        this.compressor = FACTORY.fastCompressor();
+        this.decompressor = FACTORY.fastDecompressor();
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * @param value the encoded value, may be {@code null}
+     * @return the compressed value, or the given value if it is smaller than the threshold or if it cannot be compressed
+     */
+    public byte[] compress(byte[] value) {
+        if (value == null || value.length < threshold) {
+            return value;
+        }
+        int maxLength = compressor.maxCompressedLength(value.length);
+        byte[] compressed = new byte[HEADER_LENGTH + maxLength];
+        int compressedLength = compressor.compress(value, 0, value.length, compressed, HEADER_LENGTH, maxLength);
+        int length = HEADER_LENGTH + compressedLength;
+        if (length >= value.length) {
+            return value;
+        }
+        System.arraycopy(MAGIC, 0, compressed, 0, MAGIC.length);
+        writeInt(compressed, MAGIC.length, value.length);
+        if (length == compressed.length) {
+            return compressed;
+        }
+        byte[] result = new byte[length];
+        System.arraycopy(compressed, 0, result, 0, length);
+        return result;
+    }
+
+    /**
+     * @param value the value read from Redis, may be {@code null}
+     * @return the decompressed value, or the given value if it was not compressed
+     */
+    public byte[] decompress(byte[] value) {
+        if (!isCompressed(value)) {
+            return value;
+        }
+        int originalLength = readInt(value, MAGIC.length);
+        byte[] result = new byte[originalLength];
+        decompressor.decompress(value, HEADER_LENGTH, result, 0, originalLength);
+        return result;
+    }
+
+    static boolean isCompressed(byte[] value) {
+        if (value == null || value.length <= HEADER_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (value[i] != MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >>> 24);
+        bytes[offset + 1] = (byte) (value >>> 16);
+        bytes[offset + 2] = (byte) (value >>> 8);
+        bytes[offset + 3] = (byte) value;
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        return ((bytes[offset] & 0xFF) << 24)
+                | ((bytes[offset + 1] & 0xFF) << 16)
+                | ((bytes[offset + 2] & 0xFF) << 8)
+                | (bytes[offset + 3] & 0xFF);
+    }
+}
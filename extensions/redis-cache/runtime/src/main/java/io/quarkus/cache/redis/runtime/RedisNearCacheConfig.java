@@ -0,0 +1,37 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class RedisNearCacheConfig {
+
+    /**
+     * Whether the most recently used entries of the cache are also kept in a local, in-memory cache.
+     * <p>
+     * The local entries are invalidated using the Redis client-side caching support (Redis 6+), so changes made by other
+     * applications and expirations are observed as well.
+     * Default is {@code false}.
+     */
+    @ConfigItem
+    public Optional<Boolean> enabled;
+
+    /**
+     * Maximum number of entries kept in the local cache.
+     * Default is {@code 10000}.
+     */
+    @ConfigItem
+    public OptionalLong maximumSize;
+
+    /**
+     * Specifies that each entry should be automatically removed from the local cache once a fixed duration has elapsed
+     * after the entry's creation. If not set, the local entries are only removed when they are invalidated in Redis or
+     * evicted because of the maximum size.
+     */
+    @ConfigItem
+    public Optional<Duration> expireAfterWrite;
+}
@@ -0,0 +1,423 @@
+package io.quarkus.cache.redis.runtime;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import jakarta.enterprise.util.TypeLiteral;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheImpl;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.RedisConnection;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+
+/**
+ * This class is an internal Quarkus cache implementation keeping the most recently used entries of a Redis cache in a
+ * local Caffeine cache. Do not use it explicitly from your Quarkus application.
+ * <p>
+ * The local entries are keyed by their Redis key and are invalidated using the client-side caching support of Redis: a
+ * dedicated connection enables the tracking of the keys in broadcasting mode for the key prefix of the cache, and
+ * subscribes to the {@code __redis__:invalidate} channel on which Redis publishes the keys that are modified, deleted or
+ * expired. The local cache is bypassed until this connection is established, and while it is re-established. The
+ * connection is released by {@link #close()}.
+ */
+public class RedisNearCacheImpl extends AbstractCache implements RedisCache {
+
+    private static final Logger log = Logger.getLogger(RedisNearCacheImpl.class);
+
+    static final String INVALIDATION_CHANNEL = "__redis__:invalidate";
+
+    private static final long INITIAL_RECONNECT_DELAY = 100;
+    private static final long MAX_RECONNECT_DELAY = 30_000;
+
+    private final RedisCacheImpl remote;
+    private final CaffeineCacheImpl local;
+
+    private volatile boolean tracking;
+    private volatile RedisConnection trackingConnection;
+    private long reconnectDelay = INITIAL_RECONNECT_DELAY;
+    // -1 if no reconnection is scheduled
+    private volatile long reconnectTimer = -1;
+    private volatile boolean closed;
+
+    public RedisNearCacheImpl(RedisCacheInfo cacheInfo, RedisCacheImpl remote) {
+        this.remote = remote;
+        CaffeineCacheInfo localCacheInfo = new CaffeineCacheInfo();
+        localCacheInfo.name = remote.getName();
+        localCacheInfo.maximumSize = cacheInfo.nearCacheMaximumSize;
+        localCacheInfo.expireAfterWrite = cacheInfo.nearCacheExpireAfterWrite.orElse(null);
+        this.local = new CaffeineCacheImpl(localCacheInfo, false);
+        startTracking();
+    }
+
+    /**
+     * @return {@code true} if the local entries are currently invalidated by Redis, and thus used
+     */
+    public boolean isTracking() {
+        return tracking;
+    }
+
+    // For testing purposes only.
+    public long getLocalSize() {
+        return local.getSize();
+    }
+
+    /**
+     * Cancels the scheduled reconnection and closes the invalidation connection. The local cache is bypassed afterwards.
+     */
+    public void close() {
+        closed = true;
+        tracking = false;
+        long timer = reconnectTimer;
+        if (timer != -1) {
+            remote.vertx.cancelTimer(timer);
+        }
+        RedisConnection connection = trackingConnection;
+        // the end of the connection must not trigger a reconnection, see onTrackingLost()
+        trackingConnection = null;
+        if (connection != null) {
+            connection.closeAndForget();
+        }
+        invalidateAllLocally();
+    }
+
+    private void startTracking() {
+        reconnectTimer = -1;
+        if (closed) {
+            return;
+        }
+        String prefix = remote.getKeyPrefix() + ":";
+        remote.redis.connect()
+                .chain(new Function<RedisConnection, Uni<? extends RedisConnection>>() {
+                    @Override
+                    public Uni<RedisConnection> apply(RedisConnection connection) {
+                        connection.handler(new Consumer<Response>() {
+                            @Override
+                            public void accept(Response message) {
+                                onMessage(message);
+                            }
+                        });
+                        connection.exceptionHandler(new Consumer<Throwable>() {
+                            @Override
+                            public void accept(Throwable failure) {
+                                onTrackingLost(connection, failure);
+                            }
+                        });
+                        connection.endHandler(new Runnable() {
+                            @Override
+                            public void run() {
+                                onTrackingLost(connection, null);
+                            }
+                        });
+                        // The invalidation messages are redirected to this connection, which works with both RESP2 and RESP3
+                        return connection.send(Request.cmd(Command.CLIENT).arg("ID"))
+                                .chain(id -> connection.send(Request.cmd(Command.CLIENT).arg("TRACKING").arg("ON")
+                                        .arg("REDIRECT").arg(id.toLong()).arg("BCAST").arg("PREFIX").arg(prefix)))
+                                .chain(() -> connection.send(Request.cmd(Command.SUBSCRIBE).arg(INVALIDATION_CHANNEL)))
+                                .replaceWith(connection)
+                                .onFailure().call(connection::close);
+                    }
+                })
+                .subscribe().with(new Consumer<RedisConnection>() {
+                    @Override
+                    public void accept(RedisConnection connection) {
+                        if (closed) {
+                            connection.closeAndForget();
+                            return;
+                        }
+                        log.debugf("Near cache enabled for Redis cache [%s]", getName());
+                        trackingConnection = connection;
+                        reconnectDelay = INITIAL_RECONNECT_DELAY;
+                        tracking = true;
+                    }
+                }, new Consumer<Throwable>() {
+                    @Override
+                    public void accept(Throwable failure) {
+                        log.warnf(failure, "Unable to enable the invalidation of the near cache for Redis cache [%s], "
+                                + "the near cache is bypassed", getName());
+                        scheduleReconnect();
+                    }
+                });
+    }
+
+    private void onTrackingLost(RedisConnection connection, Throwable failure) {
+        if (trackingConnection != connection) {
+            // failures during the setup are handled when the connection is established
+            return;
+        }
+        log.debugf(failure, "Invalidation connection lost for Redis cache [%s], the near cache is bypassed", getName());
+        trackingConnection = null;
+        tracking = false;
+        // invalidations may have been missed
+        invalidateAllLocally();
+        scheduleReconnect();
+    }
+
+    private void scheduleReconnect() {
+        if (closed) {
+            return;
+        }
+        long delay = reconnectDelay;
+        reconnectDelay = Math.min(delay * 2, MAX_RECONNECT_DELAY);
+        try {
+            reconnectTimer = remote.vertx.setTimer(delay, new Consumer<Long>() {
+                @Override
+                public void accept(Long ignored) {
+                    startTracking();
+                }
+            });
+        } catch (IllegalStateException e) {
+            // Vert.x is closed
+        }
+    }
+
+    private void onMessage(Response message) {
+        // ["message", "__redis__:invalidate", keys], the keys are null if the database was flushed
+        if (message == null || message.size() < 3 || !"message".equals(message.get(0).toString())) {
+            return;
+        }
+        Response keys = message.get(2);
+        if (keys == null) {
+            invalidateAllLocally();
+            return;
+        }
+        for (int i = 0; i < keys.size(); i++) {
+            invalidateLocally(keys.get(i).toString());
+        }
+    }
+
+    private void invalidateLocally(String redisKey) {
+        local.invalidate(redisKey).subscribe().with(NoopConsumer.INSTANCE);
+    }
+
+    private void invalidateAllLocally() {
+        local.invalidateAll().subscribe().with(NoopConsumer.INSTANCE);
+    }
+
+    private String redisKey(Object key) {
+        return remote.computeActualKey(remote.encodeKey(key));
+    }
+
+    private <K, V> Uni<V> getNear(K key, Function<K, Uni<V>> remoteGet) {
+        if (!tracking) {
+            return remoteGet.apply(key);
+        }
+        // the local cache guarantees that concurrent callers share a single remote lookup
+        return local.getAsync(redisKey(key), new Function<String, Uni<V>>() {
+            @Override
+            public Uni<V> apply(String redisKey) {
+                return remoteGet.apply(key);
+            }
+        });
+    }
+
+    private <K, V> Uni<Map<K, V>> getAllNear(Collection<K> keys, Function<Set<K>, Uni<Map<K, V>>> remoteGetAll) {
+        if (!tracking) {
+            return remoteGetAll.apply(new LinkedHashSet<>(keys));
+        }
+        Map<String, K> userKeys = new LinkedHashMap<>();
+        for (K key : keys) {
+            userKeys.put(redisKey(key), key);
+        }
+        return local.getAllAsync(userKeys.keySet(), new Function<Set<String>, Uni<Map<String, V>>>() {
+            @Override
+            public Uni<Map<String, V>> apply(Set<String> missingRedisKeys) {
+                Set<K> missingKeys = new LinkedHashSet<>();
+                for (String redisKey : missingRedisKeys) {
+                    missingKeys.add(userKeys.get(redisKey));
+                }
+                return remoteGetAll.apply(missingKeys).map(new Function<Map<K, V>, Map<String, V>>() {
+                    @Override
+                    public Map<String, V> apply(Map<K, V> values) {
+                        Map<String, V> result = new LinkedHashMap<>();
+                        for (Map.Entry<K, V> value : values.entrySet()) {
+                            result.put(redisKey(value.getKey()), value.getValue());
+                        }
+                        return result;
+                    }
+                });
+            }
+        }).map(new Function<Map<String, V>, Map<K, V>>() {
+            @Override
+            public Map<K, V> apply(Map<String, V> values) {
+                Map<K, V> result = new LinkedHashMap<>();
+                for (Map.Entry<String, V> value : values.entrySet()) {
+                    result.put(userKeys.get(value.getKey()), value.getValue());
+                }
+                return result;
+            }
+        });
+    }
+
+    private <V> Uni<V> getLocalOr(Object key, Supplier<Uni<V>> remoteGet) {
+        if (tracking) {
+            CompletableFuture<V> value = local.getIfPresent(redisKey(key));
+            if (value != null) {
+                return Uni.createFrom().completionStage(value);
+            }
+        }
+        return remoteGet.get();
+    }
+
+    @Override
+    public String getName() {
+        return remote.getName();
+    }
+
+    @Override
+    public Object getDefaultKey() {
+        return remote.getDefaultKey();
+    }
+
+    @Override
+    @Deprecated
+    public Class<?> getDefaultValueType() {
+        return remote.getDefaultValueType();
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, Function<K, V> valueLoader) {
+        return getNear(key, k -> remote.get(k, valueLoader));
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, Class<V> clazz, Function<K, V> valueLoader) {
+        return getNear(key, k -> remote.get(k, clazz, valueLoader));
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, TypeLiteral<V> type, Function<K, V> valueLoader) {
+        return getNear(key, k -> remote.get(k, type, valueLoader));
+    }
+
+    @Override
+    public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
+        return getNear(key, k -> remote.getAsync(k, valueLoader));
+    }
+
+    @Override
+    public <K, V> Uni<V> getAsync(K key, Class<V> clazz, Function<K, Uni<V>> valueLoader) {
+        return getNear(key, k -> remote.getAsync(k, clazz, valueLoader));
+    }
+
+    @Override
+    public <K, V> Uni<V> getAsync(K key, TypeLiteral<V> type, Function<K, Uni<V>> valueLoader) {
+        return getNear(key, k -> remote.getAsync(k, type, valueLoader));
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> valuesLoader) {
+        return getAllNear(keys, ks -> remote.getAll(ks, valuesLoader));
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, Class<V> clazz, Function<Set<K>, Map<K, V>> valuesLoader) {
+        return getAllNear(keys, ks -> remote.getAll(ks, clazz, valuesLoader));
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Collection<K> keys, TypeLiteral<V> type,
+            Function<Set<K>, Map<K, V>> valuesLoader) {
+        return getAllNear(keys, ks -> remote.getAll(ks, type, valuesLoader));
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Collection<K> keys, Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        return getAllNear(keys, ks -> remote.getAllAsync(ks, valuesLoader));
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Collection<K> keys, Class<V> clazz,
+            Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        return getAllNear(keys, ks -> remote.getAllAsync(ks, clazz, valuesLoader));
+    }
+
+    @Override
+    public <K, V> Uni<Map<K, V>> getAllAsync(Collection<K> keys, TypeLiteral<V> type,
+            Function<Set<K>, Uni<Map<K, V>>> valuesLoader) {
+        return getAllNear(keys, ks -> remote.getAllAsync(ks, type, valuesLoader));
+    }
+
+    @Override
+    public <K, V> Uni<Void> put(K key, V value) {
+        return remote.put(key, value).call(() -> local.invalidate(redisKey(key)));
+    }
+
+    @Override
+    public <K, V> Uni<Void> put(K key, Supplier<V> supplier) {
+        return remote.put(key, supplier).call(() -> local.invalidate(redisKey(key)));
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrDefault(K key, V defaultValue) {
+        return getLocalOr(key, () -> remote.getOrDefault(key, defaultValue));
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrDefault(K key, Class<V> clazz, V defaultValue) {
+        return getLocalOr(key, () -> remote.getOrDefault(key, clazz, defaultValue));
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrDefault(K key, TypeLiteral<V> type, V defaultValue) {
+        return getLocalOr(key, () -> remote.getOrDefault(key, type, defaultValue));
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrNull(K key) {
+        return getLocalOr(key, () -> remote.getOrNull(key));
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrNull(K key, Class<V> clazz) {
+        return getLocalOr(key, () -> remote.getOrNull(key, clazz));
+    }
+
+    @Override
+    public <K, V> Uni<V> getOrNull(K key, TypeLiteral<V> type) {
+        return getLocalOr(key, () -> remote.getOrNull(key, type));
+    }
+
+    @Override
+    public Uni<Void> invalidate(Object key) {
+        // the local entry is removed without waiting for the invalidation message
+        return remote.invalidate(key).call(() -> local.invalidate(redisKey(key)));
+    }
+
+    @Override
+    public Uni<Void> invalidateAll() {
+        return remote.invalidateAll().call(local::invalidateAll);
+    }
+
+    @Override
+    public Uni<Void> invalidateIf(Predicate<Object> predicate) {
+        return remote.invalidateIf(predicate).call(() -> local.invalidateIf(new Predicate<Object>() {
+            @Override
+            public boolean test(Object redisKey) {
+                return predicate.test(remote.computeUserKey((String) redisKey));
+            }
+        }));
+    }
+
+    private static class NoopConsumer implements Consumer<Void> {
+
+        static final NoopConsumer INSTANCE = new NoopConsumer();
+
+        @Override
+        public void accept(Void ignored) {
+        }
+    }
+}
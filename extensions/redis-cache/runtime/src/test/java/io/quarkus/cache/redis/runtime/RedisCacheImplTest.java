@@ -2,6 +2,7 @@
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -9,6 +10,7 @@
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -87,6 +89,33 @@ public void testPutInTheCache() {
         assertThat(r).isNotNull();
     }
 
+    @Test
+    public void testGetAll() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "foo";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        cache.put("a", "cached-a").await().indefinitely();
+
+        List<Set<String>> loads = new ArrayList<>();
+        Map<String, String> values = cache.<String, String> getAll(List.of("a", "b", "c"), keys -> {
+            loads.add(keys);
+            return Map.of("b", "loaded-b");
+        }).await().indefinitely();
+        assertThat(values).containsExactly(entry("a", "cached-a"), entry("b", "loaded-b"));
+        assertThat(loads).containsExactly(Set.of("b", "c"));
+        assertThatTheKeyDoesExist("cache:foo:b");
+        assertThatTheKeyDoesNotExist("cache:foo:c");
+
+        values = cache.<String, String> getAllAsync(List.of("a", "b"), keys -> {
+            loads.add(keys);
+            return Uni.createFrom().item(Map.of());
+        }).await().indefinitely();
+        assertThat(values).containsExactly(entry("a", "cached-a"), entry("b", "loaded-b"));
+        assertThat(loads).hasSize(1);
+    }
+
     @Test
     public void testExhaustConnectionPool() {
         String k = UUID.randomUUID().toString();
@@ -512,6 +541,36 @@ void testPut() {
                 .await().indefinitely()).isEqualTo(leia));
     }
 
+    @Test
+    void testCompression() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "compressed";
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        info.valueType = Person.class;
+        info.compression = true;
+        info.compressionThreshold = 64;
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        Person small = new Person("luke", "skywalker");
+        Person large = new Person("leia".repeat(100), "organa".repeat(100));
+        cache.put("small", small).await().indefinitely();
+        cache.put("large", large).await().indefinitely();
+
+        byte[] stored = redis.send(Request.cmd(Command.GET).arg("cache:compressed:small")).await().indefinitely().toBytes();
+        assertThat(RedisCacheValueCompressor.isCompressed(stored)).isFalse();
+        stored = redis.send(Request.cmd(Command.GET).arg("cache:compressed:large")).await().indefinitely().toBytes();
+        assertThat(RedisCacheValueCompressor.isCompressed(stored)).isTrue();
+        assertThat(stored.length).isLessThan(Json.encode(large).length());
+
+        assertThat(cache.get("small", x -> new Person("x", "x")).await().indefinitely()).isEqualTo(small);
+        assertThat(cache.get("large", x -> new Person("x", "x")).await().indefinitely()).isEqualTo(large);
+
+        // The compressed entries are still readable once the compression is disabled
+        info.compression = false;
+        RedisCacheImpl uncompressed = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        assertThat(uncompressed.get("large", x -> new Person("x", "x")).await().indefinitely()).isEqualTo(large);
+    }
+
     @Test
     void testPutWithSupplier() {
         RedisCacheInfo info = new RedisCacheInfo();
@@ -0,0 +1,45 @@
+package io.quarkus.cache.redis.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class RedisCacheValueCompressorTest {
+
+    @Test
+    void testValuesBelowThresholdAreNotCompressed() {
+        RedisCacheValueCompressor compressor = new RedisCacheValueCompressor(1024);
+        byte[] value = "{\"firstName\":\"luke\",\"lastName\":\"skywalker\"}".getBytes(StandardCharsets.UTF_8);
+        assertThat(compressor.compress(value)).isSameAs(value);
+        assertThat(compressor.decompress(value)).isSameAs(value);
+        assertThat(compressor.compress(null)).isNull();
+        assertThat(compressor.decompress(null)).isNull();
+    }
+
+    @Test
+    void testRoundTrip() {
+        RedisCacheValueCompressor compressor = new RedisCacheValueCompressor(64);
+        byte[] value = "{\"firstName\":\"luke\",\"lastName\":\"skywalker\"}".repeat(50).getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = compressor.compress(value);
+        assertThat(RedisCacheValueCompressor.isCompressed(compressed)).isTrue();
+        assertThat(compressed.length).isLessThan(value.length);
+        assertThat(compressor.decompress(compressed)).isEqualTo(value);
+    }
+
+    @Test
+    void testIncompressibleValuesAreStoredAsIs() {
+        RedisCacheValueCompressor compressor = new RedisCacheValueCompressor(0);
+        byte[] value = new byte[256];
+        new Random(42).nextBytes(value);
+        assertThat(compressor.compress(value)).isSameAs(value);
+    }
+
+    @Test
+    void testNegativeThreshold() {
+        assertThatThrownBy(() -> new RedisCacheValueCompressor(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,110 @@
+package io.quarkus.cache.redis.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Request;
+
+class RedisNearCacheImplTest extends RedisCacheTestBase {
+
+    private static final Supplier<Boolean> BLOCKING_ALLOWED = () -> false;
+
+    private RedisNearCacheImpl cache;
+
+    @AfterEach
+    void closeCache() {
+        if (cache != null) {
+            cache.close();
+        }
+    }
+
+    private RedisNearCacheImpl createCache() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "near";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        info.nearCache = true;
+        cache = new RedisNearCacheImpl(info, new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED));
+        await().until(cache::isTracking);
+        return cache;
+    }
+
+    @Test
+    public void testLocalHit() {
+        String k = UUID.randomUUID().toString();
+        RedisNearCacheImpl cache = createCache();
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get(k, s -> "v" + loads.incrementAndGet()).await().indefinitely()).isEqualTo("v1");
+        assertThat(cache.getLocalSize()).isEqualTo(1);
+        // Served from the local cache
+        assertThat(cache.get(k, s -> "v" + loads.incrementAndGet()).await().indefinitely()).isEqualTo("v1");
+        assertThat(cache.<String, String> getOrNull(k).await().indefinitely()).isEqualTo("v1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    public void testInvalidationByAnotherClient() {
+        String k = UUID.randomUUID().toString();
+        RedisNearCacheImpl cache = createCache();
+
+        assertThat(cache.get(k, s -> "hello").await().indefinitely()).isEqualTo("hello");
+        redis.send(Request.cmd(Command.SET).arg("cache:near:" + k).arg("\"bonjour\"")).await().indefinitely();
+
+        await().untilAsserted(() -> assertThat(cache.get(k, s -> "hello").await().indefinitely()).isEqualTo("bonjour"));
+    }
+
+    @Test
+    public void testInvalidationOnFlush() {
+        String k = UUID.randomUUID().toString();
+        RedisNearCacheImpl cache = createCache();
+
+        assertThat(cache.get(k, s -> "hello").await().indefinitely()).isEqualTo("hello");
+        redis.send(Request.cmd(Command.FLUSHALL).arg("SYNC")).await().indefinitely();
+
+        await().untilAsserted(() -> assertThat(cache.getLocalSize()).isZero());
+        assertThat(cache.get(k, s -> "hi").await().indefinitely()).isEqualTo("hi");
+    }
+
+    @Test
+    public void testLocalInvalidation() {
+        String k = UUID.randomUUID().toString();
+        RedisNearCacheImpl cache = createCache();
+
+        assertThat(cache.get(k, s -> "hello").await().indefinitely()).isEqualTo("hello");
+        cache.invalidate(k).await().indefinitely();
+        assertThat(cache.getLocalSize()).isZero();
+        assertThat(cache.<String, String> getOrNull(k).await().indefinitely()).isNull();
+
+        cache.put(k, "hi").await().indefinitely();
+        assertThat(cache.get(k, s -> "hello").await().indefinitely()).isEqualTo("hi");
+    }
+
+    @Test
+    public void testClose() {
+        String k = UUID.randomUUID().toString();
+        RedisNearCacheImpl cache = createCache();
+
+        assertThat(cache.get(k, s -> "hello").await().indefinitely()).isEqualTo("hello");
+        cache.close();
+        assertThat(cache.isTracking()).isFalse();
+        assertThat(cache.getLocalSize()).isZero();
+
+        // The local cache is bypassed once the invalidation connection is closed
+        redis.send(Request.cmd(Command.SET).arg("cache:near:" + k).arg("\"bonjour\"")).await().indefinitely();
+        assertThat(cache.get(k, s -> "hello").await().indefinitely()).isEqualTo("bonjour");
+        assertThat(cache.getLocalSize()).isZero();
+        // The connection is not re-established
+        assertThat(cache.isTracking()).isFalse();
+    }
+}
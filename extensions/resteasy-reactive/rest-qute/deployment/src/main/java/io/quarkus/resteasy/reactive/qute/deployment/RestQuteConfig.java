@@ -19,4 +19,20 @@ public interface RestQuteConfig {
     @WithDefault("false")
     boolean templateInstanceNonBlockingType();
 
+    /**
+     * If set to {@code true} then a {@link io.quarkus.qute.TemplateInstance} returned from a JAX-RS resource method is
+     * rendered directly to the HTTP response instead of being rendered as a string first.
+     * <p>
+     * The static text of a template is encoded in UTF-8 when the template is parsed and the output of expressions is
+     * encoded directly into the pooled buffers of the response. A chunk is sent to the client whenever a buffer is full.
+     * Therefore, the rendered page is never held in memory as a whole string. The data of the template are still resolved
+     * before the output is written.
+     * <p>
+     * The template is rendered as a string if the resource method has a response filter, a writer interceptor or a
+     * customized response status or headers, if it is not executed on a worker thread, if the content type of the
+     * response cannot be determined upfront, or if the charset of the selected variant is not UTF-8.
+     */
+    @WithDefault("false")
+    boolean streaming();
+
 }
@@ -16,6 +16,7 @@
 import org.jboss.resteasy.reactive.server.model.FixedHandlersChainCustomizer;
 import org.jboss.resteasy.reactive.server.model.HandlerChainCustomizer;
 import org.jboss.resteasy.reactive.server.processor.scanning.MethodScanner;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
 
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildProducer;
@@ -24,6 +25,7 @@
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveHierarchyIgnoreWarningBuildItem;
 import io.quarkus.qute.TemplateInstance;
 import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponseFilter;
+import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponseStreamingHandler;
 import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponseUniHandler;
 import io.quarkus.resteasy.reactive.server.spi.MethodScannerBuildItem;
 import io.quarkus.resteasy.reactive.server.spi.NonBlockingReturnTypeBuildItem;
@@ -57,7 +59,7 @@ void nonBlockingTemplateInstance(RestQuteConfig config, BuildProducer<NonBlockin
     }
 
     @BuildStep
-    public MethodScannerBuildItem configureHandler() {
+    public MethodScannerBuildItem configureHandler(RestQuteConfig config) {
         return new MethodScannerBuildItem(new MethodScanner() {
             @Override
             public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndpointClass,
@@ -66,9 +68,12 @@ public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndp
                     // TemplateResponseUniHandler creates a Uni, so we also need to introduce another Uni handler
                     // so RR actually gets the result
                     // the reason why we use AFTER_METHOD_INVOKE_SECOND_ROUND is to be able to properly support Uni<TemplateInstance>
+                    // TemplateResponseStreamingHandler writes the response directly unless it falls back to a Uni
+                    ServerRestHandler templateHandler = config.streaming() ? new TemplateResponseStreamingHandler()
+                            : new TemplateResponseUniHandler();
                     return Collections.singletonList(
                             new FixedHandlersChainCustomizer(
-                                    List.of(new TemplateResponseUniHandler(), new UniResponseHandler()),
+                                    List.of(templateHandler, new UniResponseHandler()),
                                     HandlerChainCustomizer.Phase.AFTER_METHOD_INVOKE_SECOND_ROUND));
                 }
                 return Collections.emptyList();
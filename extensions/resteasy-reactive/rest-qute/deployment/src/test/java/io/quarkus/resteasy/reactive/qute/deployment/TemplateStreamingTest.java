@@ -0,0 +1,183 @@
+package io.quarkus.resteasy.reactive.qute.deployment;
+
+import static io.restassured.RestAssured.when;
+
+import java.io.IOException;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.NameBinding;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+
+import org.hamcrest.Matchers;
+import org.jboss.resteasy.reactive.ResponseStatus;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.common.annotation.NonBlocking;
+
+public class TemplateStreamingTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(TestResource.class, Filtered.class, Intercepted.class, HeaderFilter.class,
+                            HeaderInterceptor.class)
+                    .addAsResource(new StringAsset("quarkus.rest.qute.streaming=true"), "application.properties")
+                    .addAsResource(new StringAsset("<h1>Žluťoučký kůň</h1>{#for i in count}<p>{i} & {name}</p>{/for}"),
+                            "templates/page.html")
+                    .addAsResource(new StringAsset("{foo.bar}"), "templates/broken.txt"));
+
+    @Test
+    public void testSmallPage() {
+        when().get("/test?count=1").then()
+                .statusCode(200)
+                .contentType(Matchers.startsWith("text/html"))
+                .header("Content-Length", Matchers.notNullValue())
+                .body(Matchers.is("<h1>Žluťoučký kůň</h1><p>1 &amp; Lu</p>"));
+    }
+
+    @Test
+    public void testLargePage() {
+        String expected = "<h1>Žluťoučký kůň</h1>" + IntStream.rangeClosed(1, 5000)
+                .mapToObj(i -> "<p>" + i + " &amp; Lu</p>").collect(Collectors.joining());
+        when().get("/test?count=5000").then()
+                .statusCode(200)
+                .header("Transfer-Encoding", "chunked")
+                .body(Matchers.is(expected));
+    }
+
+    @Test
+    public void testLargePageOnEventLoop() {
+        String expected = "<h1>Žluťoučký kůň</h1>" + IntStream.rangeClosed(1, 5000)
+                .mapToObj(i -> "<p>" + i + " &amp; Lu</p>").collect(Collectors.joining());
+        // The writes cannot be throttled on the event loop, the template is rendered as a string
+        when().get("/test/non-blocking?count=5000").then()
+                .statusCode(200)
+                .header("Content-Length", Matchers.notNullValue())
+                .body(Matchers.is(expected));
+    }
+
+    @Test
+    public void testRenderingError() {
+        when().get("/test/broken").then().statusCode(500);
+    }
+
+    @Test
+    public void testResponseFilter() {
+        when().get("/test/filtered?count=1").then()
+                .statusCode(200)
+                .header("X-Filter", "applied")
+                .body(Matchers.is("<h1>Žluťoučký kůň</h1><p>1 &amp; Lu</p>"));
+    }
+
+    @Test
+    public void testWriterInterceptor() {
+        when().get("/test/intercepted?count=1").then()
+                .statusCode(200)
+                .header("X-Interceptor", "applied")
+                .body(Matchers.is("<h1>Žluťoučký kůň</h1><p>1 &amp; Lu</p>"));
+    }
+
+    @Test
+    public void testResponseStatus() {
+        when().get("/test/created?count=1").then()
+                .statusCode(201)
+                .body(Matchers.is("<h1>Žluťoučký kůň</h1><p>1 &amp; Lu</p>"));
+    }
+
+    @Path("test")
+    public static class TestResource {
+
+        @Inject
+        Template page;
+
+        @Inject
+        Template broken;
+
+        @GET
+        public TemplateInstance get(@QueryParam("count") int count) {
+            return page.data("count", count).data("name", "Lu");
+        }
+
+        @NonBlocking
+        @GET
+        @Path("non-blocking")
+        public TemplateInstance nonBlocking(@QueryParam("count") int count) {
+            return page.data("count", count).data("name", "Lu");
+        }
+
+        @Filtered
+        @GET
+        @Path("filtered")
+        public TemplateInstance filtered(@QueryParam("count") int count) {
+            return page.data("count", count).data("name", "Lu");
+        }
+
+        @Intercepted
+        @GET
+        @Path("intercepted")
+        public TemplateInstance intercepted(@QueryParam("count") int count) {
+            return page.data("count", count).data("name", "Lu");
+        }
+
+        @ResponseStatus(201)
+        @GET
+        @Path("created")
+        public TemplateInstance created(@QueryParam("count") int count) {
+            return page.data("count", count).data("name", "Lu");
+        }
+
+        @GET
+        @Path("broken")
+        public TemplateInstance broken() {
+            return broken.data("foo", "baz");
+        }
+    }
+
+    @NameBinding
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Filtered {
+    }
+
+    @NameBinding
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Intercepted {
+    }
+
+    @Filtered
+    @Provider
+    public static class HeaderFilter implements ContainerResponseFilter {
+
+        @Override
+        public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+            responseContext.getHeaders().add("X-Filter", "applied");
+        }
+    }
+
+    @Intercepted
+    @Provider
+    public static class HeaderInterceptor implements WriterInterceptor {
+
+        @Override
+        public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+            context.getHeaders().add("X-Interceptor", "applied");
+            context.proceed();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import static io.quarkus.resteasy.reactive.qute.runtime.Util.setSelectedVariant;
+import static io.quarkus.resteasy.reactive.qute.runtime.Util.toUni;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.WriterInterceptor;
+
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.server.core.BlockingOperationSupport;
+import org.jboss.resteasy.reactive.server.core.EncodedMediaType;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.handlers.ResourceResponseFilterHandler;
+import org.jboss.resteasy.reactive.server.handlers.ResponseHandler;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.qute.Utf8OutputStreamConsumer;
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * Renders the {@link TemplateInstance} directly to the HTTP response.
+ * <p>
+ * The static text of the template is written as pre-encoded UTF-8 bytes and the output of expressions is encoded
+ * directly into the response output stream, which buffers the data in pooled buffers and flushes a chunk to the client
+ * whenever the buffer is full. A write blocks the rendering thread until the connection is writable again, so the
+ * template is only streamed if the current thread can block. On the event loop, the writes would not be throttled and
+ * the whole output would be queued by Netty anyway.
+ * <p>
+ * A streamed response bypasses the rest of the handler chain. Therefore, the template is rendered as a string, i.e.
+ * this handler behaves like the {@link TemplateResponseUniHandler}, if the endpoint has a response filter (except for
+ * the {@link TemplateResponseFilter}), a writer interceptor or a customized response (e.g. a status set by
+ * {@code @ResponseStatus}). The same applies if the current thread cannot block, the content type of the response
+ * cannot be determined upfront or the selected charset is not UTF-8.
+ */
+public class TemplateResponseStreamingHandler implements ServerRestHandler {
+
+    private static final Logger LOG = Logger.getLogger(TemplateResponseStreamingHandler.class);
+
+    // The filter generated for the @ServerResponseFilter method of TemplateResponseFilter
+    private static final String TEMPLATE_RESPONSE_FILTER_PREFIX = TemplateResponseFilter.class.getName() + "$";
+
+    private static final ServerRestHandler[] AWOL = new ServerRestHandler[] {
+            requestContext -> {
+                throw new IllegalStateException("FAILURE: should never be restarted");
+            }
+    };
+
+    private volatile Engine engine;
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) {
+        Object result = requestContext.getResult();
+        if (!(result instanceof TemplateInstance)) {
+            return;
+        }
+
+        requestContext.requireCDIRequestScope();
+
+        if (engine == null) {
+            synchronized (this) {
+                if (engine == null) {
+                    engine = Arc.container().instance(Engine.class).get();
+                }
+            }
+        }
+
+        TemplateInstance instance = (TemplateInstance) result;
+        MediaType selectedMediaType = setSelectedVariant(instance, requestContext.getRequest(),
+                requestContext.getHttpHeaders().getAcceptableLanguages());
+        EncodedMediaType contentType = selectedMediaType != null ? new EncodedMediaType(selectedMediaType)
+                : requestContext.getResponseContentType();
+        if (contentType == null || !isUtf8(contentType.getCharset()) || !BlockingOperationSupport.isBlockingAllowed()
+                || !canStream(requestContext)) {
+            // Let the UniResponseHandler and the message body writers handle the result
+            requestContext.setResponseContentType(selectedMediaType);
+            requestContext.setResult(toUni(instance, engine));
+            return;
+        }
+        requestContext.setResponseContentType(contentType);
+        stream(requestContext, instance, contentType);
+    }
+
+    private void stream(ResteasyReactiveRequestContext requestContext, TemplateInstance instance,
+            EncodedMediaType contentType) {
+        // This handler is the terminal one - make sure we never restart by accident
+        requestContext.restart(AWOL, true);
+        requestContext.suspend();
+
+        ServerHttpResponse response = requestContext.serverResponse();
+        response.setStatusCode(Response.Status.OK.getStatusCode());
+        response.setResponseHeader(HttpHeaders.CONTENT_TYPE, contentType.getEncoded());
+        OutputStream out = requestContext.getOrCreateOutputStream();
+
+        instance.consume(new Utf8OutputStreamConsumer(out)).whenComplete((r, t) -> {
+            if (t == null) {
+                // Closing the request context also closes the output stream and ends the response
+                requestContext.close();
+            } else if (response.headWritten()) {
+                // It's too late to send an error response - reset the connection so that the client does not consider
+                // a partially rendered template a valid response
+                LOG.errorf(t, "Unable to render %s", instance);
+                requestContext.serverRequest().unwrap(HttpServerResponse.class).reset();
+                requestContext.close();
+            } else {
+                // We can go through the abort chain
+                requestContext.resume(t, true);
+            }
+        });
+    }
+
+    /**
+     * @return {@code true} if the remaining handlers would not alter the response, i.e. the template can be written
+     *         directly with status 200
+     */
+    private static boolean canStream(ResteasyReactiveRequestContext requestContext) {
+        WriterInterceptor[] writerInterceptors = requestContext.getWriterInterceptors();
+        if (writerInterceptors != null && writerInterceptors.length > 0) {
+            return false;
+        }
+        ServerRestHandler[] handlers = requestContext.getHandlers();
+        for (int i = requestContext.getPosition(); i < handlers.length; i++) {
+            ServerRestHandler handler = handlers[i];
+            if (handler instanceof ResourceResponseFilterHandler filterHandler
+                    && !filterHandler.getFilter().getClass().getName().startsWith(TEMPLATE_RESPONSE_FILTER_PREFIX)) {
+                return false;
+            }
+            if (handler instanceof ResponseHandler responseHandler
+                    && !responseHandler.getResponseBuilderCustomizers().isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isUtf8(String charset) {
+        return charset == null || StandardCharsets.UTF_8.name().equalsIgnoreCase(charset)
+                || "UTF8".equalsIgnoreCase(charset);
+    }
+
+}
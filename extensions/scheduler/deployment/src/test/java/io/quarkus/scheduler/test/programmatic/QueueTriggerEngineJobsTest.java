@@ -0,0 +1,181 @@
+package io.quarkus.scheduler.test.programmatic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+
+import org.awaitility.Awaitility;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class QueueTriggerEngineJobsTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> root
+                    .addAsResource(new StringAsset("quarkus.scheduler.start-mode=forced\n"
+                            + "quarkus.scheduler.trigger-engine=queue"),
+                            "application.properties"));
+
+    @Inject
+    Scheduler scheduler;
+
+    @Test
+    public void testSubSecondInterval() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(10);
+        scheduler.newJob("fast")
+                .setInterval("50ms")
+                .setTask(ec -> latch.countDown())
+                .schedule();
+        // With the polling engine the job would be fired once per second at most
+        assertTrue(latch.await(3, TimeUnit.SECONDS));
+        assertNotNull(scheduler.unscheduleJob("fast"));
+    }
+
+    @Test
+    public void testManyJobs() throws InterruptedException {
+        int jobs = 1000;
+        CountDownLatch latch = new CountDownLatch(jobs);
+        for (int i = 0; i < jobs; i++) {
+            scheduler.newJob("job" + i)
+                    .setInterval("1h")
+                    .setTask(ec -> latch.countDown())
+                    .schedule();
+        }
+        // Every job is fired once right after it's scheduled
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < jobs; i++) {
+            assertNotNull(scheduler.unscheduleJob("job" + i));
+        }
+    }
+
+    @Test
+    public void testUnscheduleAndPause() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1);
+        scheduler.newJob("paused")
+                .setInterval("100ms")
+                .setTask(ec -> {
+                    counter.incrementAndGet();
+                    latch.countDown();
+                })
+                .schedule();
+        assertTrue(latch.await(3, TimeUnit.SECONDS));
+
+        scheduler.pause("paused");
+        assertTrue(scheduler.isPaused("paused"));
+        // Wait for a possible execution in progress
+        TimeUnit.MILLISECONDS.sleep(200);
+        int count = counter.get();
+        TimeUnit.MILLISECONDS.sleep(500);
+        assertEquals(count, counter.get());
+
+        scheduler.resume("paused");
+        assertFalse(scheduler.isPaused("paused"));
+        assertNotNull(scheduler.unscheduleJob("paused"));
+        TimeUnit.MILLISECONDS.sleep(200);
+        count = counter.get();
+        TimeUnit.MILLISECONDS.sleep(500);
+        assertEquals(count, counter.get());
+    }
+
+    @Test
+    public void testCron() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(2);
+        scheduler.newJob("cron")
+                .setCron("0/1 * * * * ?")
+                .setTask(ec -> latch.countDown())
+                .schedule();
+        assertNotNull(scheduler.getScheduledJob("cron").getNextFireTime());
+        // The check is scheduled at the next fire time of the cron expression
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertNotNull(scheduler.unscheduleJob("cron"));
+    }
+
+    @Test
+    public void testPauseAndResumeCron() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        CountDownLatch firstLatch = new CountDownLatch(1);
+        CountDownLatch resumedLatch = new CountDownLatch(2);
+        scheduler.newJob("pausedCron")
+                .setCron("0/1 * * * * ?")
+                .setTask(ec -> {
+                    counter.incrementAndGet();
+                    firstLatch.countDown();
+                    resumedLatch.countDown();
+                })
+                .schedule();
+        assertTrue(firstLatch.await(5, TimeUnit.SECONDS));
+
+        scheduler.pause("pausedCron");
+        assertTrue(scheduler.isPaused("pausedCron"));
+        TimeUnit.MILLISECONDS.sleep(200);
+        int count = counter.get();
+        TimeUnit.MILLISECONDS.sleep(2500);
+        assertEquals(count, counter.get());
+
+        scheduler.resume("pausedCron");
+        assertFalse(scheduler.isPaused("pausedCron"));
+        // A paused job is checked every second, it's fired again soon after it's resumed
+        assertTrue(resumedLatch.await(5, TimeUnit.SECONDS));
+        assertTrue(counter.get() > count);
+        assertNotNull(scheduler.unscheduleJob("pausedCron"));
+    }
+
+    @Test
+    public void testResume() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        scheduler.newJob("resumed")
+                .setInterval("100ms")
+                .setTask(ec -> counter.incrementAndGet())
+                .schedule();
+        scheduler.pause("resumed");
+        TimeUnit.MILLISECONDS.sleep(200);
+        int count = counter.get();
+        TimeUnit.MILLISECONDS.sleep(500);
+        assertEquals(count, counter.get());
+
+        scheduler.resume("resumed");
+        assertFalse(scheduler.isPaused("resumed"));
+        // A paused job is checked every second, it's fired again soon after it's resumed
+        Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> counter.get() > count + 2);
+        assertNotNull(scheduler.unscheduleJob("resumed"));
+    }
+
+    @Test
+    public void testPauseAndResumeScheduler() throws InterruptedException {
+        AtomicInteger counter = new AtomicInteger();
+        scheduler.newJob("schedulerPaused")
+                .setInterval("100ms")
+                .setTask(ec -> counter.incrementAndGet())
+                .schedule();
+        try {
+            scheduler.pause();
+            assertFalse(scheduler.isRunning());
+            TimeUnit.MILLISECONDS.sleep(200);
+            int count = counter.get();
+            TimeUnit.MILLISECONDS.sleep(500);
+            assertEquals(count, counter.get());
+        } finally {
+            scheduler.resume();
+        }
+        assertTrue(scheduler.isRunning());
+        int count = counter.get();
+        // The checks of the paused jobs are rescheduled every second, the job is fired again soon after the resume
+        Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> counter.get() > count + 2);
+        assertNotNull(scheduler.unscheduleJob("schedulerPaused"));
+    }
+
+}
@@ -30,6 +30,14 @@ public class SchedulerRuntimeConfig {
     @ConfigItem
     public Optional<StartMode> startMode;
 
+    /**
+     * The engine used by the simple scheduler to fire the triggers.
+     * <p>
+     * This property is ignored by other scheduler implementations.
+     */
+    @ConfigItem(defaultValue = "polling")
+    public TriggerEngine triggerEngine;
+
     public enum StartMode {
 
         /**
@@ -52,4 +60,23 @@ public enum StartMode {
          */
         HALTED;
     }
+
+    public enum TriggerEngine {
+
+        /**
+         * All triggers are evaluated once per second.
+         * <p>
+         * The cost of each check grows linearly with the number of scheduled jobs, and {@code every()} intervals shorter than
+         * one second are not supported.
+         */
+        POLLING,
+
+        /**
+         * Each trigger is only evaluated when it is due; the triggers are ordered by their next fire time in a priority queue.
+         * <p>
+         * This engine supports a large number of scheduled jobs and fires the interval triggers with a millisecond
+         * resolution.
+         */
+        QUEUE;
+    }
 }
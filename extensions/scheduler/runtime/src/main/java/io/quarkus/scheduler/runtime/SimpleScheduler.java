@@ -14,9 +14,12 @@
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
@@ -59,6 +62,7 @@
 import io.quarkus.scheduler.common.runtime.SyntheticScheduled;
 import io.quarkus.scheduler.common.runtime.util.SchedulerUtils;
 import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig.StartMode;
+import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig.TriggerEngine;
 import io.quarkus.scheduler.spi.JobInstrumenter;
 import io.vertx.core.Vertx;
 
@@ -75,6 +79,9 @@ public class SimpleScheduler extends BaseScheduler implements Scheduler {
     private volatile boolean running;
     private final ConcurrentMap<String, ScheduledTask> scheduledTasks;
     private final SchedulerConfig schedulerConfig;
+    private final TriggerEngine triggerEngine;
+    // Only used by the queue trigger engine
+    private volatile boolean checksStarted;
 
     public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedulerRuntimeConfig,
             Event<SkippedExecution> skippedExecutionEvent, Event<SuccessfulExecution> successExecutionEvent,
@@ -90,6 +97,7 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
         this.running = true;
         this.scheduledTasks = new ConcurrentHashMap<>();
         this.schedulerConfig = schedulerConfig;
+        this.triggerEngine = schedulerRuntimeConfig.triggerEngine;
 
         if (!schedulerRuntimeConfig.enabled) {
             this.scheduledExecutor = null;
@@ -123,13 +131,17 @@ public Thread newThread(Runnable runnable) {
                 return t;
             }
         };
-        // This executor is used to check all registered triggers every second
-        this.scheduledExecutor = new JBossScheduledThreadPoolExecutor(1, tf, new Runnable() {
+        // This executor is used to check all registered triggers every second, or each trigger when it's due if the queue
+        // trigger engine is used
+        JBossScheduledThreadPoolExecutor executor = new JBossScheduledThreadPoolExecutor(1, tf, new Runnable() {
             @Override
             public void run() {
                 // noop
             }
         });
+        // The checks of unscheduled jobs are removed from the queue immediately
+        executor.setRemoveOnCancelPolicy(true);
+        this.scheduledExecutor = executor;
 
         if (startMode == StartMode.HALTED) {
             running = false;
@@ -196,6 +208,7 @@ public Trigger unscheduleJob(String identity) {
             ScheduledTask task = scheduledTasks.get(parsedIdentity);
             if (task != null && task.isProgrammatic) {
                 if (scheduledTasks.remove(task.trigger.id) != null) {
+                    task.cancelCheck();
                     return task.trigger;
                 }
             }
@@ -208,6 +221,13 @@ void start(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEven
         if (scheduledExecutor == null) {
             return;
         }
+        if (triggerEngine == TriggerEngine.QUEUE) {
+            checksStarted = true;
+            for (ScheduledTask task : scheduledTasks.values()) {
+                scheduleFirstCheck(task);
+            }
+            return;
+        }
         // Try to compute the initial delay to execute the checks near to the whole second
         // Note that this does not guarantee anything, it's just best effort
         LocalDateTime now = LocalDateTime.now();
@@ -239,6 +259,40 @@ void checkTriggers() {
         }
     }
 
+    void scheduleFirstCheck(ScheduledTask task) {
+        if (task.checkScheduled.compareAndSet(false, true)) {
+            scheduleCheck(task, task.nextCheckDelay(running, System.currentTimeMillis()));
+        }
+    }
+
+    private void scheduleCheck(ScheduledTask task, long delay) {
+        if (delay < 0) {
+            // The trigger will never fire again
+            return;
+        }
+        task.scheduleCheck(scheduledExecutor, delay, new Runnable() {
+            @Override
+            public void run() {
+                checkTrigger(task);
+            }
+        });
+    }
+
+    void checkTrigger(ScheduledTask task) {
+        if (scheduledTasks.get(task.trigger.id) != task) {
+            // The job was unscheduled
+            return;
+        }
+        if (running) {
+            task.execute(ZonedDateTime.now(), vertx);
+        } else {
+            LOG.tracef("Skip trigger %s - scheduler paused", task.trigger.id);
+        }
+        if (scheduledTasks.get(task.trigger.id) == task) {
+            scheduleCheck(task, task.nextCheckDelay(running, System.currentTimeMillis()));
+        }
+    }
+
     @Override
     public void pause() {
         if (!isStarted()) {
@@ -367,7 +421,8 @@ Optional<SimpleTrigger> createTrigger(String id, String methodDescription, Sched
                 return Optional.empty();
             }
             return Optional.of(new IntervalTrigger(id, start, everyMillis.getAsLong(),
-                    SchedulerUtils.parseOverdueGracePeriod(scheduled, defaultGracePeriod), methodDescription));
+                    SchedulerUtils.parseOverdueGracePeriod(scheduled, defaultGracePeriod), methodDescription,
+                    triggerEngine == TriggerEngine.QUEUE));
         } else {
             throw new IllegalArgumentException("Either the 'cron' expression or the 'every' period must be set: " + scheduled);
         }
@@ -379,10 +434,49 @@ static class ScheduledTask {
         final SimpleTrigger trigger;
         final ScheduledInvoker invoker;
 
+        // Only used by the queue trigger engine
+        final AtomicBoolean checkScheduled;
+        private volatile ScheduledFuture<?> nextCheck;
+
         ScheduledTask(SimpleTrigger trigger, ScheduledInvoker invoker, boolean isProgrammatic) {
             this.trigger = trigger;
             this.invoker = invoker;
             this.isProgrammatic = isProgrammatic;
+            this.checkScheduled = new AtomicBoolean();
+        }
+
+        /**
+         * @param schedulerRunning {@code true} if the scheduler is not paused
+         * @param now The current time in milliseconds
+         * @return the delay in milliseconds after which the trigger should be evaluated, or {@code -1} if it will never fire
+         *         again
+         */
+        long nextCheckDelay(boolean schedulerRunning, long now) {
+            if (!schedulerRunning || !trigger.isRunning()) {
+                // A paused job is checked periodically so that it's fired soon after it's resumed
+                return CHECK_PERIOD;
+            }
+            Instant nextCheckTime = trigger.getNextCheckTime();
+            if (nextCheckTime == null) {
+                return -1;
+            }
+            // Never check the same trigger in a busy loop
+            return Math.max(1, nextCheckTime.toEpochMilli() - now);
+        }
+
+        void scheduleCheck(ScheduledExecutorService executor, long delay, Runnable check) {
+            try {
+                nextCheck = executor.schedule(check, delay, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                LOG.debugf("Unable to schedule the next check of %s - the scheduler was shut down", trigger);
+            }
+        }
+
+        void cancelCheck() {
+            ScheduledFuture<?> check = nextCheck;
+            if (check != null) {
+                check.cancel(false);
+            }
         }
 
         void execute(ZonedDateTime now, Vertx vertx) {
@@ -422,6 +516,15 @@ static abstract class SimpleTrigger implements Trigger {
          */
         abstract ZonedDateTime evaluate(ZonedDateTime now);
 
+        /**
+         * Used by the queue trigger engine.
+         *
+         * @return the time when the trigger should be evaluated next, or {@code null} if it will never fire again
+         */
+        Instant getNextCheckTime() {
+            return getNextFireTime();
+        }
+
         @Override
         public Instant getPreviousFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -451,12 +554,20 @@ static class IntervalTrigger extends SimpleTrigger {
         // milliseconds
         private final long interval;
         private final Duration gracePeriod;
+        // true if the trigger is fired with a millisecond resolution
+        private final boolean precise;
 
         IntervalTrigger(String id, ZonedDateTime start, long interval, Duration gracePeriod, String description) {
+            this(id, start, interval, gracePeriod, description, false);
+        }
+
+        IntervalTrigger(String id, ZonedDateTime start, long interval, Duration gracePeriod, String description,
+                boolean precise) {
             super(id, start, description);
             this.interval = interval;
             this.gracePeriod = gracePeriod;
-            if (interval < CHECK_PERIOD) {
+            this.precise = precise;
+            if (!precise && interval < CHECK_PERIOD) {
                 LOG.warnf(
                         "An every() value less than %s ms is not supported - the scheduled job will be executed with a delay: %s",
                         CHECK_PERIOD, description);
@@ -470,13 +581,18 @@ ZonedDateTime evaluate(ZonedDateTime now) {
             }
             if (lastFireTime == null) {
                 // First execution
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                lastFireTime = precise ? now : now.truncatedTo(ChronoUnit.SECONDS);
                 return now;
             }
             long diff = ChronoUnit.MILLIS.between(lastFireTime, now);
             if (diff >= interval) {
                 ZonedDateTime scheduledFireTime = lastFireTime.plus(Duration.ofMillis(interval));
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                if (precise) {
+                    // Keep a fixed rate unless an execution was missed, e.g. because the job was paused
+                    lastFireTime = diff < 2 * interval ? scheduledFireTime : now;
+                } else {
+                    lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
+                }
                 LOG.tracef("%s fired, diff=%s ms", this, diff);
                 return scheduledFireTime;
             }
@@ -492,6 +608,13 @@ public Instant getNextFireTime() {
             return last.plus(Duration.ofMillis(interval)).toInstant();
         }
 
+        @Override
+        Instant getNextCheckTime() {
+            ZonedDateTime last = lastFireTime;
+            // The first execution happens as soon as the trigger is started
+            return last == null ? start.toInstant() : last.plus(Duration.ofMillis(interval)).toInstant();
+        }
+
         @Override
         public boolean isOverdue() {
             ZonedDateTime now = ZonedDateTime.now();
@@ -672,6 +795,9 @@ public boolean isBlocking() {
                 if (existing != null) {
                     throw new IllegalStateException("A job with this identity is already scheduled: " + identity);
                 }
+                if (checksStarted) {
+                    scheduleFirstCheck(scheduledTask);
+                }
                 return simpleTrigger;
             }
             return null;
@@ -0,0 +1,22 @@
+package io.quarkus.vertx.http.deployment;
+
+import java.util.Map;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+import io.quarkus.vertx.http.runtime.PrecompressedStaticResource;
+
+/**
+ * The static resources from {@code META-INF/resources} that were compressed at build time, keyed by path.
+ */
+public final class PrecompressedStaticResourcesBuildItem extends SimpleBuildItem {
+
+    private final Map<String, PrecompressedStaticResource> resources;
+
+    public PrecompressedStaticResourcesBuildItem(Map<String, PrecompressedStaticResource> resources) {
+        this.resources = resources;
+    }
+
+    public Map<String, PrecompressedStaticResource> getResources() {
+        return resources;
+    }
+}
@@ -2,12 +2,24 @@
 
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.jboss.logging.Logger;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
 
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.bootstrap.classloading.ClassPathElement;
@@ -18,21 +30,29 @@
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.HotDeploymentWatchedFileBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.pkg.steps.NativeOrNativeSourcesBuild;
 import io.quarkus.paths.PathVisitor;
+import io.quarkus.runtime.LaunchMode;
+import io.quarkus.runtime.util.HashUtil;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 import io.quarkus.vertx.http.deployment.spi.AdditionalStaticResourceBuildItem;
 import io.quarkus.vertx.http.deployment.spi.StaticResourcesBuildItem;
+import io.quarkus.vertx.http.runtime.HttpBuildTimeConfig;
+import io.quarkus.vertx.http.runtime.PrecompressedStaticResource;
 import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
+import io.vertx.core.http.impl.MimeMapping;
 
 /**
  * Handles all static file resources found in {@code META-INF/resources} unless the servlet container is present.
  */
 public class StaticResourcesProcessor {
 
+    private static final Logger LOGGER = Logger.getLogger(StaticResourcesProcessor.class);
+
     @BuildStep(onlyIf = IsDevelopment.class)
     HotDeploymentWatchedFileBuildItem indexHtmlFile() {
         String staticRoot = StaticResourcesRecorder.META_INF_RESOURCES + "/index.html";
@@ -59,13 +79,112 @@ void collectStaticResources(Capabilities capabilities,
         }
     }
 
+    @BuildStep
+    void precompressStaticResources(Optional<StaticResourcesBuildItem> staticResources, HttpBuildTimeConfig config,
+            LaunchModeBuildItem launchMode,
+            BuildProducer<PrecompressedStaticResourcesBuildItem> precompressedResources,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources) {
+        if (!config.precompressStaticResources || staticResources.isEmpty()
+                || launchMode.getLaunchMode() == LaunchMode.DEVELOPMENT) {
+            // resources are expected to change in dev mode
+            return;
+        }
+        Set<String> mediaTypes = config.compressMediaTypes.isPresent() ? Set.copyOf(config.compressMediaTypes.get())
+                : Set.of();
+        boolean brotli = isBrotliAvailable();
+        if (!brotli) {
+            LOGGER.debugf("Brotli is not available for this platform, static resources are only compressed with gzip");
+        }
+        Map<String, PrecompressedStaticResource> resources = new HashMap<>();
+        visitRuntimeMetaInfResources(visit -> {
+            if (Files.isDirectory(visit.getPath())) {
+                return;
+            }
+            String path = visit.getRelativePath().substring(StaticResourcesRecorder.META_INF_RESOURCES.length());
+            if (resources.containsKey(path) || !mediaTypes.contains(MimeMapping.getMimeTypeForFilename(path))) {
+                // the first resource on the class path wins, like at runtime
+                return;
+            }
+            byte[] data;
+            try {
+                data = Files.readAllBytes(visit.getPath());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to read static resource " + visit.getRelativePath(), e);
+            }
+            String compressed = PrecompressedStaticResource.PRECOMPRESSED_RESOURCES + path;
+            byte[] gzip = gzip(data);
+            long gzipLength = -1;
+            if (gzip.length < data.length) {
+                gzipLength = gzip.length;
+                generatedResources.produce(new GeneratedResourceBuildItem(compressed
+                        + PrecompressedStaticResource.GZIP_SUFFIX, gzip));
+                nativeImageResources.produce(new NativeImageResourceBuildItem(compressed
+                        + PrecompressedStaticResource.GZIP_SUFFIX));
+            }
+            long brotliLength = -1;
+            if (brotli) {
+                byte[] br = brotli(data);
+                if (br.length < data.length) {
+                    brotliLength = br.length;
+                    generatedResources.produce(new GeneratedResourceBuildItem(compressed
+                            + PrecompressedStaticResource.BROTLI_SUFFIX, br));
+                    nativeImageResources.produce(new NativeImageResourceBuildItem(compressed
+                            + PrecompressedStaticResource.BROTLI_SUFFIX));
+                }
+            }
+            if (gzipLength != -1 || brotliLength != -1) {
+                resources.put(path, new PrecompressedStaticResource(HashUtil.sha256(data), data.length, gzipLength,
+                        brotliLength));
+            }
+        });
+        if (!resources.isEmpty()) {
+            precompressedResources.produce(new PrecompressedStaticResourcesBuildItem(resources));
+        }
+    }
+
+    private static boolean isBrotliAvailable() {
+        try {
+            return Brotli4jLoader.isAvailable();
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] brotli(byte[] data) {
+        try {
+            return Encoder.compress(data, new Encoder.Parameters().setQuality(11));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @BuildStep
     @Record(RUNTIME_INIT)
-    public void runtimeInit(Optional<StaticResourcesBuildItem> staticResources, StaticResourcesRecorder recorder,
+    public void runtimeInit(Optional<StaticResourcesBuildItem> staticResources,
+            Optional<PrecompressedStaticResourcesBuildItem> precompressedResources, StaticResourcesRecorder recorder,
             CoreVertxBuildItem vertx, BeanContainerBuildItem beanContainer,
             BuildProducer<DefaultRouteBuildItem> defaultRoutes) {
         if (staticResources.isPresent()) {
-            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths())));
+            Map<String, PrecompressedStaticResource> precompressed = precompressedResources.isPresent()
+                    ? new HashMap<>(precompressedResources.get().getResources())
+                    : new HashMap<>();
+            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths(),
+                    precompressed)));
         }
     }
 
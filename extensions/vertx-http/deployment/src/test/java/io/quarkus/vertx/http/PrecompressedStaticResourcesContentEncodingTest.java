@@ -0,0 +1,38 @@
+package io.quarkus.vertx.http;
+
+import static io.restassured.RestAssured.given;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+
+public class PrecompressedStaticResourcesContentEncodingTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .add(new StringAsset("quarkus.http.precompress-static-resources=true\n"
+                            + "quarkus.http.enable-compression=true\n"
+                            + "quarkus.http.static-resources.content-encoding=ISO-8859-1\n"), "application.properties")
+                    .add(new StringAsset(PrecompressedStaticResourcesTest.CONTENT), "META-INF/resources/index.html"));
+
+    @Test
+    public void testConfiguredContentEncoding() {
+        given().config(RestAssured.config()
+                .decoderConfig(DecoderConfig.decoderConfig().contentDecoders(DecoderConfig.ContentDecoder.GZIP)))
+                .get("/index.html")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Content-Type", "text/html;charset=ISO-8859-1");
+        given().header("Range", "bytes=0-5")
+                .get("/index.html")
+                .then()
+                .statusCode(206)
+                .header("Content-Type", "text/html;charset=ISO-8859-1");
+    }
+}
@@ -0,0 +1,80 @@
+package io.quarkus.vertx.http;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.emptyString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.runtime.util.HashUtil;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+
+public class PrecompressedStaticResourcesTest {
+
+    static final String CONTENT = "<html><body>" + "Hello precompressed world! ".repeat(100) + "</body></html>";
+    static final String HASH = HashUtil.sha256(CONTENT);
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .add(new StringAsset("quarkus.http.precompress-static-resources=true\n"
+                            + "quarkus.http.enable-compression=true\n"), "application.properties")
+                    .add(new StringAsset(CONTENT), "META-INF/resources/index.html")
+                    .add(new StringAsset("not compressible"), "META-INF/resources/image.png"));
+
+    @Test
+    public void testGzipVariant() {
+        given().config(RestAssured.config()
+                .decoderConfig(DecoderConfig.decoderConfig().contentDecoders(DecoderConfig.ContentDecoder.GZIP)))
+                .get("/index.html")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("ETag", "\"" + HASH + "-gzip\"")
+                .header("Vary", containsString("accept-encoding"))
+                .header("Content-Type", "text/html;charset=UTF-8")
+                .body(equalTo(CONTENT));
+    }
+
+    @Test
+    public void testIdentityVariant() {
+        given().config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+                .get("/")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", not(equalTo("gzip")))
+                .header("ETag", "\"" + HASH + "\"")
+                .header("Cache-Control", "public, max-age=86400")
+                .body(equalTo(CONTENT));
+    }
+
+    @Test
+    public void testNotModified() {
+        given().config(RestAssured.config()
+                .decoderConfig(DecoderConfig.decoderConfig().contentDecoders(DecoderConfig.ContentDecoder.GZIP)))
+                .header("If-None-Match", "\"other\", \"" + HASH + "-gzip\"")
+                .get("/index.html")
+                .then()
+                .statusCode(304)
+                .body(emptyString());
+    }
+
+    @Test
+    public void testFallbackToStaticHandler() {
+        given().header("Range", "bytes=0-5")
+                .get("/index.html")
+                .then()
+                .statusCode(206)
+                .body(equalTo(CONTENT.substring(0, 6)));
+        given().get("/image.png")
+                .then()
+                .statusCode(200)
+                .body(equalTo("not compressible"));
+    }
+}
@@ -118,4 +118,16 @@ public class HttpBuildTimeConfig {
      */
     @ConfigItem
     public OptionalInt compressionLevel;
+
+    /**
+     * If enabled, the static resources found in {@code META-INF/resources} whose media type is listed in
+     * {@link #compressMediaTypes} are compressed with gzip, and with brotli if Brotli4J supports the build platform,
+     * when the application is packaged.
+     * <p>
+     * At runtime, the variant accepted by the client is sent as is, along with a strong {@code ETag} computed at build
+     * time, so no compression happens per request. Range requests are still served from the uncompressed resource.
+     * This is not applied in dev mode.
+     */
+    @ConfigItem
+    public boolean precompressStaticResources;
 }
@@ -0,0 +1,73 @@
+package io.quarkus.vertx.http.runtime;
+
+/**
+ * A static resource from {@code META-INF/resources} that was compressed at build time.
+ * <p>
+ * The compressed variants are stored in {@link #PRECOMPRESSED_RESOURCES}, using the path of the resource with a
+ * {@link #GZIP_SUFFIX} or {@link #BROTLI_SUFFIX} suffix.
+ */
+public class PrecompressedStaticResource {
+
+    public static final String PRECOMPRESSED_RESOURCES = "META-INF/quarkus-precompressed-resources";
+    public static final String GZIP_SUFFIX = ".gz";
+    public static final String BROTLI_SUFFIX = ".br";
+
+    private String hash;
+    private long length;
+    private long gzipLength = -1;
+    private long brotliLength = -1;
+
+    public PrecompressedStaticResource() {
+    }
+
+    public PrecompressedStaticResource(String hash, long length, long gzipLength, long brotliLength) {
+        this.hash = hash;
+        this.length = length;
+        this.gzipLength = gzipLength;
+        this.brotliLength = brotliLength;
+    }
+
+    /**
+     * @return the hash of the uncompressed content, used to compute the strong entity tags of all variants
+     */
+    public String getHash() {
+        return hash;
+    }
+
+    public void setHash(String hash) {
+        this.hash = hash;
+    }
+
+    /**
+     * @return the length of the uncompressed content
+     */
+    public long getLength() {
+        return length;
+    }
+
+    public void setLength(long length) {
+        this.length = length;
+    }
+
+    /**
+     * @return the length of the gzip variant, or {@code -1} if there is no such variant
+     */
+    public long getGzipLength() {
+        return gzipLength;
+    }
+
+    public void setGzipLength(long gzipLength) {
+        this.gzipLength = gzipLength;
+    }
+
+    /**
+     * @return the length of the brotli variant, or {@code -1} if there is no such variant
+     */
+    public long getBrotliLength() {
+        return brotliLength;
+    }
+
+    public void setBrotliLength(long brotliLength) {
+        this.brotliLength = brotliLength;
+    }
+}
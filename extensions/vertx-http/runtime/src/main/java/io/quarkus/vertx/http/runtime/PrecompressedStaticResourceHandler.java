@@ -0,0 +1,223 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.impl.MimeMapping;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Serves static resources that were compressed at build time.
+ * <p>
+ * The variant is negotiated with the {@code Accept-Encoding} header of the request and the selected file is sent as
+ * is, so no compression happens at runtime. Each variant has its own strong entity tag, derived from the hash of the
+ * uncompressed content computed at build time.
+ */
+class PrecompressedStaticResourceHandler {
+
+    private static final String GZIP = "gzip";
+    private static final String BROTLI = "br";
+
+    private final Map<String, Variants> resources;
+    private final String cacheControl;
+
+    PrecompressedStaticResourceHandler(Map<String, PrecompressedStaticResource> resources, String defaultContentEncoding,
+            String cacheControl) {
+        this.resources = new HashMap<>();
+        for (Map.Entry<String, PrecompressedStaticResource> e : resources.entrySet()) {
+            this.resources.put(e.getKey(), new Variants(e.getKey(), e.getValue(), defaultContentEncoding));
+        }
+        this.cacheControl = cacheControl;
+    }
+
+    /**
+     * @param ctx the routing context
+     * @param path the path of the resource, relative to {@code META-INF/resources}
+     * @return {@code true} if the request was handled, {@code false} if it should be handled by the regular static
+     *         resources handler
+     */
+    boolean handle(RoutingContext ctx, String path) {
+        Variants variants = resources.get(path);
+        if (variants == null) {
+            return false;
+        }
+        HttpServerRequest request = ctx.request();
+        HttpMethod method = request.method();
+        if ((method != HttpMethod.GET && method != HttpMethod.HEAD) || request.headers().contains(HttpHeaderNames.RANGE)) {
+            // range requests are only supported on the uncompressed content
+            return false;
+        }
+        Variant variant = variants.select(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+
+        HttpServerResponse response = ctx.response();
+        MultiMap headers = response.headers();
+        headers.set(HttpHeaders.ETAG, variant.etag);
+        headers.set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (cacheControl != null) {
+            headers.set(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), variant.etag)) {
+            response.setStatusCode(304).end();
+            return true;
+        }
+        if (variants.contentType != null) {
+            headers.set(HttpHeaders.CONTENT_TYPE, variants.contentType);
+        }
+        if (variant.encoding != null) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, variant.encoding);
+        }
+        if (method == HttpMethod.HEAD) {
+            headers.set(HttpHeaders.CONTENT_LENGTH, variant.length);
+            response.end();
+        } else {
+            response.sendFile(variant.file);
+        }
+        return true;
+    }
+
+    /**
+     * Weak comparison, as mandated for {@code If-None-Match} by RFC 9110.
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        int start = 0;
+        int length = ifNoneMatch.length();
+        while (start < length) {
+            int end = ifNoneMatch.indexOf(',', start);
+            if (end == -1) {
+                end = length;
+            }
+            int from = skipWhitespace(ifNoneMatch, start, end);
+            int to = end;
+            while (to > from && Character.isWhitespace(ifNoneMatch.charAt(to - 1))) {
+                to--;
+            }
+            if (to - from == 1 && ifNoneMatch.charAt(from) == '*') {
+                return true;
+            }
+            if (ifNoneMatch.startsWith("W/", from)) {
+                from += 2;
+            }
+            if (to - from == etag.length() && ifNoneMatch.regionMatches(from, etag, 0, etag.length())) {
+                return true;
+            }
+            start = end + 1;
+        }
+        return false;
+    }
+
+    /**
+     * @return the quality value of the given coding in an {@code Accept-Encoding} header, {@code 0} if it is not
+     *         acceptable
+     */
+    static float quality(String acceptEncoding, String coding) {
+        float wildcard = 0;
+        int start = 0;
+        int length = acceptEncoding.length();
+        while (start < length) {
+            int end = acceptEncoding.indexOf(',', start);
+            if (end == -1) {
+                end = length;
+            }
+            int from = skipWhitespace(acceptEncoding, start, end);
+            int paramsStart = acceptEncoding.indexOf(';', from);
+            if (paramsStart == -1 || paramsStart > end) {
+                paramsStart = end;
+            }
+            int to = paramsStart;
+            while (to > from && Character.isWhitespace(acceptEncoding.charAt(to - 1))) {
+                to--;
+            }
+            if (to - from == coding.length() && acceptEncoding.regionMatches(true, from, coding, 0, coding.length())) {
+                return qvalue(acceptEncoding, paramsStart, end);
+            } else if (to - from == 1 && acceptEncoding.charAt(from) == '*') {
+                wildcard = qvalue(acceptEncoding, paramsStart, end);
+            }
+            start = end + 1;
+        }
+        return wildcard;
+    }
+
+    private static float qvalue(String header, int paramsStart, int end) {
+        int q = header.indexOf("q=", paramsStart);
+        if (q == -1 || q >= end) {
+            return 1;
+        }
+        try {
+            return Float.parseFloat(header.substring(q + 2, end).trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static int skipWhitespace(String value, int start, int end) {
+        while (start < end && Character.isWhitespace(value.charAt(start))) {
+            start++;
+        }
+        return start;
+    }
+
+    private static final class Variants {
+
+        final String contentType;
+        final Variant identity;
+        final Variant gzip;
+        final Variant brotli;
+
+        Variants(String path, PrecompressedStaticResource resource, String defaultContentEncoding) {
+            String contentType = MimeMapping.getMimeTypeForFilename(path);
+            if (contentType != null && contentType.startsWith("text")) {
+                contentType = contentType + ";charset=" + defaultContentEncoding;
+            }
+            this.contentType = contentType;
+            String compressed = PrecompressedStaticResource.PRECOMPRESSED_RESOURCES + path;
+            String hash = resource.getHash();
+            this.identity = new Variant(StaticResourcesRecorder.META_INF_RESOURCES + path, null, "\"" + hash + "\"",
+                    resource.getLength());
+            this.gzip = resource.getGzipLength() < 0 ? null
+                    : new Variant(compressed + PrecompressedStaticResource.GZIP_SUFFIX, GZIP,
+                            "\"" + hash + "-" + GZIP + "\"", resource.getGzipLength());
+            this.brotli = resource.getBrotliLength() < 0 ? null
+                    : new Variant(compressed + PrecompressedStaticResource.BROTLI_SUFFIX, BROTLI,
+                            "\"" + hash + "-" + BROTLI + "\"", resource.getBrotliLength());
+        }
+
+        Variant select(String acceptEncoding) {
+            if (acceptEncoding == null || acceptEncoding.isEmpty()) {
+                return identity;
+            }
+            float brotliQuality = brotli != null ? quality(acceptEncoding, BROTLI) : 0;
+            float gzipQuality = gzip != null ? quality(acceptEncoding, GZIP) : 0;
+            if (brotliQuality > 0 && brotliQuality >= gzipQuality) {
+                return brotli;
+            }
+            if (gzipQuality > 0) {
+                return gzip;
+            }
+            return identity;
+        }
+    }
+
+    private static final class Variant {
+
+        final String file;
+        final String encoding;
+        final String etag;
+        final String length;
+
+        Variant(String file, String encoding, String etag, long length) {
+            this.file = file;
+            this.encoding = encoding;
+            this.etag = etag;
+            this.length = Long.toString(length);
+        }
+    }
+}
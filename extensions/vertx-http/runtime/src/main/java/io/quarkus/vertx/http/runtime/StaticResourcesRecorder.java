@@ -3,6 +3,7 @@
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 
@@ -38,7 +39,11 @@ public static void setHotDeploymentResources(List<Path> resources) {
         hotDeploymentResourcePaths = resources;
     }
 
-    public Consumer<Route> start(Set<String> knownPaths) {
+    /**
+     * @param knownPaths the static resources found in {@code META-INF/resources}
+     * @param precompressed the static resources that were compressed at build time, keyed by path
+     */
+    public Consumer<Route> start(Set<String> knownPaths, Map<String, PrecompressedStaticResource> precompressed) {
         if (httpBuildTimeConfig.enableCompression && httpBuildTimeConfig.compressMediaTypes.isPresent()) {
             this.compressMediaTypes = Set.copyOf(httpBuildTimeConfig.compressMediaTypes.get());
         }
@@ -72,7 +77,7 @@ public void handle(RoutingContext ctx) {
         if (!knownPaths.isEmpty()) {
             ClassLoader currentCl = Thread.currentThread().getContextClassLoader();
             StaticHandler staticHandler = StaticHandler.create(META_INF_RESOURCES)
-                    .setDefaultContentEncoding("UTF-8")
+                    .setDefaultContentEncoding(config.contentEncoding.name())
                     .setCachingEnabled(config.cachingEnabled)
                     .setIndexPage(config.indexPage)
                     .setIncludeHidden(config.includeHidden)
@@ -85,6 +90,9 @@ public void handle(RoutingContext ctx) {
             final String indexPage = (config.indexPage.charAt(0) == '/')
                     ? config.indexPage.substring(1)
                     : config.indexPage;
+            final PrecompressedStaticResourceHandler precompressedHandler = precompressed.isEmpty() ? null
+                    : new PrecompressedStaticResourceHandler(precompressed, config.contentEncoding.name(),
+                            config.cachingEnabled ? "public, max-age=" + config.maxAge.toSeconds() : null);
             handlers.add(new Handler<>() {
                 @Override
                 public void handle(RoutingContext ctx) {
@@ -94,6 +102,10 @@ public void handle(RoutingContext ctx) {
                                     ctx.mountPoint().endsWith("/") ? ctx.mountPoint().length() - 1 : ctx.mountPoint().length());
                     // check effective path, otherwise the index page when path ends with '/'
                     if (knownPaths.contains(rel) || (rel.endsWith("/") && knownPaths.contains(rel.concat(indexPage)))) {
+                        if (precompressedHandler != null
+                                && precompressedHandler.handle(ctx, rel.endsWith("/") ? rel.concat(indexPage) : rel)) {
+                            return;
+                        }
                         compressIfNeeded(ctx, rel);
                         staticHandler.handle(ctx);
                     } else {
@@ -0,0 +1,86 @@
+package io.quarkus.websockets.next.test.broadcast;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.URI;
+import java.util.List;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.websockets.next.test.utils.WSClient;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+
+public class BroadcastTopicTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Room.class, WSClient.class);
+            });
+
+    @TestHTTPResource("room/alpha")
+    URI alphaUri;
+
+    @TestHTTPResource("room/bravo")
+    URI bravoUri;
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    public void testTopics() {
+        try (WSClient alpha1 = WSClient.create(vertx).connect(alphaUri);
+                WSClient alpha2 = WSClient.create(vertx).connect(alphaUri);
+                WSClient bravo = WSClient.create(vertx).connect(bravoUri)) {
+            alpha1.waitForMessages(1);
+            alpha2.waitForMessages(1);
+            bravo.waitForMessages(1);
+            assertEquals("joined [alpha]", alpha1.getLastMessage().toString());
+            assertEquals("joined [bravo]", bravo.getLastMessage().toString());
+
+            // Text message encoded once and sent to both alpha connections
+            alpha1.send("foo");
+            alpha1.waitForMessages(2);
+            alpha2.waitForMessages(2);
+            assertEquals("{\"name\":\"foo\"}", alpha1.getLastMessage().toString());
+            assertEquals("{\"name\":\"foo\"}", alpha2.getLastMessage().toString());
+
+            // Binary message
+            alpha2.send("binary:bar");
+            alpha1.waitForMessages(3);
+            alpha2.waitForMessages(3);
+            assertEquals(Buffer.buffer("bar"), alpha1.getLastMessage());
+
+            // A message that does not fit in a single frame
+            alpha1.send("large:100000");
+            alpha1.waitForMessages(4);
+            alpha2.waitForMessages(4);
+            assertEquals(100000, alpha2.getLastMessage().length());
+
+            // The bravo connection did not receive any of the messages
+            bravo.send("baz");
+            bravo.waitForMessages(2);
+            assertEquals("{\"name\":\"baz\"}", bravo.getLastMessage().toString());
+
+            alpha2.send("leave");
+            alpha2.waitForMessages(5);
+            assertEquals("left []", alpha2.getLastMessage().toString());
+            alpha1.send("qux");
+            alpha1.waitForMessages(5);
+            assertEquals("{\"name\":\"qux\"}", alpha1.getLastMessage().toString());
+
+            assertEquals(5, alpha1.getMessages().size());
+            assertEquals(5, alpha2.getMessages().size());
+            assertEquals(2, bravo.getMessages().size());
+            assertEquals(List.of("joined [bravo]", "{\"name\":\"baz\"}"),
+                    bravo.getMessages().stream().map(Buffer::toString).toList());
+        }
+    }
+
+}
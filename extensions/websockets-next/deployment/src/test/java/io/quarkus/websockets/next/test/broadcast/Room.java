@@ -0,0 +1,41 @@
+package io.quarkus.websockets.next.test.broadcast;
+
+import jakarta.inject.Inject;
+
+import io.quarkus.websockets.next.OnOpen;
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.vertx.core.buffer.Buffer;
+
+@WebSocket(path = "/room/{room}")
+public class Room {
+
+    @Inject
+    WebSocketConnection connection;
+
+    @OnOpen
+    String open() {
+        connection.joinTopic(connection.pathParam("room"));
+        return "joined " + connection.topics();
+    }
+
+    @OnTextMessage
+    void message(String message) {
+        String room = connection.pathParam("room");
+        if (message.equals("leave")) {
+            connection.leaveTopic(room);
+            connection.sendTextAndAwait("left " + connection.topics());
+        } else if (message.startsWith("binary:")) {
+            connection.broadcast().topic(room).sendBinaryAndAwait(Buffer.buffer(message.substring(7)));
+        } else if (message.startsWith("large:")) {
+            connection.broadcast().topic(room).sendTextAndAwait("x".repeat(Integer.parseInt(message.substring(6))));
+        } else {
+            connection.broadcast().topic(room).sendTextAndAwait(new Item(message));
+        }
+    }
+
+    public record Item(String name) {
+    }
+
+}
@@ -0,0 +1,34 @@
+package io.quarkus.websockets.next.test.outbound;
+
+import java.util.concurrent.CountDownLatch;
+
+import io.quarkus.websockets.next.OnTextMessage;
+import io.quarkus.websockets.next.WebSocket;
+import io.quarkus.websockets.next.WebSocketConnection;
+import io.smallrye.mutiny.Uni;
+
+@WebSocket(path = "/flood")
+public class Flood {
+
+    static final int COUNT = 2000;
+
+    static final String PAYLOAD = "x".repeat(16 * 1024);
+
+    static final CountDownLatch FLOODED = new CountDownLatch(1);
+
+    @OnTextMessage
+    Uni<Void> process(String message, WebSocketConnection connection) {
+        if ("flood".equals(message)) {
+            // Do not wait for the messages to be written
+            for (int i = 0; i < COUNT; i++) {
+                connection.sendText(i + ":" + PAYLOAD).subscribe().with(v -> {
+                }, t -> {
+                });
+            }
+            FLOODED.countDown();
+            return Uni.createFrom().voidItem();
+        }
+        return connection.sendText(message);
+    }
+
+}
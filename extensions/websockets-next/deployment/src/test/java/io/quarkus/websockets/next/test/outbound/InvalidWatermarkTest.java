@@ -0,0 +1,33 @@
+package io.quarkus.websockets.next.test.outbound;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class InvalidWatermarkTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Flood.class);
+            })
+            .overrideConfigKey("quarkus.websockets-next.server.outbound.high-watermark", "1K")
+            .overrideConfigKey("quarkus.websockets-next.server.outbound.low-watermark", "2K")
+            .assertException(t -> {
+                Throwable cause = t;
+                while (cause != null && !(cause instanceof IllegalStateException)) {
+                    cause = cause.getCause();
+                }
+                assertTrue(cause != null && cause.getMessage().contains("The outbound low watermark"), t.toString());
+            });
+
+    @Test
+    public void test() {
+        Assertions.fail();
+    }
+
+}
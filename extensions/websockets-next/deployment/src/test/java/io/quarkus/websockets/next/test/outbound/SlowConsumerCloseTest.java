@@ -0,0 +1,62 @@
+package io.quarkus.websockets.next.test.outbound;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.netty.handler.codec.http.websocketx.WebSocketCloseStatus;
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.WebSocket;
+import io.vertx.core.http.WebSocketClient;
+
+public class SlowConsumerCloseTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Flood.class);
+            })
+            .overrideConfigKey("quarkus.websockets-next.server.outbound.high-watermark", "256K")
+            .overrideConfigKey("quarkus.websockets-next.server.outbound.slow-consumer-policy", "close");
+
+    @Inject
+    Vertx vertx;
+
+    @TestHTTPResource("/flood")
+    URI floodUri;
+
+    @Test
+    void testSlowConsumerClosed() throws Exception {
+        WebSocketClient client = vertx.createWebSocketClient();
+        try {
+            AtomicInteger closeStatus = new AtomicInteger();
+            WebSocket ws = client.connect(floodUri.getPort(), floodUri.getHost(), floodUri.getPath())
+                    .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+            ws.textMessageHandler(m -> {
+            });
+            ws.closeHandler(v -> closeStatus.set(ws.closeStatusCode()));
+            // Do not read the messages until the server is done
+            ws.pause();
+            ws.writeTextMessage("flood");
+            assertTrue(Flood.FLOODED.await(10, TimeUnit.SECONDS));
+            ws.resume();
+
+            await().atMost(10, TimeUnit.SECONDS).until(() -> closeStatus.get() != 0);
+            assertEquals(WebSocketCloseStatus.POLICY_VIOLATION.code(), closeStatus.get());
+        } finally {
+            client.close().toCompletionStage().toCompletableFuture().get();
+        }
+    }
+
+}
@@ -0,0 +1,64 @@
+package io.quarkus.websockets.next.test.outbound;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.WebSocket;
+import io.vertx.core.http.WebSocketClient;
+
+public class SlowConsumerDropOldestTest {
+
+    @RegisterExtension
+    public static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot(root -> {
+                root.addClasses(Flood.class);
+            }).overrideConfigKey("quarkus.websockets-next.server.outbound.high-watermark", "256K");
+
+    @Inject
+    Vertx vertx;
+
+    @TestHTTPResource("/flood")
+    URI floodUri;
+
+    @Test
+    void testOldestMessagesDropped() throws Exception {
+        WebSocketClient client = vertx.createWebSocketClient();
+        try {
+            List<String> messages = new CopyOnWriteArrayList<>();
+            WebSocket ws = client.connect(floodUri.getPort(), floodUri.getHost(), floodUri.getPath())
+                    .toCompletionStage().toCompletableFuture().get(10, TimeUnit.SECONDS);
+            ws.textMessageHandler(messages::add);
+            // Do not read the messages until the server is done
+            ws.pause();
+            ws.writeTextMessage("flood");
+            assertTrue(Flood.FLOODED.await(10, TimeUnit.SECONDS));
+            ws.resume();
+
+            // The last message is always received
+            String last = (Flood.COUNT - 1) + ":";
+            await().atMost(10, TimeUnit.SECONDS)
+                    .until(() -> !messages.isEmpty() && messages.get(messages.size() - 1).startsWith(last));
+            assertTrue(messages.size() < Flood.COUNT, "No message was dropped");
+
+            // The connection is still usable
+            ws.writeTextMessage("end");
+            await().atMost(10, TimeUnit.SECONDS).until(() -> messages.get(messages.size() - 1).equals("end"));
+        } finally {
+            client.close().toCompletionStage().toCompletableFuture().get();
+        }
+    }
+
+}
@@ -0,0 +1,19 @@
+package io.quarkus.websockets.next;
+
+/**
+ * A text message that implements this interface can replace a queued outbound message with the same key if the
+ * {@code quarkus.websockets-next.server.outbound.slow-consumer-policy} is set to {@code coalesce-by-key}.
+ * <p>
+ * This is useful for messages that represent the latest state of something, e.g. a stock price. A slow client then only
+ * receives the most recent state instead of the full history.
+ *
+ * @see Sender#sendText(Object)
+ */
+public interface CoalescingKey {
+
+    /**
+     * @return the key, or {@code null} if the message must not be coalesced
+     */
+    Object coalescingKey();
+
+}
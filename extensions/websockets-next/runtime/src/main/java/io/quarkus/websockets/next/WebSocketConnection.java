@@ -42,6 +42,31 @@ public interface WebSocketConnection extends Connection {
      */
     String subprotocol();
 
+    /**
+     * Subscribes this connection to the given topic. A connection is unsubscribed from all topics automatically when it's
+     * closed.
+     * <p>
+     * The topics are scoped to the WebSocket endpoint, i.e. a message sent with {@code broadcast().topic("foo")} is only
+     * sent to the connections of the same endpoint subscribed to the topic {@code foo}.
+     *
+     * @param topic
+     * @see BroadcastSender#topic(String)
+     */
+    void joinTopic(String topic);
+
+    /**
+     * Unsubscribes this connection from the given topic.
+     *
+     * @param topic
+     */
+    void leaveTopic(String topic);
+
+    /**
+     *
+     * @return the immutable set of topics this connection is subscribed to
+     */
+    Set<String> topics();
+
     /**
      * Makes it possible to send messages to all clients connected to the same WebSocket endpoint.
      *
@@ -57,6 +82,17 @@ interface BroadcastSender extends Sender {
          */
         BroadcastSender filter(Predicate<WebSocketConnection> predicate);
 
+        /**
+         * The connections subscribed to a topic are tracked separately, so a message sent to a topic does not require a scan
+         * of all open connections.
+         *
+         * @param topic
+         * @return a new sender that sends messages to all open clients connected to the same WebSocket endpoint and
+         *         subscribed to the given topic
+         * @see WebSocketConnection#joinTopic(String)
+         */
+        BroadcastSender topic(String topic);
+
     }
 
 }
@@ -2,6 +2,7 @@
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -29,12 +30,16 @@ public class ConnectionManager implements OpenConnections {
     // generatedEndpointClassName -> open connections
     private final ConcurrentMap<String, Set<WebSocketConnection>> endpointToConnections = new ConcurrentHashMap<>();
 
+    // generatedEndpointClassName -> topic -> open connections subscribed to the topic
+    private final ConcurrentMap<String, ConcurrentMap<String, Set<WebSocketConnection>>> endpointToTopics;
+
     private final List<ConnectionListener> listeners = new CopyOnWriteArrayList<>();
 
     private final Event<WebSocketConnection> openEvent;
     private final Event<WebSocketConnection> closedEvent;
 
     ConnectionManager(@Open Event<WebSocketConnection> openEvent, @Closed Event<WebSocketConnection> closedEvent) {
+        this.endpointToTopics = new ConcurrentHashMap<>();
         ArcContainer container = Arc.container();
         this.openEvent = container.resolveObserverMethods(WebSocketConnection.class, Open.Literal.INSTANCE).isEmpty()
                 ? null
@@ -76,6 +81,9 @@ void remove(String endpoint, WebSocketConnection connection) {
         LOG.debugf("Remove connection: %s", connection);
         Set<WebSocketConnection> connections = endpointToConnections.get(endpoint);
         if (connections != null) {
+            for (String topic : connection.topics()) {
+                leaveTopic(endpoint, topic, connection);
+            }
             if (connections.remove(connection)) {
                 if (closedEvent != null) {
                     closedEvent.fireAsync(connection);
@@ -107,6 +115,48 @@ public Set<WebSocketConnection> getConnections(String endpoint) {
         return ret;
     }
 
+    /**
+     *
+     * @param endpoint
+     * @param topic
+     * @return the connections for the given endpoint subscribed to the given topic, never {@code null}
+     */
+    public Set<WebSocketConnection> getConnections(String endpoint, String topic) {
+        Map<String, Set<WebSocketConnection>> topics = endpointToTopics.get(endpoint);
+        if (topics == null) {
+            return Set.of();
+        }
+        Set<WebSocketConnection> ret = topics.get(topic);
+        if (ret == null) {
+            return Set.of();
+        }
+        return ret;
+    }
+
+    void joinTopic(String endpoint, String topic, WebSocketConnection connection) {
+        LOG.debugf("Connection %s joined topic: %s", connection, topic);
+        endpointToTopics.computeIfAbsent(endpoint, e -> new ConcurrentHashMap<>())
+                .compute(topic, (t, connections) -> {
+                    if (connections == null) {
+                        connections = ConcurrentHashMap.newKeySet();
+                    }
+                    connections.add(connection);
+                    return connections;
+                });
+    }
+
+    void leaveTopic(String endpoint, String topic, WebSocketConnection connection) {
+        ConcurrentMap<String, Set<WebSocketConnection>> topics = endpointToTopics.get(endpoint);
+        if (topics != null) {
+            // Remove the set of connections if empty so that the registry does not grow with the number of unused topics
+            topics.computeIfPresent(topic, (t, connections) -> {
+                connections.remove(connection);
+                return connections.isEmpty() ? null : connections;
+            });
+            LOG.debugf("Connection %s left topic: %s", connection, topic);
+        }
+    }
+
     public void addListener(ConnectionListener listener) {
         this.listeners.add(listener);
     }
@@ -114,6 +164,7 @@ public void addListener(ConnectionListener listener) {
     @PreDestroy
     void destroy() {
         endpointToConnections.clear();
+        endpointToTopics.clear();
     }
 
     public interface ConnectionListener {
@@ -219,6 +219,9 @@ public void handle(Long timerId) {
         ws.closeHandler(new Handler<Void>() {
             @Override
             public void handle(Void event) {
+                if (connection.outboundQueue != null) {
+                    connection.outboundQueue.close();
+                }
                 if (trafficLogger != null) {
                     trafficLogger.connectionClosed(connection);
                 }
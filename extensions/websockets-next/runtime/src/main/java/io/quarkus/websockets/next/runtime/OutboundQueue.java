@@ -0,0 +1,331 @@
+package io.quarkus.websockets.next.runtime;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.logging.Logger;
+
+import io.netty.buffer.ByteBufUtil;
+import io.netty.handler.codec.http.websocketx.WebSocketCloseStatus;
+import io.netty.util.ReferenceCounted;
+import io.quarkus.websockets.next.CloseReason;
+import io.quarkus.websockets.next.runtime.config.SlowConsumerPolicy;
+import io.quarkus.websockets.next.runtime.config.WebSocketsServerRuntimeConfig;
+import io.quarkus.websockets.next.runtime.telemetry.SendingInterceptor;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.WebSocketBase;
+import io.vertx.core.http.WebSocketFrame;
+import io.vertx.core.http.impl.ws.WebSocketFrameImpl;
+
+/**
+ * Outbound messages queued for a connection that is not able to keep up with the rate of sent messages.
+ * <p>
+ * A message is written directly if nothing is queued and the write queue of the underlying WebSocket is not full.
+ * Otherwise, the message is queued and written once the WebSocket is drained. If the number of queued bytes exceeds the
+ * high watermark then the {@link SlowConsumerPolicy} is applied. A discarded message is not sent but the corresponding
+ * send operation completes successfully.
+ */
+final class OutboundQueue {
+
+    private static final Logger LOG = Logger.getLogger(OutboundQueue.class);
+
+    static final CloseReason SLOW_CONSUMER = new CloseReason(WebSocketCloseStatus.POLICY_VIOLATION.code(), "Slow consumer");
+
+    private final WebSocketConnectionBase connection;
+
+    private final WebSocketBase webSocket;
+
+    private final long highWatermark;
+
+    private final long lowWatermark;
+
+    private final SlowConsumerPolicy policy;
+
+    private final SendingInterceptor sendingInterceptor;
+
+    // All the following fields are guarded by this
+    private final ArrayDeque<Message> queue;
+    private final Map<Object, Message> keys;
+    private long queuedBytes;
+    private boolean overflow;
+    private boolean closed;
+    // Set while a thread writes the queued messages; the messages offered meanwhile must be queued to keep the order
+    private boolean flushing;
+
+    OutboundQueue(WebSocketConnectionBase connection, WebSocketBase webSocket, long highWatermark, long lowWatermark,
+            SlowConsumerPolicy policy, SendingInterceptor sendingInterceptor) {
+        this.connection = connection;
+        this.webSocket = webSocket;
+        this.highWatermark = highWatermark;
+        this.lowWatermark = lowWatermark;
+        this.policy = policy;
+        this.sendingInterceptor = sendingInterceptor;
+        this.queue = new ArrayDeque<>();
+        this.keys = policy == SlowConsumerPolicy.COALESCE_BY_KEY ? new HashMap<>() : null;
+        webSocket.drainHandler(v -> flush());
+    }
+
+    /**
+     * Creates a new queue for the given connection.
+     *
+     * @param settings the validated settings, may be {@code null}
+     * @return a new queue or {@code null} if the settings are {@code null}
+     */
+    static OutboundQueue create(WebSocketConnectionBase connection, WebSocketBase webSocket, Settings settings,
+            SendingInterceptor sendingInterceptor) {
+        if (settings == null) {
+            return null;
+        }
+        return new OutboundQueue(connection, webSocket, settings.highWatermark(), settings.lowWatermark(),
+                settings.policy(), sendingInterceptor);
+    }
+
+    /**
+     * Validated outbound queue settings shared by all connections of a server.
+     */
+    record Settings(long highWatermark, long lowWatermark, SlowConsumerPolicy policy) {
+
+        /**
+         * Validates the config. This method is called once during application startup so that an invalid config fails
+         * the startup.
+         *
+         * @return the settings or {@code null} if the high watermark is not configured
+         * @throws IllegalStateException if the config is not valid
+         */
+        static Settings of(WebSocketsServerRuntimeConfig.Outbound config) {
+            if (config.highWatermark().isEmpty()) {
+                return null;
+            }
+            long high = config.highWatermark().get().asLongValue();
+            if (high <= 0) {
+                throw new IllegalStateException("The outbound high watermark must be a positive value: " + high);
+            }
+            long low = config.lowWatermark().isPresent() ? config.lowWatermark().get().asLongValue() : high / 2;
+            if (low < 0 || low > high) {
+                throw new IllegalStateException(
+                        "The outbound low watermark must be a value between 0 and the high watermark [" + high + "]: "
+                                + low);
+            }
+            return new Settings(high, low, config.slowConsumerPolicy());
+        }
+    }
+
+    /**
+     * Writes the message or adds it to the queue.
+     *
+     * @param message the message, either {@link String} or {@link Buffer}
+     * @param frame the already encoded frame, may be {@code null}
+     * @param key the coalescing key, may be {@code null}
+     * @return the write result
+     */
+    Future<Void> offer(Object message, WebSocketFrame frame, Object key) {
+        List<Message> discarded = null;
+        boolean close = false;
+        Future<Void> ret;
+        synchronized (this) {
+            if (closed) {
+                release(frame);
+                return Future.failedFuture(new IllegalStateException("WebSocket is closed"));
+            }
+            if (queue.isEmpty() && !flushing && !webSocket.writeQueueFull()) {
+                ret = null;
+            } else {
+                Message msg = new Message(message, frame, key, size(message, frame));
+                ret = msg.promise.future();
+                if (policy == SlowConsumerPolicy.DROP_NEWEST && (overflow || queuedBytes + msg.size > highWatermark)) {
+                    overflow = true;
+                    discarded = List.of(msg);
+                } else {
+                    if (keys != null && key != null) {
+                        Message previous = keys.put(key, msg);
+                        if (previous != null) {
+                            // The previous message is skipped when polled
+                            previous.superseded = true;
+                            dequeued(previous);
+                            discarded = new ArrayList<>();
+                            discarded.add(previous);
+                        }
+                    }
+                    queue.add(msg);
+                    queuedBytes += msg.size;
+                    if (sendingInterceptor != null) {
+                        sendingInterceptor.onQueued(msg.size);
+                    }
+                    if (queuedBytes > highWatermark) {
+                        if (discarded == null) {
+                            discarded = new ArrayList<>();
+                        }
+                        if (policy == SlowConsumerPolicy.CLOSE) {
+                            close = true;
+                            closed = true;
+                            pollAll(discarded);
+                        } else {
+                            // Drop the oldest messages but always keep the new one
+                            while (queuedBytes > lowWatermark && queue.size() > 1) {
+                                Message oldest = queue.poll();
+                                if (!oldest.superseded) {
+                                    dequeued(oldest);
+                                    discarded.add(oldest);
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        if (ret == null) {
+            // Written outside the lock as the completion handlers of the write may be invoked synchronously
+            return connection.write(message, frame);
+        }
+        if (discarded != null) {
+            for (Message msg : discarded) {
+                release(msg.frame);
+                if (sendingInterceptor != null) {
+                    sendingInterceptor.onDropped();
+                }
+                msg.promise.complete();
+            }
+            if (!discarded.isEmpty()) {
+                LOG.debugf("%s outbound message(s) discarded due to the slow consumer policy [%s]: %s", discarded.size(),
+                        policy, connection);
+            }
+        }
+        if (close) {
+            LOG.debugf("Closing slow consumer connection: %s", connection);
+            connection.close(SLOW_CONSUMER).subscribe().with(
+                    v -> {
+                    },
+                    t -> LOG.errorf(t, "Unable to close slow consumer connection: %s", connection));
+        }
+        return ret;
+    }
+
+    /**
+     * Discards all queued messages. The corresponding send operations fail.
+     */
+    void close() {
+        List<Message> messages = new ArrayList<>();
+        synchronized (this) {
+            if (closed && queue.isEmpty()) {
+                return;
+            }
+            closed = true;
+            pollAll(messages);
+        }
+        for (Message msg : messages) {
+            release(msg.frame);
+            msg.promise.fail(new IllegalStateException("WebSocket is closed"));
+        }
+    }
+
+    /**
+     * Writes the queued messages until the write queue of the WebSocket is full. The messages are polled under the lock
+     * but written and completed outside of it, so that the completion handlers of the send operations can offer new
+     * messages. Only one thread writes the queued messages at a time.
+     */
+    void flush() {
+        synchronized (this) {
+            if (flushing) {
+                // The messages are written by the thread which is currently flushing
+                return;
+            }
+            flushing = true;
+        }
+        Message msg;
+        while ((msg = pollWritable()) != null) {
+            connection.write(msg.message, msg.frame).onComplete(msg.promise);
+        }
+    }
+
+    private synchronized Message pollWritable() {
+        while (!queue.isEmpty() && !webSocket.writeQueueFull()) {
+            Message msg = queue.poll();
+            if (msg.superseded) {
+                continue;
+            }
+            dequeued(msg);
+            return msg;
+        }
+        flushing = false;
+        if (overflow && queuedBytes <= lowWatermark) {
+            overflow = false;
+        }
+        return null;
+    }
+
+    // Visible for testing
+    synchronized long queuedBytes() {
+        return queuedBytes;
+    }
+
+    // Visible for testing
+    synchronized int queuedKeys() {
+        return keys != null ? keys.size() : 0;
+    }
+
+    // Must be called when holding the lock
+    private void pollAll(List<Message> messages) {
+        Message msg;
+        while ((msg = queue.poll()) != null) {
+            if (!msg.superseded) {
+                dequeued(msg);
+                messages.add(msg);
+            }
+        }
+    }
+
+    // Must be called when holding the lock
+    private void dequeued(Message msg) {
+        queuedBytes -= msg.size;
+        if (keys != null && msg.key != null) {
+            keys.remove(msg.key, msg);
+        }
+        if (sendingInterceptor != null) {
+            sendingInterceptor.onQueued(-msg.size);
+        }
+    }
+
+    private static int size(Object message, WebSocketFrame frame) {
+        if (frame instanceof WebSocketFrameImpl impl) {
+            return impl.getBinaryData().readableBytes();
+        } else if (frame != null) {
+            return frame.binaryData().length();
+        } else if (message instanceof String text) {
+            return ByteBufUtil.utf8Bytes(text);
+        } else {
+            return ((Buffer) message).length();
+        }
+    }
+
+    private static void release(WebSocketFrame frame) {
+        if (frame instanceof ReferenceCounted rc) {
+            rc.release();
+        }
+    }
+
+    private static final class Message {
+
+        final Object message;
+        final WebSocketFrame frame;
+        final Object key;
+        final int size;
+        final Promise<Void> promise;
+        // Guarded by the queue lock
+        boolean superseded;
+
+        Message(Object message, WebSocketFrame frame, Object key, int size) {
+            this.message = message;
+            this.frame = frame;
+            this.key = key;
+            this.size = size;
+            this.promise = Promise.promise();
+        }
+
+    }
+
+}
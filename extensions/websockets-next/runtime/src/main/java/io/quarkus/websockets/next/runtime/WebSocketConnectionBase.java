@@ -8,15 +8,18 @@
 
 import io.quarkus.vertx.utils.NoBoundChecksBuffer;
 import io.quarkus.websockets.next.CloseReason;
+import io.quarkus.websockets.next.CoalescingKey;
 import io.quarkus.websockets.next.Connection;
 import io.quarkus.websockets.next.HandshakeRequest;
 import io.quarkus.websockets.next.UserData;
 import io.quarkus.websockets.next.WebSocketConnection.BroadcastSender;
 import io.quarkus.websockets.next.runtime.telemetry.SendingInterceptor;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.Future;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.buffer.impl.BufferImpl;
 import io.vertx.core.http.WebSocketBase;
+import io.vertx.core.http.WebSocketFrame;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
@@ -40,6 +43,9 @@ public abstract class WebSocketConnectionBase implements Connection {
 
     private final SendingInterceptor sendingInterceptor;
 
+    // Initialized by subclasses; null if outbound messages are not queued
+    OutboundQueue outboundQueue;
+
     WebSocketConnectionBase(Map<String, String> pathParams, Codecs codecs, HandshakeRequest handshakeRequest,
             TrafficLogger trafficLogger, SendingInterceptor sendingInterceptor) {
         this.identifier = UUID.randomUUID().toString();
@@ -66,6 +72,9 @@ public String pathParam(String name) {
 
     @Override
     public Uni<Void> sendText(String message) {
+        if (outboundQueue != null) {
+            return Uni.createFrom().completionStage(() -> outboundQueue.offer(message, null, null).toCompletionStage());
+        }
         Uni<Void> uni = Uni.createFrom().completionStage(() -> webSocket().writeTextMessage(message).toCompletionStage());
         if (sendingInterceptor != null) {
             uni = uni.invoke(() -> sendingInterceptor.onSend(message));
@@ -77,6 +86,9 @@ public Uni<Void> sendText(String message) {
 
     @Override
     public Uni<Void> sendBinary(Buffer message) {
+        if (outboundQueue != null) {
+            return Uni.createFrom().completionStage(() -> outboundQueue.offer(message, null, null).toCompletionStage());
+        }
         Uni<Void> uni = Uni.createFrom().completionStage(() -> webSocket().writeBinaryMessage(message).toCompletionStage());
         if (sendingInterceptor != null) {
             uni = uni.invoke(() -> sendingInterceptor.onSend(message));
@@ -86,17 +98,78 @@ public Uni<Void> sendBinary(Buffer message) {
 
     @Override
     public <M> Uni<Void> sendText(M message) {
-        String text;
+        if (outboundQueue != null && message instanceof CoalescingKey ck) {
+            String text = encodeText(message);
+            return Uni.createFrom()
+                    .completionStage(() -> outboundQueue.offer(text, null, ck.coalescingKey()).toCompletionStage());
+        }
+        return sendText(encodeText(message));
+    }
+
+    <M> String encodeText(M message) {
         // Use the same conversion rules as defined for the OnTextMessage
         if (message instanceof JsonObject || message instanceof JsonArray || message instanceof BufferImpl
                 || message instanceof NoBoundChecksBuffer) {
-            text = message.toString();
+            return message.toString();
         } else if (message.getClass().isArray() && message.getClass().arrayType().equals(byte.class)) {
-            text = Buffer.buffer((byte[]) message).toString();
+            return Buffer.buffer((byte[]) message).toString();
+        } else {
+            return codecs.textEncode(message, null);
+        }
+    }
+
+    /**
+     * Writes a frame that was already encoded, e.g. a broadcast message shared by multiple connections.
+     *
+     * @param frame the frame to write
+     * @param message the original message, either {@link String} or {@link Buffer}
+     * @param coalescingKey the coalescing key, may be {@code null}
+     * @return the write result
+     */
+    Future<Void> writeEncodedFrame(WebSocketFrame frame, Object message, Object coalescingKey) {
+        if (outboundQueue != null) {
+            return outboundQueue.offer(message, frame, coalescingKey);
+        }
+        return write(message, frame);
+    }
+
+    /**
+     * Writes the message to the underlying WebSocket immediately.
+     *
+     * @param message the message, either {@link String} or {@link Buffer}
+     * @param frame the already encoded frame, may be {@code null}
+     * @return the write result
+     */
+    Future<Void> write(Object message, WebSocketFrame frame) {
+        Future<Void> ret;
+        if (frame != null) {
+            ret = webSocket().writeFrame(frame);
+        } else if (message instanceof String text) {
+            ret = webSocket().writeTextMessage(text);
         } else {
-            text = codecs.textEncode(message, null);
+            ret = webSocket().writeBinaryMessage((Buffer) message);
         }
-        return sendText(text);
+        if (sendingInterceptor == null && trafficLogger == null) {
+            return ret;
+        }
+        return ret.onSuccess(v -> {
+            if (message instanceof String text) {
+                if (sendingInterceptor != null) {
+                    sendingInterceptor.onSend(text);
+                }
+                if (trafficLogger != null) {
+                    trafficLogger.textMessageSent(this, text);
+                }
+            } else {
+                Buffer binary = (Buffer) message;
+                if (sendingInterceptor != null) {
+                    sendingInterceptor.onSend(binary);
+                }
+                if (trafficLogger != null) {
+                    trafficLogger.binaryMessageSent(this, binary);
+                }
+            }
+        });
     }
 
     @Override
@@ -1,23 +1,40 @@
 package io.quarkus.websockets.next.runtime;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.EventLoop;
+import io.quarkus.websockets.next.CoalescingKey;
 import io.quarkus.websockets.next.HandshakeRequest;
 import io.quarkus.websockets.next.WebSocketConnection;
 import io.quarkus.websockets.next.runtime.telemetry.SendingInterceptor;
+import io.smallrye.mutiny.CompositeException;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.ServerWebSocket;
 import io.vertx.core.http.WebSocketBase;
+import io.vertx.core.http.WebSocketFrame;
+import io.vertx.core.http.WebSocketFrameType;
+import io.vertx.core.http.impl.ws.WebSocketFrameImpl;
+import io.vertx.core.impl.ContextInternal;
 import io.vertx.ext.web.RoutingContext;
 
 class WebSocketConnectionImpl extends WebSocketConnectionBase implements WebSocketConnection {
@@ -32,16 +49,30 @@ class WebSocketConnectionImpl extends WebSocketConnectionBase implements WebSock
 
     private final BroadcastSender defaultBroadcast;
 
+    // The event loop context the connection was opened on; may be null
+    private final ContextInternal context;
+
+    private final Set<String> topics;
+
+    // A broadcast message larger than this is sent to each connection separately
+    private final int maxFrameSize;
+
     WebSocketConnectionImpl(String generatedEndpointClass, String endpointClass, ServerWebSocket webSocket,
             ConnectionManager connectionManager, Codecs codecs, RoutingContext ctx,
-            TrafficLogger trafficLogger, SendingInterceptor sendingInterceptor) {
+            TrafficLogger trafficLogger, SendingInterceptor sendingInterceptor,
+            OutboundQueue.Settings outboundSettings, int maxFrameSize) {
         super(Map.copyOf(ctx.pathParams()), codecs, new HandshakeRequestImpl(webSocket, ctx), trafficLogger,
                 sendingInterceptor);
         this.generatedEndpointClass = generatedEndpointClass;
         this.endpointId = endpointClass;
         this.webSocket = Objects.requireNonNull(webSocket);
         this.connectionManager = Objects.requireNonNull(connectionManager);
-        this.defaultBroadcast = new BroadcastImpl(null);
+        this.defaultBroadcast = new BroadcastImpl(null, null);
+        ContextInternal current = (ContextInternal) Vertx.currentContext();
+        this.context = current != null ? current.unwrap() : null;
+        this.topics = ConcurrentHashMap.newKeySet();
+        this.maxFrameSize = maxFrameSize;
+        this.outboundQueue = OutboundQueue.create(this, webSocket, outboundSettings, sendingInterceptor);
     }
 
     @Override
@@ -70,6 +101,33 @@ public String subprotocol() {
         return webSocket.subProtocol();
     }
 
+    @Override
+    public void joinTopic(String topic) {
+        Objects.requireNonNull(topic);
+        if (isClosed()) {
+            return;
+        }
+        if (topics.add(topic)) {
+            connectionManager.joinTopic(generatedEndpointClass, topic, this);
+            if (isClosed() && topics.remove(topic)) {
+                // The connection was closed in the meantime
+                connectionManager.leaveTopic(generatedEndpointClass, topic, this);
+            }
+        }
+    }
+
+    @Override
+    public void leaveTopic(String topic) {
+        if (topics.remove(Objects.requireNonNull(topic))) {
+            connectionManager.leaveTopic(generatedEndpointClass, topic, this);
+        }
+    }
+
+    @Override
+    public Set<String> topics() {
+        return Set.copyOf(topics);
+    }
+
     @Override
     public String toString() {
         return "WebSocket connection [endpointId=" + endpointId + ", path=" + webSocket.path() + ", id=" + identifier + "]";
@@ -164,6 +222,14 @@ static Map<String, List<String>> initHeaders(RoutingContext ctx) {
 
     }
 
+    /**
+     * A broadcast message is encoded only once. The encoded frame is shared by all the target connections, i.e. each
+     * connection writes a retained duplicate of the same buffer. Furthermore, the connections are grouped by the event loop
+     * they were opened on and the frames are written in a single task per event loop.
+     * <p>
+     * Messages that do not fit in a single frame, as configured by {@code quarkus.http.websocket-server.max-frame-size},
+     * are sent to each connection separately.
+     */
     private class BroadcastImpl implements WebSocketConnection.BroadcastSender {
 
         private static final BiFunction<WebSocketConnection, String, Uni<Void>> SEND_TEXT_STR = new BiFunction<>() {
@@ -172,12 +238,6 @@ public Uni<Void> apply(WebSocketConnection c, String s) {
                 return c.sendText(s);
             }
         };
-        private static final BiFunction<WebSocketConnection, Object, Uni<Void>> SEND_TEXT_POJO = new BiFunction<>() {
-            @Override
-            public Uni<Void> apply(WebSocketConnection c, Object o) {
-                return c.sendText(o);
-            }
-        };
         private static final BiFunction<WebSocketConnection, Buffer, Uni<Void>> SEND_BINARY = new BiFunction<>() {
             @Override
             public Uni<Void> apply(WebSocketConnection c, Buffer b) {
@@ -185,30 +245,54 @@ public Uni<Void> apply(WebSocketConnection c, Buffer b) {
             }
         };
 
+        private final String topic;
+
         private final Predicate<WebSocketConnection> filter;
 
-        BroadcastImpl(Predicate<WebSocketConnection> filter) {
+        BroadcastImpl(String topic, Predicate<WebSocketConnection> filter) {
+            this.topic = topic;
             this.filter = filter;
         }
 
         @Override
         public BroadcastSender filter(Predicate<WebSocketConnection> predicate) {
-            return new BroadcastImpl(Objects.requireNonNull(predicate));
+            return new BroadcastImpl(topic, Objects.requireNonNull(predicate));
+        }
+
+        @Override
+        public BroadcastSender topic(String topic) {
+            return new BroadcastImpl(Objects.requireNonNull(topic), filter);
         }
 
         @Override
         public Uni<Void> sendText(String message) {
-            return doSend(SEND_TEXT_STR, message);
+            return sendText(message, null);
         }
 
         @Override
         public <M> Uni<Void> sendText(M message) {
-            return doSend(SEND_TEXT_POJO, message);
+            // The message is encoded once for all connections
+            return sendText(encodeText(message), message instanceof CoalescingKey ck ? ck.coalescingKey() : null);
+        }
+
+        private Uni<Void> sendText(String message, Object coalescingKey) {
+            byte[] encoded = message.getBytes(StandardCharsets.UTF_8);
+            if (encoded.length > maxFrameSize) {
+                return doSend(SEND_TEXT_STR, message);
+            }
+            return Uni.createFrom()
+                    .completionStage(() -> doBroadcast(WebSocketFrameType.TEXT, encoded, message, coalescingKey)
+                            .toCompletionStage());
         }
 
         @Override
         public Uni<Void> sendBinary(Buffer message) {
-            return doSend(SEND_BINARY, message);
+            if (message.length() > maxFrameSize) {
+                return doSend(SEND_BINARY, message);
+            }
+            return Uni.createFrom()
+                    .completionStage(() -> doBroadcast(WebSocketFrameType.BINARY, message.getBytes(), message, null)
+                            .toCompletionStage());
         }
 
         @Override
@@ -221,15 +305,23 @@ public Uni<Void> sendPong(Buffer data) {
             throw new UnsupportedOperationException();
         }
 
+        private Set<WebSocketConnection> connections() {
+            return topic == null ? connectionManager.getConnections(generatedEndpointClass)
+                    : connectionManager.getConnections(generatedEndpointClass, topic);
+        }
+
+        private boolean test(WebSocketConnection connection) {
+            return connection.isOpen() && (filter == null || filter.test(connection));
+        }
+
         private <M> Uni<Void> doSend(BiFunction<WebSocketConnection, M, Uni<Void>> sendFunction, M message) {
-            Set<WebSocketConnection> connections = connectionManager.getConnections(generatedEndpointClass);
+            Set<WebSocketConnection> connections = connections();
             if (connections.isEmpty()) {
                 return Uni.createFrom().voidItem();
             }
             List<Uni<Void>> unis = new ArrayList<>(connections.size());
             for (WebSocketConnection connection : connections) {
-                if (connection.isOpen()
-                        && (filter == null || filter.test(connection))) {
+                if (test(connection)) {
                     unis.add(sendFunction.apply(connection, message)
                             // Intentionally ignore 'WebSocket is closed' failures
                             // It might happen that the connection is closed in the mean time
@@ -243,6 +335,110 @@ private <M> Uni<Void> doSend(BiFunction<WebSocketConnection, M, Uni<Void>> sendF
             return Uni.join().all(unis).andCollectFailures().replaceWithVoid();
         }
 
+        private Future<Void> doBroadcast(WebSocketFrameType type, byte[] encoded, Object message, Object coalescingKey) {
+            Set<WebSocketConnection> connections = connections();
+            if (connections.isEmpty()) {
+                return Future.succeededFuture();
+            }
+            // Group the target connections by event loop
+            Map<EventLoop, EventLoopBatch> batches = new HashMap<>();
+            for (WebSocketConnection connection : connections) {
+                if (test(connection)) {
+                    WebSocketConnectionImpl impl = (WebSocketConnectionImpl) connection;
+                    EventLoop eventLoop = impl.context != null ? impl.context.nettyEventLoop() : null;
+                    batches.computeIfAbsent(eventLoop, el -> new EventLoopBatch(impl.context)).connections.add(impl);
+                }
+            }
+            if (batches.isEmpty()) {
+                return Future.succeededFuture();
+            }
+            // An unpooled heap buffer is written as is, i.e. it's not copied by Vert.x
+            ByteBuf shared = Unpooled.wrappedBuffer(encoded);
+            List<Future<List<Throwable>>> results = new ArrayList<>(batches.size());
+            try {
+                for (EventLoopBatch batch : batches.values()) {
+                    results.add(batch.write(type, shared.retainedDuplicate(), message, coalescingKey));
+                }
+            } finally {
+                shared.release();
+            }
+            return Future.join(results).transform(ar -> {
+                List<Throwable> failures = new ArrayList<>();
+                for (Future<List<Throwable>> result : results) {
+                    if (result.failed()) {
+                        failures.add(result.cause());
+                    } else {
+                        failures.addAll(result.result());
+                    }
+                }
+                if (failures.isEmpty()) {
+                    return Future.succeededFuture();
+                }
+                return Future.failedFuture(failures.size() == 1 ? failures.get(0) : new CompositeException(failures));
+            });
+        }
+
+    }
+
+    private static class EventLoopBatch {
+
+        private final ContextInternal context;
+
+        private final List<WebSocketConnectionImpl> connections;
+
+        // The writes complete on the event loop, or on arbitrary threads if the connections have no context
+        private final Queue<Throwable> failures;
+        private final AtomicInteger remaining;
+
+        EventLoopBatch(ContextInternal context) {
+            this.context = context;
+            this.connections = new ArrayList<>();
+            this.failures = new ConcurrentLinkedQueue<>();
+            this.remaining = new AtomicInteger();
+        }
+
+        Future<List<Throwable>> write(WebSocketFrameType type, ByteBuf buffer, Object message, Object coalescingKey) {
+            Promise<List<Throwable>> promise = Promise.promise();
+            if (context == null || context.nettyEventLoop().inEventLoop()) {
+                doWrite(type, buffer, message, coalescingKey, promise);
+            } else {
+                context.runOnContext(v -> doWrite(type, buffer, message, coalescingKey, promise));
+            }
+            return promise.future();
+        }
+
+        private void doWrite(WebSocketFrameType type, ByteBuf buffer, Object message, Object coalescingKey,
+                Promise<List<Throwable>> promise) {
+            remaining.set(connections.size());
+            try {
+                for (WebSocketConnectionImpl connection : connections) {
+                    if (connection.isClosed()) {
+                        complete(promise);
+                        continue;
+                    }
+                    WebSocketFrame frame = new WebSocketFrameImpl(type, buffer.retainedDuplicate(), true);
+                    connection.writeEncodedFrame(frame, message, coalescingKey).onComplete(ar -> {
+                        // Intentionally ignore 'WebSocket is closed' failures
+                        // It might happen that the connection is closed in the mean time
+                        if (ar.failed() && !Endpoints.isWebSocketIsClosedFailure(ar.cause(), connection)) {
+                            failures.add(ar.cause());
+                        }
+                        complete(promise);
+                    });
+                }
+            } catch (Throwable t) {
+                promise.tryFail(t);
+            } finally {
+                buffer.release();
+            }
+        }
+
+        private void complete(Promise<List<Throwable>> promise) {
+            if (remaining.decrementAndGet() == 0) {
+                promise.tryComplete(List.copyOf(failures));
+            }
+        }
+
     }
 
 }
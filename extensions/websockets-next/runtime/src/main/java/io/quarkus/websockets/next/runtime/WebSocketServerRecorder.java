@@ -11,11 +11,13 @@
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
+import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.security.identity.CurrentIdentityAssociation;
 import io.quarkus.security.identity.SecurityIdentity;
 import io.quarkus.security.spi.runtime.SecurityCheck;
 import io.quarkus.vertx.core.runtime.VertxCoreRecorder;
+import io.quarkus.vertx.http.runtime.HttpConfiguration;
 import io.quarkus.vertx.http.runtime.security.QuarkusHttpUser;
 import io.quarkus.websockets.next.HandshakeRequest;
 import io.quarkus.websockets.next.HttpUpgradeCheck;
@@ -31,6 +33,7 @@
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServerOptions;
 import io.vertx.core.http.ServerWebSocket;
 import io.vertx.ext.web.RoutingContext;
 
@@ -40,9 +43,11 @@ public class WebSocketServerRecorder {
     private static final Logger LOG = Logger.getLogger(WebSocketServerRecorder.class);
 
     private final WebSocketsServerRuntimeConfig config;
+    private final RuntimeValue<HttpConfiguration> httpConfig;
 
-    public WebSocketServerRecorder(WebSocketsServerRuntimeConfig config) {
+    public WebSocketServerRecorder(WebSocketsServerRuntimeConfig config, RuntimeValue<HttpConfiguration> httpConfig) {
         this.config = config;
+        this.httpConfig = httpConfig;
     }
 
     public Supplier<Object> connectionSupplier() {
@@ -70,6 +75,10 @@ public Handler<RoutingContext> createEndpointHandler(String generatedEndpointCla
         HttpUpgradeCheck[] httpUpgradeChecks = getHttpUpgradeChecks(endpointId, container);
         TrafficLogger trafficLogger = TrafficLogger.forServer(config);
         WebSocketTelemetryProvider telemetryProvider = container.instance(WebSocketTelemetryProvider.class).orElse(null);
+        int maxFrameSize = httpConfig.getValue().websocketServer.maxFrameSize
+                .orElse(HttpServerOptions.DEFAULT_MAX_WEBSOCKET_FRAME_SIZE);
+        // Validate the outbound config during startup
+        OutboundQueue.Settings outboundSettings = OutboundQueue.Settings.of(config.outbound());
         return new Handler<RoutingContext>() {
 
             @Override
@@ -117,7 +126,8 @@ public void handle(Throwable throwable) {
                     SendingInterceptor sendingInterceptor = telemetrySupport == null ? null
                             : telemetrySupport.getSendingInterceptor();
                     WebSocketConnectionImpl connection = new WebSocketConnectionImpl(generatedEndpointClass, endpointId, ws,
-                            connectionManager, codecs, ctx, trafficLogger, sendingInterceptor);
+                            connectionManager, codecs, ctx, trafficLogger, sendingInterceptor, outboundSettings,
+                            maxFrameSize);
                     connectionManager.add(generatedEndpointClass, connection);
                     if (trafficLogger != null) {
                         trafficLogger.connectionOpened(connection);
@@ -0,0 +1,28 @@
+package io.quarkus.websockets.next.runtime.config;
+
+/**
+ * The policy applied when the outbound messages queued for a connection exceed the high watermark.
+ *
+ * @see WebSocketsServerRuntimeConfig.Outbound
+ */
+public enum SlowConsumerPolicy {
+    /**
+     * Discard the oldest queued messages.
+     */
+    DROP_OLDEST,
+    /**
+     * Discard the new messages.
+     */
+    DROP_NEWEST,
+    /**
+     * A queued message is replaced with a newer message with the same key, see
+     * {@link io.quarkus.websockets.next.CoalescingKey}. If the high watermark is still exceeded then the oldest queued
+     * messages are discarded.
+     */
+    COALESCE_BY_KEY,
+    /**
+     * Discard all queued messages and close the connection.
+     */
+    CLOSE;
+
+}
@@ -7,6 +7,7 @@
 
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
 import io.smallrye.config.WithParentName;
@@ -55,6 +56,11 @@ public interface WebSocketsServerRuntimeConfig {
     @WithDefault("log-and-close")
     UnhandledFailureStrategy unhandledFailureStrategy();
 
+    /**
+     * Outbound messages configuration.
+     */
+    Outbound outbound();
+
     /**
      * WebSockets-specific security configuration.
      */
@@ -87,6 +93,33 @@ interface Security {
 
     }
 
+    interface Outbound {
+
+        /**
+         * The maximum number of bytes of outbound messages queued for a connection that is not able to keep up with the rate
+         * of sent messages, i.e. when the write queue of the underlying connection is full. If the limit is exceeded then the
+         * {@link #slowConsumerPolicy()} is applied.
+         * <p>
+         * By default, the number of pending outbound messages is not limited.
+         */
+        Optional<MemorySize> highWatermark();
+
+        /**
+         * The number of queued bytes the slow consumer policy reduces the queue to once the high watermark is exceeded. For
+         * the {@code drop-newest} policy, new messages are discarded until the number of queued bytes drops to this value.
+         * <p>
+         * By default, half of the high watermark is used.
+         */
+        Optional<MemorySize> lowWatermark();
+
+        /**
+         * The policy applied when the number of queued bytes exceeds the high watermark.
+         */
+        @WithDefault("drop-oldest")
+        SlowConsumerPolicy slowConsumerPolicy();
+
+    }
+
     interface DevMode {
 
         /**
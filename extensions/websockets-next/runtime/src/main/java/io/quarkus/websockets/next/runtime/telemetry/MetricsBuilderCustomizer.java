@@ -9,13 +9,19 @@
 import static io.quarkus.websockets.next.runtime.telemetry.TelemetryConstants.SERVER_CONNECTION_OPENED;
 import static io.quarkus.websockets.next.runtime.telemetry.TelemetryConstants.SERVER_CONNECTION_OPENED_ERROR;
 import static io.quarkus.websockets.next.runtime.telemetry.TelemetryConstants.SERVER_ENDPOINT_COUNT_ERRORS;
+import static io.quarkus.websockets.next.runtime.telemetry.TelemetryConstants.SERVER_OUTBOUND_DROPPED;
+import static io.quarkus.websockets.next.runtime.telemetry.TelemetryConstants.SERVER_OUTBOUND_QUEUED_BYTES;
 import static io.quarkus.websockets.next.runtime.telemetry.TelemetryConstants.Direction.INBOUND;
 import static io.quarkus.websockets.next.runtime.telemetry.TelemetryConstants.Direction.OUTBOUND;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.quarkus.websockets.next.runtime.WebSocketEndpoint;
@@ -89,7 +95,31 @@ public ErrorInterceptor apply(String path) {
                 return new ErrorCountingInterceptor(serverErrorsCounter.withTag(URI_TAG_KEY, path));
             }
         });
-        builder.pathToServerSendingInterceptor(createSendingInterceptor(bytesCounter, messagesCounter));
+        builder.pathToServerSendingInterceptor(new Function<>() {
+
+            private final Meter.MeterProvider<Counter> droppedCounter = Counter
+                    .builder(SERVER_OUTBOUND_DROPPED)
+                    .description("Number of outbound messages discarded due to the slow consumer policy.")
+                    .withRegistry(meterRegistry);
+
+            // The gauge is registered once per path and shared by all connections
+            private final Map<String, AtomicLong> queuedBytes = new ConcurrentHashMap<>();
+
+            @Override
+            public SendingInterceptor apply(String path) {
+                AtomicLong queued = queuedBytes.computeIfAbsent(path, p -> {
+                    AtomicLong value = new AtomicLong();
+                    Gauge.builder(SERVER_OUTBOUND_QUEUED_BYTES, value, AtomicLong::get)
+                            .description("Number of bytes of outbound messages queued for slow clients.")
+                            .baseUnit("bytes")
+                            .tag(URI_TAG_KEY, p)
+                            .register(meterRegistry);
+                    return value;
+                });
+                return new MetricsSendingInterceptor(createCounter(messagesCounter, OUTBOUND, path),
+                        createCounter(bytesCounter, OUTBOUND, path), queued, droppedCounter.withTag(URI_TAG_KEY, path));
+            }
+        });
         builder.pathToServerConnectionInterceptor(new Function<>() {
 
             private final Meter.MeterProvider<Counter> connectionOpenCounter = Counter
@@ -1,6 +1,7 @@
 package io.quarkus.websockets.next.runtime.telemetry;
 
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
 
 import io.micrometer.core.instrument.Counter;
 import io.vertx.core.buffer.Buffer;
@@ -9,10 +10,20 @@ final class MetricsSendingInterceptor implements SendingInterceptor {
 
     private final Counter onMessageSentCounter;
     private final Counter onMessageSentBytesCounter;
+    // Shared by all connections of an endpoint; may be null
+    private final AtomicLong queuedBytes;
+    private final Counter droppedCounter;
 
     MetricsSendingInterceptor(Counter onMessageSentCounter, Counter onMessageSentBytesCounter) {
+        this(onMessageSentCounter, onMessageSentBytesCounter, null, null);
+    }
+
+    MetricsSendingInterceptor(Counter onMessageSentCounter, Counter onMessageSentBytesCounter, AtomicLong queuedBytes,
+            Counter droppedCounter) {
         this.onMessageSentCounter = onMessageSentCounter;
         this.onMessageSentBytesCounter = onMessageSentBytesCounter;
+        this.queuedBytes = queuedBytes;
+        this.droppedCounter = droppedCounter;
     }
 
     @Override
@@ -26,4 +37,18 @@ public void onSend(Buffer message) {
         onMessageSentCounter.increment();
         onMessageSentBytesCounter.increment(message.getBytes().length);
     }
+
+    @Override
+    public void onQueued(long bytesDelta) {
+        if (queuedBytes != null) {
+            queuedBytes.addAndGet(bytesDelta);
+        }
+    }
+
+    @Override
+    public void onDropped() {
+        if (droppedCounter != null) {
+            droppedCounter.increment();
+        }
+    }
 }
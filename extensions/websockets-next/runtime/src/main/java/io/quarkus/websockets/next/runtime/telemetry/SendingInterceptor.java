@@ -24,4 +24,18 @@ public sealed interface SendingInterceptor permits MetricsSendingInterceptor {
      */
     void onSend(Buffer binaryMessage);
 
+    /**
+     * Called when outbound messages are added to or removed from the outbound queue of a connection.
+     *
+     * @param bytesDelta the number of bytes added (positive) or removed (negative)
+     */
+    default void onQueued(long bytesDelta) {
+    }
+
+    /**
+     * Called when an outbound message is discarded due to the slow consumer policy.
+     */
+    default void onDropped() {
+    }
+
 }
@@ -61,6 +61,14 @@ private TelemetryConstants() {
      * Number of bytes sent and received by server endpoints.
      */
     public static final String SERVER_BYTES = "quarkus.websockets.server.bytes";
+    /**
+     * Number of bytes of outbound messages queued for slow clients of server endpoints.
+     */
+    public static final String SERVER_OUTBOUND_QUEUED_BYTES = "quarkus.websockets.server.outbound.queued.bytes";
+    /**
+     * Number of outbound messages discarded due to the slow consumer policy of server endpoints.
+     */
+    public static final String SERVER_OUTBOUND_DROPPED = "quarkus.websockets.server.outbound.dropped";
     /**
      * Number of messages sent and received by client endpoints.
      */
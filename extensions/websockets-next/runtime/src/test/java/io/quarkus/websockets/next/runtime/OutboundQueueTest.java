@@ -0,0 +1,214 @@
+package io.quarkus.websockets.next.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.websockets.next.runtime.config.SlowConsumerPolicy;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.http.WebSocketBase;
+
+public class OutboundQueueTest {
+
+    @Test
+    public void testClose() {
+        FakeWebSocket ws = new FakeWebSocket();
+        OutboundQueue queue = ws.queue(SlowConsumerPolicy.CLOSE);
+        ws.full = true;
+        Future<Void> first = queue.offer("12345", null, null);
+        assertFalse(first.isComplete());
+        assertNull(ws.closeStatus);
+        Future<Void> second = queue.offer("123456", null, null);
+        // The queued messages are discarded and the connection is closed
+        assertTrue(first.succeeded());
+        assertTrue(second.succeeded());
+        assertEquals(OutboundQueue.SLOW_CONSUMER.getCode(), ws.closeStatus);
+        assertEquals(0, queue.queuedBytes());
+        assertTrue(queue.offer("foo", null, null).failed());
+        ws.drain();
+        assertEquals(List.of(), ws.written);
+    }
+
+    @Test
+    public void testDropOldest() {
+        FakeWebSocket ws = new FakeWebSocket();
+        OutboundQueue queue = ws.queue(SlowConsumerPolicy.DROP_OLDEST);
+        ws.full = true;
+        Future<Void> a = queue.offer("aaaa", null, null);
+        Future<Void> b = queue.offer("bbbb", null, null);
+        Future<Void> c = queue.offer("cccc", null, null);
+        // The oldest messages are dropped until the low watermark is reached
+        assertTrue(a.succeeded());
+        assertTrue(b.succeeded());
+        assertFalse(c.isComplete());
+        assertEquals(4, queue.queuedBytes());
+        ws.drain();
+        assertTrue(c.succeeded());
+        assertEquals(List.of("cccc"), ws.written);
+        assertEquals(0, queue.queuedBytes());
+        assertNull(ws.closeStatus);
+    }
+
+    @Test
+    public void testDropNewest() {
+        FakeWebSocket ws = new FakeWebSocket();
+        OutboundQueue queue = ws.queue(SlowConsumerPolicy.DROP_NEWEST);
+        ws.full = true;
+        Future<Void> a = queue.offer("aaaa", null, null);
+        Future<Void> b = queue.offer("bbbb", null, null);
+        Future<Void> c = queue.offer("cccc", null, null);
+        assertTrue(c.succeeded());
+        // All new messages are dropped until the queue is drained below the low watermark
+        Future<Void> d = queue.offer("d", null, null);
+        assertTrue(d.succeeded());
+        assertFalse(a.isComplete());
+        assertFalse(b.isComplete());
+        assertEquals(8, queue.queuedBytes());
+        ws.drain();
+        assertTrue(a.succeeded());
+        assertTrue(b.succeeded());
+        queue.offer("e", null, null);
+        assertEquals(List.of("aaaa", "bbbb", "e"), ws.written);
+        assertNull(ws.closeStatus);
+    }
+
+    @Test
+    public void testCoalesceByKey() {
+        FakeWebSocket ws = new FakeWebSocket();
+        OutboundQueue queue = ws.queue(SlowConsumerPolicy.COALESCE_BY_KEY);
+        ws.full = true;
+        Future<Void> a1 = queue.offer("a1", null, "a");
+        Future<Void> b1 = queue.offer("b1", null, "b");
+        Future<Void> a2 = queue.offer("a2", null, "a");
+        Future<Void> noKey = queue.offer("c1", null, null);
+        // The superseded message is discarded and no longer counted
+        assertTrue(a1.succeeded());
+        assertFalse(b1.isComplete());
+        assertFalse(a2.isComplete());
+        assertEquals(6, queue.queuedBytes());
+        assertEquals(2, queue.queuedKeys());
+        ws.drain();
+        assertTrue(b1.succeeded());
+        assertTrue(a2.succeeded());
+        assertTrue(noKey.succeeded());
+        assertEquals(List.of("b1", "a2", "c1"), ws.written);
+        assertEquals(0, queue.queuedBytes());
+        assertEquals(0, queue.queuedKeys());
+    }
+
+    @Test
+    public void testCoalesceByKeyOverflow() {
+        FakeWebSocket ws = new FakeWebSocket();
+        OutboundQueue queue = ws.queue(SlowConsumerPolicy.COALESCE_BY_KEY);
+        ws.full = true;
+        queue.offer("aaaa", null, "a");
+        queue.offer("bbbb", null, "b");
+        queue.offer("aaa2", null, "a");
+        // The superseded message is skipped when dropping the oldest messages
+        Future<Void> c = queue.offer("cccc", null, "c");
+        assertFalse(c.isComplete());
+        assertEquals(4, queue.queuedBytes());
+        assertEquals(1, queue.queuedKeys());
+        // A new message with a dropped key is not coalesced
+        queue.offer("bbb2", null, "b");
+        assertEquals(2, queue.queuedKeys());
+        ws.drain();
+        assertEquals(List.of("cccc", "bbb2"), ws.written);
+        assertEquals(0, queue.queuedKeys());
+    }
+
+    @Test
+    public void testFlushOutsideLock() {
+        FakeWebSocket ws = new FakeWebSocket();
+        OutboundQueue queue = ws.queue(SlowConsumerPolicy.DROP_OLDEST);
+        ws.full = true;
+        queue.offer("a", null, null);
+        queue.offer("b", null, null);
+        // A message sent while the queue is flushed is written after the queued ones
+        ws.onWrite = text -> {
+            if (text.equals("a")) {
+                queue.offer("c", null, null);
+            }
+        };
+        ws.drain();
+        assertEquals(List.of("a", "b", "c"), ws.written);
+        assertFalse(ws.writtenUnderLock);
+    }
+
+    @Test
+    public void testCloseQueue() {
+        FakeWebSocket ws = new FakeWebSocket();
+        OutboundQueue queue = ws.queue(SlowConsumerPolicy.DROP_OLDEST);
+        ws.full = true;
+        Future<Void> a = queue.offer("a", null, null);
+        queue.close();
+        assertTrue(a.failed());
+        assertEquals(0, queue.queuedBytes());
+        assertTrue(queue.offer("b", null, null).failed());
+    }
+
+    static class FakeWebSocket {
+
+        final List<String> written = new ArrayList<>();
+        boolean full;
+        boolean writtenUnderLock;
+        Integer closeStatus;
+        Handler<Void> drainHandler;
+        Handler<String> onWrite;
+        OutboundQueue queue;
+
+        OutboundQueue queue(SlowConsumerPolicy policy) {
+            WebSocketBase webSocket = (WebSocketBase) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[] { WebSocketBase.class }, (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "drainHandler":
+                                @SuppressWarnings("unchecked")
+                                Handler<Void> handler = (Handler<Void>) args[0];
+                                drainHandler = handler;
+                                return proxy;
+                            case "writeQueueFull":
+                                return full;
+                            case "writeTextMessage":
+                                String text = (String) args[0];
+                                writtenUnderLock |= Thread.holdsLock(queue);
+                                written.add(text);
+                                if (onWrite != null) {
+                                    onWrite.handle(text);
+                                }
+                                return Future.succeededFuture();
+                            case "isClosed":
+                                return closeStatus != null;
+                            case "close":
+                                closeStatus = (int) (Short) args[0];
+                                return Future.succeededFuture();
+                            case "toString":
+                                return "FakeWebSocket";
+                            default:
+                                throw new UnsupportedOperationException(method.getName());
+                        }
+                    });
+            WebSocketConnectionBase connection = new WebSocketConnectionBase(Map.of(), null, null, null, null) {
+                @Override
+                WebSocketBase webSocket() {
+                    return webSocket;
+                }
+            };
+            queue = new OutboundQueue(connection, webSocket, 10, 5, policy, null);
+            return queue;
+        }
+
+        void drain() {
+            full = false;
+            drainHandler.handle(null);
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+
+/**
+ * A single file containing the uncompressed bytecode of the classes of the fast-jar classpath, together with
+ * an open addressing hash table that allows to locate a class by the index of its jar and its resource name.
+ * <p>
+ * At runtime the file is memory mapped, so loading a class is a hash lookup followed by a slice of the mapped buffer,
+ * without opening the jar and without inflating the entry. The class data is handed to
+ * {@link ClassLoader#defineClass(String, ByteBuffer, java.security.ProtectionDomain)} directly.
+ * <p>
+ * Multi-release jars are not included, as the entry to use depends on the runtime Java version. Jars that are not
+ * fully included (either because they are multi-release jars or because the blob reached its maximum size) are
+ * marked as incomplete and lookups that miss the blob fall back to the jar itself.
+ * <p>
+ * This format is subject to change, and gives no compatibility guarantees, it is only intended to be used
+ * with the same version of Quarkus that created it.
+ */
+public final class ClassBlob {
+
+    public static final String QUARKUS_CLASS_BLOB = "quarkus/quarkus-classes.blob";
+
+    private static final int MAGIC = 0XF0315433;
+    private static final int VERSION = 1;
+    private static final String CLASS_SUFFIX = ".class";
+    // a single mapped buffer is limited to 2GB
+    private static final long MAX_SIZE = Integer.MAX_VALUE;
+
+    // magic, version, table size, entry count, jar count
+    private static final int HEADER_SIZE = 5 * Integer.BYTES;
+
+    private final ByteBuffer buffer;
+    private final int tableStart;
+    private final int tableMask;
+    private final boolean[] completeJars;
+
+    private ClassBlob(ByteBuffer buffer) {
+        this.buffer = buffer;
+        if (buffer.getInt(0) != MAGIC) {
+            throw new RuntimeException("Wrong magic number");
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new RuntimeException("Wrong class blob version");
+        }
+        int tableSize = buffer.getInt(8);
+        int jarCount = buffer.getInt(16);
+        this.completeJars = new boolean[jarCount];
+        for (int i = 0; i < jarCount; i++) {
+            completeJars[i] = buffer.get(HEADER_SIZE + i) != 0;
+        }
+        this.tableStart = HEADER_SIZE + jarCount;
+        this.tableMask = tableSize - 1;
+    }
+
+    /**
+     * Maps the blob into memory. The file is closed once mapped, the mapping itself stays valid until the
+     * returned instance is garbage collected.
+     */
+    public static ClassBlob open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new ClassBlob(buffer.order(ByteOrder.BIG_ENDIAN));
+        }
+    }
+
+    /**
+     * @return whether all the classes of the given jar are present in the blob
+     */
+    boolean isComplete(int jarIndex) {
+        return jarIndex < completeJars.length && completeJars[jarIndex];
+    }
+
+    /**
+     * @return a read-only buffer containing the data of the given class resource in the given jar, or {@code null}
+     *         if the blob does not contain it
+     */
+    ByteBuffer find(int jarIndex, String resource) {
+        int hash = resource.hashCode();
+        int slot = mix(hash, jarIndex) & tableMask;
+        while (true) {
+            int entry = buffer.getInt(tableStart + slot * Integer.BYTES);
+            if (entry == 0) {
+                return null;
+            }
+            // entry layout: hash (int), jar index (short), name length (short), name (UTF-8), data length (int), data
+            if (buffer.getInt(entry) == hash && (buffer.getShort(entry + 4) & 0xFFFF) == jarIndex
+                    && nameEquals(entry + 8, buffer.getShort(entry + 6) & 0xFFFF, resource)) {
+                int dataStart = entry + 8 + (buffer.getShort(entry + 6) & 0xFFFF);
+                int length = buffer.getInt(dataStart);
+                return buffer.slice(dataStart + Integer.BYTES, length).asReadOnlyBuffer();
+            }
+            slot = (slot + 1) & tableMask;
+        }
+    }
+
+    private boolean nameEquals(int start, int length, String resource) {
+        if (length != resource.length()) {
+            // the name could still be equal if it contains non ASCII characters
+            return nonAsciiNameEquals(start, length, resource);
+        }
+        for (int i = 0; i < length; i++) {
+            byte b = buffer.get(start + i);
+            if (b < 0) {
+                return nonAsciiNameEquals(start, length, resource);
+            }
+            if (b != resource.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean nonAsciiNameEquals(int start, int length, String resource) {
+        byte[] name = new byte[length];
+        buffer.get(start, name);
+        return new String(name, StandardCharsets.UTF_8).equals(resource);
+    }
+
+    private static int mix(int hash, int jarIndex) {
+        int h = hash * 31 + jarIndex;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Writes the classes of the given classpath into a blob. The jar indexes must match the order in which the
+     * jars are written by {@link SerializedApplication#write}.
+     */
+    public static void write(Path target, List<Path> classPath) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        boolean[] complete = new boolean[classPath.size()];
+        for (int i = 0; i < classPath.size(); i++) {
+            complete[i] = collectEntries(classPath.get(i), i, entries);
+        }
+        int tableSize = Integer.highestOneBit(Math.max(entries.size(), 1) * 2 - 1) << 1;
+        int dataStart = HEADER_SIZE + classPath.size() + tableSize * Integer.BYTES;
+        int[] table = new int[tableSize];
+
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.position(dataStart);
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            long position = dataStart;
+            JarFile currentJar = null;
+            int currentJarIndex = -1;
+            try {
+                for (Entry entry : entries) {
+                    if (entry.jarIndex != currentJarIndex) {
+                        if (currentJar != null) {
+                            currentJar.close();
+                        }
+                        currentJar = new JarFile(classPath.get(entry.jarIndex).toFile());
+                        currentJarIndex = entry.jarIndex;
+                    }
+                    ZipEntry zipEntry = currentJar.getEntry(entry.name);
+                    byte[] data;
+                    try (InputStream in = currentJar.getInputStream(zipEntry)) {
+                        data = in.readAllBytes();
+                    }
+                    byte[] name = entry.name.getBytes(StandardCharsets.UTF_8);
+                    long size = 4 + 2 + 2 + name.length + 4 + data.length;
+                    if (position + size > MAX_SIZE) {
+                        complete[entry.jarIndex] = false;
+                        continue;
+                    }
+                    int hash = entry.name.hashCode();
+                    int slot = mix(hash, entry.jarIndex) & (tableSize - 1);
+                    while (table[slot] != 0) {
+                        slot = (slot + 1) & (tableSize - 1);
+                    }
+                    table[slot] = (int) position;
+
+                    out.writeInt(hash);
+                    out.writeShort(entry.jarIndex);
+                    out.writeShort(name.length);
+                    out.write(name);
+                    out.writeInt(data.length);
+                    out.write(data);
+                    position += size;
+                }
+            } finally {
+                if (currentJar != null) {
+                    currentJar.close();
+                }
+            }
+            out.flush();
+
+            ByteBuffer header = ByteBuffer.allocate(dataStart);
+            header.putInt(MAGIC);
+            header.putInt(VERSION);
+            header.putInt(tableSize);
+            header.putInt(entries.size());
+            header.putInt(classPath.size());
+            for (boolean c : complete) {
+                header.put((byte) (c ? 1 : 0));
+            }
+            for (int offset : table) {
+                header.putInt(offset);
+            }
+            header.flip();
+            channel.position(0);
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+        }
+    }
+
+    /**
+     * @return whether all classes of the jar could be collected
+     */
+    private static boolean collectEntries(Path jar, int jarIndex, List<Entry> entries) throws IOException {
+        try (JarFile zip = new JarFile(jar.toFile())) {
+            Manifest manifest = zip.getManifest();
+            if (manifest != null && Boolean.parseBoolean(manifest.getMainAttributes().getValue("Multi-Release"))) {
+                return false;
+            }
+            boolean complete = true;
+            Enumeration<? extends ZipEntry> zipEntries = zip.entries();
+            while (zipEntries.hasMoreElements()) {
+                ZipEntry entry = zipEntries.nextElement();
+                String name = entry.getName();
+                if (entry.isDirectory() || !name.endsWith(CLASS_SUFFIX)
+                        || name.startsWith(SerializedApplication.META_INF_VERSIONS)) {
+                    continue;
+                }
+                // the name length is written as an unsigned short
+                if (name.getBytes(StandardCharsets.UTF_8).length > 0xFFFF) {
+                    complete = false;
+                    continue;
+                }
+                entries.add(new Entry(jarIndex, name));
+            }
+            return complete;
+        }
+    }
+
+    private record Entry(int jarIndex, String name) {
+    }
+}
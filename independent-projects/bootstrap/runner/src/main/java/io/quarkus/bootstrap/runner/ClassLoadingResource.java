@@ -1,6 +1,7 @@
 package io.quarkus.bootstrap.runner;
 
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.security.ProtectionDomain;
 
 public interface ClassLoadingResource {
@@ -13,6 +14,24 @@ public interface ClassLoadingResource {
 
     byte[] getResourceData(String resource);
 
+    /**
+     * Returns the data of the given class resource as a buffer, if it can be obtained without reading the underlying
+     * archive (e.g. from a memory mapped {@link ClassBlob}).
+     *
+     * @return the class data, or {@code null} if {@link #getResourceData(String)} has to be used instead
+     */
+    default ByteBuffer getClassData(String resource) {
+        return null;
+    }
+
+    /**
+     * @return {@code true} if it is known without reading the underlying archive that this resource does not contain
+     *         the given class resource
+     */
+    default boolean isKnownMissingClass(String resource) {
+        return false;
+    }
+
     URL getResourceURL(String resource);
 
     ManifestInfo getManifestInfo();
@@ -6,6 +6,7 @@
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.security.CodeSource;
 import java.security.ProtectionDomain;
@@ -27,12 +28,27 @@ public class JarResource implements ClassLoadingResource {
     private volatile ProtectionDomain protectionDomain;
     private final ManifestInfo manifestInfo;
 
+    private final ClassBlob classBlob;
+    private final int classBlobIndex;
+    private final boolean completeInClassBlob;
+
     final Path jarPath;
     final AtomicReference<CompletableFuture<JarFileReference>> jarFileReference = new AtomicReference<>();
 
     public JarResource(ManifestInfo manifestInfo, Path jarPath) {
+        this(manifestInfo, jarPath, null, -1);
+    }
+
+    /**
+     * @param classBlob the blob containing the classes of this jar, may be {@code null}
+     * @param classBlobIndex the index of this jar in the class blob
+     */
+    public JarResource(ManifestInfo manifestInfo, Path jarPath, ClassBlob classBlob, int classBlobIndex) {
         this.manifestInfo = manifestInfo;
         this.jarPath = jarPath;
+        this.classBlob = classBlob;
+        this.classBlobIndex = classBlobIndex;
+        this.completeInClassBlob = classBlob != null && classBlob.isComplete(classBlobIndex);
     }
 
     @Override
@@ -53,9 +69,34 @@ public void init() {
 
     @Override
     public byte[] getResourceData(String resource) {
+        if (classBlob != null) {
+            ByteBuffer data = classBlob.find(classBlobIndex, resource);
+            if (data != null) {
+                byte[] result = new byte[data.remaining()];
+                data.get(result);
+                return result;
+            }
+            if (isKnownMissingClass(resource)) {
+                return null;
+            }
+        }
         return JarFileReference.withJarFile(this, resource, JarResourceDataProvider.INSTANCE);
     }
 
+    @Override
+    public ByteBuffer getClassData(String resource) {
+        if (classBlob == null) {
+            return null;
+        }
+        return classBlob.find(classBlobIndex, resource);
+    }
+
+    @Override
+    public boolean isKnownMissingClass(String resource) {
+        // the blob contains every class of a complete jar, there is no need to open it to find out a class is missing
+        return completeInClassBlob && resource.endsWith(".class");
+    }
+
     private static class JarResourceDataProvider implements JarFileReference.JarFileConsumer<byte[]> {
         private static final JarResourceDataProvider INSTANCE = new JarResourceDataProvider();
 
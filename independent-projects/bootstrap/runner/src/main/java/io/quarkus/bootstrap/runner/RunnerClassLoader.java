@@ -4,6 +4,7 @@
 import static io.quarkus.commons.classloading.ClassLoaderHelper.isInJdkPackage;
 
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
@@ -102,6 +103,15 @@ public Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundExce
         if (resources != null) {
             String classResource = fromClassNameToResourceName(name);
             for (ClassLoadingResource resource : resources) {
+                // classes present in the class blob are defined straight from the mapped buffer
+                ByteBuffer buffer = resource.getClassData(classResource);
+                if (buffer != null) {
+                    definePackage(packageName, resources);
+                    return defineClass(name, buffer, resource);
+                }
+                if (resource.isKnownMissingClass(classResource)) {
+                    continue;
+                }
                 accessingResource(resource);
                 byte[] data = resource.getResourceData(classResource);
                 if (data == null) {
@@ -159,6 +169,19 @@ private Class<?> defineClass(String name, byte[] data, ClassLoadingResource reso
         }
     }
 
+    private Class<?> defineClass(String name, ByteBuffer data, ClassLoadingResource resource) {
+        Class<?> loaded;
+        try {
+            return defineClass(name, data, resource.getProtectionDomain());
+        } catch (LinkageError e) {
+            loaded = findLoadedClass(name);
+            if (loaded != null) {
+                return loaded;
+            }
+            throw e;
+        }
+    }
+
     private void accessingResource(final ClassLoadingResource resource) {
         final ClassLoadingResource toEvict;
         synchronized (this.currentlyBufferedResources) {
@@ -38,7 +38,7 @@ public class SerializedApplication {
     private static final List<String> FULLY_INDEXED_PATHS = List.of("", "META-INF/services");
 
     private static final int MAGIC = 0XF0315432;
-    private static final int VERSION = 2;
+    private static final int VERSION = 3;
 
     private static final ClassLoadingResource[] EMPTY_ARRAY = new ClassLoadingResource[0];
     private static final JarResource SENTINEL = new JarResource(null, Path.of("wqxehxivam"));
@@ -62,10 +62,21 @@ public String getMainClass() {
     public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
             List<Path> parentFirst, List<String> nonExistentResources)
             throws IOException {
+        write(outputStream, mainClass, applicationRoot, classPath, parentFirst, nonExistentResources, false);
+    }
+
+    /**
+     * @param classBlob whether a {@link ClassBlob} was written for the given classpath to
+     *        {@link ClassBlob#QUARKUS_CLASS_BLOB}
+     */
+    public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
+            List<Path> parentFirst, List<String> nonExistentResources, boolean classBlob)
+            throws IOException {
         try (DataOutputStream data = new DataOutputStream(outputStream)) {
             data.writeInt(MAGIC);
             data.writeInt(VERSION);
             data.writeUTF(mainClass);
+            data.writeBoolean(classBlob);
             data.writeShort(classPath.size());
             Map<String, List<Integer>> directlyIndexedResourcesToCPJarIndex = new LinkedHashMap<>();
             for (int i = 0; i < classPath.size(); i++) {
@@ -111,6 +122,10 @@ public static SerializedApplication read(InputStream inputStream, Path appRoot)
                 throw new RuntimeException("Wrong class path version");
             }
             String mainClass = in.readUTF();
+            ClassBlob classBlob = null;
+            if (in.readBoolean()) {
+                classBlob = ClassBlob.open(appRoot.resolve(ClassBlob.QUARKUS_CLASS_BLOB));
+            }
             ResourceDirectoryTracker resourceDirectoryTracker = new ResourceDirectoryTracker();
             Set<String> parentFirstPackages = new HashSet<>();
             int numPaths = in.readUnsignedShort();
@@ -123,7 +138,7 @@ public static SerializedApplication read(InputStream inputStream, Path appRoot)
                     info = new ManifestInfo(readNullableString(in), readNullableString(in), readNullableString(in),
                             readNullableString(in), readNullableString(in), readNullableString(in));
                 }
-                JarResource resource = new JarResource(info, appRoot.resolve(path));
+                JarResource resource = new JarResource(info, appRoot.resolve(path), classBlob, pathCount);
                 allClassLoadingResources[pathCount] = resource;
                 int numDirs = in.readUnsignedShort();
                 for (int i = 0; i < numDirs; ++i) {
@@ -0,0 +1,81 @@
+package io.quarkus.bootstrap.runner;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests {@link ClassBlob}
+ */
+public class ClassBlobTest {
+
+    private static final Path SIMPLE_JAR = Path.of("src", "test", "resources", "jars", "simple-project-1.0.jar");
+    private static final Path EASY_JAR = Path.of("src", "test", "resources", "jars", "easy-project-1.0.jar");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testLookup() throws Exception {
+        Path blobPath = tempDir.resolve("test.blob");
+        ClassBlob.write(blobPath, List.of(SIMPLE_JAR, EASY_JAR));
+        ClassBlob blob = ClassBlob.open(blobPath);
+
+        assertTrue(blob.isComplete(0));
+        assertTrue(blob.isComplete(1));
+
+        ByteBuffer data = blob.find(0, "org/simple/SimplePojo1.class");
+        assertNotNull(data);
+        byte[] bytes = new byte[data.remaining()];
+        data.get(bytes);
+        assertArrayEquals(new JarResource(null, SIMPLE_JAR).getResourceData("org/simple/SimplePojo1.class"), bytes);
+
+        assertNotNull(blob.find(1, "org/easy/EasyPojo.class"));
+        // classes are indexed per jar
+        assertNull(blob.find(1, "org/simple/SimplePojo1.class"));
+        assertNull(blob.find(0, "org/easy/EasyPojo.class"));
+        assertNull(blob.find(0, "org/simple/Missing.class"));
+        // only classes are stored in the blob
+        assertNull(blob.find(0, "META-INF/maven/org.mario/simple-project/pom.xml"));
+    }
+
+    @Test
+    public void testClassLoading() throws Exception {
+        Path blobPath = tempDir.resolve("test.blob");
+        ClassBlob.write(blobPath, List.of(SIMPLE_JAR, EASY_JAR));
+        ClassBlob blob = ClassBlob.open(blobPath);
+
+        JarResource simple = new JarResource(null, SIMPLE_JAR, blob, 0);
+        JarResource easy = new JarResource(null, EASY_JAR, blob, 1);
+        simple.init();
+        easy.init();
+        RunnerClassLoader runnerClassLoader = new RunnerClassLoader(ClassLoader.getSystemClassLoader(),
+                Map.of("org/simple", new ClassLoadingResource[] { simple },
+                        "org/easy", new ClassLoadingResource[] { easy }),
+                Collections.emptySet(), Collections.emptySet(), Collections.emptyList(), Collections.emptyMap());
+
+        Class<?> pojo = runnerClassLoader.loadClass("org.simple.SimplePojo1");
+        assertEquals(runnerClassLoader, pojo.getClassLoader());
+        assertEquals(runnerClassLoader, runnerClassLoader.loadClass("org.easy.EasyPojo").getClassLoader());
+
+        assertTrue(simple.isKnownMissingClass("org/simple/Missing.class"));
+        assertFalse(simple.isKnownMissingClass("org/simple/missing.txt"));
+        // the jar was not opened to load the classes
+        assertNull(simple.jarFileReference.get());
+        assertNull(easy.jarFileReference.get());
+        // but resources are still served from the jar
+        assertNotNull(runnerClassLoader.getResource("org/simple/SimplePojo2.class"));
+    }
+}
@@ -30,4 +30,27 @@ static CompletionStage<Object> toCompletionStage(Object result) {
         }
         return CompletedStage.of(result);
     }
+
+    /**
+     *
+     * @param result
+     * @return {@code true} if {@link #toCompletionStage(Object)} would not wrap the result in a new {@link CompletedStage}
+     */
+    static boolean isAsync(Object result) {
+        return result instanceof CompletableFuture
+                || result instanceof CompletedStage
+                || result instanceof AbstractUni
+                || (UNRESTRICTED && result instanceof CompletionStage);
+    }
+
+    /**
+     * The synchronous fast path: the stage returned by a resolver is reused if the result itself is not asynchronous.
+     *
+     * @param stage
+     * @param result the result of the completed stage
+     * @return the completion stage for the given result
+     */
+    static CompletionStage<Object> toCompletionStage(CompletedStage<Object> stage, Object result) {
+        return isAsync(result) ? toCompletionStage(result) : stage;
+    }
 }
@@ -127,6 +127,14 @@ public static EvaluatedParams evaluateMessageParams(EvalContext context) {
         this.results = results;
     }
 
+    /**
+     *
+     * @return {@code true} if all params were evaluated synchronously and successfully
+     */
+    public boolean isCompleted() {
+        return stage instanceof CompletedStage && !((CompletedStage<?>) stage).isFailure();
+    }
+
     public Object getResult(int index) throws InterruptedException, ExecutionException {
         return results[index].get();
     }
@@ -74,7 +74,15 @@ public CompletionStage<Object> evaluate(Expression expression, ResolutionContext
                     : new NamespaceEvalContextImpl(resolutionContext, part);
             if (matching.length == 1) {
                 // Very often a single matching resolver will be found
-                return matching[0].resolve(context).thenCompose(r -> (parts.size() > 1)
+                CompletionStage<Object> result = matching[0].resolve(context);
+                if (result instanceof CompletedStage<Object> completed && !completed.isFailure()) {
+                    // Synchronous fast path - no need to compose
+                    Object r = completed.get();
+                    return parts.size() > 1
+                            ? resolveReference(false, r, parts, resolutionContext, expression, 1)
+                            : CompletionStageSupport.toCompletionStage(completed, r);
+                }
+                return result.thenCompose(r -> (parts.size() > 1)
                         ? resolveReference(false, r, parts, resolutionContext, expression, 1)
                         : CompletionStageSupport.toCompletionStage(r));
             } else {
@@ -131,7 +139,12 @@ private CompletionStage<Object> resolveReference(boolean tryParent, Object ref,
             return resolve(evalContext, null, true, expression, true, partIndex);
         } else {
             // Next part - no need to try the parent context/outer scope
-            return resolve(evalContext, null, true, expression, false, partIndex)
+            CompletionStage<Object> result = resolve(evalContext, null, true, expression, false, partIndex);
+            if (result instanceof CompletedStage<Object> completed && !completed.isFailure()) {
+                // Synchronous fast path - no need to compose
+                return resolveReference(false, completed.get(), parts, resolutionContext, expression, partIndex + 1);
+            }
+            return result
                     .thenCompose(r -> resolveReference(false, r, parts, resolutionContext, expression, partIndex + 1));
         }
     }
@@ -143,7 +156,15 @@ private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<Va
             // Try the cached resolver first
             ValueResolver cached = evalContext.getCachedResolver();
             if (cached != null && cached.appliesTo(evalContext)) {
-                return cached.resolve(evalContext).thenCompose(r -> {
+                CompletionStage<Object> result = cached.resolve(evalContext);
+                if (result instanceof CompletedStage<Object> completed && !completed.isFailure()) {
+                    // Synchronous fast path - no need to compose
+                    Object r = completed.get();
+                    return Results.isNotFound(r)
+                            ? resolve(evalContext, null, false, expression, isLastPart, partIndex)
+                            : CompletionStageSupport.toCompletionStage(completed, r);
+                }
+                return result.thenCompose(r -> {
                     if (Results.isNotFound(r)) {
                         return resolve(evalContext, null, false, expression, isLastPart, partIndex);
                     } else {
@@ -208,7 +229,17 @@ private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<Va
 
         final Iterator<ValueResolver> remainingResolvers = resolvers;
         final ValueResolver foundResolver = applicableResolver;
-        return applicableResolver.resolve(evalContext).thenCompose(r -> {
+        CompletionStage<Object> result = applicableResolver.resolve(evalContext);
+        if (result instanceof CompletedStage<Object> completed && !completed.isFailure()) {
+            // Synchronous fast path - no need to compose
+            Object r = completed.get();
+            if (Results.isNotFound(r)) {
+                return resolve(evalContext, remainingResolvers, false, expression, isLastPart, partIndex);
+            }
+            evalContext.setCachedResolver(foundResolver.getCachedResolver(evalContext));
+            return CompletionStageSupport.toCompletionStage(completed, r);
+        }
+        return result.thenCompose(r -> {
             if (Results.isNotFound(r)) {
                 // Result not found - try the next resolver
                 return resolve(evalContext, remainingResolvers, false, expression, isLastPart, partIndex);
@@ -160,8 +160,13 @@ private class TemplateInstanceImpl extends TemplateInstanceBase {
         @Override
         public String render() {
             long timeout = getTimeout();
+            CompletionStage<String> cs = renderAsyncNoTimeout();
+            if (cs instanceof CompletedStage<String> completed && !completed.isFailure()) {
+                // Synchronous fast path - the template was rendered in the current thread
+                return completed.get();
+            }
             try {
-                return renderAsyncNoTimeout().toCompletableFuture().get(timeout, TimeUnit.MILLISECONDS);
+                return cs.toCompletableFuture().get(timeout, TimeUnit.MILLISECONDS);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 throw new IllegalStateException(e);
@@ -209,7 +214,8 @@ public Uni<String> createUni() {
 
         @Override
         public CompletionStage<String> renderAsync() {
-            CompletionStage<String> cs = renderAsyncNoTimeout();
+            // CompletedStage is not a full implementation of CompletionStage and must not be exposed
+            CompletionStage<String> cs = renderAsyncNoTimeout().toCompletableFuture();
             if (engine.useAsyncTimeout()) {
                 cs = cs.toCompletableFuture().orTimeout(getTimeout(), TimeUnit.MILLISECONDS);
             }
@@ -218,7 +224,8 @@ public CompletionStage<String> renderAsync() {
 
         @Override
         public CompletionStage<Void> consume(Consumer<String> resultConsumer) {
-            CompletionStage<Void> cs = renderData(data(), resultConsumer);
+            // CompletedStage is not a full implementation of CompletionStage and must not be exposed
+            CompletionStage<Void> cs = renderData(data(), resultConsumer).toCompletableFuture();
             if (engine.useAsyncTimeout()) {
                 cs = cs.toCompletableFuture().orTimeout(getTimeout(), TimeUnit.MILLISECONDS);
             }
@@ -264,12 +271,24 @@ private int getCapacityAttributeValue() {
         }
 
         private CompletionStage<Void> renderData(Object data, Consumer<String> consumer) {
-            CompletableFuture<Void> result = new CompletableFuture<>();
             ResolutionContext rootContext = new ResolutionContextImpl(data,
                     engine.getEvaluator(), null, this::getAttribute);
             setAttribute(DataNamespaceResolver.ROOT_CONTEXT, rootContext);
+            CompletionStage<ResultNode> resolved = root.resolve(rootContext);
+            if (resolved instanceof CompletedStage<ResultNode> completed && !completed.isFailure()) {
+                // Synchronous fast path - all the data were available and no async computation was needed
+                try {
+                    completed.get().process(consumer);
+                    return CompletedStage.ofVoid();
+                } catch (Throwable e) {
+                    return CompletedStage.failure(e);
+                } finally {
+                    runRenderedActions();
+                }
+            }
+            CompletableFuture<Void> result = new CompletableFuture<>();
             // Async resolution
-            root.resolve(rootContext).whenComplete((r, t) -> {
+            resolved.whenComplete((r, t) -> {
                 if (t != null) {
                     result.completeExceptionally(t);
                 } else {
@@ -280,22 +299,25 @@ private CompletionStage<Void> renderData(Object data, Consumer<String> consumer)
                     } catch (Throwable e) {
                         result.completeExceptionally(e);
                     } finally {
-                        if (renderedActions != null) {
-                            for (Runnable action : renderedActions) {
-                                try {
-                                    action.run();
-                                } catch (Throwable e) {
-                                    LOG.error("Unable to perform an action when rendering finished", e);
-                                }
-                            }
-                        }
-
+                        runRenderedActions();
                     }
                 }
             });
             return result;
         }
 
+        private void runRenderedActions() {
+            if (renderedActions != null) {
+                for (Runnable action : renderedActions) {
+                    try {
+                        action.run();
+                    } catch (Throwable e) {
+                        LOG.error("Unable to perform an action when rendering finished", e);
+                    }
+                }
+            }
+        }
+
         @Override
         public Template getTemplate() {
             return TemplateImpl.this;
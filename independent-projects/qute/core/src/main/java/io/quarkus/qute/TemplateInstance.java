@@ -142,9 +142,13 @@ default Uni<String> createUni() {
 
     /**
      * Triggers rendering.
+     * <p>
+     * If the consumer implements {@link Utf8Consumer} then the static text of the template is passed to the consumer
+     * encoded in UTF-8.
      *
      * @param consumer To consume chunks of the rendered template
      * @return a completion stage that is completed once the rendering finished
+     * @see Utf8OutputStreamConsumer
      */
     default CompletionStage<Void> consume(Consumer<String> consumer) {
         throw new UnsupportedOperationException();
@@ -1,5 +1,6 @@
 package io.quarkus.qute;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
@@ -10,6 +11,8 @@ public class TextNode extends ResultNode implements TemplateNode {
 
     private final CompletedStage<ResultNode> result;
     private final String value;
+    // Static text is encoded lazily, i.e. only if written to a byte-oriented output, and then reused as is
+    private volatile byte[] utf8Value;
     private final Origin origin;
 
     public TextNode(String value, Origin origin) {
@@ -44,7 +47,17 @@ public String getValue() {
 
     @Override
     public void process(Consumer<String> consumer) {
-        consumer.accept(value);
+        if (consumer instanceof Utf8Consumer utf8Consumer) {
+            byte[] bytes = utf8Value;
+            if (bytes == null) {
+                // A benign race - the value may be encoded more than once
+                bytes = value.getBytes(StandardCharsets.UTF_8);
+                utf8Value = bytes;
+            }
+            utf8Consumer.acceptUtf8(bytes);
+        } else {
+            consumer.accept(value);
+        }
     }
 
     @Override
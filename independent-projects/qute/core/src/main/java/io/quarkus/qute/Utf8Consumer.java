@@ -0,0 +1,22 @@
+package io.quarkus.qute;
+
+import java.util.function.Consumer;
+
+/**
+ * A consumer of the rendered template that is able to accept the static parts of a template encoded in UTF-8.
+ * <p>
+ * The static text of a template is encoded once when the template is parsed. If the consumer passed to
+ * {@link TemplateInstance#consume(Consumer)} implements this interface then the encoded text is passed to
+ * {@link #acceptUtf8(byte[])} as is. The output of expressions is always passed to {@link #accept(Object)}.
+ *
+ * @see Utf8OutputStreamConsumer
+ */
+public interface Utf8Consumer extends Consumer<String> {
+
+    /**
+     *
+     * @param value the UTF-8 encoded text; must not be modified
+     */
+    void acceptUtf8(byte[] value);
+
+}
@@ -0,0 +1,92 @@
+package io.quarkus.qute;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes the rendered template to an {@link OutputStream} using the UTF-8 encoding.
+ * <p>
+ * The pre-encoded static text is written as is. The output of expressions is encoded through a reusable buffer, i.e.
+ * no intermediate {@code byte[]} is allocated per expression. An {@link IOException} thrown by the output stream is
+ * rethrown as {@link UncheckedIOException}.
+ * <p>
+ * This class is not thread-safe. The consumer does not flush nor close the output stream.
+ */
+public final class Utf8OutputStreamConsumer implements Utf8Consumer {
+
+    static final int DEFAULT_BUFFER_SIZE = 1024;
+
+    private final OutputStream out;
+    private final byte[] buffer;
+
+    public Utf8OutputStreamConsumer(OutputStream out) {
+        this(out, DEFAULT_BUFFER_SIZE);
+    }
+
+    public Utf8OutputStreamConsumer(OutputStream out, int bufferSize) {
+        if (bufferSize < 4) {
+            // A supplementary character is encoded in 4 bytes
+            throw new IllegalArgumentException("The buffer size must be at least 4 bytes");
+        }
+        this.out = out;
+        this.buffer = new byte[bufferSize];
+    }
+
+    @Override
+    public void acceptUtf8(byte[] value) {
+        try {
+            out.write(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void accept(String value) {
+        try {
+            encode(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void encode(String value) throws IOException {
+        byte[] buf = buffer;
+        int limit = buf.length - 4;
+        int pos = 0;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (pos > limit) {
+                out.write(buf, 0, pos);
+                pos = 0;
+            }
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buf[pos++] = (byte) c;
+            } else if (c < 0x800) {
+                buf[pos++] = (byte) (0xC0 | (c >> 6));
+                buf[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    buf[pos++] = (byte) (0xF0 | (codePoint >> 18));
+                    buf[pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    buf[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    buf[pos++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else {
+                    // Malformed surrogate - use the same replacement as String#getBytes()
+                    buf[pos++] = (byte) '?';
+                }
+            } else {
+                buf[pos++] = (byte) (0xE0 | (c >> 12));
+                buf[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buf[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        if (pos > 0) {
+            out.write(buf, 0, pos);
+        }
+    }
+
+}
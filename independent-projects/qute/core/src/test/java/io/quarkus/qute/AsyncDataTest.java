@@ -1,6 +1,8 @@
 package io.quarkus.qute;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.List;
@@ -22,6 +24,18 @@ public void testAsyncData() {
         assertEquals("alpha", engine.parse("{token}").data("token", CompletedStage.of("alpha")).render());
     }
 
+    @Test
+    public void testSyncRendering() {
+        Engine engine = Engine.builder().addDefaults().build();
+        CompletionStage<String> result = engine.parse("{#for i in items}{i}:{/for}").data("items", List.of(1, 2))
+                .renderAsync();
+        // All values are resolved synchronously - the rendering is finished before renderAsync() returns
+        assertTrue(result.toCompletableFuture().isDone());
+        assertEquals("1:2:", result.toCompletableFuture().join());
+        assertThrows(TemplateException.class,
+                () -> engine.parse("{foo.bar}", null, "sync").data("foo", "baz").render());
+    }
+
     static class Client {
 
         public CompletionStage<List<String>> getTokens() {
@@ -6,6 +6,7 @@
 
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Supplier;
@@ -38,6 +39,13 @@ public void testParameterTypesMatch() throws InterruptedException, ExecutionExce
                 .parameterTypesMatch(false, new Class<?>[] { Integer.class, Object[].class }));
     }
 
+    @Test
+    public void testIsCompleted() {
+        assertTrue(new EvaluatedParams(CompletedStage.of("Foo")).isCompleted());
+        assertFalse(new EvaluatedParams(CompletedStage.failure(new IllegalStateException())).isCompleted());
+        assertFalse(new EvaluatedParams(CompletableFuture.completedFuture("Foo")).isCompleted());
+    }
+
     @Test
     public void testInvalidParameter() {
         EvaluatedParams params = EvaluatedParams.evaluate(new EvalContext() {
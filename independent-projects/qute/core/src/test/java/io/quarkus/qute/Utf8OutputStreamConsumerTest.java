@@ -0,0 +1,73 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class Utf8OutputStreamConsumerTest {
+
+    @Test
+    public void testConsume() {
+        Engine engine = Engine.builder().addDefaults().addResultMapper(new HtmlEscaper(List.of("text/html"))).build();
+        Template template = engine.parse("<h1>Příliš žluťoučký kůň</h1>{#for item in items}<li>{item}</li>{/for}",
+                Variant.forContentType(Variant.TEXT_HTML));
+        List<String> items = List.of("Foo & Bar", "ÚÜÉ", "🚀 rocket", "€ 10", "lone \uD800 surrogate");
+        String expected = template.data("items", items).render();
+        for (int bufferSize : new int[] { 4, 5, 7, 1024 }) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            template.data("items", items).consume(new Utf8OutputStreamConsumer(out, bufferSize)).toCompletableFuture()
+                    .join();
+            assertArrayEquals(expected.getBytes(StandardCharsets.UTF_8), out.toByteArray(), "Buffer size: " + bufferSize);
+        }
+    }
+
+    @Test
+    public void testStaticTextIsPreEncoded() {
+        Engine engine = Engine.builder().addDefaults().build();
+        List<Object> chunks = new ArrayList<>();
+        engine.parse("Hello {name}!").data("name", "Lu").consume(new Utf8Consumer() {
+
+            @Override
+            public void accept(String value) {
+                chunks.add(value);
+            }
+
+            @Override
+            public void acceptUtf8(byte[] value) {
+                chunks.add(new String(value, StandardCharsets.UTF_8));
+                chunks.add(value.getClass());
+            }
+        }).toCompletableFuture().join();
+        assertEquals(List.of("Hello ", byte[].class, "Lu", "!", byte[].class), chunks);
+    }
+
+    @Test
+    public void testOutputStreamFailure() {
+        Engine engine = Engine.builder().addDefaults().build();
+        Utf8OutputStreamConsumer consumer = new Utf8OutputStreamConsumer(new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Closed");
+            }
+        });
+        Throwable e = assertThrows(Throwable.class,
+                () -> engine.parse("Hello {name}!").data(Map.of("name", "Lu")).consume(consumer).toCompletableFuture().join());
+        while (e.getCause() != null && !(e instanceof UncheckedIOException)) {
+            e = e.getCause();
+        }
+        assertEquals(UncheckedIOException.class, e.getClass());
+        assertThrows(IllegalArgumentException.class, () -> new Utf8OutputStreamConsumer(new ByteArrayOutputStream(), 3));
+    }
+
+}
@@ -39,6 +39,8 @@ private Descriptors() {
     static final MethodDescriptor LIST_GET = MethodDescriptor.ofMethod(List.class, "get", Object.class, int.class);
     static final MethodDescriptor COMPLETED_STAGE_OF = MethodDescriptor.ofMethod(CompletedStage.class,
             "of", CompletedStage.class, Object.class);
+    static final MethodDescriptor COMPLETED_STAGE_FAILURE = MethodDescriptor.ofMethod(CompletedStage.class,
+            "failure", CompletedStage.class, Throwable.class);
     public static final MethodDescriptor COMPLETABLE_FUTURE_ALL_OF = MethodDescriptor.ofMethod(CompletableFuture.class,
             "allOf",
             CompletableFuture.class, CompletableFuture[].class);
@@ -103,6 +105,9 @@ private Descriptors() {
     public static final MethodDescriptor VALUE_RESOLVERS_MATCH_CLASS = MethodDescriptor.ofMethod(ValueResolvers.class,
             "matchClass", boolean.class, EvalContext.class, Class.class);
 
+    public static final MethodDescriptor EVALUATED_PARAMS_IS_COMPLETED = MethodDescriptor.ofMethod(EvaluatedParams.class,
+            "isCompleted", boolean.class);
+
     public static final FieldDescriptor EVALUATED_PARAMS_STAGE = FieldDescriptor.of(EvaluatedParams.class, "stage",
             CompletionStage.class);
     public static final FieldDescriptor RESULTS_TRUE = FieldDescriptor.of(Results.class, "TRUE", CompletedStage.class);
@@ -621,12 +621,19 @@ private void matchMethod(MethodInfo method, ClassInfo clazz, MethodCreator resol
 
         // Invoke the method
         // Evaluate the params first
+        ResultHandle evaluatedParams = matchScope.invokeStaticMethod(Descriptors.EVALUATED_PARAMS_EVALUATE,
+                evalContext);
+
+        // Synchronous fast path - all params are already evaluated, no need to compose
+        BytecodeCreator completed = matchScope
+                .ifTrue(matchScope.invokeVirtualMethod(Descriptors.EVALUATED_PARAMS_IS_COMPLETED, evaluatedParams))
+                .trueBranch();
+        invokeMethodSync(method, completed, base, evaluatedParams, evalContext);
+
         ResultHandle ret = matchScope
                 .newInstance(MethodDescriptor.ofConstructor(CompletableFuture.class));
 
         // The CompletionStage upon which we invoke whenComplete()
-        ResultHandle evaluatedParams = matchScope.invokeStaticMethod(Descriptors.EVALUATED_PARAMS_EVALUATE,
-                evalContext);
         ResultHandle paramsReady = matchScope.readInstanceField(Descriptors.EVALUATED_PARAMS_STAGE,
                 evaluatedParams);
 
@@ -706,23 +713,7 @@ private void matchMethod(MethodInfo method, ClassInfo clazz, MethodCreator resol
             realParamsHandle[parameterTypes.size() - 1] = varargsResults;
         }
 
-        if (Modifier.isStatic(method.flags())) {
-            if (Modifier.isInterface(method.declaringClass().flags())) {
-                tryCatch.assign(invokeRet,
-                        tryCatch.invokeStaticInterfaceMethod(MethodDescriptor.of(method), realParamsHandle));
-            } else {
-                tryCatch.assign(invokeRet,
-                        tryCatch.invokeStaticMethod(MethodDescriptor.of(method), realParamsHandle));
-            }
-        } else {
-            if (Modifier.isInterface(method.declaringClass().flags())) {
-                tryCatch.assign(invokeRet,
-                        tryCatch.invokeInterfaceMethod(MethodDescriptor.of(method), whenBase, realParamsHandle));
-            } else {
-                tryCatch.assign(invokeRet,
-                        tryCatch.invokeVirtualMethod(MethodDescriptor.of(method), whenBase, realParamsHandle));
-            }
-        }
+        tryCatch.assign(invokeRet, invokeMethod(method, tryCatch, whenBase, realParamsHandle));
 
         if (hasCompletionStage(method.returnType())) {
             FunctionCreator invokeWhenCompleteFun = tryCatch.createFunction(BiConsumer.class);
@@ -755,6 +746,81 @@ private void matchMethod(MethodInfo method, ClassInfo clazz, MethodCreator resol
         matchScope.returnValue(ret);
     }
 
+    private void invokeMethodSync(MethodInfo method, BytecodeCreator completed, ResultHandle base,
+            ResultHandle evaluatedParams, ResultHandle evalContext) {
+        // Check type parameters and return NO_RESULT if failed
+        BytecodeCreator typeMatchFailed = completed
+                .ifNonZero(paramTypesMatch(method, completed, evaluatedParams))
+                .falseBranch();
+        typeMatchFailed.returnValue(typeMatchFailed.invokeStaticMethod(Descriptors.RESULTS_NOT_FOUND_EC, evalContext));
+        returnInvocationResult(method, completed, base, evaluatedParams);
+    }
+
+    private ResultHandle paramTypesMatch(MethodInfo method, BytecodeCreator bytecode, ResultHandle evaluatedParams) {
+        List<Type> parameterTypes = method.parameterTypes();
+        ResultHandle paramTypesHandle = bytecode.newArray(Class.class, parameterTypes.size());
+        int idx = 0;
+        for (Type parameterType : parameterTypes) {
+            bytecode.writeArrayValue(paramTypesHandle, idx++, loadParamType(bytecode, parameterType));
+        }
+        return bytecode.invokeVirtualMethod(Descriptors.EVALUATED_PARAMS_PARAM_TYPES_MATCH, evaluatedParams,
+                bytecode.load(isVarArgs(method)), paramTypesHandle);
+    }
+
+    /**
+     * Invokes the method with the params evaluated synchronously and returns the result as a {@link CompletionStage}.
+     */
+    private void returnInvocationResult(MethodInfo method, BytecodeCreator bytecode, ResultHandle base,
+            ResultHandle evaluatedParams) {
+        List<Type> parameterTypes = method.parameterTypes();
+        // try
+        TryBlock tryCatch = bytecode.tryBlock();
+        // catch (Throwable e)
+        CatchBlockCreator exception = tryCatch.addCatch(Throwable.class);
+        exception.returnValue(exception.invokeStaticMethod(Descriptors.COMPLETED_STAGE_FAILURE,
+                exception.getCaughtException()));
+
+        ResultHandle[] paramsHandle = new ResultHandle[parameterTypes.size()];
+        int regularParams = isVarArgs(method) ? parameterTypes.size() - 1 : parameterTypes.size();
+        for (int i = 0; i < regularParams; i++) {
+            paramsHandle[i] = tryCatch.invokeVirtualMethod(Descriptors.EVALUATED_PARAMS_GET_RESULT, evaluatedParams,
+                    tryCatch.load(i));
+        }
+        if (isVarArgs(method)) {
+            // E.g. String, String, String -> String, String[]
+            Type varargsParam = parameterTypes.get(parameterTypes.size() - 1);
+            ResultHandle componentType = tryCatch
+                    .loadClass(varargsParam.asArrayType().constituent().name().toString());
+            paramsHandle[parameterTypes.size() - 1] = tryCatch.invokeVirtualMethod(
+                    Descriptors.EVALUATED_PARAMS_GET_VARARGS_RESULTS, evaluatedParams, tryCatch.load(parameterTypes.size()),
+                    componentType);
+        }
+
+        ResultHandle invokeRet = invokeMethod(method, tryCatch, base, paramsHandle);
+        if (hasCompletionStage(method.returnType())) {
+            tryCatch.returnValue(invokeRet);
+        } else {
+            tryCatch.returnValue(tryCatch.invokeStaticMethod(Descriptors.COMPLETED_STAGE_OF, invokeRet));
+        }
+    }
+
+    private ResultHandle invokeMethod(MethodInfo method, BytecodeCreator bytecode, ResultHandle base,
+            ResultHandle[] params) {
+        if (Modifier.isStatic(method.flags())) {
+            if (Modifier.isInterface(method.declaringClass().flags())) {
+                return bytecode.invokeStaticInterfaceMethod(MethodDescriptor.of(method), params);
+            } else {
+                return bytecode.invokeStaticMethod(MethodDescriptor.of(method), params);
+            }
+        } else {
+            if (Modifier.isInterface(method.declaringClass().flags())) {
+                return bytecode.invokeInterfaceMethod(MethodDescriptor.of(method), base, params);
+            } else {
+                return bytecode.invokeVirtualMethod(MethodDescriptor.of(method), base, params);
+            }
+        }
+    }
+
     private void matchMethods(String matchName, int matchParamsCount, Collection<MethodInfo> methods,
             ClassInfo clazz,
             MethodCreator resolve, ResultHandle base, ResultHandle name, ResultHandle params, ResultHandle paramsCount,
@@ -764,13 +830,29 @@ private void matchMethods(String matchName, int matchParamsCount, Collection<Met
         BytecodeCreator matchScope = createMatchScope(resolve, matchName, matchParamsCount, null,
                 name, params,
                 paramsCount);
-        ResultHandle ret = matchScope
-                .newInstance(MethodDescriptor.ofConstructor(CompletableFuture.class));
 
         // Evaluate the params first
-        // The CompletionStage upon which we invoke whenComplete()
         ResultHandle evaluatedParams = matchScope.invokeStaticMethod(Descriptors.EVALUATED_PARAMS_EVALUATE,
                 evalContext);
+
+        // Synchronous fast path - all params are already evaluated, the first method whose parameter types match is invoked
+        BytecodeCreator completed = matchScope
+                .ifTrue(matchScope.invokeVirtualMethod(Descriptors.EVALUATED_PARAMS_IS_COMPLETED, evaluatedParams))
+                .trueBranch();
+        for (MethodInfo method : methods) {
+            try (BytecodeCreator paramMatchScope = completed.createScope()) {
+                paramMatchScope.ifNonZero(paramTypesMatch(method, paramMatchScope, evaluatedParams))
+                        .falseBranch().breakScope(paramMatchScope);
+                returnInvocationResult(method, paramMatchScope, base, evaluatedParams);
+            }
+        }
+        // No method matches - result not found
+        completed.returnValue(completed.invokeStaticMethod(Descriptors.RESULTS_NOT_FOUND_EC, evalContext));
+
+        ResultHandle ret = matchScope
+                .newInstance(MethodDescriptor.ofConstructor(CompletableFuture.class));
+
+        // The CompletionStage upon which we invoke whenComplete()
         ResultHandle paramsReady = matchScope.readInstanceField(Descriptors.EVALUATED_PARAMS_STAGE,
                 evaluatedParams);
 
@@ -852,23 +934,7 @@ private void matchMethods(String matchName, int matchParamsCount, Collection<Met
                     realParamsHandle[parameterTypes.size() - 1] = varargsResults;
                 }
 
-                if (Modifier.isStatic(method.flags())) {
-                    if (Modifier.isInterface(method.declaringClass().flags())) {
-                        tryCatch.assign(invokeRet,
-                                tryCatch.invokeStaticInterfaceMethod(MethodDescriptor.of(method), realParamsHandle));
-                    } else {
-                        tryCatch.assign(invokeRet,
-                                tryCatch.invokeStaticMethod(MethodDescriptor.of(method), realParamsHandle));
-                    }
-                } else {
-                    if (Modifier.isInterface(method.declaringClass().flags())) {
-                        tryCatch.assign(invokeRet,
-                                tryCatch.invokeInterfaceMethod(MethodDescriptor.of(method), whenBase, realParamsHandle));
-                    } else {
-                        tryCatch.assign(invokeRet,
-                                tryCatch.invokeVirtualMethod(MethodDescriptor.of(method), whenBase, realParamsHandle));
-                    }
-                }
+                tryCatch.assign(invokeRet, invokeMethod(method, tryCatch, whenBase, realParamsHandle));
 
                 if (hasCompletionStage(method.returnType())) {
                     FunctionCreator invokeWhenCompleteFun = tryCatch.createFunction(BiConsumer.class);
@@ -1,6 +1,7 @@
 package io.quarkus.qute.generator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.IOException;
@@ -24,10 +25,12 @@
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import io.quarkus.qute.CompletedStage;
 import io.quarkus.qute.Engine;
 import io.quarkus.qute.EngineBuilder;
 import io.quarkus.qute.NamespaceResolver;
 import io.quarkus.qute.Resolver;
+import io.quarkus.qute.Results;
 import io.quarkus.qute.TestEvalContext;
 import io.quarkus.qute.ValueResolver;
 
@@ -95,6 +98,36 @@ public void testGenerator() throws Exception {
                         .toCompletableFuture().get(1, TimeUnit.SECONDS).toString());
     }
 
+    @Test
+    public void testOverloadedMethods() throws Exception {
+        Class<?> clazz = SimpleGeneratorTest.class.getClassLoader()
+                .loadClass("io.quarkus.qute.generator.MyService_ValueResolver");
+        ValueResolver resolver = (ValueResolver) clazz.getDeclaredConstructor().newInstance();
+        // getList(int) and getList(String) - the params are evaluated synchronously and the method is invoked directly
+        CompletionStage<Object> result = resolver.resolve(new TestEvalContext(new MyService(), "getList",
+                e -> CompletedStage.of(Integer.valueOf(3)), "3"));
+        assertTrue(result instanceof CompletedStage);
+        assertEquals("[0, 1, 2]", ((CompletedStage<Object>) result).get().toString());
+        result = resolver.resolve(new TestEvalContext(new MyService(), "getList",
+                e -> CompletedStage.of("foo"), "foo"));
+        assertTrue(result instanceof CompletedStage);
+        assertEquals("[]", ((CompletedStage<Object>) result).get().toString());
+        // No method matches the param type
+        result = resolver.resolve(new TestEvalContext(new MyService(), "getList",
+                e -> CompletedStage.of(Boolean.TRUE), "true"));
+        assertTrue(result instanceof CompletedStage);
+        assertTrue(Results.isNotFound(((CompletedStage<Object>) result).get()));
+        // A param evaluated asynchronously
+        result = resolver.resolve(new TestEvalContext(new MyService(), "getList",
+                e -> CompletableFuture.completedFuture(Integer.valueOf(2)), "2"));
+        assertEquals("[0, 1]", result.toCompletableFuture().get(1, TimeUnit.SECONDS).toString());
+        // The method throws an exception
+        result = resolver.resolve(new TestEvalContext(new MyService(), "getList",
+                e -> CompletedStage.of(Integer.valueOf(-1)), "-1"));
+        assertTrue(result instanceof CompletedStage);
+        assertTrue(((CompletedStage<Object>) result).isFailure());
+    }
+
     @Test
     public void testWithEngine() throws Exception {
         try {
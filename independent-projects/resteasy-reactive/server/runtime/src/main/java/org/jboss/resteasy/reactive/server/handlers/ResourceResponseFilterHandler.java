@@ -15,6 +15,10 @@ public ResourceResponseFilterHandler(ContainerResponseFilter filter) {
         this.filter = filter;
     }
 
+    public ContainerResponseFilter getFilter() {
+        return filter;
+    }
+
     @Override
     public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
         requestContext.requireCDIRequestScope();
@@ -36,6 +36,10 @@ private ResponseHandler() {
         this.responseBuilderCustomizers = Collections.emptyList();
     }
 
+    public List<ResponseBuilderCustomizer> getResponseBuilderCustomizers() {
+        return responseBuilderCustomizers;
+    }
+
     @Override
     public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
         Object result = requestContext.getResult();
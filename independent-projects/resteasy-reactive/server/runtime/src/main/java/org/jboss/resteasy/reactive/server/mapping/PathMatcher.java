@@ -1,9 +1,6 @@
 package org.jboss.resteasy.reactive.server.mapping;
 
-import java.util.Comparator;
 import java.util.List;
-import java.util.Set;
-import java.util.TreeSet;
 
 /**
  * Handler that dispatches to a given handler based of a prefix match of the path.
@@ -19,13 +16,13 @@
 class PathMatcher<T> implements Dumpable {
 
     private final T defaultHandler;
-    private final SubstringMap<T> paths;
-    private final int[] lengths;
+    private final RadixTree<T> paths;
+    private final RadixTree.Match<T> defaultPrefix;
 
-    PathMatcher(T defaultHandler, SubstringMap<T> paths, int[] lengths) {
+    PathMatcher(T defaultHandler, RadixTree<T> paths) {
         this.defaultHandler = defaultHandler;
         this.paths = paths;
-        this.lengths = lengths;
+        this.defaultPrefix = new RadixTree.Match<>("/", defaultHandler);
     }
 
     /**
@@ -35,21 +32,9 @@
      * @return The match match. This will never be null, however if none matched its value field will be
      */
     PathMatch<T> match(String path) {
-        int length = path.length();
-        final int[] lengths = this.lengths;
-        for (int i = 0; i < lengths.length; ++i) {
-            int pathLength = lengths[i];
-            if (pathLength == length) {
-                SubstringMap.SubstringMatch<T> next = paths.get(path, length);
-                if (next != null) {
-                    return new PathMatch<>(path, "", next.getValue());
-                }
-            } else if (pathLength < length) {
-                SubstringMap.SubstringMatch<T> next = paths.get(path, pathLength);
-                if (next != null) {
-                    return new PathMatch<>(next.getKey(), path.substring(pathLength), next.getValue());
-                }
-            }
+        RadixTree.Match<T> next = paths.longestPrefix(path);
+        if (next != null) {
+            return new PathMatch<>(next.getKey(), path.substring(next.getKey().length()), next.getValue());
         }
         return defaultMatch(path);
     }
@@ -58,12 +43,26 @@ PathMatch<T> defaultMatch(String path) {
         return new PathMatch<>("/", path, defaultHandler);
     }
 
+    /**
+     * Same as {@link #match(String)}, but does not compute the remaining part of the path and thus does not allocate.
+     *
+     * @return The longest registered prefix of the path, or {@link #defaultPrefix()} if none matched
+     */
+    RadixTree.Match<T> matchPrefix(String path) {
+        RadixTree.Match<T> next = paths.longestPrefix(path);
+        return next != null ? next : defaultPrefix;
+    }
+
+    RadixTree.Match<T> defaultPrefix() {
+        return defaultPrefix;
+    }
+
     static class Builder<T> {
 
         private static final String STRING_PATH_SEPARATOR = "/";
 
         private T defaultHandler;
-        private final SubstringMap.Builder<T> pathsBuilder = new SubstringMap.Builder<>();
+        private final RadixTree.Builder<T> pathsBuilder = new RadixTree.Builder<>();
 
         /**
          * Adds a path prefix and a handler for that path. If the path does not start
@@ -92,28 +91,8 @@ void addPrefixPath(final String path, final T handler) {
             pathsBuilder.put(path, handler);
         }
 
-        private int[] buildLengths(SubstringMap<T> paths) {
-            final Set<Integer> lengths = new TreeSet<>(new Comparator<>() {
-                @Override
-                public int compare(Integer o1, Integer o2) {
-                    return -o1.compareTo(o2);
-                }
-            });
-            for (String p : paths.keys()) {
-                lengths.add(p.length());
-            }
-
-            int[] lengthArray = new int[lengths.size()];
-            int pos = 0;
-            for (int i : lengths) {
-                lengthArray[pos++] = i;
-            }
-            return lengthArray;
-        }
-
         public PathMatcher<T> build() {
-            SubstringMap<T> paths = pathsBuilder.build();
-            return new PathMatcher<>(defaultHandler, paths, buildLengths(paths));
+            return new PathMatcher<>(defaultHandler, pathsBuilder.build());
         }
     }
 
@@ -146,7 +125,7 @@ public void dump(int level) {
         System.err.println("Paths: " + paths.size());
         for (String key : paths.keys()) {
             System.err.println(" " + key + ": ");
-            SubstringMap.SubstringMatch<T> match = paths.get(key);
+            RadixTree.Match<T> match = paths.get(key);
             System.err.println("  matchKey: " + match.getKey());
             System.err.println("  matchValue: ");
             dumpValue(match.getValue(), 3);
@@ -0,0 +1,208 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An immutable radix tree keyed by strings, that resolves the longest key that is a prefix of a given path
+ * in a single pass over the path, without allocating.
+ * <p>
+ * Compared to probing a hash map once per distinct key length, the cost of a lookup only depends on the length of
+ * the path, not on the number of registered keys.
+ */
+final class RadixTree<V> {
+
+    private final Node<V> root;
+    private final int size;
+
+    private RadixTree(Node<V> root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return the entry with the longest key that is a prefix of the given path, or {@code null} if there is none
+     */
+    Match<V> longestPrefix(String path) {
+        Node<V> node = root;
+        Match<V> result = root.match;
+        int length = path.length();
+        int pos = 0;
+        while (pos < length) {
+            Node<V> child = node.child(path.charAt(pos));
+            if (child == null) {
+                break;
+            }
+            String label = child.label;
+            if (!path.regionMatches(pos, label, 0, label.length())) {
+                break;
+            }
+            pos += label.length();
+            node = child;
+            if (node.match != null) {
+                result = node.match;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the entry with the given key, or {@code null} if there is none
+     */
+    Match<V> get(String key) {
+        Match<V> match = longestPrefix(key);
+        if (match != null && match.key.length() == key.length()) {
+            return match;
+        }
+        return null;
+    }
+
+    List<String> keys() {
+        List<String> keys = new ArrayList<>(size);
+        collectKeys(root, keys);
+        return keys;
+    }
+
+    private static void collectKeys(Node<?> node, List<String> keys) {
+        if (node.match != null) {
+            keys.add(node.match.key);
+        }
+        for (Node<?> child : node.children) {
+            collectKeys(child, keys);
+        }
+    }
+
+    private static final class Node<V> {
+        private final String label;
+        private final Match<V> match;
+        private final char[] firstChars;
+        private final Node<V>[] children;
+
+        private Node(String label, Match<V> match, char[] firstChars, Node<V>[] children) {
+            this.label = label;
+            this.match = match;
+            this.firstChars = firstChars;
+            this.children = children;
+        }
+
+        Node<V> child(char c) {
+            char[] firstChars = this.firstChars;
+            // most nodes only have a handful of children
+            if (firstChars.length <= 8) {
+                for (int i = 0; i < firstChars.length; i++) {
+                    if (firstChars[i] == c) {
+                        return children[i];
+                    }
+                }
+                return null;
+            }
+            int index = Arrays.binarySearch(firstChars, c);
+            return index < 0 ? null : children[index];
+        }
+    }
+
+    static final class Builder<V> {
+
+        private final MutableNode<V> root = new MutableNode<>("");
+        private int size;
+
+        void put(String key, V value) {
+            if (key == null) {
+                throw new NullPointerException();
+            }
+            MutableNode<V> node = root;
+            int pos = 0;
+            while (pos < key.length()) {
+                char c = key.charAt(pos);
+                MutableNode<V> child = node.children.get(c);
+                if (child == null) {
+                    child = new MutableNode<>(key.substring(pos));
+                    node.children.put(c, child);
+                    node = child;
+                    break;
+                }
+                int common = commonPrefixLength(child.label, key, pos);
+                if (common < child.label.length()) {
+                    // split the edge
+                    MutableNode<V> split = new MutableNode<>(child.label.substring(0, common));
+                    child.label = child.label.substring(common);
+                    split.children.put(child.label.charAt(0), child);
+                    node.children.put(c, split);
+                    child = split;
+                }
+                node = child;
+                pos += common;
+            }
+            if (node.match == null) {
+                size++;
+            }
+            node.match = new Match<>(key, value);
+        }
+
+        private static int commonPrefixLength(String label, String key, int offset) {
+            int max = Math.min(label.length(), key.length() - offset);
+            int i = 0;
+            while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+                i++;
+            }
+            return i;
+        }
+
+        RadixTree<V> build() {
+            return new RadixTree<>(root.freeze(), size);
+        }
+    }
+
+    private static final class MutableNode<V> {
+        private String label;
+        private Match<V> match;
+        private final TreeMap<Character, MutableNode<V>> children = new TreeMap<>();
+
+        MutableNode(String label) {
+            this.label = label;
+        }
+
+        @SuppressWarnings("unchecked")
+        Node<V> freeze() {
+            char[] firstChars = new char[children.size()];
+            Node<V>[] frozen = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, MutableNode<V>> entry : children.entrySet()) {
+                firstChars[i] = entry.getKey();
+                frozen[i] = entry.getValue().freeze();
+                i++;
+            }
+            return new Node<>(label, match, firstChars, frozen);
+        }
+    }
+
+    public static final class Match<V> {
+        private final String key;
+        private final V value;
+
+        public Match(String key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return "Match{ key: " + key + ", value: " + value + " }";
+        }
+    }
+}
@@ -50,80 +50,34 @@ private void addPrefixPaths(String stem, ArrayList<RequestPath<T>> list) {
     }
 
     public RequestMatch<T> map(String path) {
-        var result = mapFromPathMatcher(path, requestPaths.match(path));
-        if (result != null) {
+        RadixTree.Match<ArrayList<RequestPath<T>>> prefix = requestPaths.matchPrefix(path);
+        var result = mapFromPathMatcher(path, prefix);
+        if (result != null || prefix == requestPaths.defaultPrefix()) {
             return result;
         }
 
         // the following code is meant to handle cases like https://github.com/quarkusio/quarkus/issues/30667
-        return mapFromPathMatcher(path, requestPaths.defaultMatch(path));
+        return mapFromPathMatcher(path, requestPaths.defaultPrefix());
     }
 
     @SuppressWarnings({ "rawtypes", "unchecked" })
-    private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<ArrayList<RequestPath<T>>> initialMatch) {
-        var value = initialMatch.getValue();
-        if (initialMatch.getValue() == null) {
+    private RequestMatch<T> mapFromPathMatcher(String path, RadixTree.Match<ArrayList<RequestPath<T>>> initialMatch) {
+        ArrayList<RequestPath<T>> value = initialMatch.getValue();
+        if (value == null) {
             return null;
         }
         int pathLength = path.length();
-        for (int index = 0; index < ((List<RequestPath<T>>) value).size(); index++) {
-            RequestPath<T> potentialMatch = ((List<RequestPath<T>>) value).get(index);
-            String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
-            int paramCount = 0;
-            boolean matched = true;
-            boolean prefixAllowed = potentialMatch.prefixTemplate;
-            int matchPos = initialMatch.getMatched().length();
-            for (int i = 1; i < potentialMatch.template.components.length; ++i) {
-                URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
-                if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
-                    // exclude any path end slash when matching a subdir, but include it in the matched length
-                    boolean endSlash = matchPos < path.length() && path.charAt(path.length() - 1) == '/';
-                    Matcher matcher = segment.pattern.matcher(
-                            endSlash ? path.substring(0, path.length() - 1) : path);
-                    matched = matcher.find(matchPos);
-                    if (!matched || matcher.start() != matchPos) {
-                        break;
-                    }
-                    matchPos = matcher.end();
-                    if (endSlash) {
-                        matchPos++;
-                    }
-                    for (String group : segment.groups) {
-                        params[paramCount++] = matcher.group(group);
-                    }
-                } else if (segment.type == URITemplate.Type.LITERAL) {
-                    //make sure the literal text is the same
-                    if (matchPos + segment.literalText.length() > pathLength) {
-                        matched = false;
-                        break; //too long
-                    }
-                    for (int pos = 0; pos < segment.literalText.length(); ++pos) {
-                        if (path.charAt(matchPos++) != segment.literalText.charAt(pos)) {
-                            matched = false;
-                            break;
-                        }
-                    }
-                    if (!matched) {
-                        break;
-                    }
-                } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
-                    if (matchPos == pathLength) {
-                        matched = false;
-                        break;
-                    }
-                    int start = matchPos;
-                    while (matchPos < pathLength && path.charAt(matchPos) != '/') {
-                        matchPos++;
-                    }
-                    params[paramCount++] = path.substring(start, matchPos);
-                }
-            }
-            if (!matched) {
+        int stemLength = initialMatch.getKey().length();
+        for (int index = 0; index < value.size(); index++) {
+            RequestPath<T> potentialMatch = value.get(index);
+            // templates without custom regular expressions are first matched without capturing anything,
+            // so that the path parameters are only extracted for the template that actually matches
+            String[] params = potentialMatch.customRegex ? newParams() : null;
+            int matchPos = matchComponents(path, potentialMatch.template, stemLength, params);
+            if (matchPos < 0) {
                 continue;
             }
-            if (paramCount < params.length) {
-                params[paramCount] = null;
-            }
+            boolean prefixAllowed = potentialMatch.prefixTemplate;
             boolean fullMatch = matchPos == pathLength;
             boolean doPrefixMatch = false;
             if (!fullMatch) {
@@ -135,6 +89,10 @@ private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<Ar
                 }
             }
             if (fullMatch || doPrefixMatch) {
+                if (params == null) {
+                    params = newParams();
+                    matchComponents(path, potentialMatch.template, stemLength, params);
+                }
                 String remaining;
                 if (fullMatch) {
                     remaining = "";
@@ -151,15 +109,82 @@ private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<Ar
         return null;
     }
 
+    private String[] newParams() {
+        return (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
+    }
+
+    /**
+     * Matches the components of the template following the stem.
+     *
+     * @param params the array to store the path parameter values into, or {@code null} if they should not be captured
+     * @return the position in the path up to which the template matched, or {@code -1} if it did not match
+     */
+    private static int matchComponents(String path, URITemplate template, int matchPos, String[] params) {
+        int pathLength = path.length();
+        int paramCount = 0;
+        for (int i = 1; i < template.components.length; ++i) {
+            URITemplate.TemplateComponent segment = template.components[i];
+            if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
+                // exclude any path end slash when matching a subdir, but include it in the matched length
+                boolean endSlash = matchPos < pathLength && path.charAt(pathLength - 1) == '/';
+                Matcher matcher = segment.pattern.matcher(
+                        endSlash ? path.substring(0, pathLength - 1) : path);
+                if (!matcher.find(matchPos)) {
+                    return -1;
+                }
+                if (matcher.start() != matchPos) {
+                    // stop here, whether this is a match is decided by the prefix rules
+                    return matchPos;
+                }
+                matchPos = matcher.end();
+                if (endSlash) {
+                    matchPos++;
+                }
+                for (String group : segment.groups) {
+                    params[paramCount++] = matcher.group(group);
+                }
+            } else if (segment.type == URITemplate.Type.LITERAL) {
+                //make sure the literal text is the same
+                String literal = segment.literalText;
+                if (!path.regionMatches(matchPos, literal, 0, literal.length())) {
+                    return -1;
+                }
+                matchPos += literal.length();
+            } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
+                if (matchPos == pathLength) {
+                    return -1;
+                }
+                int start = matchPos;
+                while (matchPos < pathLength && path.charAt(matchPos) != '/') {
+                    matchPos++;
+                }
+                if (params != null) {
+                    params[paramCount] = path.substring(start, matchPos);
+                }
+                paramCount++;
+            }
+        }
+        return matchPos;
+    }
+
     public static class RequestPath<T> implements Dumpable {
         public final boolean prefixTemplate;
         public final URITemplate template;
         public final T value;
+        final boolean customRegex;
 
         public RequestPath(boolean prefixTemplate, URITemplate template, T value) {
             this.prefixTemplate = prefixTemplate;
             this.template = template;
             this.value = value;
+            boolean customRegex = false;
+            for (URITemplate.TemplateComponent component : template.components) {
+                if (component.type == URITemplate.Type.CUSTOM_REGEX) {
+                    customRegex = true;
+                    break;
+                }
+            }
+            this.customRegex = customRegex;
         }
 
         @Override
@@ -0,0 +1,87 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class RequestMapperTest {
+
+    @Test
+    public void testRadixTreeLongestPrefix() {
+        RadixTree.Builder<String> builder = new RadixTree.Builder<>();
+        builder.put("/foo", "foo");
+        builder.put("/foobar", "foobar");
+        builder.put("/fob", "fob");
+        builder.put("/bar/baz", "baz");
+        RadixTree<String> tree = builder.build();
+
+        assertEquals(4, tree.size());
+        assertEquals("foo", tree.longestPrefix("/foo").getValue());
+        assertEquals("foo", tree.longestPrefix("/foo/1").getValue());
+        assertEquals("foo", tree.longestPrefix("/fooba").getValue());
+        assertEquals("foobar", tree.longestPrefix("/foobar/1").getValue());
+        assertEquals("fob", tree.longestPrefix("/fob").getValue());
+        assertEquals("baz", tree.longestPrefix("/bar/baz/qux").getValue());
+        assertNull(tree.longestPrefix("/fo"));
+        assertNull(tree.longestPrefix("/bar/ba"));
+        assertNull(tree.longestPrefix(""));
+        assertNull(tree.get("/fooba"));
+        assertEquals("foobar", tree.get("/foobar").getValue());
+        assertEquals(List.of("/bar/baz", "/fob", "/foo", "/foobar"), tree.keys());
+    }
+
+    @Test
+    public void testMapping() {
+        ArrayList<RequestMapper.RequestPath<String>> templates = new ArrayList<>();
+        templates.add(path("/users", "users"));
+        templates.add(path("/users/{id}", "user"));
+        templates.add(path("/users/{id}/orders/{order}", "order"));
+        templates.add(path("/users/me", "me"));
+        templates.add(path("/items/{id: \\d+}", "item"));
+        templates.add(path("/", "root"));
+        RequestMapper<String> mapper = new RequestMapper<>(templates);
+
+        assertMatch(mapper, "/users", "users");
+        assertMatch(mapper, "/users/", "users");
+        assertMatch(mapper, "/users/me", "me");
+        assertMatch(mapper, "/users/42", "user", "42");
+        assertMatch(mapper, "/users/42/orders/7", "order", "42", "7");
+        assertMatch(mapper, "/items/12", "item", "12");
+        assertMatch(mapper, "/", "root");
+        assertNull(mapper.map("/items/abc"));
+        assertNull(mapper.map("/users/42/orders"));
+        assertNull(mapper.map("/unknown"));
+    }
+
+    @Test
+    public void testPrefixMapping() {
+        ArrayList<RequestMapper.RequestPath<String>> templates = new ArrayList<>();
+        templates.add(new RequestMapper.RequestPath<>(true, new URITemplate("/api/{version}", true), "api"));
+        RequestMapper<String> mapper = new RequestMapper<>(templates);
+
+        RequestMapper.RequestMatch<String> match = mapper.map("/api/v1/users/1");
+        assertEquals("api", match.value);
+        assertEquals("v1", match.pathParamValues[0]);
+        assertEquals("/users/1", match.remaining);
+    }
+
+    private static RequestMapper.RequestPath<String> path(String template, String value) {
+        return new RequestMapper.RequestPath<>(false, new URITemplate(template, false), value);
+    }
+
+    private static void assertMatch(RequestMapper<String> mapper, String path, String value, String... params) {
+        RequestMapper.RequestMatch<String> match = mapper.map(path);
+        assertEquals(value, match.value, path);
+        String[] actual = new String[params.length];
+        System.arraycopy(match.pathParamValues, 0, actual, 0, params.length);
+        assertArrayEquals(params, actual, path);
+        for (int i = params.length; i < match.pathParamValues.length; i++) {
+            assertNull(match.pathParamValues[i], path);
+        }
+    }
+}
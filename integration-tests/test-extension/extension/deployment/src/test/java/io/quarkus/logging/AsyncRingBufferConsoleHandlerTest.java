@@ -0,0 +1,47 @@
+package io.quarkus.logging;
+
+import static io.quarkus.logging.LoggingTestsHelper.getHandler;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+
+import org.jboss.logmanager.handlers.AsyncHandler;
+import org.jboss.logmanager.handlers.ConsoleHandler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.runtime.logging.RingBufferAsyncHandler;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class AsyncRingBufferConsoleHandlerTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withConfigurationResource("application-async-ring-buffer-console-log.properties")
+            .withApplicationRoot((jar) -> jar
+                    .addClass(LoggingTestsHelper.class)
+                    .addAsManifestResource("application.properties", "microprofile-config.properties"))
+            .setLogFileName("AsyncRingBufferConsoleHandlerTest.log");
+
+    @Test
+    public void ringBufferConsoleHandlerConfigurationTest() {
+        Handler handler = getHandler(RingBufferAsyncHandler.class);
+        assertThat(handler.getLevel()).isEqualTo(Level.WARNING);
+
+        RingBufferAsyncHandler asyncHandler = (RingBufferAsyncHandler) handler;
+        assertThat(asyncHandler.getHandlers()).isNotEmpty();
+        // Rounded up to the next power of two
+        assertThat(asyncHandler.getCapacity()).isEqualTo(256);
+        assertThat(asyncHandler.getOverflowAction()).isEqualTo(AsyncHandler.OverflowAction.DISCARD);
+
+        Handler nestedConsoleHandler = Arrays.stream(asyncHandler.getHandlers())
+                .filter(h -> (h instanceof ConsoleHandler))
+                .findFirst().get();
+
+        ConsoleHandler consoleHandler = (ConsoleHandler) nestedConsoleHandler;
+        assertThat(consoleHandler.getLevel()).isEqualTo(Level.WARNING);
+    }
+
+}